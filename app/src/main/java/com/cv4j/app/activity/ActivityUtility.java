@@ -27,7 +27,7 @@ public class ActivityUtility {
 	}
 
     private Bitmap getBitmapFromColors(CV4JImage cv4JImage, int[] mask, SparseIntArray colors, int width, int height) {
-        Bitmap bitmap = cv4JImage.getProcessor().getImage().toBitmap();
+        Bitmap bitmap = ((CV4JImage) cv4JImage.getProcessor().getImage()).toBitmap();
 
         for(int row = 0; row < height; row++) {
             for (int col = 0; col < width; col++) {
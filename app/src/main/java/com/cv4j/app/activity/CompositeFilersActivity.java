@@ -63,17 +63,17 @@ public class CompositeFilersActivity extends BaseActivity {
         Bitmap bitmap = BitmapFactory.decodeResource(res, R.drawable.test_filters);
 
         CV4JImage ci1 = new CV4JImage(bitmap);
-        image1.setImageBitmap(new NatureFilter().filter(ci1.getProcessor()).getImage().toBitmap());
+        image1.setImageBitmap(((CV4JImage) new NatureFilter().filter(ci1.getProcessor()).getImage()).toBitmap());
 
         CV4JImage ci2 = new CV4JImage(bitmap);
-        image2.setImageBitmap(new SpotlightFilter().filter(ci2.getProcessor()).getImage().toBitmap());
+        image2.setImageBitmap(((CV4JImage) new SpotlightFilter().filter(ci2.getProcessor()).getImage()).toBitmap());
 
         CompositeFilters compositeFilters = new CompositeFilters();
-        Bitmap newBitmap = compositeFilters
+        Bitmap newBitmap = ((CV4JImage) compositeFilters
                         .addFilter(new NatureFilter())
                         .addFilter(new SpotlightFilter())
                         .filter(new CV4JImage(bitmap).getProcessor())
-                        .getImage()
+                        .getImage())
                         .toBitmap();
 
         image3.setImageBitmap(newBitmap);
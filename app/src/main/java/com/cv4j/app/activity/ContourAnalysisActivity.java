@@ -142,7 +142,7 @@ public class ContourAnalysisActivity extends BaseActivity {
         Threshold threshold = new Threshold();
         threshold.process(grayByteProcessor, Threshold.THRESH_OTSU, Threshold.METHOD_THRESH_BINARY, MAX_RGB);
 
-        final Bitmap bitmap = imageProcessor.getImage().toBitmap();
+        final Bitmap bitmap = ((CV4JImage) imageProcessor.getImage()).toBitmap();
         this.image1.setImageBitmap(bitmap);
     }
 
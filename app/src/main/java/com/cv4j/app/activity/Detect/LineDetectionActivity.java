@@ -76,7 +76,7 @@ public class LineDetectionActivity extends BaseActivity {
     }
 
     private void initImage2(CV4JImage cv4JImage, int width, List<Line> lines) {
-        Bitmap bitmap2 = Bitmap.createBitmap(cv4JImage.getProcessor().getImage().toBitmap());
+        Bitmap bitmap2 = Bitmap.createBitmap(((CV4JImage) cv4JImage.getProcessor().getImage()).toBitmap());
 
         Canvas canvas = new Canvas(bitmap2);
 
@@ -116,7 +116,7 @@ public class LineDetectionActivity extends BaseActivity {
 
         Threshold threshold = new Threshold();
         threshold.process(grayByteProcessor, Threshold.THRESH_OTSU, Threshold.METHOD_THRESH_BINARY, maxRgb);
-        this.image1.setImageBitmap(cv4JImage.getProcessor().getImage().toBitmap());
+        this.image1.setImageBitmap(((CV4JImage) cv4JImage.getProcessor().getImage()).toBitmap());
 
         return cv4JImage;
     }
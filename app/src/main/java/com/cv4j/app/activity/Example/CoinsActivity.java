@@ -130,7 +130,7 @@ public class CoinsActivity extends BaseActivity {
 
         erode.process(byteProcessor, processSize, iteration);
 
-        Bitmap bitmap = byteProcessor.getImage().toBitmap();
+        Bitmap bitmap = ((CV4JImage) byteProcessor.getImage()).toBitmap();
         this.image2.setImageBitmap(bitmap);
     }
 
@@ -144,7 +144,7 @@ public class CoinsActivity extends BaseActivity {
         Threshold threshold = new Threshold();
         threshold.process((ByteProcessor) cv4JImage.convert2Gray().getProcessor(), Threshold.THRESH_OTSU,Threshold.METHOD_THRESH_BINARY_INV, maxRgb);
 
-        this.image1.setImageBitmap(cv4JImage.getProcessor().getImage().toBitmap());
+        this.image1.setImageBitmap(((CV4JImage) cv4JImage.getProcessor().getImage()).toBitmap());
     }
 
     /**
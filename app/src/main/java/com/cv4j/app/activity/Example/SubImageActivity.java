@@ -87,7 +87,7 @@ public class SubImageActivity extends BaseActivity {
 
         if (resultImageProcessor!=null) {
             CV4JImage resultCV4JImage = new CV4JImage(resultImageProcessor.getWidth(), resultImageProcessor.getHeight(), resultImageProcessor.getPixels());
-            result.setImageBitmap(resultCV4JImage.getProcessor().getImage().toBitmap());
+            result.setImageBitmap(((CV4JImage) resultCV4JImage.getProcessor().getImage()).toBitmap());
         }
     }
 
@@ -70,7 +70,7 @@ public class HistogramEqualizationActivity extends BaseActivity {
         if (imageProcessor instanceof ByteProcessor) {
             EqualHist equalHist = new EqualHist();
             equalHist.equalize((ByteProcessor) imageProcessor);
-            image1.setImageBitmap(cv4jImage.getProcessor().getImage().toBitmap());
+            image1.setImageBitmap(((CV4JImage) cv4jImage.getProcessor().getImage()).toBitmap());
             paint = new Paint();
             calcImage1.setImageBitmap(drawHist(imageProcessor,paint));
         }
@@ -16,7 +16,7 @@ import com.cv4j.core.datamodel.ByteProcessor;
 import com.cv4j.core.datamodel.CV4JImage;
 import com.cv4j.core.datamodel.Rect;
 import com.cv4j.core.datamodel.Size;
-import com.cv4j.image.util.Tools;
+import com.cv4j.image.util.BitmapUtils;
 import com.safframework.injectview.annotations.InjectExtra;
 import com.safframework.injectview.annotations.InjectView;
 import com.safframework.injectview.annotations.OnClick;
@@ -67,24 +67,24 @@ public class MorphologyActivity extends BaseActivity {
         CV4JImage cv4JImage = new CV4JImage(bitmap);
         Threshold threshold = new Threshold();
         threshold.process((ByteProcessor)(cv4JImage.convert2Gray().getProcessor()),Threshold.THRESH_TRIANGLE,Threshold.METHOD_THRESH_BINARY_INV,MAX_RGB);
-        image1.setImageBitmap(cv4JImage.getProcessor().getImage().toBitmap());
+        image1.setImageBitmap(((CV4JImage) cv4JImage.getProcessor().getImage()).toBitmap());
 
         MorphOpen morphOpen = new MorphOpen();
         cv4JImage.resetBitmap();
         int size = 5;
         morphOpen.process((ByteProcessor)cv4JImage.getProcessor(),new Size(size));
 
-        image2.setImageBitmap(cv4JImage.getProcessor().getImage().toBitmap());
+        image2.setImageBitmap(((CV4JImage) cv4JImage.getProcessor().getImage()).toBitmap());
 
         ConnectedAreaLabel connectedAreaLabel = new ConnectedAreaLabel();
         int[] mask = new int[cv4JImage.getProcessor().getWidth() * cv4JImage.getProcessor().getHeight()];
         List<Rect> rectangles = new ArrayList<>();
         connectedAreaLabel.process((ByteProcessor)cv4JImage.getProcessor(),mask,rectangles,true);
         cv4JImage.resetBitmap();
-        Bitmap newBitmap = cv4JImage.getProcessor().getImage().toBitmap();
+        Bitmap newBitmap = ((CV4JImage) cv4JImage.getProcessor().getImage()).toBitmap();
 
         if (Preconditions.isNotBlank(rectangles)) {
-            Tools.drawRects(newBitmap,rectangles);
+            BitmapUtils.drawRects(newBitmap,rectangles);
         }
 
         image3.setImageBitmap(newBitmap);
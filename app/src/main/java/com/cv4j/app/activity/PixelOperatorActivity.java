@@ -148,7 +148,7 @@ public class PixelOperatorActivity extends BaseActivity {
 
             CV4JImage resultCV4JImage = new CV4JImage(width, height, pixels);
 
-            Bitmap bitmap = resultCV4JImage.getProcessor().getImage().toBitmap();
+            Bitmap bitmap = ((CV4JImage) resultCV4JImage.getProcessor().getImage()).toBitmap();
             this.result.setImageBitmap(bitmap);
         }
     }
@@ -120,7 +120,7 @@ public class SelectFilterActivity extends BaseActivity {
         CommonFilter filter = getFilter(filterName);
         if (filter!=null) {
 
-            image.setImageBitmap(filter.filter(colorImage.getProcessor()).getImage().toBitmap());
+            image.setImageBitmap(((CV4JImage) filter.filter(colorImage.getProcessor()).getImage()).toBitmap());
         }
     }
 
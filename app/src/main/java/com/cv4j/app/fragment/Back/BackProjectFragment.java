@@ -23,6 +23,7 @@ import android.view.View;
 import android.view.ViewGroup;
 import android.widget.ImageView;
 
+import com.cv4j.core.datamodel.CV4JImage;
 import com.cv4j.app.R;
 import com.cv4j.app.app.BaseFragment;
 import com.cv4j.core.datamodel.ByteProcessor;
@@ -69,6 +70,6 @@ public class BackProjectFragment extends BaseFragment {
         int[] normHistogram = CalcHistogram.calculateNormHist(sampleProcessor, bins);
         backProjectHist.backProjection(colorProcessor, byteProcessor, normHistogram, bins);
 
-        result.setImageBitmap(byteProcessor.getImage().toBitmap());
+        result.setImageBitmap(((CV4JImage) byteProcessor.getImage()).toBitmap());
     }
 }
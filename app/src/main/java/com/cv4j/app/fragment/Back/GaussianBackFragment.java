@@ -23,6 +23,7 @@ import android.view.View;
 import android.view.ViewGroup;
 import android.widget.ImageView;
 
+import com.cv4j.core.datamodel.CV4JImage;
 import com.cv4j.app.R;
 import com.cv4j.app.app.BaseFragment;
 import com.cv4j.core.datamodel.ByteProcessor;
@@ -62,7 +63,7 @@ public class GaussianBackFragment extends BaseFragment {
         GaussianBackProjection gaussianBackProjection = new GaussianBackProjection();
         gaussianBackProjection.backProjection(colorProcessor, sampleProcessor, byteProcessor);
 
-        result.setImageBitmap(byteProcessor.getImage().toBitmap());
+        result.setImageBitmap(((CV4JImage) byteProcessor.getImage()).toBitmap());
     }
 
 }
@@ -65,7 +65,7 @@ public class CompareHist1Fragment extends BaseFragment {
         if (imageProcessor instanceof ByteProcessor) {
             EqualHist equalHist = new EqualHist();
             equalHist.equalize((ByteProcessor) imageProcessor);
-            image1.setImageBitmap(cv4jImage.getProcessor().getImage().toBitmap());
+            image1.setImageBitmap(((CV4JImage) cv4jImage.getProcessor().getImage()).toBitmap());
 
             target = new int[imageProcessor.getChannels()][bins];
             calcHistogram.calcHSVHist(imageProcessor,bins,target,true);
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.benchmarks;
+
+import com.cv4j.core.binary.ConnectedAreaLabel;
+import com.cv4j.core.binary.Contour.ContourFinder;
+import com.cv4j.core.binary.DistanceTransform;
+import com.cv4j.core.binary.GeoMoments;
+import com.cv4j.core.binary.RegionStatistics;
+import com.cv4j.core.binary.Skeleton;
+import com.cv4j.core.binary.ZhangSuenThin;
+import com.cv4j.core.binary.hough.HoughCircles;
+import com.cv4j.core.binary.hough.HoughLinesP;
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.datamodel.Line;
+import com.cv4j.core.datamodel.Vec3i;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The analysis of binary images: ConnectedAreaLabel, the moments and the contours of its regions and
+ * the distance transforms on the disks of the synthetic image, HoughLinesP and HoughCircles on their outlines.
+ * The thinning and the skeleton work in place, the disks are restored before each of their invocations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BinaryBenchmark {
+
+    @Param({"ccl", "ccl8", "cclstats", "moments", "contours", "distance", "chamfer", "cityblock", "thin", "skeleton", "houghlines", "houghcircles"})
+    public String algorithm;
+
+    @Param({"640x480", "1280x720", "1920x1080", "4000x3000"})
+    public String size;
+
+    private ByteProcessor source;
+    private ByteProcessor image;
+    private int[] labels;
+    private RegionStatistics statistics;
+    private int regions;
+
+    @Setup
+    public void setup() {
+        int[] wh = SyntheticImages.size(size);
+        boolean outlines = algorithm.startsWith("hough");
+        image = outlines ? SyntheticImages.edges(wh[0], wh[1]) : SyntheticImages.binary(wh[0], wh[1]);
+        source = image.duplicate();
+        labels = new int[wh[0] * wh[1]];
+        statistics = new RegionStatistics(true);
+        if ("moments".equals(algorithm)) {
+            regions = new ConnectedAreaLabel().process(image, labels);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        if ("thin".equals(algorithm) || "skeleton".equals(algorithm)) {
+            SyntheticImages.reset(source, image);
+        }
+    }
+
+    @Benchmark
+    public Object analyze() {
+        switch (algorithm) {
+            case "ccl":
+                return new ConnectedAreaLabel().process(image, labels);
+            case "ccl8":
+                ConnectedAreaLabel eight = new ConnectedAreaLabel();
+                eight.setConnectivity(8);
+                return eight.process(image, labels);
+            case "cclstats":
+                return new ConnectedAreaLabel().process(image, labels, statistics);
+            case "moments":
+                return new GeoMoments().calculate(labels, image.getWidth(), image.getHeight(), regions);
+            case "contours":
+                return new ContourFinder().find(image);
+            case "distance":
+                return new DistanceTransform().transform(image);
+            case "chamfer":
+                return new DistanceTransform(DistanceTransform.CHAMFER_3_4).transform(image);
+            case "cityblock":
+                return new DistanceTransform(DistanceTransform.CITY_BLOCK).transform(image);
+            case "thin":
+                new ZhangSuenThin().process(image);
+                return image;
+            case "skeleton":
+                new Skeleton().process(image);
+                return image;
+            case "houghlines":
+                List<Line> lines = new ArrayList<>();
+                new HoughLinesP().process(image, 10, lines);
+                return lines;
+            case "houghcircles":
+                List<Vec3i> circles = new ArrayList<>();
+                new HoughCircles().process(image, circles, 15, 19, false, 200);
+                return circles;
+            default:
+                throw new IllegalArgumentException("unknown algorithm " + algorithm);
+        }
+    }
+}
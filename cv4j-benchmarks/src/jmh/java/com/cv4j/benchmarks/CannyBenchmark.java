@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.benchmarks;
+
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.spatial.conv.edge.CannyEdgeDetector;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Canny edge detector on gray and color images, the detector is reused
+ * from one image to the next like in a document scanning service.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CannyBenchmark {
+
+    @Param({"1", "3"})
+    public int channels;
+
+    @Param({"false", "true"})
+    public boolean l2Gradient;
+
+    @Param({"1920x1080", "4000x3000"})
+    public String size;
+
+    private ImageProcessor image;
+    private CannyEdgeDetector detector;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        int[] wh = SyntheticImages.size(size);
+        image = SyntheticImages.create(wh[0], wh[1], channels);
+        detector = new CannyEdgeDetector(50, 100);
+        detector.setL2Gradient(l2Gradient);
+    }
+
+    @Benchmark
+    public ByteProcessor detect() {
+        return detector.detect(image);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.benchmarks;
+
+import com.cv4j.core.datamodel.ColorProcessor;
+import com.cv4j.core.hist.CalcHistogram;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The histograms of CalcHistogram that need a color image:
+ * the HSV histogram and the 3D RGB histogram.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ColorHistogramBenchmark {
+
+    @Param({"hsv", "norm"})
+    public String histogram;
+
+    @Param({"640x480", "1280x720", "1920x1080", "4000x3000"})
+    public String size;
+
+    private ColorProcessor image;
+    private int[][] hist;
+
+    @Setup
+    public void setup() {
+        int[] wh = SyntheticImages.size(size);
+        image = SyntheticImages.color(wh[0], wh[1]);
+        hist = new int[3][];
+    }
+
+    @Benchmark
+    public Object histogram() {
+        if ("hsv".equals(histogram)) {
+            new CalcHistogram().calcHSVHist(image, 32, hist, false);
+            return hist;
+        }
+        return CalcHistogram.calculateNormHist(image, 16);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.benchmarks;
+
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.spatial.conv.Convolution;
+import com.cv4j.core.spatial.conv.Kernel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The convolution engine on a gray channel: dense int kernels with a shift,
+ * dense float kernels and separable kernels, over the three border modes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ConvolutionBenchmark {
+
+    @Param({"int3x3", "float3x3", "int5x5", "float7x7", "separable7", "separable15"})
+    public String kernel;
+
+    @Param({"replicate", "reflect", "constant"})
+    public String border;
+
+    @Param({"1920x1080"})
+    public String size;
+
+    private ByteProcessor image;
+    private byte[] output;
+    private Convolution convolution;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        int[] wh = SyntheticImages.size(size);
+        image = SyntheticImages.gray(wh[0], wh[1]);
+        output = new byte[wh[0] * wh[1]];
+
+        convolution = new Convolution(kernel());
+        switch (border) {
+            case "replicate":
+                convolution.setBorder(Convolution.BORDER_REPLICATE);
+                break;
+            case "reflect":
+                convolution.setBorder(Convolution.BORDER_REFLECT);
+                break;
+            default:
+                convolution.setBorder(Convolution.BORDER_CONSTANT);
+                break;
+        }
+    }
+
+    private Kernel kernel() {
+        switch (kernel) {
+            case "int3x3":
+                return new Kernel(3, 3, new int[] {1, 2, 1, 2, 4, 2, 1, 2, 1}, 4);
+            case "float3x3":
+                return new Kernel(3, 3, box(9));
+            case "int5x5":
+                int[] weights = new int[25];
+                Arrays.fill(weights, 1);
+                weights[12] = 8;
+                return new Kernel(5, 5, weights, 5);
+            case "float7x7":
+                return new Kernel(7, 7, box(49));
+            case "separable7":
+                return Kernel.separable(box(7), box(7));
+            case "separable15":
+                return Kernel.separable(box(15), box(15));
+            default:
+                throw new IllegalArgumentException("unknown kernel " + kernel);
+        }
+    }
+
+    private static float[] box(int n) {
+        float[] weights = new float[n];
+        Arrays.fill(weights, 1f / n);
+        return weights;
+    }
+
+    @Benchmark
+    public byte[] convolve() {
+        convolution.convolve(image.getGray(), 0, image.getWidth(),
+                output, 0, image.getWidth(), image.getWidth(), image.getHeight());
+        return output;
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.benchmarks;
+
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.filters.BilateralGridFilter;
+import com.cv4j.core.filters.CarveFilter;
+import com.cv4j.core.filters.CommonFilter;
+import com.cv4j.core.filters.EmbossFilter;
+import com.cv4j.core.filters.FastEPFilter;
+import com.cv4j.core.filters.GlowFilter;
+import com.cv4j.core.filters.blur.BoxBlurFilter;
+import com.cv4j.core.filters.effect.MosaicFilter;
+import com.cv4j.core.filters.effect.MotionFilter;
+import com.cv4j.core.filters.effect.NatureFilter;
+import com.cv4j.core.filters.effect.OilPaintFilter;
+import com.cv4j.core.filters.effect.SepiaToneFilter;
+import com.cv4j.core.filters.effect.SinCityFilter;
+import com.cv4j.core.filters.effect.SpotlightFilter;
+import com.cv4j.core.filters.effect.StrokeAreaFilter;
+import com.cv4j.core.filters.effect.VignetteFilter;
+import com.cv4j.core.filters.effect.WaterFilter;
+import com.cv4j.core.filters.face.BeautySkinFilter;
+import com.cv4j.core.filters.image.ColorFilter;
+import com.cv4j.core.filters.image.ConBriFilter;
+import com.cv4j.core.filters.image.ExposureFilter;
+import com.cv4j.core.filters.image.GammaFilter;
+import com.cv4j.core.filters.image.WhiteImageFilter;
+import com.cv4j.core.filters.math.GaussianBlurFilter;
+import com.cv4j.core.filters.math.GaussianNoiseFilter;
+import com.cv4j.core.spatial.conv.ConvolutionHVFilter;
+import com.cv4j.core.spatial.conv.MaerOperatorFilter;
+import com.cv4j.core.spatial.conv.SharpFilter;
+import com.cv4j.core.spatial.conv.USMFilter;
+import com.cv4j.core.spatial.conv.VarianceFilter;
+import com.cv4j.core.spatial.conv.edge.FindEdgeFilter;
+import com.cv4j.core.spatial.conv.edge.LaplasFilter;
+import com.cv4j.core.spatial.conv.edge.SobelFilter;
+import com.cv4j.core.spatial.conv.noise.MinMaxFilter;
+import com.cv4j.core.spatial.conv.noise.SAPNoiseFilter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Every filter that works on a color image, from VGA to 12 MP.
+ * The filters of gray images are in GrayFilterBenchmark.
+ * The image is reset before each invocation since most filters work in place.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FilterBenchmark {
+
+    @Param({"carve", "emboss", "fastep", "bilateralgrid", "glow", "boxblur", "mosaic", "motion", "nature",
+            "oilpaint", "sepia", "sincity", "spotlight", "strokearea", "vignette", "water",
+            "beautyskin", "beautyskingrid", "color", "conbri", "exposure", "gamma", "white", "gaussian",
+            "gaussiannoise", "convolutionhv", "maer", "sharp", "usm", "variance",
+            "findedge", "laplas", "sobel", "minmax", "sapnoise"})
+    public String filter;
+
+    @Param({"640x480", "1280x720", "1920x1080", "4000x3000"})
+    public String size;
+
+    private ImageProcessor source;
+    private ImageProcessor image;
+    private CommonFilter commonFilter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        int[] wh = SyntheticImages.size(size);
+        source = SyntheticImages.color(wh[0], wh[1]);
+        image = SyntheticImages.color(wh[0], wh[1]);
+        commonFilter = create(filter);
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        SyntheticImages.reset(source, image);
+    }
+
+    @Benchmark
+    public ImageProcessor filter() {
+        return commonFilter.filter(image);
+    }
+
+    static CommonFilter create(String name) {
+        switch (name) {
+            case "carve":
+                return new CarveFilter();
+            case "emboss":
+                return new EmbossFilter();
+            case "fastep":
+                return new FastEPFilter();
+            case "bilateralgrid":
+                return new BilateralGridFilter();
+            case "glow":
+                return new GlowFilter();
+            case "boxblur":
+                return new BoxBlurFilter();
+            case "mosaic":
+                return new MosaicFilter();
+            case "motion":
+                return new MotionFilter();
+            case "nature":
+                return new NatureFilter();
+            case "oilpaint":
+                return new OilPaintFilter();
+            case "sepia":
+                return new SepiaToneFilter();
+            case "sincity":
+                return new SinCityFilter();
+            case "spotlight":
+                return new SpotlightFilter();
+            case "strokearea":
+                return new StrokeAreaFilter();
+            case "vignette":
+                return new VignetteFilter();
+            case "water":
+                return new WaterFilter();
+            case "beautyskin":
+                return new BeautySkinFilter();
+            case "beautyskingrid":
+                return new BeautySkinFilter(new BilateralGridFilter());
+            case "color":
+                return new ColorFilter();
+            case "conbri":
+                return new ConBriFilter();
+            case "exposure":
+                return new ExposureFilter();
+            case "gamma":
+                return new GammaFilter();
+            case "white":
+                return new WhiteImageFilter();
+            case "gaussian":
+                return new GaussianBlurFilter();
+            case "gaussiannoise":
+                return new GaussianNoiseFilter();
+            case "convolutionhv":
+                return new ConvolutionHVFilter();
+            case "maer":
+                return new MaerOperatorFilter();
+            case "sharp":
+                return new SharpFilter();
+            case "usm":
+                return new USMFilter();
+            case "variance":
+                return new VarianceFilter();
+            case "findedge":
+                return new FindEdgeFilter();
+            case "laplas":
+                return new LaplasFilter();
+            case "sobel":
+                return new SobelFilter();
+            case "minmax":
+                return new MinMaxFilter();
+            case "sapnoise":
+                return new SAPNoiseFilter();
+            default:
+                throw new IllegalArgumentException("unknown filter " + name);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.benchmarks;
+
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.filters.math.GaussianBlurFilter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The direct and the recursive gaussian blur over sigma,
+ * the recursive mode must stay flat while the direct one grows linearly.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GaussianBlurBenchmark {
+
+    @Param({"direct", "recursive"})
+    public String mode;
+
+    @Param({"2", "5", "20"})
+    public double sigma;
+
+    @Param({"1920x1080", "4000x3000"})
+    public String size;
+
+    private ImageProcessor source;
+    private ImageProcessor image;
+    private GaussianBlurFilter filter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        int[] wh = SyntheticImages.size(size);
+        source = SyntheticImages.color(wh[0], wh[1]);
+        image = SyntheticImages.color(wh[0], wh[1]);
+
+        filter = new GaussianBlurFilter();
+        filter.setSigma(sigma);
+        filter.setMode("recursive".equals(mode) ? GaussianBlurFilter.MODE_RECURSIVE : GaussianBlurFilter.MODE_DIRECT);
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        SyntheticImages.reset(source, image);
+    }
+
+    @Benchmark
+    public ImageProcessor blur() {
+        return filter.filter(image);
+    }
+}
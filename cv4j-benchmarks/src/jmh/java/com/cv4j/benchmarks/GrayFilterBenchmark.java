@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.benchmarks;
+
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.filters.CommonFilter;
+import com.cv4j.core.filters.FastEPFilter;
+import com.cv4j.core.filters.MeansBinaryFilter;
+import com.cv4j.core.filters.math.FloSteDitheringFilter;
+import com.cv4j.core.spatial.conv.noise.MedimaFilter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The filters of gray images, and the edge preserving filter on one channel.
+ * A color image reaches these filters through CV4JImage.convert2Gray,
+ * which is not part of the measure.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GrayFilterBenchmark {
+
+    @Param({"median", "meansbinary", "dithering", "fastep"})
+    public String filter;
+
+    @Param({"640x480", "1280x720", "1920x1080", "4000x3000"})
+    public String size;
+
+    private ImageProcessor source;
+    private ImageProcessor image;
+    private CommonFilter commonFilter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        int[] wh = SyntheticImages.size(size);
+        source = SyntheticImages.gray(wh[0], wh[1]);
+        image = SyntheticImages.gray(wh[0], wh[1]);
+        commonFilter = create(filter);
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        SyntheticImages.reset(source, image);
+    }
+
+    @Benchmark
+    public ImageProcessor filter() {
+        return commonFilter.filter(image);
+    }
+
+    static CommonFilter create(String name) {
+        switch (name) {
+            case "median":
+                return new MedimaFilter();
+            case "meansbinary":
+                return new MeansBinaryFilter();
+            case "dithering":
+                return new FloSteDitheringFilter();
+            case "fastep":
+                return new FastEPFilter();
+            default:
+                throw new IllegalArgumentException("unknown filter " + name);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.benchmarks;
+
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.filters.image.GammaFilter;
+import com.cv4j.core.metrics.Instrumentation;
+import com.cv4j.core.metrics.MetricsRegistry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of the Instrumentation hook on a cheap filter, small images make
+ * the per-call overhead visible. "none" must match a build without the hook.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InstrumentationBenchmark {
+
+    @Param({"none", "registry"})
+    public String listener;
+
+    @Param({"64x64", "640x480"})
+    public String size;
+
+    private ImageProcessor image;
+    private GammaFilter filter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        int[] wh = SyntheticImages.size(size);
+        image = SyntheticImages.color(wh[0], wh[1]);
+        filter = new GammaFilter();
+
+        Instrumentation.clearListeners();
+        if ("registry".equals(listener)) {
+            Instrumentation.addListener(new MetricsRegistry());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Instrumentation.clearListeners();
+    }
+
+    @Benchmark
+    public ImageProcessor filter() {
+        return filter.filter(image);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.benchmarks;
+
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.spatial.conv.noise.MedimaFilter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The median filter over its radius, the time per image must not grow with it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MedianBenchmark {
+
+    @Param({"1", "5", "10"})
+    public int radius;
+
+    @Param({"1", "3"})
+    public int channels;
+
+    @Param({"1920x1080"})
+    public String size;
+
+    private ImageProcessor source;
+    private ImageProcessor image;
+    private MedimaFilter filter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        int[] wh = SyntheticImages.size(size);
+        source = SyntheticImages.create(wh[0], wh[1], channels);
+        image = SyntheticImages.create(wh[0], wh[1], channels);
+
+        filter = new MedimaFilter();
+        filter.setRadius(radius);
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        SyntheticImages.reset(source, image);
+    }
+
+    @Benchmark
+    public ImageProcessor median() {
+        return filter.filter(image);
+    }
+}
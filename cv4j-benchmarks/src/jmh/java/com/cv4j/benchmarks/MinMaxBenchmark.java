@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.benchmarks;
+
+import com.cv4j.core.binary.fast.FastDilate;
+import com.cv4j.core.binary.fast.FastErode;
+import com.cv4j.core.binary.morph.MorphGradient;
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.datamodel.Size;
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.spatial.conv.noise.MinMaxFilter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The running min / max operators over the size of the structure element,
+ * the time per image must not grow with it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MinMaxBenchmark {
+
+    @Param({"erode", "dilate", "gradient", "minmax"})
+    public String operator;
+
+    @Param({"3", "11", "31"})
+    public int element;
+
+    @Param({"1920x1080"})
+    public String size;
+
+    private ImageProcessor source;
+    private ImageProcessor image;
+    private MinMaxFilter filter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        int[] wh = SyntheticImages.size(size);
+        boolean color = "minmax".equals(operator);
+        source = color ? SyntheticImages.color(wh[0], wh[1]) : SyntheticImages.binary(wh[0], wh[1]);
+        image = color ? SyntheticImages.color(wh[0], wh[1]) : SyntheticImages.binary(wh[0], wh[1]);
+
+        filter = new MinMaxFilter();
+        filter.setRadius(element / 2);
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        SyntheticImages.reset(source, image);
+    }
+
+    @Benchmark
+    public ImageProcessor run() {
+        Size structureElement = new Size(element, element);
+        switch (operator) {
+            case "erode":
+                new FastErode().process((ByteProcessor) image, structureElement);
+                return image;
+            case "dilate":
+                new FastDilate().process((ByteProcessor) image, structureElement);
+                return image;
+            case "gradient":
+                new MorphGradient().process((ByteProcessor) image, structureElement, MorphGradient.BASIC_GRADIENT);
+                return image;
+            default:
+                return filter.filter(image);
+        }
+    }
+}
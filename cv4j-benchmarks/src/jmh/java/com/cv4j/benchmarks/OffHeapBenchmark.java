@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.benchmarks;
+
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.filters.CompositeFilters;
+import com.cv4j.core.filters.FastEPFilter;
+import com.cv4j.core.filters.effect.SinCityFilter;
+import com.cv4j.core.filters.image.ConBriFilter;
+import com.cv4j.core.filters.image.GammaFilter;
+import com.cv4j.core.filters.math.GaussianBlurFilter;
+import com.cv4j.core.spatial.conv.edge.SobelFilter;
+import com.cv4j.core.spatial.conv.noise.MedimaFilter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the filters on heap (ColorProcessor) and off-heap (DirectColorProcessor) images.
+ * The pointwise filters run on the off-heap planes through a row buffer,
+ * the neighborhood filters pay a copy to the heap and back, so do the median and
+ * the edge preserving filter, which are not BaseFilters.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OffHeapBenchmark {
+
+    @Param({"heap", "direct"})
+    public String store;
+
+    @Param({"gamma", "conbri", "sincity", "fused", "sobel", "gaussian", "median", "fastep"})
+    public String filter;
+
+    @Param({"1920x1080"})
+    public String size;
+
+    private ImageProcessor source;
+    private ImageProcessor image;
+    private CompositeFilters filters;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        String[] wh = size.split("x");
+        int width = Integer.parseInt(wh[0]);
+        int height = Integer.parseInt(wh[1]);
+
+        boolean direct = "direct".equals(store);
+        source = direct ? SyntheticImages.directColor(width, height) : SyntheticImages.color(width, height);
+        image = direct ? SyntheticImages.directColor(width, height) : SyntheticImages.color(width, height);
+        filters = create(filter);
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        SyntheticImages.reset(source, image);
+    }
+
+    @Benchmark
+    public ImageProcessor filter() {
+        return filters.filter(image);
+    }
+
+    static CompositeFilters create(String name) {
+        CompositeFilters filters = new CompositeFilters();
+        switch (name) {
+            case "gamma":
+                return filters.addFilter(new GammaFilter());
+            case "conbri":
+                return filters.addFilter(new ConBriFilter());
+            case "sincity":
+                return filters.addFilter(new SinCityFilter());
+            case "fused":
+                return filters.addFilter(new GammaFilter())
+                              .addFilter(new SinCityFilter())
+                              .addFilter(new ConBriFilter());
+            case "sobel":
+                return filters.addFilter(new SobelFilter());
+            case "gaussian":
+                return filters.addFilter(new GaussianBlurFilter());
+            case "median":
+                return filters.addFilter(new MedimaFilter());
+            case "fastep":
+                return filters.addFilter(new FastEPFilter());
+            default:
+                throw new IllegalArgumentException("unknown filter " + name);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.benchmarks;
+
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.filters.CommonFilter;
+import com.cv4j.core.filters.math.GaussianBlurFilter;
+import com.cv4j.core.parallel.ExecutionContext;
+import com.cv4j.core.spatial.conv.SharpFilter;
+import com.cv4j.core.spatial.conv.VarianceFilter;
+import com.cv4j.core.spatial.conv.edge.LaplasFilter;
+import com.cv4j.core.spatial.conv.edge.SobelFilter;
+import com.cv4j.core.spatial.conv.noise.MedimaFilter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of the band parallel filters from 1 to N cores of the shared ExecutionContext.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ParallelScalingBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    @Param({"sobel", "laplas", "sharp", "median", "variance", "gaussian"})
+    public String filter;
+
+    @Param({"1920x1080"})
+    public String size;
+
+    private ImageProcessor source;
+    private ImageProcessor image;
+    private CommonFilter commonFilter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ExecutionContext.setParallelism(parallelism);
+
+        String[] wh = size.split("x");
+        int width = Integer.parseInt(wh[0]);
+        int height = Integer.parseInt(wh[1]);
+        // the median filter works on gray images
+        boolean gray = "median".equals(filter);
+        source = gray ? SyntheticImages.gray(width, height) : SyntheticImages.color(width, height);
+        image = gray ? SyntheticImages.gray(width, height) : SyntheticImages.color(width, height);
+        commonFilter = create(filter);
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        SyntheticImages.reset(source, image);
+    }
+
+    @Benchmark
+    public ImageProcessor filter() {
+        return commonFilter.filter(image);
+    }
+
+    static CommonFilter create(String name) {
+        switch (name) {
+            case "sobel":
+                return new SobelFilter();
+            case "laplas":
+                return new LaplasFilter();
+            case "sharp":
+                return new SharpFilter();
+            case "median":
+                return new MedimaFilter();
+            case "variance":
+                return new VarianceFilter();
+            case "gaussian":
+                return new GaussianBlurFilter();
+            default:
+                throw new IllegalArgumentException("unknown filter " + name);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.benchmarks;
+
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.datamodel.number.IntIntegralImage;
+import com.cv4j.core.hist.CalcHistogram;
+import com.cv4j.core.pixels.Resize;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The algorithms that read an image and build a new result: histograms,
+ * integral images and resizing, on gray and color images.
+ * The histograms that need a color image are in ColorHistogramBenchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PixelsBenchmark {
+
+    @Param({"histogram", "integral", "integralsqrt", "integraltilted", "resizenearest", "resizebilinear",
+            "resizebicubic", "resizelanczos", "resizearea", "thumbnail"})
+    public String algorithm;
+
+    @Param({"1", "3"})
+    public int channels;
+
+    @Param({"640x480", "1280x720", "1920x1080", "4000x3000"})
+    public String size;
+
+    private ImageProcessor image;
+    private int[][] histogram;
+    private IntIntegralImage integral;
+
+    @Setup
+    public void setup() {
+        int[] wh = SyntheticImages.size(size);
+        image = SyntheticImages.create(wh[0], wh[1], channels);
+        histogram = new int[3][];
+        // the tables are reused from one invocation to the next, like frames of a video
+        integral = new IntIntegralImage();
+    }
+
+    @Benchmark
+    public Object run() {
+        switch (algorithm) {
+            case "histogram":
+                new CalcHistogram().calcRGBHist(image, 256, histogram, true);
+                return histogram;
+            case "integral":
+                return integral(IntIntegralImage.SUM);
+            case "integralsqrt":
+                return integral(IntIntegralImage.SUM | IntIntegralImage.SQUARE_SUM);
+            case "integraltilted":
+                return integral(IntIntegralImage.TILTED_SUM);
+            case "resizenearest":
+                return new Resize(0.5f).resize(image, Resize.NEAREST_INTEPOLATE);
+            case "resizebilinear":
+                return new Resize(0.5f).resize(image, Resize.BILINE_INTEPOLATE);
+            case "resizebicubic":
+                return new Resize(0.5f).resize(image, Resize.BICUBIC_INTEPOLATE);
+            case "resizelanczos":
+                return new Resize(0.5f).resize(image, Resize.LANCZOS_INTEPOLATE);
+            case "resizearea":
+                return new Resize(0.5f).resize(image, Resize.AREA_INTEPOLATE);
+            case "thumbnail":
+                return Resize.toSize(320, 240).resize(image, Resize.AREA_INTEPOLATE);
+            default:
+                throw new IllegalArgumentException("unknown algorithm " + algorithm);
+        }
+    }
+
+    private IntIntegralImage integral(int tables) {
+        integral.setImage(image.toByte(0));
+        integral.process(image.getWidth(), image.getHeight(), tables);
+        return integral;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.benchmarks;
+
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.datamodel.ColorProcessor;
+import com.cv4j.core.datamodel.DirectColorProcessor;
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.datamodel.plane.Planes;
+
+import java.util.Random;
+
+/**
+ * SyntheticImages.
+ * Reproducible test images, the same seed gives the same pixels on every machine.
+ * The image mixes smooth gradients, hard edged shapes and noise, so both the
+ * pointwise and the neighborhood algorithms see realistic data.
+ */
+public class SyntheticImages {
+
+    public static final long SEED = 0x5EEDL;
+
+    public static int[] argb(int width, int height) {
+        Random random = new Random(SEED);
+        int[] pixels = new int[width * height];
+
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                int r = (col * 255) / Math.max(1, width - 1);
+                int g = (row * 255) / Math.max(1, height - 1);
+                int b = ((col + row) >> 2) & 0xff;
+
+                // a grid of disks gives strong edges and blobs
+                int cx = col % 64 - 32;
+                int cy = row % 64 - 32;
+                if (cx * cx + cy * cy < 300) {
+                    r = 255 - r;
+                    g = 255 - g;
+                    b = 255 - b;
+                }
+
+                int noise = random.nextInt(17) - 8;
+                r = clamp(r + noise);
+                g = clamp(g + noise);
+                b = clamp(b + noise);
+                pixels[row * width + col] = 0xff000000 | (r << 16) | (g << 8) | b;
+            }
+        }
+        return pixels;
+    }
+
+    /**
+     * @param size The size as "widthxheight", for example "640x480".
+     * @return     The width and the height.
+     */
+    public static int[] size(String size) {
+        String[] wh = size.split("x");
+        return new int[]{Integer.parseInt(wh[0]), Integer.parseInt(wh[1])};
+    }
+
+    /**
+     * @return A color image for 3 channels, a gray image for 1 channel.
+     */
+    public static ImageProcessor create(int width, int height, int channels) {
+        return (channels == 1) ? gray(width, height) : color(width, height);
+    }
+
+    public static ColorProcessor color(int width, int height) {
+        return new ColorProcessor(argb(width, height), width, height);
+    }
+
+    /**
+     * The same pixels as color(), with the planes in direct buffers off the java heap.
+     */
+    public static DirectColorProcessor directColor(int width, int height) {
+        return new DirectColorProcessor(argb(width, height), width, height);
+    }
+
+    public static ByteProcessor gray(int width, int height) {
+        int[] pixels = argb(width, height);
+        byte[] gray = new byte[pixels.length];
+        for (int i = 0; i < pixels.length; i++) {
+            int c = pixels[i];
+            gray[i] = (byte) ((((c >> 16) & 0xff) * 299 + ((c >> 8) & 0xff) * 587 + (c & 0xff) * 114) / 1000);
+        }
+        return new ByteProcessor(gray, width, height);
+    }
+
+    /**
+     * A binary mask (0/255) of the disks of the synthetic image.
+     */
+    public static ByteProcessor binary(int width, int height) {
+        byte[] data = new byte[width * height];
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                int cx = col % 64 - 32;
+                int cy = row % 64 - 32;
+                data[row * width + col] = (byte) (cx * cx + cy * cy < 300 ? 255 : 0);
+            }
+        }
+        return new ByteProcessor(data, width, height);
+    }
+
+    /**
+     * The outlines of the disks of the synthetic image, circles of radius 17
+     * one pixel wide, as a binary mask (0/255).
+     */
+    public static ByteProcessor edges(int width, int height) {
+        byte[] data = new byte[width * height];
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                int cx = col % 64 - 32;
+                int cy = row % 64 - 32;
+                int d = cx * cx + cy * cy;
+                data[row * width + col] = (byte) (d >= 272 && d <= 306 ? 255 : 0);
+            }
+        }
+        return new ByteProcessor(data, width, height);
+    }
+
+    /**
+     * Copy the planes of the source into the target, used to reset the
+     * image before each invocation of an in-place filter.
+     */
+    public static void reset(ImageProcessor source, ImageProcessor target) {
+        Planes.copy(source, target);
+    }
+
+    private static int clamp(int c) {
+        return c > 255 ? 255 : (c < 0 ? 0 : c);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.benchmarks;
+
+import com.cv4j.core.datamodel.Rect;
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.pixels.Operator;
+import com.cv4j.core.tpl.TemplateMatch;
+import com.cv4j.core.tpl.TemplateMatch2;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TemplateMatch and TemplateMatch2 with a 16 x 16 template cut from the image,
+ * on gray and color images.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TemplateMatchBenchmark {
+
+    @Param({"tm", "tm2"})
+    public String implementation;
+
+    @Param({"1", "3"})
+    public int channels;
+
+    @Param({"640x480", "1280x720", "1920x1080", "4000x3000"})
+    public String size;
+
+    private ImageProcessor image;
+    private ImageProcessor template;
+
+    @Setup
+    public void setup() {
+        int[] wh = SyntheticImages.size(size);
+        image = SyntheticImages.create(wh[0], wh[1], channels);
+
+        Rect rect = new Rect();
+        rect.x = 100;
+        rect.y = 100;
+        rect.width = 16;
+        rect.height = 16;
+        template = Operator.subImage(image, rect);
+    }
+
+    @Benchmark
+    public Object match() {
+        if ("tm".equals(implementation)) {
+            return new TemplateMatch().match(image, template, TemplateMatch.TM_CCORR_NORMED);
+        }
+        return new TemplateMatch2().match(image, template, TemplateMatch2.TM_CCORR_NORMED);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.benchmarks;
+
+import com.cv4j.core.binary.Threshold;
+import com.cv4j.core.datamodel.ByteProcessor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Every method of Threshold on a gray image, the image is reset before each invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ThresholdBenchmark {
+
+    @Param({"value", "means", "otsu", "triangle", "meanshift", "adaptive", "sauvola", "niblack"})
+    public String method;
+
+    @Param({"640x480", "1280x720", "1920x1080", "4000x3000"})
+    public String size;
+
+    private ByteProcessor source;
+    private ByteProcessor image;
+    private Threshold threshold;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        int[] wh = SyntheticImages.size(size);
+        source = SyntheticImages.gray(wh[0], wh[1]);
+        image = SyntheticImages.gray(wh[0], wh[1]);
+        threshold = new Threshold();
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        SyntheticImages.reset(source, image);
+    }
+
+    @Benchmark
+    public ByteProcessor threshold() {
+        switch (method) {
+            case "value":
+                threshold.process(image, Threshold.THRESH_VALUE, Threshold.METHOD_THRESH_BINARY, 127);
+                break;
+            case "means":
+                threshold.process(image, Threshold.THRESH_MEANS);
+                break;
+            case "otsu":
+                threshold.process(image, Threshold.THRESH_OTSU);
+                break;
+            case "triangle":
+                threshold.process(image, Threshold.THRESH_TRIANGLE);
+                break;
+            case "meanshift":
+                threshold.process(image, Threshold.THRESH_MEANSHIFT);
+                break;
+            case "adaptive":
+                threshold.adaptiveThresh(image, 7, 10, Threshold.METHOD_THRESH_BINARY);
+                break;
+            case "sauvola":
+                threshold.localThresh(image, Threshold.ADAPTIVE_SAUVOLA_THRESH, 7, 0.34f, Threshold.METHOD_THRESH_BINARY);
+                break;
+            case "niblack":
+                threshold.localThresh(image, Threshold.ADAPTIVE_NIBLACK_THRESH, 7, -0.2f, Threshold.METHOD_THRESH_BINARY);
+                break;
+            default:
+                throw new IllegalArgumentException("unknown method " + method);
+        }
+        return image;
+    }
+}
@@ -0,0 +1,55 @@
+package com.cv4j.core.binary;
+
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.datamodel.number.IntIntegralImage;
+import com.cv4j.core.datamodel.Size;
+import com.cv4j.core.parallel.ExecutionContext;
+import com.cv4j.core.utils.SafeCasting;
+
+/**
+ * Binary utility.
+ */
+public class BinaryUtility {
+	
+	public void process(ByteProcessor binary, Size structureElement, int iteration, int outputNum) {
+		IntIntegralImage intIntegralImage = new IntIntegralImage();
+		intIntegralImage.setImage(binary.getGray(), binary.getOffset(), binary.getStride());
+
+		for(int i = 0; i < iteration; i++) {
+			// the table holds a copy of the pixels, so they can be replaced in place
+			intIntegralImage.process(binary.getWidth(), binary.getHeight());
+			setOutputAsOutputNum(binary, outputNum, intIntegralImage, structureElement);
+		}
+	}
+
+	private void setOutputAsOutputNum(ByteProcessor binary, int outputNum, IntIntegralImage intIntegralImage, Size structureElement) {
+		final int blockSum = getBlockSum(structureElement);
+		final int xr       = structureElement.cols / 2;
+		final int yr       = structureElement.rows / 2;
+		final int width    = binary.getWidth();
+		final int offset   = binary.getOffset();
+		final int stride   = binary.getStride();
+		final byte[] output = binary.getGray();
+		final byte value   = SafeCasting.safeIntToByte(outputNum);
+
+		ExecutionContext.forEachBand(binary.getHeight(), 0, band -> {
+			for(int row = band.start; row < band.end; row++) {
+				for(int col = 0; col < width; col++) {
+					final int ny  = row+yr;
+					final int nx  = col+xr;
+					final int intIntegralImageBlockSum = intIntegralImage.getBlockSum(nx, ny, (yr * 2 + 1), (xr * 2 + 1));
+
+					if(intIntegralImageBlockSum > 0 && intIntegralImageBlockSum < blockSum) {
+						output[offset + row*stride + col] = value;
+					}
+				}
+			}
+		});
+	}
+
+	private int getBlockSum(Size structureElement) {
+		final int maxRGB = 255;
+
+		return structureElement.cols * structureElement.rows * maxRGB;
+	}
+}
\ No newline at end of file
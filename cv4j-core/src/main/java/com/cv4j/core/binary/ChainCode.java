@@ -84,9 +84,7 @@ public class ChainCode extends CourtEdge {
 			throw new CV4JException("chain code map length assert failure");
 		}
 
-		byte[] input = binary.getGray();
-		byte[] output = new byte[width*height];
-		System.arraycopy(input, 0, output, 0, input.length);
+		byte[] input = binary.toByte(0);
 		
 		// initialization code map
 		Arrays.fill(codeMap, -1);
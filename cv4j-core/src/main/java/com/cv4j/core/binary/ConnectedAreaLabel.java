@@ -0,0 +1,377 @@
+/*
+ * Copyright (c) 2017 - present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.binary;
+
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.datamodel.Rect;
+import com.cv4j.core.metrics.Instrumentation;
+import com.cv4j.core.metrics.StageTimer;
+import com.cv4j.core.parallel.ExecutionContext;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * It is very easy way to filter some minimum noise block by number of pixel;
+ * default settings: <p>
+ * - mNumOfPixels = 100 <br>
+ * - mFilterNoise = false
+ * <p>
+ * The foreground (255) pixels are labeled with a union-find over flat arrays: the first
+ * scan gives every pixel a provisional label and joins the labels of its neighbours, keeping
+ * the smallest one as the root, then the roots are numbered in order and the second scan
+ * writes the final labels, 0 to the number of regions - 1, the background gets -1.
+ * The rows can be split into strips labeled in parallel, the labels are then joined
+ * along the rows where the strips meet.
+ */
+public class ConnectedAreaLabel {
+
+    /**
+     * default number of pixels
+     */
+    private static final int DEFAULT_PIXEL_NUM = 100;
+    private static final boolean DEFAULT_FILTER_NOISE = false;
+
+    /**
+     * The strips are not smaller than this number of rows.
+     */
+    private static final int MIN_STRIP_ROWS = 64;
+
+    private int mNumOfPixels;
+    private boolean mFilterNoise;
+    private int connectivity = 4;
+    private boolean parallel = true;
+
+    public ConnectedAreaLabel() {
+        mNumOfPixels = DEFAULT_PIXEL_NUM;
+        mFilterNoise = DEFAULT_FILTER_NOISE;
+    }
+
+    /**
+     * init object with number of pixels and whether filter noise
+     * @param numOfPixels the number of pixels, default value is 100
+     * @param filterNoise whether to filter the noise of picture
+     */
+    public ConnectedAreaLabel(int numOfPixels, Boolean filterNoise) {
+        mNumOfPixels = numOfPixels;
+        mFilterNoise = filterNoise;
+    }
+
+    public void setNoiseArea(int numOfPixels) {
+        this.mNumOfPixels = numOfPixels;
+    }
+
+    public void setFilterNoise(boolean filterNoise) {
+        this.mFilterNoise = filterNoise;
+    }
+
+    /**
+     * @param connectivity 4 or 8, the default is 4.
+     */
+    public void setConnectivity(int connectivity) {
+        if (connectivity != 4 && connectivity != 8) {
+            throw new IllegalArgumentException("Invalid argument: connectivity " + connectivity);
+        }
+        this.connectivity = connectivity;
+    }
+
+    public int getConnectivity() {
+        return connectivity;
+    }
+
+    /**
+     * @param parallel Whether the rows are split into strips labeled in parallel, the default is true.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * The binary image can be a view of a larger image, labelMask and the rectangles
+     * are then in the coordinates of the view.
+     * @param binary    - binary image data
+     * @param labelMask - label for each pixel point
+     * @return int - total labels of image
+     */
+    public int process(ByteProcessor binary, int[] labelMask) {
+        return this._process(binary, labelMask, null, false, null);
+    }
+
+    /**
+     * process noise block with labels
+     * @param binary - binary image data
+     * @param labelMask - label for each pixel point
+     * @param rectangles - rectangles area list want to return
+     * @param drawBounding - whether draw bounding
+     * @return int - total labels of image
+     */
+    public int process(ByteProcessor binary, int[] labelMask, List<Rect> rectangles,
+                       boolean drawBounding) {
+        return this._process(binary, labelMask, rectangles, drawBounding, null);
+    }
+
+    /**
+     * Labels the image and computes the statistics of every region.
+     * @param binary     - binary image data
+     * @param labelMask  - label for each pixel point
+     * @param statistics - the statistics of the regions, indexed by their label
+     * @return int - total labels of image
+     */
+    public int process(ByteProcessor binary, int[] labelMask, RegionStatistics statistics) {
+        return this._process(binary, labelMask, null, false, statistics);
+    }
+
+    private int _process(ByteProcessor binary, int[] labelMask, List<Rect> rectangles,
+                         boolean drawBounding, RegionStatistics statistics) {
+        StageTimer timer = Instrumentation.begin();
+        try {
+            return labelImage(binary, labelMask, rectangles, drawBounding, statistics);
+        } finally {
+            if (timer != null) Instrumentation.end(timer, "ConnectedAreaLabel", binary);
+        }
+    }
+
+    private int labelImage(ByteProcessor binary, final int[] labelMask, List<Rect> rectangles,
+                           boolean drawBounding, RegionStatistics statistics) {
+        final int width   = binary.getWidth();
+        final int height  = binary.getHeight();
+        final int offset  = binary.getOffset();
+        final int stride  = binary.getStride();
+        final byte[] data = binary.getGray();
+
+        int count = 1;
+        if (parallel && ExecutionContext.getParallelism() > 1) {
+            count = Math.max(1, Math.min(ExecutionContext.getParallelism() * 2, height / MIN_STRIP_ROWS));
+        }
+        final Strip[] strips = new Strip[count];
+        for (int i = 0; i < count; i++) {
+            strips[i] = new Strip(height * i / count, height * (i + 1) / count);
+        }
+
+        // 1. first pass, the provisional labels of every strip
+        ExecutionContext.forEachIndex(count, band ->
+                labelStrip(data, offset, stride, width, labelMask, strips[band.start]));
+
+        // join the strips, the labels of a strip follow the ones of the previous strip
+        int total = 0;
+        for (Strip strip : strips) {
+            strip.first = total;
+            total += strip.count;
+        }
+        int[] parent = new int[total];
+        for (Strip strip : strips) {
+            for (int k = 0; k < strip.count; k++) {
+                parent[strip.first + k] = strip.first + strip.parent[k];
+            }
+            strip.parent = null;
+        }
+        for (int i = 1; i < count; i++) {
+            joinStrips(labelMask, width, strips[i - 1], strips[i], parent);
+        }
+
+        // number the roots, a label is always larger than its parent
+        final int[] finalLabels = parent;
+        int regions = 0;
+        for (int k = 0; k < total; k++) {
+            finalLabels[k] = parent[k] < k ? finalLabels[parent[k]] : regions++;
+        }
+
+        // 2. second pass, the final labels
+        ExecutionContext.forEachIndex(count, band -> {
+            Strip strip = strips[band.start];
+            for (int p = strip.start * width; p < strip.end * width; p++) {
+                int label = labelMask[p];
+                if (label >= 0) {
+                    labelMask[p] = finalLabels[strip.first + label];
+                }
+            }
+        });
+
+        boolean filter = mFilterNoise;
+        boolean bounding = drawBounding && rectangles != null;
+        if (statistics == null && (filter || bounding)) {
+            statistics = new RegionStatistics();
+        }
+        if (statistics == null) {
+            return regions;
+        }
+
+        accumulate(labelMask, width, height, regions, statistics);
+        if (filter) {
+            regions = filterNoise(labelMask, width * height, statistics);
+        }
+        if (bounding) {
+            for (int label = 0; label < regions; label++) {
+                rectangles.add(statistics.getBoundingRect(label));
+            }
+        }
+        return regions;
+    }
+
+    /**
+     * The rows [start, end) of the image and the union-find of their provisional labels.
+     */
+    private static final class Strip {
+        final int start;
+        final int end;
+        int[] parent = new int[64];
+        int count;
+
+        /**
+         * The first global label of the strip.
+         */
+        int first;
+
+        Strip(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        int newLabel() {
+            if (count == parent.length) {
+                parent = Arrays.copyOf(parent, count * 2);
+            }
+            parent[count] = count;
+            return count++;
+        }
+    }
+
+    private static int find(int[] parent, int label) {
+        while (parent[label] != label) {
+            // path halving
+            parent[label] = parent[parent[label]];
+            label = parent[label];
+        }
+        return label;
+    }
+
+    /**
+     * Joins the sets of a and b, the smallest root is the root of the union.
+     * @return The root of the union.
+     */
+    private static int union(int[] parent, int a, int b) {
+        int ra = find(parent, a);
+        int rb = find(parent, b);
+        if (ra < rb) {
+            parent[rb] = ra;
+            return ra;
+        }
+        parent[ra] = rb;
+        return rb;
+    }
+
+    private void labelStrip(byte[] data, int offset, int stride, int width, int[] mask, Strip strip) {
+        boolean eight = connectivity == 8;
+        for (int row = strip.start; row < strip.end; row++) {
+            int in = offset + row * stride;
+            int out = row * width;
+            int up = out - width;
+            boolean top = row > strip.start;
+            for (int col = 0; col < width; col++) {
+                if ((data[in + col] & 0xff) != 255) {
+                    mask[out + col] = -1;
+                    continue;
+                }
+
+                int left = col > 0 ? mask[out + col - 1] : -1;
+                int north = top ? mask[up + col] : -1;
+                int label;
+                if (north >= 0) {
+                    // the other neighbours already touch the north one in 8-connectivity
+                    label = left >= 0 && !eight ? union(strip.parent, left, north) : north;
+                } else if (!eight) {
+                    label = left;
+                } else {
+                    int northWest = top && col > 0 ? mask[up + col - 1] : -1;
+                    int northEast = top && col < width - 1 ? mask[up + col + 1] : -1;
+                    if (northEast >= 0) {
+                        // the west and north west neighbours touch each other
+                        int other = left >= 0 ? left : northWest;
+                        label = other >= 0 ? union(strip.parent, other, northEast) : northEast;
+                    } else {
+                        label = northWest >= 0 ? northWest : left;
+                    }
+                }
+                mask[out + col] = label >= 0 ? label : strip.newLabel();
+            }
+        }
+    }
+
+    /**
+     * Joins the labels of the last row of a strip and the first row of the next one.
+     */
+    private void joinStrips(int[] mask, int width, Strip above, Strip below, int[] parent) {
+        int out = below.start * width;
+        int up = out - width;
+        for (int col = 0; col < width; col++) {
+            int label = mask[out + col];
+            if (label < 0) continue;
+            label += below.first;
+            int from = connectivity == 8 ? Math.max(0, col - 1) : col;
+            int to = connectivity == 8 ? Math.min(width - 1, col + 1) : col;
+            for (int c = from; c <= to; c++) {
+                int north = mask[up + c];
+                if (north >= 0) {
+                    union(parent, above.first + north, label);
+                }
+            }
+        }
+    }
+
+    private static void accumulate(int[] labelMask, int width, int height, int regions, RegionStatistics statistics) {
+        statistics.reset(regions);
+        for (int row = 0; row < height; row++) {
+            int offset = row * width;
+            int col = 0;
+            while (col < width) {
+                int label = labelMask[offset + col];
+                int start = col;
+                while (++col < width && labelMask[offset + col] == label) {
+                }
+                if (label >= 0) {
+                    statistics.addRun(label, row, start, col);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the regions smaller than the noise area and numbers the other ones again.
+     * @return The number of regions left.
+     */
+    private int filterNoise(final int[] labelMask, int length, RegionStatistics statistics) {
+        int count = statistics.getCount();
+        final int[] map = new int[count];
+        int regions = 0;
+        for (int label = 0; label < count; label++) {
+            map[label] = statistics.getArea(label) < mNumOfPixels ? -1 : regions++;
+        }
+        if (regions == count) {
+            return regions;
+        }
+
+        ExecutionContext.forEachBand(length, 0, band -> {
+            for (int p = band.start; p < band.end; p++) {
+                int label = labelMask[p];
+                if (label >= 0) {
+                    labelMask[p] = map[label];
+                }
+            }
+        });
+        statistics.compact(map, regions);
+        return regions;
+    }
+}
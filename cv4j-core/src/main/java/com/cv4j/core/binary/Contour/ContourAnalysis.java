@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.binary.Contour;
+
+import com.cv4j.core.binary.GeoMoments;
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.datamodel.MeasureData;
+import com.cv4j.core.datamodel.MeasureTable;
+
+import java.util.List;
+/**
+ * The Analysis of Contour
+ */
+public class ContourAnalysis {
+
+    /**
+     * Measures the regions of a label mask, in the order of their labels.
+     * @param binary          The binary image.
+     * @param labels          The labels of the pixels, a negative label is the background.
+     * @param measureDataList The measures of every region.
+     */
+    public void process(ByteProcessor binary, int[] labels, List<MeasureData> measureDataList) {
+        MeasureTable table = measure(binary, labels);
+        for (int label = 0; label < table.getCount(); label++) {
+            if (table.getArea(label) > 0) {
+                measureDataList.add(table.get(label));
+            }
+        }
+    }
+
+    /**
+     * Measures the regions of a label mask in one scan.
+     * @param binary The binary image.
+     * @param labels The labels of the pixels, a negative label is the background.
+     * @return The measures, indexed by label.
+     */
+    public MeasureTable measure(ByteProcessor binary, int[] labels) {
+        int width  = binary.getWidth();
+        int height = binary.getHeight();
+
+        int count = 0;
+        for (int i = 0; i < width * height; i++) {
+            count = Math.max(count, labels[i] + 1);
+        }
+        return new GeoMoments().calculate(labels, width, height, count);
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.binary.Contour;
+
+import com.cv4j.core.datamodel.ByteProcessor;
+
+import java.util.Arrays;
+
+/**
+ * Follows the borders of the regions of a binary image with the algorithm of Suzuki and Abe,
+ * the regions are 8-connected and their holes 4-connected. The image is scanned once, the
+ * pixels of the borders already followed are marked in a table that grows with the length
+ * of the contours, the image is not copied nor written.
+ */
+public class ContourFinder {
+
+    // the neighbours counterclockwise: E, NE, N, NW, W, SW, S, SE
+    private static final int[] DX = {1, 1, 0, -1, -1, -1, 0, 1};
+    private static final int[] DY = {0, -1, -1, -1, 0, 1, 1, 1};
+
+    // the number of the frame of the image, the borders are numbered from 2
+    private static final int FRAME = 1;
+
+    private byte[] data;
+    private int offset;
+    private int stride;
+    private int width;
+    private int height;
+    private Marks marks;
+    private Contours contours;
+
+    /**
+     * Finds the outer borders of the regions and the borders of their holes.
+     * @param binary The binary image, a pixel that is not 0 is in a region.
+     * @return The contours, with the contour around each one.
+     */
+    public Contours find(ByteProcessor binary) {
+        data = binary.getGray();
+        offset = binary.getOffset();
+        stride = binary.getStride();
+        width = binary.getWidth();
+        height = binary.getHeight();
+        marks = new Marks();
+        contours = new Contours();
+
+        try {
+            for (int y = 0; y < height; y++) {
+                int row = offset + y * stride;
+                int lnbd = FRAME;
+                boolean left = false;
+                for (int x = 0; x < width; x++) {
+                    if (data[row + x] == 0) {
+                        left = false;
+                        continue;
+                    }
+                    boolean right = x + 1 < width && data[row + x + 1] != 0;
+                    boolean border = !left || !right || !isSet(x, y - 1) || !isSet(x, y + 1);
+                    boolean outer = !left;
+                    left = true;
+                    if (!border) continue;
+
+                    // 0 is a pixel of a region that is on no border followed yet
+                    int index = y * width + x;
+                    int f = marks.get(index);
+                    if (outer && f == 0) {
+                        follow(x, y, x - 1, y, false, lnbd);
+                    } else if (!right && f >= 0) {
+                        if (f > 0) {
+                            lnbd = f;
+                        }
+                        follow(x, y, x + 1, y, true, lnbd);
+                    }
+
+                    f = marks.get(index);
+                    if (f != 0) {
+                        lnbd = Math.abs(f);
+                    }
+                }
+            }
+            return contours;
+        } finally {
+            data = null;
+            marks = null;
+            contours = null;
+        }
+    }
+
+    private boolean isSet(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height && data[offset + y * stride + x] != 0;
+    }
+
+    private static int direction(int fromX, int fromY, int toX, int toY) {
+        int dx = toX - fromX;
+        int dy = toY - fromY;
+        for (int d = 0; d < 8; d++) {
+            if (DX[d] == dx && DY[d] == dy) {
+                return d;
+            }
+        }
+        throw new IllegalStateException("not a neighbour");
+    }
+
+    /**
+     * Follows a new border from its first pixel.
+     * @param x      The first pixel.
+     * @param y      The first pixel.
+     * @param fromX  The pixel out of the region next to the first one.
+     * @param fromY  The pixel out of the region next to the first one.
+     * @param hole   Whether the border is the border of a hole.
+     * @param lnbd   The number of the last border met on the row.
+     */
+    private void follow(int x, int y, int fromX, int fromY, boolean hole, int lnbd) {
+        int parent = -1;
+        if (lnbd != FRAME) {
+            int last = lnbd - 2;
+            // the frame is the border of a hole
+            parent = contours.isHole(last) == hole ? contours.getParent(last) : last;
+        }
+        int nbd = contours.begin(hole, parent) + 2;
+
+        // the first neighbour in the region, clockwise
+        int start = direction(x, y, fromX, fromY);
+        int d1 = -1;
+        for (int k = 0; k < 8; k++) {
+            int d = (start - k + 8) & 7;
+            if (isSet(x + DX[d], y + DY[d])) {
+                d1 = d;
+                break;
+            }
+        }
+        if (d1 < 0) {
+            // a single pixel
+            marks.put(y * width + x, -nbd);
+            contours.add(x, y);
+            return;
+        }
+
+        int x1 = x + DX[d1];
+        int y1 = y + DY[d1];
+        int x3 = x;
+        int y3 = y;
+        // the direction from the current pixel to the previous one
+        int back = d1;
+        while (true) {
+            int d4 = back;
+            boolean eastOut = false;
+            for (int k = 1; k <= 8; k++) {
+                d4 = (back + k) & 7;
+                if (isSet(x3 + DX[d4], y3 + DY[d4])) break;
+                if (d4 == 0) {
+                    eastOut = true;
+                }
+            }
+
+            int index = y3 * width + x3;
+            if (eastOut) {
+                marks.put(index, -nbd);
+            } else if (marks.get(index) == 0) {
+                marks.put(index, nbd);
+            }
+            contours.add(x3, y3);
+
+            int x4 = x3 + DX[d4];
+            int y4 = y3 + DY[d4];
+            if (x4 == x && y4 == y && x3 == x1 && y3 == y1) {
+                return;
+            }
+            back = (d4 + 4) & 7;
+            x3 = x4;
+            y3 = y4;
+        }
+    }
+
+    /**
+     * The marks of the pixels of the borders, an open addressing table from
+     * the index of the pixel to its mark.
+     */
+    private static class Marks {
+
+        private int[] keys = new int[1024];
+        private int[] values = new int[1024];
+        private int size;
+
+        Marks() {
+            Arrays.fill(keys, -1);
+        }
+
+        private int slot(int key) {
+            int mask = keys.length - 1;
+            int hash = key * 0x9E3779B9;
+            int slot = (hash ^ hash >>> 16) & mask;
+            while (keys[slot] != -1 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        int get(int key) {
+            int slot = slot(key);
+            return keys[slot] == key ? values[slot] : 0;
+        }
+
+        void put(int key, int value) {
+            int slot = slot(key);
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+            if (++size * 2 > keys.length) {
+                grow();
+            }
+        }
+
+        private void grow() {
+            int[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new int[oldKeys.length * 2];
+            values = new int[oldKeys.length * 2];
+            Arrays.fill(keys, -1);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != -1) {
+                    int slot = slot(oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.binary.Contour;
+
+import com.cv4j.core.datamodel.RotatedRect;
+
+import java.util.Arrays;
+
+/**
+ * The contours found by {@link ContourFinder}. The points of all the contours are packed
+ * in one array, x then y, contour after contour, in the order they were followed.
+ * A contour is the outer border of a region or the border of one of its holes, its parent
+ * is the hole or the outer border around it, -1 when there is none.
+ */
+public class Contours {
+
+    private int count;
+    private int[] points = new int[256];
+    private int size;
+    private int[] start = new int[16];
+    private int[] parent = new int[16];
+    private boolean[] hole = new boolean[16];
+
+    Contours() {
+    }
+
+    /**
+     * @return The number of contours.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    public boolean isHole(int contour) {
+        return hole[check(contour)];
+    }
+
+    /**
+     * @return The contour around this one, -1 if there is none.
+     */
+    public int getParent(int contour) {
+        return parent[check(contour)];
+    }
+
+    public int getPointCount(int contour) {
+        check(contour);
+        return (start[contour + 1] - start[contour]) / 2;
+    }
+
+    public int getX(int contour, int index) {
+        return points[start[check(contour)] + 2 * index];
+    }
+
+    public int getY(int contour, int index) {
+        return points[start[check(contour)] + 2 * index + 1];
+    }
+
+    /**
+     * @return The points of the contour, x and y packed.
+     */
+    public int[] getPoints(int contour) {
+        check(contour);
+        return Arrays.copyOfRange(points, start[contour], start[contour + 1]);
+    }
+
+    /**
+     * @return The length of the closed polygon of the contour.
+     */
+    public double getPerimeter(int contour) {
+        int from = start[check(contour)];
+        int to = start[contour + 1];
+        double perimeter = 0;
+        for (int i = from; i < to; i += 2) {
+            int next = i + 2 < to ? i + 2 : from;
+            perimeter += Math.hypot(points[next] - points[i], points[next + 1] - points[i + 1]);
+        }
+        return perimeter;
+    }
+
+    /**
+     * Simplifies the closed polygon of the contour with the Douglas-Peucker algorithm.
+     * @param contour The contour.
+     * @param epsilon The largest distance of a removed point to the simplified polygon.
+     * @return The points that are kept, x and y packed, in the order of the contour.
+     */
+    public int[] simplify(int contour, double epsilon) {
+        int from = start[check(contour)];
+        int n = getPointCount(contour);
+        if (n <= 2) {
+            return getPoints(contour);
+        }
+
+        // the polygon is split at its first point and the point the farthest from it
+        int far = 0;
+        long farthest = -1;
+        for (int k = 1; k < n; k++) {
+            long dx = points[from + 2 * k] - points[from];
+            long dy = points[from + 2 * k + 1] - points[from + 1];
+            if (dx * dx + dy * dy > farthest) {
+                farthest = dx * dx + dy * dy;
+                far = k;
+            }
+        }
+
+        boolean[] keep = new boolean[n + 1];
+        keep[0] = true;
+        keep[far] = true;
+        // the segments still to check, the end n is the first point again
+        int[] stack = new int[64];
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = far;
+        stack[top++] = far;
+        stack[top++] = n;
+        while (top > 0) {
+            int last = stack[--top];
+            int first = stack[--top];
+            int ax = points[from + 2 * first];
+            int ay = points[from + 2 * first + 1];
+            int bx = points[from + 2 * (last % n)];
+            int by = points[from + 2 * (last % n) + 1];
+            double length = Math.hypot(bx - ax, by - ay);
+
+            int index = -1;
+            double max = epsilon;
+            for (int k = first + 1; k < last; k++) {
+                int px = points[from + 2 * k];
+                int py = points[from + 2 * k + 1];
+                double d = length == 0
+                        ? Math.hypot(px - ax, py - ay)
+                        : Math.abs((double) (bx - ax) * (py - ay) - (double) (by - ay) * (px - ax)) / length;
+                if (d > max) {
+                    max = d;
+                    index = k;
+                }
+            }
+            if (index < 0) continue;
+
+            keep[index] = true;
+            if (top + 4 > stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            stack[top++] = first;
+            stack[top++] = index;
+            stack[top++] = index;
+            stack[top++] = last;
+        }
+
+        int kept = 0;
+        int[] result = new int[2 * n];
+        for (int k = 0; k < n; k++) {
+            if (keep[k]) {
+                result[kept++] = points[from + 2 * k];
+                result[kept++] = points[from + 2 * k + 1];
+            }
+        }
+        return Arrays.copyOf(result, kept);
+    }
+
+    /**
+     * Computes the convex hull of the contour with the monotone chain algorithm.
+     * @param contour The contour.
+     * @return The corners of the hull, x and y packed, clockwise on the screen
+     * (counterclockwise with the y axis up), starting from the leftmost one.
+     */
+    public int[] convexHull(int contour) {
+        int from = start[check(contour)];
+        int n = getPointCount(contour);
+
+        // the points sorted by x then y, packed in longs so that no object is created
+        long[] sorted = new long[n];
+        for (int k = 0; k < n; k++) {
+            sorted[k] = ((long) points[from + 2 * k] << 32) | (points[from + 2 * k + 1] & 0xffffffffL);
+        }
+        Arrays.sort(sorted);
+
+        int[] hull = new int[4 * n + 4];
+        int h = 0;
+        // the lower chain from left to right, then the upper chain back
+        for (int pass = 0; pass < 2; pass++) {
+            int bottom = h;
+            for (int s = 0; s < n; s++) {
+                long p = sorted[pass == 0 ? s : n - 1 - s];
+                int x = (int) (p >> 32);
+                int y = (int) p;
+                while (h - bottom >= 4 && cross(hull[h - 4], hull[h - 3], hull[h - 2], hull[h - 1], x, y) <= 0) {
+                    h -= 2;
+                }
+                hull[h++] = x;
+                hull[h++] = y;
+            }
+            // the last point of a chain is the first one of the other chain
+            h -= 2;
+        }
+        if (h < 2) {
+            // a single point
+            return new int[] {points[from], points[from + 1]};
+        }
+        if (h == 4 && hull[0] == hull[2] && hull[1] == hull[3]) {
+            h = 2;
+        }
+        return Arrays.copyOf(hull, h);
+    }
+
+    private static long cross(int ox, int oy, int ax, int ay, int bx, int by) {
+        return (long) (ax - ox) * (by - oy) - (long) (ay - oy) * (bx - ox);
+    }
+
+    /**
+     * Computes the rectangle of the smallest area that holds the contour, one of its sides
+     * is on an edge of the convex hull.
+     * @param contour The contour.
+     * @return The rectangle, around the centers of the pixels.
+     */
+    public RotatedRect minAreaRect(int contour) {
+        int[] hull = convexHull(contour);
+        int n = hull.length / 2;
+        RotatedRect rect = new RotatedRect();
+        if (n == 1) {
+            rect.centerX = hull[0];
+            rect.centerY = hull[1];
+            return rect;
+        }
+
+        double best = Double.MAX_VALUE;
+        for (int e = 0; e < n; e++) {
+            int next = (e + 1) % n;
+            double ex = hull[2 * next] - hull[2 * e];
+            double ey = hull[2 * next + 1] - hull[2 * e + 1];
+            double length = Math.hypot(ex, ey);
+            if (length == 0) continue;
+            ex /= length;
+            ey /= length;
+
+            // the extent of the hull along the edge and across it
+            double minU = Double.MAX_VALUE;
+            double maxU = -Double.MAX_VALUE;
+            double minV = Double.MAX_VALUE;
+            double maxV = -Double.MAX_VALUE;
+            for (int k = 0; k < n; k++) {
+                double px = hull[2 * k] - hull[2 * e];
+                double py = hull[2 * k + 1] - hull[2 * e + 1];
+                double u = px * ex + py * ey;
+                double v = -px * ey + py * ex;
+                minU = Math.min(minU, u);
+                maxU = Math.max(maxU, u);
+                minV = Math.min(minV, v);
+                maxV = Math.max(maxV, v);
+            }
+
+            double area = (maxU - minU) * (maxV - minV);
+            if (area < best) {
+                best = area;
+                double cu = (minU + maxU) / 2;
+                double cv = (minV + maxV) / 2;
+                rect.centerX = hull[2 * e] + cu * ex - cv * ey;
+                rect.centerY = hull[2 * e + 1] + cu * ey + cv * ex;
+                rect.width = maxU - minU;
+                rect.height = maxV - minV;
+                rect.angle = Math.atan2(ey, ex);
+            }
+        }
+        return rect;
+    }
+
+    private int check(int contour) {
+        if (contour < 0 || contour >= count) {
+            throw new IndexOutOfBoundsException("contour " + contour + " of " + count);
+        }
+        return contour;
+    }
+
+    /**
+     * Starts a new contour.
+     * @return The new contour.
+     */
+    int begin(boolean isHole, int parentContour) {
+        if (count + 2 > start.length) {
+            int capacity = start.length * 2;
+            start = Arrays.copyOf(start, capacity);
+            parent = Arrays.copyOf(parent, capacity);
+            hole = Arrays.copyOf(hole, capacity);
+        }
+        hole[count] = isHole;
+        parent[count] = parentContour;
+        start[count + 1] = size;
+        return count++;
+    }
+
+    /**
+     * Adds a point to the last contour.
+     */
+    void add(int x, int y) {
+        if (size + 2 > points.length) {
+            points = Arrays.copyOf(points, points.length * 2);
+        }
+        points[size++] = x;
+        points[size++] = y;
+        start[count] = size;
+    }
+}
@@ -18,6 +18,7 @@ package com.cv4j.core.binary.Contour;
 import com.cv4j.core.binary.Erode.Erode;
 import com.cv4j.core.datamodel.ByteProcessor;
 import com.cv4j.core.datamodel.Size;
+import com.cv4j.core.memory.BufferPool;
 
 /**
  * The CourtEdge class.
@@ -29,12 +30,15 @@ public class CourtEdge {
 		int height = binary.getHeight();
 
 		byte[] input1 = initInput1(binary);
-		byte[] input2 = initInput2(binary);
 
 		initErode(binary);
+		byte[] input2 = initInput2(binary);
 
 		byte[] output = calculateOutput(input1, input2, width, height);
 		binary.putGray(output);
+
+		BufferPool.release(input1);
+		BufferPool.release(output);
 	}
 
 	private byte[] calculateOutput(byte[] input1, byte[] input2, int width, int height) {
@@ -81,7 +85,7 @@ public class CourtEdge {
 	 * @return       The output.
 	 */
 	private byte[] initOutput(byte[] input1) {
-		byte[] output = new byte[input1.length];
+		byte[] output = BufferPool.acquireBytes(input1.length);
 		System.arraycopy(input1, 0, output, 0, input1.length);
 
 		return output;
@@ -93,7 +97,7 @@ public class CourtEdge {
 	 * @return       The input2.
 	 */
 	private byte[] initInput2(ByteProcessor binary) {
-		return binary.getGray();
+		return binary.toByte(0);
 	}
 
 	/**
@@ -105,8 +109,8 @@ public class CourtEdge {
 		final int width  = binary.getWidth();
 		final int height = binary.getHeight();
 
-		byte[] input1 = new byte[width * height];
-		System.arraycopy(binary.getGray(), 0, input1, 0, input1.length);
+		byte[] input1 = BufferPool.acquireBytes(width * height);
+		System.arraycopy(binary.toByte(0), 0, input1, 0, input1.length);
 
 		return input1;
 	}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.binary;
+
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.datamodel.number.FloatProcessor;
+import com.cv4j.core.memory.BufferPool;
+import com.cv4j.core.utils.SafeCasting;
+
+/**
+ * The DistanceTransform class
+ */
+public class DistanceTransform extends DtBase {
+
+	/**
+	 * The maximum RGB value.
+	 */
+	private static final int MAX_RGB = 255;
+
+	/**
+	 * The metric, EUCLIDEAN, CHAMFER_3_4 or CITY_BLOCK.
+	 */
+	private final int metric;
+
+	public DistanceTransform() {
+		this(EUCLIDEAN);
+	}
+
+	/**
+	 * @param metric The metric, EUCLIDEAN, CHAMFER_3_4 or CITY_BLOCK.
+	 */
+	public DistanceTransform(int metric) {
+		if (metric != EUCLIDEAN && metric != CHAMFER_3_4 && metric != CITY_BLOCK) {
+			throw new IllegalArgumentException("Invalid argument: metric " + metric);
+		}
+		this.metric = metric;
+	}
+
+	/**
+	 * Replaces the binary image with its distance transform, scaled so that
+	 * the largest distance is 255.
+	 * @param binary The binary image.
+	 */
+	public void process(ByteProcessor binary) {
+		final int width     = binary.getWidth();
+		final int height    = binary.getHeight();
+
+		float[] distances = BufferPool.acquireFloats(width * height);
+		distances(binary.getGray(), binary.getOffset(), binary.getStride(), width, height, metric, distances);
+
+		float max = 0;
+		for (float d : distances) {
+			max = Math.max(max, d);
+		}
+
+		byte[] output = BufferPool.acquireBytes(width * height);
+		if (max > 0) {
+			float scale = MAX_RGB / max;
+			for (int i = 0; i < output.length; i++) {
+				output[i] = SafeCasting.safeIntToByte((int) (distances[i] * scale + 0.5f));
+			}
+		}
+		binary.putGray(output);
+
+		BufferPool.release(output);
+		BufferPool.release(distances);
+	}
+
+	/**
+	 * Computes the distance transform.
+	 * @param binary The binary image, it is not modified.
+	 * @return       The distance of every pixel to the nearest zero pixel, in pixels.
+	 */
+	public FloatProcessor transform(ByteProcessor binary) {
+		final int width  = binary.getWidth();
+		final int height = binary.getHeight();
+
+		float[] distances = new float[width * height];
+		distances(binary.getGray(), binary.getOffset(), binary.getStride(), width, height, metric, distances);
+		return new FloatProcessor(distances, width, height);
+	}
+}
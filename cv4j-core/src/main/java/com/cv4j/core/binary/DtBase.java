@@ -0,0 +1,246 @@
+package com.cv4j.core.binary;
+
+import com.cv4j.core.memory.BufferPool;
+import com.cv4j.core.parallel.ExecutionContext;
+
+/**
+ * The distance transforms of a binary image, every foreground (non zero) pixel gets
+ * the distance to the nearest background (zero) pixel, the background pixels get 0.
+ * The Euclidean and city block transforms are exact and separable, the columns then
+ * the rows are processed in parallel bands, in linear time whatever the thickness
+ * of the objects. The Euclidean transform is the one of Meijster, Roerdink and Hesselink (2000).
+ *
+ * @author Michele Lapolla on 12/18/17.
+ */
+public class DtBase {
+
+    /**
+     * The Euclidean distance.
+     */
+    public static final int EUCLIDEAN = 0;
+
+    /**
+     * The chamfer 3-4 distance, 3 for a side and 4 for a diagonal step, divided by 3.
+     */
+    public static final int CHAMFER_3_4 = 1;
+
+    /**
+     * The city block distance, the number of 4-connected steps.
+     */
+    public static final int CITY_BLOCK = 2;
+
+    /**
+     * The and value.
+     */
+    private static final int AND_VALUE = 0xff;
+
+    /**
+     * Computes the squared Euclidean distances.
+     * @param input  The binary pixels.
+     * @param offset The index of the first pixel.
+     * @param stride The distance between two rows of the input.
+     * @param width  The width.
+     * @param height The height.
+     * @param dist   The squared distances, width * height packed values.
+     */
+    protected static void squaredEuclidean(final byte[] input, int offset, int stride,
+                                           final int width, final int height, final int[] dist) {
+        // larger than any distance in the image, for the columns without background
+        final int infinity = width + height;
+        columns(input, offset, stride, width, height, infinity, dist);
+
+        ExecutionContext.forEachBand(height, 0, band -> {
+            int[] g = new int[width];
+            int[] s = new int[width];
+            int[] t = new int[width];
+            for (int row = band.start; row < band.end; row++) {
+                int index = row * width;
+                System.arraycopy(dist, index, g, 0, width);
+
+                // the lower envelope of the parabolas (x - u)^2 + g(u)^2
+                int q = 0;
+                s[0] = 0;
+                t[0] = 0;
+                for (int u = 1; u < width; u++) {
+                    while (q >= 0 && parabola(t[q], s[q], g) > parabola(t[q], u, g)) {
+                        q--;
+                    }
+                    if (q < 0) {
+                        q = 0;
+                        s[0] = u;
+                    } else {
+                        int w = 1 + separation(s[q], u, g);
+                        if (w < width) {
+                            q++;
+                            s[q] = u;
+                            t[q] = w;
+                        }
+                    }
+                }
+                for (int u = width - 1; u >= 0; u--) {
+                    dist[index + u] = parabola(u, s[q], g);
+                    if (u == t[q]) {
+                        q--;
+                    }
+                }
+            }
+        });
+    }
+
+    private static int parabola(int x, int u, int[] g) {
+        return (x - u) * (x - u) + g[u] * g[u];
+    }
+
+    /**
+     * @return The last x where the parabola of i is below the parabola of u, i &lt; u.
+     */
+    private static int separation(int i, int u, int[] g) {
+        return Math.floorDiv(u * u - i * i + g[u] * g[u] - g[i] * g[i], 2 * (u - i));
+    }
+
+    /**
+     * Computes the city block distances.
+     * @param input  The binary pixels.
+     * @param offset The index of the first pixel.
+     * @param stride The distance between two rows of the input.
+     * @param width  The width.
+     * @param height The height.
+     * @param dist   The distances, width * height packed values.
+     */
+    protected static void cityBlock(final byte[] input, int offset, int stride,
+                                    final int width, final int height, final int[] dist) {
+        columns(input, offset, stride, width, height, width + height, dist);
+
+        ExecutionContext.forEachBand(height, 0, band -> {
+            for (int row = band.start; row < band.end; row++) {
+                int index = row * width;
+                for (int col = 1; col < width; col++) {
+                    dist[index + col] = Math.min(dist[index + col], dist[index + col - 1] + 1);
+                }
+                for (int col = width - 2; col >= 0; col--) {
+                    dist[index + col] = Math.min(dist[index + col], dist[index + col + 1] + 1);
+                }
+            }
+        });
+    }
+
+    /**
+     * The distance of every pixel to the nearest background pixel of its column.
+     */
+    private static void columns(final byte[] input, final int offset, final int stride,
+                                final int width, final int height, final int infinity, final int[] dist) {
+        ExecutionContext.forEachBand(width, 0, band -> {
+            // one row at a time over the columns of the band, so that the memory is read in order
+            for (int col = band.start; col < band.end; col++) {
+                dist[col] = (input[offset + col] & AND_VALUE) == 0 ? 0 : infinity;
+            }
+            for (int row = 1; row < height; row++) {
+                int index = row * width;
+                int in = offset + row * stride;
+                for (int col = band.start; col < band.end; col++) {
+                    dist[index + col] = (input[in + col] & AND_VALUE) == 0
+                            ? 0 : Math.min(infinity, dist[index - width + col] + 1);
+                }
+            }
+            for (int row = height - 2; row >= 0; row--) {
+                int index = row * width;
+                for (int col = band.start; col < band.end; col++) {
+                    dist[index + col] = Math.min(dist[index + col], dist[index + width + col] + 1);
+                }
+            }
+        });
+    }
+
+    /**
+     * Computes the chamfer 3-4 distances, 3 times the distance in pixels.
+     * The two raster scans depend on the previous rows so they are sequential.
+     * @param input  The binary pixels.
+     * @param offset The index of the first pixel.
+     * @param stride The distance between two rows of the input.
+     * @param width  The width.
+     * @param height The height.
+     * @param dist   The distances, width * height packed values.
+     */
+    protected static void chamfer(byte[] input, int offset, int stride, int width, int height, int[] dist) {
+        final int side = 3;
+        final int diagonal = 4;
+        final int infinity = side * (width + height);
+
+        for (int row = 0; row < height; row++) {
+            int index = row * width;
+            int in = offset + row * stride;
+            for (int col = 0; col < width; col++) {
+                if ((input[in + col] & AND_VALUE) == 0) {
+                    dist[index + col] = 0;
+                    continue;
+                }
+                int d = infinity;
+                if (col > 0) d = Math.min(d, dist[index + col - 1] + side);
+                if (row > 0) {
+                    int up = index - width + col;
+                    d = Math.min(d, dist[up] + side);
+                    if (col > 0) d = Math.min(d, dist[up - 1] + diagonal);
+                    if (col < width - 1) d = Math.min(d, dist[up + 1] + diagonal);
+                }
+                dist[index + col] = d;
+            }
+        }
+
+        for (int row = height - 1; row >= 0; row--) {
+            int index = row * width;
+            for (int col = width - 1; col >= 0; col--) {
+                int d = dist[index + col];
+                if (d == 0) continue;
+                if (col < width - 1) d = Math.min(d, dist[index + col + 1] + side);
+                if (row < height - 1) {
+                    int down = index + width + col;
+                    d = Math.min(d, dist[down] + side);
+                    if (col > 0) d = Math.min(d, dist[down - 1] + diagonal);
+                    if (col < width - 1) d = Math.min(d, dist[down + 1] + diagonal);
+                }
+                dist[index + col] = d;
+            }
+        }
+    }
+
+    /**
+     * Computes the distances with a given metric.
+     * @param input  The binary pixels.
+     * @param offset The index of the first pixel.
+     * @param stride The distance between two rows of the input.
+     * @param width  The width.
+     * @param height The height.
+     * @param metric The metric, EUCLIDEAN, CHAMFER_3_4 or CITY_BLOCK.
+     * @param output The distances in pixels, width * height packed values.
+     */
+    protected static void distances(byte[] input, int offset, int stride, int width, int height,
+                                    int metric, final float[] output) {
+        final int[] dist = BufferPool.acquireInts(width * height);
+        switch (metric) {
+            case EUCLIDEAN:
+                squaredEuclidean(input, offset, stride, width, height, dist);
+                ExecutionContext.forEachBand(height, 0, band -> {
+                    for (int i = band.start * width; i < band.end * width; i++) {
+                        output[i] = (float) Math.sqrt(dist[i]);
+                    }
+                });
+                break;
+            case CHAMFER_3_4:
+                chamfer(input, offset, stride, width, height, dist);
+                for (int i = 0; i < output.length; i++) {
+                    output[i] = dist[i] / 3f;
+                }
+                break;
+            case CITY_BLOCK:
+                cityBlock(input, offset, stride, width, height, dist);
+                for (int i = 0; i < output.length; i++) {
+                    output[i] = dist[i];
+                }
+                break;
+            default:
+                BufferPool.release(dist);
+                throw new IllegalArgumentException("Invalid argument: metric " + metric);
+        }
+        BufferPool.release(dist);
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.binary;
+
+import com.cv4j.core.datamodel.MeasureData;
+import com.cv4j.core.datamodel.MeasureTable;
+
+import java.util.List;
+
+/**
+ * The GeoMoments class.
+ * The raw moments up to order 3 of every region are summed in one scan, run by run,
+ * with the coordinates taken from the first pixel of the region so that the sums stay small.
+ * The central moments, the orientation, the roundness and the Hu invariants are then
+ * derived from them.
+ */
+public class GeoMoments {
+
+    /**
+     * The raw moments of a region: m00, m10, m01, m20, m11, m02, m30, m21, m12, m03.
+     */
+    private static final int MOMENTS = 10;
+
+    /***
+     *
+     * @param pixelList - the tagged pixel of this contours
+     * @return some benchmark data for the contour
+     */
+    public MeasureData calculate(List<PixelNode> pixelList) {
+        Sums sums = new Sums(1);
+        for (PixelNode pixel : pixelList) {
+            sums.addRun(0, pixel.row, pixel.col, pixel.col + 1);
+        }
+        MeasureTable table = new MeasureTable(1);
+        sums.derive(0, table);
+        return table.get(0);
+    }
+
+    /**
+     * Measures every region of a label mask in one scan.
+     * @param labels The labels, width * height packed values, a negative label is the background.
+     * @param width  The width.
+     * @param height The height.
+     * @param count  The number of labels, they are from 0 to count - 1.
+     * @return The measures of every label.
+     */
+    public MeasureTable calculate(int[] labels, int width, int height, int count) {
+        Sums sums = new Sums(count);
+        for (int row = 0; row < height; row++) {
+            int offset = row * width;
+            int col = 0;
+            while (col < width) {
+                int label = labels[offset + col];
+                int start = col;
+                while (++col < width && labels[offset + col] == label) {
+                }
+                if (label >= 0) {
+                    sums.addRun(label, row, start, col);
+                }
+            }
+        }
+
+        MeasureTable table = new MeasureTable(count);
+        for (int label = 0; label < count; label++) {
+            sums.derive(label, table);
+        }
+        return table;
+    }
+
+    /**
+     * The raw moments of every region, MOMENTS values per region.
+     */
+    private static final class Sums {
+
+        final double[] m;
+        final int[] originX;
+        final int[] originY;
+
+        Sums(int count) {
+            m = new double[count * MOMENTS];
+            originX = new int[count];
+            originY = new int[count];
+        }
+
+        /**
+         * Adds the pixels [start, end) of a row.
+         */
+        void addRun(int label, int row, int start, int end) {
+            int i = label * MOMENTS;
+            if (m[i] == 0) {
+                originX[label] = start;
+                originY[label] = row;
+            }
+            double y = row - originY[label];
+            long a = start - originX[label];
+            long b = end - 1 - originX[label];
+
+            // the sums of x, x^2 and x^3 over the run
+            double s0 = b - a + 1;
+            double s1 = power1(b) - power1(a - 1);
+            double s2 = power2(b) - power2(a - 1);
+            double s3 = power3(b) - power3(a - 1);
+
+            m[i] += s0;
+            m[i + 1] += s1;
+            m[i + 2] += y * s0;
+            m[i + 3] += s2;
+            m[i + 4] += y * s1;
+            m[i + 5] += y * y * s0;
+            m[i + 6] += s3;
+            m[i + 7] += y * s2;
+            m[i + 8] += y * y * s1;
+            m[i + 9] += y * y * y * s0;
+        }
+
+        // the sums 1^k + 2^k + ... + n^k, they also hold for n < 0 as polynomials
+        private static double power1(long n) {
+            return n * (n + 1) / 2.0;
+        }
+
+        private static double power2(long n) {
+            return n * (n + 1) * (2 * n + 1) / 6.0;
+        }
+
+        private static double power3(long n) {
+            double s = power1(n);
+            return s * s;
+        }
+
+        void derive(int label, MeasureTable table) {
+            int i = label * MOMENTS;
+            double m00 = m[i];
+            if (m00 == 0) {
+                return;
+            }
+            double cx = m[i + 1] / m00;
+            double cy = m[i + 2] / m00;
+
+            // the central moments
+            double mu20 = m[i + 3] - cx * m[i + 1];
+            double mu11 = m[i + 4] - cx * m[i + 2];
+            double mu02 = m[i + 5] - cy * m[i + 2];
+            double mu30 = m[i + 6] - 3 * cx * m[i + 3] + 2 * cx * cx * m[i + 1];
+            double mu21 = m[i + 7] - 2 * cx * m[i + 4] - cy * m[i + 3] + 2 * cx * cx * m[i + 2];
+            double mu12 = m[i + 8] - 2 * cy * m[i + 4] - cx * m[i + 5] + 2 * cy * cy * m[i + 1];
+            double mu03 = m[i + 9] - 3 * cy * m[i + 5] + 2 * cy * cy * m[i + 2];
+
+            // the axes of the ellipse with the same second moments
+            double root = Math.sqrt((mu20 - mu02) * (mu20 - mu02) + 4 * mu11 * mu11);
+            double ra = Math.sqrt(2 * (mu20 + mu02 + root) / m00);
+            double rb = Math.sqrt(Math.max(0, 2 * (mu20 + mu02 - root) / m00));
+            double angle = 0.5 * Math.atan2(2 * mu11, mu20 - mu02);
+            double roundness = Double.compare(rb, 0) == 0 ? Double.MAX_VALUE : ra / rb;
+
+            table.set(label, m00, originX[label] + cx, originY[label] + cy, angle, roundness);
+            table.setHu(label, hu(m00, mu20, mu11, mu02, mu30, mu21, mu12, mu03));
+        }
+
+        private static double[] hu(double m00, double mu20, double mu11, double mu02,
+                                   double mu30, double mu21, double mu12, double mu03) {
+            // the normalized central moments
+            double s2 = m00 * m00;
+            double s3 = s2 * Math.sqrt(m00);
+            double n20 = mu20 / s2;
+            double n11 = mu11 / s2;
+            double n02 = mu02 / s2;
+            double n30 = mu30 / s3;
+            double n21 = mu21 / s3;
+            double n12 = mu12 / s3;
+            double n03 = mu03 / s3;
+
+            double a = n30 + n12;
+            double b = n21 + n03;
+            double c = n30 - 3 * n12;
+            double d = 3 * n21 - n03;
+
+            double[] hu = new double[MeasureTable.HU_COUNT];
+            hu[0] = n20 + n02;
+            hu[1] = (n20 - n02) * (n20 - n02) + 4 * n11 * n11;
+            hu[2] = c * c + d * d;
+            hu[3] = a * a + b * b;
+            hu[4] = c * a * (a * a - 3 * b * b) + d * b * (3 * a * a - b * b);
+            hu[5] = (n20 - n02) * (a * a - b * b) + 4 * n11 * a * b;
+            hu[6] = d * a * (a * a - 3 * b * b) - c * b * (3 * a * a - b * b);
+            return hu;
+        }
+    }
+}
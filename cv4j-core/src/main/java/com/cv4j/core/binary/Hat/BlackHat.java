@@ -18,6 +18,7 @@ package com.cv4j.core.binary.Hat;
 import com.cv4j.core.binary.morph.MorphClose;
 import com.cv4j.core.datamodel.ByteProcessor;
 import com.cv4j.core.datamodel.Size;
+import com.cv4j.core.memory.BufferPool;
 /**
  * The BlackHat class
  */
@@ -26,16 +27,18 @@ public class BlackHat {
     public void process(ByteProcessor binary, Size structureElement) {
         int width = binary.getWidth();
         int height = binary.getHeight();
-        byte[] data = new byte[width*height];
+        byte[] data = BufferPool.acquireBytes(width*height);
         int length = data.length;
-        System.arraycopy(binary.getGray(), 0, data, 0, length);
+        System.arraycopy(binary.toByte(0), 0, data, 0, length);
         MorphClose close = new MorphClose();
         close.process(binary, structureElement);
-        byte[] output = binary.getGray();
+        byte[] output = binary.toByte(0);
         int c = 0;
         for(int i=0; i<length; i++) {
             c = output[i]&0xff - data[i]&0xff;
-            output[i] = (byte) ((c > 0) ? 255 : 0);
+            data[i] = (byte) ((c > 0) ? 255 : 0);
         }
+        binary.putGray(data);
+        BufferPool.release(data);
     }
 }
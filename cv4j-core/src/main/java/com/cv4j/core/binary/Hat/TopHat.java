@@ -18,6 +18,7 @@ package com.cv4j.core.binary.Hat;
 import com.cv4j.core.binary.morph.MorphOpen;
 import com.cv4j.core.datamodel.ByteProcessor;
 import com.cv4j.core.datamodel.Size;
+import com.cv4j.core.memory.BufferPool;
 /**
  * The TopHat class
  */
@@ -31,15 +32,17 @@ public class TopHat {
     public void process(ByteProcessor binary, Size structureElement) {
         int width = binary.getWidth();
         int height = binary.getHeight();
-        byte[] data = new byte[width*height];
-        System.arraycopy(binary.getGray(), 0, data, 0, data.length);
+        byte[] data = BufferPool.acquireBytes(width*height);
+        System.arraycopy(binary.toByte(0), 0, data, 0, data.length);
         MorphOpen open = new MorphOpen();
         open.process(binary, structureElement);
-        byte[] output = binary.getGray();
+        byte[] output = binary.toByte(0);
         int c = 0;
         for(int i=0; i<data.length; i++) {
             c = (data[i]&0xff - output[i]&0xff);
-            output[i] = (byte) ((c > 0) ? 255 : 0);
+            data[i] = (byte) ((c > 0) ? 255 : 0);
         }
+        binary.putGray(data);
+        BufferPool.release(data);
     }
 }
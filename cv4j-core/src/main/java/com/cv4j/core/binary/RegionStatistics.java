@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.binary;
+
+import com.cv4j.core.datamodel.Rect;
+
+import java.util.Arrays;
+
+/**
+ * The statistics of the regions found by {@link ConnectedAreaLabel}, one entry per label
+ * in primitive arrays: the area, the bounding box, the sums of the coordinates for the
+ * centroid and, when enabled, the sums of their products for the second order moments.
+ * The arrays are kept from one image to the next and only grow.
+ */
+public class RegionStatistics {
+
+    private boolean moments;
+
+    private int count;
+
+    int[] area = new int[0];
+    int[] minX = new int[0];
+    int[] minY = new int[0];
+    int[] maxX = new int[0];
+    int[] maxY = new int[0];
+    long[] sumX = new long[0];
+    long[] sumY = new long[0];
+    long[] sumXX = new long[0];
+    long[] sumXY = new long[0];
+    long[] sumYY = new long[0];
+
+    public RegionStatistics() {
+        this(false);
+    }
+
+    /**
+     * @param moments Whether the second order moments are computed.
+     */
+    public RegionStatistics(boolean moments) {
+        this.moments = moments;
+    }
+
+    public boolean isMoments() {
+        return moments;
+    }
+
+    public void setMoments(boolean moments) {
+        this.moments = moments;
+    }
+
+    /**
+     * @return The number of regions.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @param label The label.
+     * @return The number of pixels of the region.
+     */
+    public int getArea(int label) {
+        return area[check(label)];
+    }
+
+    /**
+     * @param label The label.
+     * @return The smallest rectangle that holds the region.
+     */
+    public Rect getBoundingRect(int label) {
+        check(label);
+        Rect rect = new Rect();
+        rect.x = minX[label];
+        rect.y = minY[label];
+        rect.width = maxX[label] - minX[label] + 1;
+        rect.height = maxY[label] - minY[label] + 1;
+        rect.labelIdx = label;
+        return rect;
+    }
+
+    public double getCentroidX(int label) {
+        return (double) sumX[check(label)] / area[label];
+    }
+
+    public double getCentroidY(int label) {
+        return (double) sumY[check(label)] / area[label];
+    }
+
+    /**
+     * The central moments of order 2 divided by the area, the covariance of the coordinates.
+     * @param label The label.
+     * @param p     The order in x.
+     * @param q     The order in y, p + q must be 2.
+     * @return The normalized central moment.
+     */
+    public double getCovariance(int label, int p, int q) {
+        check(label);
+        if (!moments) {
+            throw new IllegalStateException("the moments are not computed");
+        }
+        double n = area[label];
+        double cx = sumX[label] / n;
+        double cy = sumY[label] / n;
+        if (p == 2 && q == 0) {
+            return sumXX[label] / n - cx * cx;
+        } else if (p == 1 && q == 1) {
+            return sumXY[label] / n - cx * cy;
+        } else if (p == 0 && q == 2) {
+            return sumYY[label] / n - cy * cy;
+        }
+        throw new IllegalArgumentException("Invalid argument: order " + p + ", " + q);
+    }
+
+    private int check(int label) {
+        if (label < 0 || label >= count) {
+            throw new IndexOutOfBoundsException("label " + label + " of " + count);
+        }
+        return label;
+    }
+
+    /**
+     * Clears the statistics of count regions.
+     */
+    void reset(int count) {
+        this.count = count;
+        if (area.length < count) {
+            int capacity = Math.max(count, area.length * 3 / 2);
+            area = new int[capacity];
+            minX = new int[capacity];
+            minY = new int[capacity];
+            maxX = new int[capacity];
+            maxY = new int[capacity];
+            sumX = new long[capacity];
+            sumY = new long[capacity];
+        }
+        if (moments && sumXX.length < area.length) {
+            sumXX = new long[area.length];
+            sumXY = new long[area.length];
+            sumYY = new long[area.length];
+        }
+        Arrays.fill(area, 0, count, 0);
+        Arrays.fill(minX, 0, count, Integer.MAX_VALUE);
+        Arrays.fill(minY, 0, count, Integer.MAX_VALUE);
+        Arrays.fill(maxX, 0, count, -1);
+        Arrays.fill(maxY, 0, count, -1);
+        Arrays.fill(sumX, 0, count, 0);
+        Arrays.fill(sumY, 0, count, 0);
+        if (moments) {
+            Arrays.fill(sumXX, 0, count, 0);
+            Arrays.fill(sumXY, 0, count, 0);
+            Arrays.fill(sumYY, 0, count, 0);
+        }
+    }
+
+    /**
+     * Adds a run of pixels of a row to a region.
+     */
+    void addRun(int label, int row, int start, int end) {
+        int n = end - start;
+        area[label] += n;
+        minX[label] = Math.min(minX[label], start);
+        maxX[label] = Math.max(maxX[label], end - 1);
+        minY[label] = Math.min(minY[label], row);
+        maxY[label] = Math.max(maxY[label], row);
+        // the sums of x and x * x over the run, in closed form
+        long sx = ((long) start + end - 1) * n / 2;
+        sumX[label] += sx;
+        sumY[label] += (long) row * n;
+        if (moments) {
+            sumXX[label] += squares(end - 1) - squares(start - 1);
+            sumXY[label] += row * sx;
+            sumYY[label] += (long) row * row * n;
+        }
+    }
+
+    /**
+     * @return 0 * 0 + 1 * 1 + ... + x * x.
+     */
+    private static long squares(long x) {
+        return x < 0 ? 0 : x * (x + 1) * (2 * x + 1) / 6;
+    }
+
+    /**
+     * Keeps the regions whose new label is not negative, in the order of their new labels.
+     */
+    void compact(int[] map, int newCount) {
+        for (int label = 0; label < count; label++) {
+            int to = map[label];
+            if (to < 0 || to == label) continue;
+            area[to] = area[label];
+            minX[to] = minX[label];
+            minY[to] = minY[label];
+            maxX[to] = maxX[label];
+            maxY[to] = maxY[label];
+            sumX[to] = sumX[label];
+            sumY[to] = sumY[label];
+            if (moments) {
+                sumXX[to] = sumXX[label];
+                sumXY[to] = sumXY[label];
+                sumYY[to] = sumYY[label];
+            }
+        }
+        count = newCount;
+    }
+}
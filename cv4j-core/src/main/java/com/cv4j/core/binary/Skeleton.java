@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.binary;
+
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.memory.BufferPool;
+import com.cv4j.core.parallel.ExecutionContext;
+import com.cv4j.core.utils.SafeCasting;
+
+/**
+ * The Skeleton class
+ * The skeleton is the ridge of the Euclidean distance transform, the foreground pixels
+ * whose distance is not smaller than the one of their 4 neighbours.
+ */
+public class Skeleton extends DtBase {
+
+	private static final int MAX_RGB_VALUE = 255;
+
+	/**
+	 * The process.
+	 * @param binary The byte processor.
+	 */
+	public void process(ByteProcessor binary) {
+		final int width = binary.getWidth();
+		final int height = binary.getHeight();
+
+		byte[] output = BufferPool.acquireBytes(width * height);
+		int[] distMap = BufferPool.acquireInts(width * height);
+
+		// the squared distances have the same order as the distances
+		squaredEuclidean(binary.getGray(), binary.getOffset(), binary.getStride(), width, height, distMap);
+		extractSkeletonFromDtImage(output, distMap, width, height);
+
+		binary.putGray(output);
+
+		BufferPool.release(output);
+		BufferPool.release(distMap);
+	}
+
+	/**
+	 * Extract the skeleton form a distance transform image.
+	 * @param output  The output array.
+	 * @param distMap The distMap array.
+	 * @param width   The width.
+	 * @param height  The height.
+	 */
+	private void extractSkeletonFromDtImage(final byte[] output, final int[] distMap, final int width, int height) {
+		ExecutionContext.forEachBand(height - 2, 0, band -> {
+			for(int row = band.start + 1; row < band.end + 1; row++) {
+				int offset = row * width;
+
+				for(int col = 1; col < width-1; col++) {
+					int dis = distMap[offset+col];
+					int p1  = distMap[offset+col-1];
+					int p2  = distMap[offset+col+1];
+					int p3  = distMap[offset-width+col];
+					int p4  = distMap[offset+width+col];
+
+					if(dis == 0 || dis < p1 || dis < p2 || dis < p3 || dis < p4) {
+						output[offset+col] = (byte) 0;
+					} else {
+						output[offset+col] = SafeCasting.safeIntToByte(MAX_RGB_VALUE);
+					}
+				}
+			}
+		});
+	}
+}
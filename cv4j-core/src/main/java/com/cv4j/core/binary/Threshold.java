@@ -15,14 +15,16 @@
  */
 package com.cv4j.core.binary;
 
-import android.util.SparseArray;
-
 import com.cv4j.core.binary.functions.ThresholdFunction;
 import com.cv4j.core.datamodel.ByteProcessor;
-import com.cv4j.core.datamodel.number.IntIntegralImage;
+import com.cv4j.core.datamodel.number.LocalStatistics;
+import com.cv4j.core.metrics.Instrumentation;
+import com.cv4j.core.metrics.StageTimer;
+import com.cv4j.core.parallel.ExecutionContext;
 import com.cv4j.core.utils.SafeCasting;
 
-import static android.os.Build.VERSION_CODES.N;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * The Threshold class
@@ -59,6 +61,11 @@ public class Threshold {
      */
     private static final int MAX_RGB_VALUE = 255;
 
+    /**
+     * The dynamic range of the standard deviation in the Sauvola threshold.
+     */
+    private static final double SAUVOLA_RANGE = 128.0;
+
     /** binary image */
     public static final int METHOD_THRESH_BINARY = 0;
     /** invert binary image */
@@ -74,6 +81,10 @@ public class Threshold {
     public static final int THRESH_MEANSHIFT = 4;
     /**based local mean threshold method, CV4J custom binary method, sometimes it is very slow...*/
     public static final int ADAPTIVE_C_MEANS_THRESH = 5;
+    /** local mean and standard deviation threshold method, see localThresh */
+    public static final int ADAPTIVE_SAUVOLA_THRESH = 6;
+    /** local mean and standard deviation threshold method, see localThresh */
+    public static final int ADAPTIVE_NIBLACK_THRESH = 7;
     /** it is not reasonable method to convert binary image */
     public static final int THRESH_VALUE = -1;
 
@@ -87,16 +98,16 @@ public class Threshold {
      */
     private static final int BMEANS_POS = 1;
 
-    private SparseArray<ThresholdFunction> thresholds;
+    private Map<Integer, ThresholdFunction> thresholds;
 
     public Threshold() {
         int dim = 5;
-        thresholds = new SparseArray<>(dim);
+        thresholds = new HashMap<>(dim);
 
-        thresholds.append(THRESH_MEANS, this::getMeanThreshold);
-        thresholds.append(THRESH_OTSU, this::getOTSUThreshold);
-        thresholds.append(THRESH_TRIANGLE, this::getTriangleThreshold);
-        thresholds.append(THRESH_MEANSHIFT, this::shift);
+        thresholds.put(THRESH_MEANS, this::getMeanThreshold);
+        thresholds.put(THRESH_OTSU, this::getOTSUThreshold);
+        thresholds.put(THRESH_TRIANGLE, this::getTriangleThreshold);
+        thresholds.put(THRESH_MEANSHIFT, this::shift);
     }
 
     /**
@@ -108,54 +119,111 @@ public class Threshold {
         process(gray, type, METHOD_THRESH_BINARY, 0);
     }
 
+    /**
+     * Binarize the image against the mean of the window around every pixel minus a constant,
+     * the window is clipped to the image and the mean is the one of the pixels inside it.
+     * <p>
+     * The two arguments used to be swapped on the way to the computation: the
+     * window was 2 * constant + 1 pixels wide, the mean was divided by the size of the
+     * unclipped window and blockSize was subtracted from it. blockSize is now the radius
+     * of the window and constant is subtracted, so a call keeping its old arguments,
+     * adaptiveThresh(gray, 7, 10, method) for example, gives a different image.
+     * @param gray      The gray image, binarized in place.
+     * @param blockSize The radius of the window, it is blockSize * 2 + 1 pixels wide.
+     * @param constant  The value subtracted from the mean.
+     * @param method    METHOD_THRESH_BINARY or METHOD_THRESH_BINARY_INV.
+     */
     public void adaptiveThresh(ByteProcessor gray, int blockSize, int constant, int method) {
-        final int width = gray.getWidth();
-        final int height = gray.getHeight();
+        StageTimer timer = Instrumentation.begin();
+        try {
+            adaptiveThreshImage(gray, blockSize, constant, method);
+        } finally {
+            if (timer != null) Instrumentation.end(timer, "Threshold.adaptive", gray);
+        }
+    }
+
+    private void adaptiveThreshImage(ByteProcessor gray, final int blockSize, final int constant, int method) {
+        final LocalStatistics statistics = buildStatistics(gray);
 
-        // 图像灰度化
-        byte[] binaryData = gray.getGray();
-        IntIntegralImage grayIntIntegralImage = initGrayIntIntegralImage(binaryData, width, height);
+        binarize(gray, method, (row, col, pixel) -> {
+            // 计算均值
+            int mean = (int) statistics.getMean(col, row, blockSize, blockSize);
+            return pixel > (mean - constant);
+        });
+    }
+
+    /**
+     * Binarize the image against a threshold computed from the mean m and
+     * the standard deviation s of the window around every pixel,
+     * Sauvola: m * (1 + k * (s / 128 - 1)), k is usually 0.2 to 0.5.
+     * Niblack: m + k * s, k is usually -0.2.
+     * @param gray   The gray image, binarized in place.
+     * @param type   ADAPTIVE_SAUVOLA_THRESH or ADAPTIVE_NIBLACK_THRESH.
+     * @param radius The window is radius * 2 + 1 pixels wide.
+     * @param k      The weight of the standard deviation.
+     * @param method METHOD_THRESH_BINARY or METHOD_THRESH_BINARY_INV.
+     */
+    public void localThresh(ByteProcessor gray, int type, int radius, float k, int method) {
+        if (type != ADAPTIVE_SAUVOLA_THRESH && type != ADAPTIVE_NIBLACK_THRESH) {
+            throw new IllegalArgumentException("Invalid argument: unknown local threshold " + type);
+        }
+        if (radius < 0) {
+            throw new IllegalArgumentException("Invalid argument: radius " + radius);
+        }
 
-        calculateBinaryDataAdaptiveThresh(grayIntIntegralImage, binaryData, blockSize, constant, width, height);
+        StageTimer timer = Instrumentation.begin();
+        try {
+            localThreshImage(gray, type == ADAPTIVE_SAUVOLA_THRESH, radius, k, method);
+        } finally {
+            if (timer != null) Instrumentation.end(timer, "Threshold.local", gray);
+        }
     }
 
-    private void calculateBinaryDataAdaptiveThresh(IntIntegralImage grayIntIntegralImage, byte[] binaryData, int constant, int blockSize, int width, int height) {
-        final int doubleOp = 2;
-        final int size = (blockSize * doubleOp + 1)*(blockSize * doubleOp + 1);
+    private void localThreshImage(ByteProcessor gray, final boolean sauvola, final int radius, final float k, int method) {
+        final LocalStatistics statistics = buildStatistics(gray);
 
-        for (int row = 0; row < height; row++) {
-            for (int col = 0; col < width; col++) {
-                int index = row * width + col;
+        binarize(gray, method, (row, col, pixel) -> {
+            double mean = statistics.getMean(col, row, radius, radius);
+            double deviation = statistics.getStdDev(col, row, radius, radius);
+            double t = sauvola ? mean * (1 + k * (deviation / SAUVOLA_RANGE - 1)) : mean + k * deviation;
+            return pixel > t;
+        });
+    }
 
-                // 计算均值
-                int sr = grayIntIntegralImage.getBlockSum(col, row, (blockSize * doubleOp + 1), (blockSize * doubleOp + 1));
-                int mean = sr / size;
-                int pixel = binaryData[index] & VALUE_0000FF;
+    private LocalStatistics buildStatistics(ByteProcessor gray) {
+        LocalStatistics statistics = new LocalStatistics();
+        statistics.build(gray.getGray(), gray.getOffset(), gray.getStride(), gray.getWidth(), gray.getHeight());
+        return statistics;
+    }
 
-                // 二值化
-                if(pixel > (mean-constant)) {
-                    binaryData[row * width + col] = SafeCasting.safeIntToByte(MAX_RGB_VALUE);
-                } else {
-                    binaryData[row * width + col] = 0;
+    /**
+     * Replace every pixel by high or low, in place, the rows are split into parallel bands.
+     * The tables of the statistics hold a copy of the image, so the pixels can be overwritten.
+     */
+    private void binarize(ByteProcessor gray, int method, final LocalRule rule) {
+        final int width = gray.getWidth();
+        final int offset = gray.getOffset();
+        final int stride = gray.getStride();
+        final byte[] data = gray.getGray();
+        final byte high = (method == METHOD_THRESH_BINARY_INV) ? 0 : SafeCasting.safeIntToByte(MAX_RGB_VALUE);
+        final byte low  = (method == METHOD_THRESH_BINARY_INV) ? SafeCasting.safeIntToByte(MAX_RGB_VALUE) : 0;
+
+        ExecutionContext.forEachBand(gray.getHeight(), 0, band -> {
+            for (int row = band.start; row < band.end; row++) {
+                int index = offset + row * stride;
+                for (int col = 0; col < width; col++, index++) {
+                    // 二值化
+                    data[index] = rule.above(row, col, data[index] & VALUE_0000FF) ? high : low;
                 }
             }
-        }
+        });
     }
 
     /**
-     * Pre-calculate integral image.
-     * @param binaryData The binary data.
-     * @param width      The width.
-     * @param height     The height.
-     * @return           The grayIntIntegralImage.
+     * The rule of a local threshold method.
      */
-    private IntIntegralImage initGrayIntIntegralImage(byte[] binaryData, int width, int height) {
-        IntIntegralImage grayIntIntegralImage = new IntIntegralImage();
-
-        grayIntIntegralImage.setImage(binaryData);
-        grayIntIntegralImage.process(width, height);
-
-        return grayIntIntegralImage;
+    private interface LocalRule {
+        boolean above(int row, int col, int pixel);
     }
 
     /**
@@ -165,6 +233,15 @@ public class Threshold {
      * @param thresh - threshold value you are going to use it if type = 0;
      */
     public void process(ByteProcessor gray, int type, int method, int thresh) {
+        StageTimer timer = Instrumentation.begin();
+        try {
+            processImage(gray, type, method, thresh);
+        } finally {
+            if (timer != null) Instrumentation.end(timer, "Threshold", gray);
+        }
+    }
+
+    private void processImage(ByteProcessor gray, int type, int method, int thresh) {
         int thresholdValue = 0;
         ThresholdFunction thresholdFunction = this.thresholds.get(type);
 
@@ -176,30 +253,31 @@ public class Threshold {
 
         byte[] data = gray.getGray();
         byte minValue = (byte) 0;
-
-        for(int i = 0; i < data.length; i++) {
-            int c = data[i] & VALUE_0000FF;
-
-            // FIX: Same for if and else -> error?
-            if(c <= thresholdValue) {
-                data[i] = (method == METHOD_THRESH_BINARY_INV ? SafeCasting.safeIntToByte(MAX_RGB_VALUE) : minValue);
-            } else {
-                data[i] = (method == METHOD_THRESH_BINARY_INV ? SafeCasting.safeIntToByte(MAX_RGB_VALUE) : minValue);
+        byte maxValue = SafeCasting.safeIntToByte(MAX_RGB_VALUE);
+        byte low  = (method == METHOD_THRESH_BINARY_INV) ? maxValue : minValue;
+        byte high = (method == METHOD_THRESH_BINARY_INV) ? minValue : maxValue;
+
+        for (int row = 0; row < gray.getHeight(); row++) {
+            int end = gray.getOffset() + row * gray.getStride() + gray.getWidth();
+            for (int i = end - gray.getWidth(); i < end; i++) {
+                int c = data[i] & VALUE_0000FF;
+                data[i] = (c <= thresholdValue) ? low : high;
             }
-
         }
     }
 
     private int getMeanThreshold(ByteProcessor gray) {
         int meanThreshold = 0;
-        byte[] data = gray.getGray();
+        int[] histogram = new int[MAX_RGB_VALUE + 1];
 
-        int sum = 0;
-        for (byte aData : data) {
-            sum += aData & VALUE_0000FF;
+        increaseHistogramFromData(histogram, gray);
+
+        long sum = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            sum += (long) histogram[i] * i;
         }
 
-        meanThreshold = sum / data.length;
+        meanThreshold = (int) (sum / ((long) gray.getWidth() * gray.getHeight()));
 
         return meanThreshold;
     }
@@ -208,11 +286,10 @@ public class Threshold {
         // 获取直方图
         final int dim = 256;
         int[] histogram = new int[dim];
-        byte[] data = gray.getGray();
 
-        increaseHistogramFromData(histogram, data);
+        increaseHistogramFromData(histogram, gray);
 
-        double[] variances = calculateVariances(histogram, data, dim);
+        double[] variances = calculateVariances(histogram, gray.getWidth() * gray.getHeight(), dim);
 
         // find the minimum within class variance
         int threshold = findMinPosWithinClassVariance(variances);
@@ -223,9 +300,9 @@ public class Threshold {
         return threshold;
     }
 
-    private double[] calculateVariances(int[] histogram, byte[] data, int dim) {
+    private double[] calculateVariances(int[] histogram, int pixelCount, int dim) {
         // 图像二值化 - OTSU 阈值化方法
-        double total = data.length;
+        double total = pixelCount;
         double[] variances = new double[dim];
 
         for(int i = 0; i < variances.length; i++) {
@@ -316,9 +393,8 @@ public class Threshold {
         final int dim = 256;
 
         int[] histogram = new int[dim];
-        byte[] data = gray.getGray();
 
-        increaseHistogramFromData(histogram, data);
+        increaseHistogramFromData(histogram, gray);
 
         int leftBound = findHistogramLeftBoundIndex(histogram, dim);
         int rightBound = findHistogramRightBoundIndex(histogram, dim);
@@ -338,7 +414,7 @@ public class Threshold {
             maxHistogramIndex    = dim - 1 - maxHistogramIndex;
         }
 
-        return (int) calculateThreshValue(histogram, leftBound, maxHistogramValue, maxHistogramIndex, isFlipped);
+        return (int) calculateThreshValue(histogram, dim, leftBound, maxHistogramValue, maxHistogramIndex, isFlipped);
     }
 
     private void flipHistogram(int[] histogram, int dim) {
@@ -356,7 +432,7 @@ public class Threshold {
         }
     }
 
-    private double calculateThreshValue(int[] histogram, int leftBound, int max, int max_ind, boolean isFlipped) {
+    private double calculateThreshValue(int[] histogram, int dim, int leftBound, int max, int max_ind, boolean isFlipped) {
         // 计算求得阈值
         double thresh = leftBound;
         double a = max;
@@ -376,7 +452,7 @@ public class Threshold {
 
         // 对已经得到的阈值T,如果前面已经翻转了，则阈值要用255-T
         if (isFlipped) {
-            thresh = N - 1 - thresh;
+            thresh = dim - 1 - thresh;
         }
 
         return thresh;
@@ -393,7 +469,7 @@ public class Threshold {
         }
 
         // 位置再移动一个步长，即为最右侧零位置
-        if(rightBound < N-1) {
+        if(rightBound < n-1) {
             rightBound++;
         }
 
@@ -474,12 +550,15 @@ public class Threshold {
         return values;
     }
 
-    private void increaseHistogramFromData(int[] histogram, byte[] data) {
-        int index = 0;
+    private void increaseHistogramFromData(int[] histogram, ByteProcessor gray) {
+        byte[] data = gray.getGray();
+        int width = gray.getWidth();
 
-        for (byte aData : data) {
-            index = aData & VALUE_0000FF;
-            histogram[index]++;
+        for (int row = 0; row < gray.getHeight(); row++) {
+            int end = gray.getOffset() + row * gray.getStride() + width;
+            for (int i = end - width; i < end; i++) {
+                histogram[data[i] & VALUE_0000FF]++;
+            }
         }
     }
 
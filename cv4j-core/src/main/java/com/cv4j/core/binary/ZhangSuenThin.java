@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.binary;
+
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.memory.BufferPool;
+import com.cv4j.core.parallel.ExecutionContext;
+
+import java.util.Arrays;
+
+/**
+ * The ZhangSuenThin class
+ * The decision of every sub-iteration only depends on the 8 neighbours of a pixel, so it
+ * is read from a table indexed by their code, P2 (north) in bit 0 then clockwise to P9
+ * (north west) in bit 7. Only the border pixels are visited: the worklist starts with the
+ * foreground pixels that touch the background and gets the neighbours of every deleted pixel,
+ * a pixel that both sub-iterations kept leaves it until one of its neighbours is deleted.
+ * The decisions of a sub-iteration are computed in parallel into flags, then applied.
+ */
+public class ZhangSuenThin {
+
+	/**
+	 * Max RGB value.
+	 */
+	private static final int MAX_RGB = 255;
+
+	/**
+	 * The bit of the pixels that the first sub-iteration deletes.
+	 */
+	private static final byte STEP1 = 1;
+
+	/**
+	 * The bit of the pixels that the second sub-iteration deletes.
+	 */
+	private static final byte STEP2 = 2;
+
+	/**
+	 * The decisions of the 2 sub-iterations for every code of the neighbours.
+	 */
+	private static final byte[] TABLE = new byte[256];
+
+	static {
+		for (int code = 0; code < 256; code++) {
+			int count = Integer.bitCount(code);
+			// the number of 01 patterns in P2, P3, ..., P9, P2
+			int transitions = 0;
+			for (int k = 0; k < 8; k++) {
+				if ((code >> k & 1) == 0 && (code >> ((k + 1) & 7) & 1) == 1) {
+					transitions++;
+				}
+			}
+			if (count < 2 || count > 6 || transitions != 1) {
+				continue;
+			}
+			boolean p2 = (code & 1) != 0;
+			boolean p4 = (code & 4) != 0;
+			boolean p6 = (code & 16) != 0;
+			boolean p8 = (code & 64) != 0;
+			if (!(p2 && p4 && p6) && !(p4 && p6 && p8)) {
+				TABLE[code] |= STEP1;
+			}
+			if (!(p2 && p4 && p8) && !(p2 && p6 && p8)) {
+				TABLE[code] |= STEP2;
+			}
+		}
+	}
+
+	/**
+	 * Thins the foreground (255) of a binary image in place, the pixels outside of the image are background.
+	 * @param binary The binary image.
+	 */
+	public void process(ByteProcessor binary) {
+		final int width = binary.getWidth();
+		final int height = binary.getHeight();
+		final int offset = binary.getOffset();
+		final int stride = binary.getStride();
+		byte[] pixels = binary.getGray();
+
+		// 1 for the foreground, with a background border so that every pixel has 8 neighbours
+		final int span = width + 2;
+		final byte[] image = BufferPool.acquireBytes(span * (height + 2));
+		for (int row = 0; row < height; row++) {
+			int in = offset + row * stride;
+			int out = (row + 1) * span + 1;
+			for (int col = 0; col < width; col++) {
+				image[out + col] = (byte) ((pixels[in + col] & 0xff) == MAX_RGB ? 1 : 0);
+			}
+		}
+
+		// the worklist, with the number of sub-iterations since the last change around each pixel in it
+		final byte[] listed = BufferPool.acquireBytes(image.length);
+		int[] list = new int[Math.max(16, width + height)];
+		int size = 0;
+		for (int i = span; i < image.length - span; i++) {
+			if (image[i] != 0 && code(image, i, span) != 0xff) {
+				if (size == list.length) {
+					list = Arrays.copyOf(list, size * 2);
+				}
+				list[size++] = i;
+				listed[i] = 1;
+			}
+		}
+
+		final byte[] flags = BufferPool.acquireBytes(image.length);
+		final int[] around = {-span, -span + 1, 1, span + 1, span, span - 1, -1, -span - 1};
+		int[] removed = new int[16];
+		int unchanged = 0;
+		byte step = STEP1;
+		while (unchanged < 2 && size > 0) {
+			// the decisions only read the image, the flagged pixels are deleted afterwards
+			final int[] candidates = list;
+			final byte mask = step;
+			ExecutionContext.forEachBand(size, 0, band -> {
+				for (int k = band.start; k < band.end; k++) {
+					int i = candidates[k];
+					if ((TABLE[code(image, i, span)] & mask) != 0) {
+						flags[i] = 1;
+					}
+				}
+			});
+
+			int kept = 0;
+			int deleted = 0;
+			for (int k = 0; k < size; k++) {
+				int i = list[k];
+				if (flags[i] == 0) {
+					// kept by both sub-iterations with the same neighbours, it stays until one of them is deleted
+					if (++listed[i] > 2) {
+						listed[i] = 0;
+					} else {
+						list[kept++] = i;
+					}
+					continue;
+				}
+				flags[i] = 0;
+				image[i] = 0;
+				listed[i] = 0;
+				pixels[offset + (i / span - 1) * stride + i % span - 1] = 0;
+				if (deleted == removed.length) {
+					removed = Arrays.copyOf(removed, deleted * 2);
+				}
+				removed[deleted++] = i;
+			}
+			size = kept;
+
+			// the foreground neighbours of the deleted pixels are now on the border
+			for (int d = 0; d < deleted; d++) {
+				for (int n : around) {
+					int j = removed[d] + n;
+					if (image[j] == 0) {
+						continue;
+					}
+					if (listed[j] == 0) {
+						if (size == list.length) {
+							list = Arrays.copyOf(list, size * 2);
+						}
+						list[size++] = j;
+					}
+					listed[j] = 1;
+				}
+			}
+
+			unchanged = deleted == 0 ? unchanged + 1 : 0;
+			step = step == STEP1 ? STEP2 : STEP1;
+		}
+
+		BufferPool.release(image);
+		BufferPool.release(listed);
+		BufferPool.release(flags);
+	}
+
+	private static int code(byte[] image, int i, int span) {
+		return image[i - span]
+				| image[i - span + 1] << 1
+				| image[i + 1] << 2
+				| image[i + span + 1] << 3
+				| image[i + span] << 4
+				| image[i + span - 1] << 5
+				| image[i - 1] << 6
+				| image[i - span - 1] << 7;
+	}
+}
@@ -0,0 +1,35 @@
+package com.cv4j.core.binary.fast;
+
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.datamodel.Size;
+
+/**
+ * The Fast base class.
+ * Erode and dilate with a rectangle structure element in two separable passes of
+ * {@link RunningMinMax}, the cost per pixel does not depend on the size of the element.
+ * @author Michele Lapolla on 12/19/17.
+ */
+public abstract class FastBase {
+
+    /**
+     * The process
+     * @param binary           The byte processor.
+     * @param structureElement The structure element, cols x rows, any size.
+     */
+    public void process(ByteProcessor binary, Size structureElement) {
+        final int width = binary.getWidth();
+        final int height = binary.getHeight();
+
+        // X Direction then Y Direction, in place
+        byte[] data = binary.getGray();
+        RunningMinMax.filter(data, binary.getOffset(), binary.getStride(),
+                             data, binary.getOffset(), binary.getStride(),
+                             width, height, structureElement.cols, structureElement.rows, isDilate());
+    }
+
+    /**
+     * @return true for the maximum of the structure element, false for the minimum.
+     */
+    protected abstract boolean isDilate();
+
+}
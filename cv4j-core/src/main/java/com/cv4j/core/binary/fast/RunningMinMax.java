@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.binary.fast;
+
+import com.cv4j.core.memory.BufferPool;
+import com.cv4j.core.parallel.ExecutionContext;
+
+/**
+ * The minimum or the maximum over a sliding window (van Herk / Gil-Werman).
+ * The line is cut in blocks of the window size, a forward pass keeps the running
+ * minimum from the start of each block and a backward pass the one from its end,
+ * any window covers the end of one block and the start of the next, its minimum is
+ * the smaller of the two. That is 3 comparisons per pixel whatever the window size.
+ * <p>
+ * A rectangle is separable: a horizontal pass over the rows then a vertical pass over
+ * the columns, the rows and then the columns run in parallel bands.
+ * The pixels beyond the border repeat the border. A window of an even size n covers
+ * n / 2 pixels before the center and n / 2 - 1 after it.
+ */
+public final class RunningMinMax {
+
+    private static final int FLIP_MAX = 0xff;
+
+    private RunningMinMax() {
+    }
+
+    /**
+     * Filter a plane with a rectangle of cols x rows pixels.
+     * Source and destination can be the same plane.
+     * @param src       The source plane.
+     * @param srcOffset The pixel (0, 0) in src.
+     * @param srcStride The row stride of src.
+     * @param dst       The destination plane.
+     * @param dstOffset The pixel (0, 0) in dst.
+     * @param dstStride The row stride of dst.
+     * @param width     The width.
+     * @param height    The height.
+     * @param cols      The width of the rectangle.
+     * @param rows      The height of the rectangle.
+     * @param max       true for the maximum (dilate), false for the minimum (erode).
+     */
+    public static void filter(final byte[] src, final int srcOffset, final int srcStride,
+                              final byte[] dst, final int dstOffset, final int dstStride,
+                              final int width, final int height, int cols, int rows, boolean max) {
+        if (width <= 0 || height <= 0) return;
+
+        final int flip = max ? FLIP_MAX : 0;
+        final int left = Math.max(cols, 1) / 2;
+        final int right = Math.max(cols, 1) - 1 - left;
+        final int top = Math.max(rows, 1) / 2;
+        final int bottom = Math.max(rows, 1) - 1 - top;
+
+        final byte[] temp = BufferPool.acquireBytes(width * height);
+
+        ExecutionContext.forEachBand(height, 0, band -> {
+            int[] scratch = BufferPool.acquireInts(scratchLength(width, left, right));
+            for (int row = band.start; row < band.end; row++) {
+                line(src, srcOffset + row * srcStride, 1, temp, row * width, 1, width, left, right, flip, scratch);
+            }
+            BufferPool.release(scratch);
+        });
+
+        ExecutionContext.forEachBand(width, 0, band -> {
+            int[] scratch = BufferPool.acquireInts(scratchLength(height, top, bottom));
+            for (int col = band.start; col < band.end; col++) {
+                line(temp, col, width, dst, dstOffset + col, dstStride, height, top, bottom, flip, scratch);
+            }
+            BufferPool.release(scratch);
+        });
+
+        BufferPool.release(temp);
+    }
+
+    /**
+     * dst[i] = min of src[j] for j in [i - before, i + after], j clamped to [0, length).
+     * @param scratch At least scratchLength(length, before, after) ints.
+     */
+    public static void min(byte[] src, int srcOffset, int srcStep, byte[] dst, int dstOffset, int dstStep,
+                           int length, int before, int after, int[] scratch) {
+        line(src, srcOffset, srcStep, dst, dstOffset, dstStep, length, before, after, 0, scratch);
+    }
+
+    /**
+     * dst[i] = max of src[j] for j in [i - before, i + after], j clamped to [0, length).
+     * @param scratch At least scratchLength(length, before, after) ints.
+     */
+    public static void max(byte[] src, int srcOffset, int srcStep, byte[] dst, int dstOffset, int dstStep,
+                           int length, int before, int after, int[] scratch) {
+        line(src, srcOffset, srcStep, dst, dstOffset, dstStep, length, before, after, FLIP_MAX, scratch);
+    }
+
+    /**
+     * @return The number of ints of scratch a line needs.
+     */
+    public static int scratchLength(int length, int before, int after) {
+        return 2 * (length + before + after);
+    }
+
+    /**
+     * The minimum of the values xor flip, the maximum is the minimum of 255 - value.
+     */
+    private static void line(byte[] src, int srcOffset, int srcStep, byte[] dst, int dstOffset, int dstStep,
+                             int length, int before, int after, int flip, int[] scratch) {
+        final int size = before + after + 1;
+        final int n = length + before + after;
+
+        // the forward minimum from the start of each block in [0, n), the values in [n, 2n)
+        int last = srcOffset + (length - 1) * srcStep;
+        int block = 0;
+        int g = 0;
+        for (int j = 0; j < n; j++) {
+            int i = j - before;
+            int index = (i <= 0) ? srcOffset : (i >= length ? last : srcOffset + i * srcStep);
+            int v = (src[index] & 0xff) ^ flip;
+            scratch[n + j] = v;
+
+            if (block == 0 || v < g) {
+                g = v;
+            }
+            scratch[j] = g;
+            if (++block == size) {
+                block = 0;
+            }
+        }
+
+        // the backward minimum from the end of each block, in place of the values
+        int h = scratch[2 * n - 1];
+        block = (n - 1) % size;
+        for (int j = n - 2; j >= 0; j--) {
+            block = (block == 0) ? size - 1 : block - 1;
+            int v = scratch[n + j];
+            if (block == size - 1 || v < h) {
+                h = v;
+            }
+            scratch[n + j] = h;
+        }
+
+        // window [i, i + size) of the extended line
+        int out = dstOffset;
+        for (int i = 0; i < length; i++) {
+            int m = Math.min(scratch[n + i], scratch[i + size - 1]);
+            dst[out] = (byte) (m ^ flip);
+            out += dstStep;
+        }
+    }
+}
@@ -18,6 +18,8 @@ package com.cv4j.core.binary.hough;
 
 import com.cv4j.core.datamodel.ByteProcessor;
 import com.cv4j.core.datamodel.Vec3i;
+import com.cv4j.core.metrics.Instrumentation;
+import com.cv4j.core.metrics.StageTimer;
 import java.util.Arrays;
 import java.util.List;
 
@@ -52,9 +54,18 @@ public class HoughCircles {
      * @param accumulate - find the hough space acc value which more than input threshold t
      */
     public void process(ByteProcessor binary, List<Vec3i> circles, int minRadius, int maxRadius, boolean maxonly, int accumulate) {
+        StageTimer timer = Instrumentation.begin();
+        try {
+            processImage(binary, circles, minRadius, maxRadius, maxonly, accumulate);
+        } finally {
+            if (timer != null) Instrumentation.end(timer, "HoughCircles", binary);
+        }
+    }
+
+    private void processImage(ByteProcessor binary, List<Vec3i> circles, int minRadius, int maxRadius, boolean maxonly, int accumulate) {
         final int width = binary.getWidth();
         final int height = binary.getHeight();
-        byte[] data = binary.getGray();
+        byte[] data = binary.toByte(0);
 
         // initialize the polar coordinates space/Hough Space
         int numOfRadius = (maxRadius - minRadius) + 1;
@@ -15,10 +15,10 @@
  */
 package com.cv4j.core.binary.hough;
 
-import android.annotation.SuppressLint;
-
 import com.cv4j.core.datamodel.ByteProcessor;
 import com.cv4j.core.datamodel.Line;
+import com.cv4j.core.metrics.Instrumentation;
+import com.cv4j.core.metrics.StageTimer;
 import com.cv4j.core.utils.SafeCasting;
 
 import java.util.ArrayList;
@@ -80,22 +80,32 @@ public class HoughLinesP {
 	 * @return
 	 */
 	public void process(ByteProcessor binary, int sizeAcc, List<Line> rows) {
-		final int rMax  = (int) Math.sqrt(width * width + height * height);
+		StageTimer timer = Instrumentation.begin();
+		try {
+			processImage(binary, sizeAcc, rows);
+		} finally {
+			if (timer != null) Instrumentation.end(timer, "HoughLinesP", binary);
+		}
+	}
+
+	private void processImage(ByteProcessor binary, int sizeAcc, List<Line> rows) {
 		final int andValue = 0xff;
 
 		this.width        = binary.getWidth();
 		this.height       = binary.getHeight();
 		this.accSize      = sizeAcc; // 前K=accSize个累积值
 
+		final int rMax  = (int) Math.sqrt(width * width + height * height);
+
 		int[] acc = new int[rMax * DEGREE_180]; // 0 ~ 180角度范围
-		byte[] input = binary.getGray();
+		byte[] input = binary.toByte(0);
 
 		for (int x = 0; x < width; x++) {
 			for (int y = 0; y < height; y++) {
 				if ((input[y * width + x] & andValue) == MAX_RGB) {
 					for (int theta = 0; theta < DEGREE_180; theta++) {
 						int r = SafeCasting.safeDoubleToInt(x * cosLut[theta] + y * sinLut[theta]); // 计算出极坐标
-						if ((r > 0) && (r <= rMax)) {
+						if ((r > 0) && (r < rMax)) {
 							acc[r * DEGREE_180 + theta] = acc[r * DEGREE_180 + theta] + 1; // 在斜率范围内的点，极坐标相同
 						}
 					}
@@ -216,7 +226,6 @@ public class HoughLinesP {
 	 * @return        The map of labels and lines.
 	 */
 	private Map<Integer, Line> getLinesMap(int[] labels, List<Line> lines) {
-		@SuppressLint("UseSparseArrays")
 		Map<Integer, Line> lineMap = new HashMap<>();
 
 		for(int i = 0; i < labels.length; i++) {
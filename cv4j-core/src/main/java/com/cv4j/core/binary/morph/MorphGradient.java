@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.binary.morph;
+
+import com.cv4j.core.binary.fast.RunningMinMax;
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.datamodel.Size;
+import com.cv4j.core.memory.BufferPool;
+import com.cv4j.exception.CV4JException;
+/**
+ * The MorphGradient class
+ */
+public class MorphGradient {
+
+    /**
+     * The hex value 0000FF.
+     */
+    private static final int VALUE_0000FF = 0x0000ff;
+
+    /**
+     * Constant of the internal gradient
+     */ 
+    public static final int INTERNAL_GRADIENT = 1;
+    /**
+     * Constant of the external gradient
+     */ 
+    public static final int EXTERNAL_GRADIENT = 2;
+    /**
+     * Constant of the basic gradient
+     */ 
+    public static final int BASIC_GRADIENT = 3;
+
+    /**
+     *
+     * @param gray
+     * @param structureElement - cols x rows, any size
+     * @param gradientType
+     */
+    public void process(ByteProcessor gray, Size structureElement, int gradientType) {
+        final int width  = gray.getWidth();
+        final int height = gray.getHeight();
+        final int size   = width * height;
+
+        byte[] data = gray.getGray();
+        byte[] ero  = BufferPool.acquireBytes(size);
+        byte[] dil  = BufferPool.acquireBytes(size);
+
+        // the min and the max over the structure element, X direction then Y direction
+        RunningMinMax.filter(data, gray.getOffset(), gray.getStride(), ero, 0, width,
+                             width, height, structureElement.cols, structureElement.rows, false);
+        RunningMinMax.filter(data, gray.getOffset(), gray.getStride(), dil, 0, width,
+                             width, height, structureElement.cols, structureElement.rows, true);
+
+        byte[] pixels = gray.getOffset() == 0 && gray.getStride() == width ? data : gray.duplicate().getGray();
+        byte[] output = BufferPool.acquireBytes(size);
+        calculateGradient(pixels, dil, ero, output, gradientType);
+        gray.putGray(output);
+
+        BufferPool.release(output);
+        BufferPool.release(ero);
+        BufferPool.release(dil);
+    }
+
+    /**
+     * Calculate the gradient.
+     * @param data         The pixels.
+     * @param dil          The dil.
+     * @param ero          The ero.
+     * @param output       The gradient.
+     * @param gradientType The gradient type.
+     */
+    private void calculateGradient(byte[] data, byte[] dil, byte[] ero, byte[] output, int gradientType) {
+        switch (gradientType) {
+            case BASIC_GRADIENT:
+                calculateBasicGradient(dil, ero, output);
+                break;
+            case EXTERNAL_GRADIENT:
+                calculateExternalGradient(data, dil, output);
+                break;
+            case INTERNAL_GRADIENT:
+                calculateInternalGradient(data, ero, output);
+                break;
+            default:
+                throw new CV4JException("Unknown Gradient type, not supported...");
+        }
+    }
+
+    /**
+     * Calculate internal gradient.
+     * @param data   The data.
+     * @param ero    The ero.
+     * @param output The gradient.
+     */
+    private void calculateInternalGradient(byte[] data, byte[] ero, byte[] output) {
+        for(int i = 0; i < output.length; i++) {
+            output[i] = (byte)((data[i] & VALUE_0000FF) - (ero[i] & VALUE_0000FF));
+        }
+    }
+
+    /**
+     * Calculate external gradient.
+     * @param data   The data.
+     * @param dil    The dil.
+     * @param output The gradient.
+     */
+    private void calculateExternalGradient(byte[] data, byte[] dil, byte[] output) {
+        for(int i=0; i<output.length; i++) {
+            output[i] = (byte) ((dil[i] & VALUE_0000FF) - (data[i] & VALUE_0000FF));
+        }
+    }
+
+    /**
+     * Calculate basic gradient.
+     * @param dil    The dil.
+     * @param ero    The ero.
+     * @param output The gradient.
+     */
+    private void calculateBasicGradient(byte[] dil, byte[] ero, byte[] output) {
+        final int maxRgb = 255;
+
+        for(int i=0; i<output.length; i++) {
+            int c = ((dil[i] & VALUE_0000FF) - (ero[i] & VALUE_0000FF));
+            output[i] = (byte) (c > 0 ? maxRgb : 0);
+        }
+    }
+}
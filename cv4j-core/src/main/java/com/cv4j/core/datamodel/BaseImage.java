@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.datamodel;
+
+import com.cv4j.core.datamodel.image.ImageData;
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.utils.SafeCasting;
+
+/**
+ * The pure java image of DataModel, it does not depend on any platform image type.
+ * The android module extends it with Bitmap support (CV4JImage).
+ */
+public class BaseImage implements ImageData {
+
+    /**
+     * The image's width.
+     */
+    protected int width;
+
+    /**
+     * The image's height.
+     */
+    protected int height;
+
+    /**
+     * The image processor of the image.
+     */
+    protected ImageProcessor processor;
+
+    protected BaseImage() {
+    }
+
+    /**
+     * Create a gray image.
+     * @param width  The width.
+     * @param height The height.
+     */
+    public BaseImage(int width, int height) {
+        this.width = width;
+        this.height = height;
+        setProcessor(new ByteProcessor(new byte[width*height], width, height));
+    }
+
+    /**
+     * Create a color image.
+     * @param width  The width.
+     * @param height The height.
+     * @param pixels The ARGB pixels.
+     */
+    public BaseImage(int width, int height, int[] pixels) {
+        this.width = width;
+        this.height = height;
+        setProcessor(new ColorProcessor(pixels, width, height));
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public ImageProcessor getProcessor() {
+        return this.processor;
+    }
+
+    /**
+     * Replace the processor and bind it to this image.
+     * @param processor The processor.
+     */
+    protected void setProcessor(ImageProcessor processor) {
+        this.processor = processor;
+
+        if (processor instanceof ColorProcessor) {
+            ((ColorProcessor) processor).setCallBack(this);
+        } else if (processor instanceof ByteProcessor) {
+            ((ByteProcessor) processor).setCallBack(this);
+        }
+    }
+
+    @Override
+    public BaseImage convert2Gray() {
+        final int value0000FF = 0x0000ff;
+
+        if(this.processor instanceof ColorProcessor) {
+            final double grayConvertConst1 = 0.299;
+            final double grayConvertConst2 = 0.587;
+            final double grayConvertConst3 = 0.113;
+
+            byte[] gray = new byte[width * height];
+
+            ColorProcessor colorProcessor = (ColorProcessor) this.processor;
+            byte[] R = colorProcessor.getRed();
+            byte[] G = colorProcessor.getGreen();
+            byte[] B = colorProcessor.getBlue();
+
+            for (int i = 0; i < gray.length; i++) {
+                int tr = R[i] & value0000FF;
+                int tg = G[i] & value0000FF;
+                int tb = B[i] & value0000FF;
+
+                double grayConversionValue = grayConvertConst1 * tr + grayConvertConst2 * tg + grayConvertConst3 * tb;
+                int c = SafeCasting.safeDoubleToInt(grayConversionValue);
+
+                gray[i] = SafeCasting.safeIntToByte(c);
+            }
+
+            setProcessor(new ByteProcessor(gray, this.width, this.height));
+        }
+
+        return this;
+    }
+
+    @Override
+    public void resetBitmap() {
+        // nothing is cached by the pure java image
+    }
+
+    /**
+     * 释放资源
+     */
+    public void recycle() {
+        processor = null;
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.datamodel;
+
+import com.cv4j.core.datamodel.image.ImageData;
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.datamodel.plane.ArrayPlane;
+import com.cv4j.core.datamodel.plane.Plane;
+import com.cv4j.exception.CV4JException;
+
+/**
+ * The ByteProcessor class of DataModel
+ */
+public class ByteProcessor implements ImageProcessor {
+
+    /**
+     * The value of 0000FF.
+     */
+    private static final int VALUE_0000FF = 0x0000ff;
+
+    /**
+     * The width.
+     */
+    private int width;
+
+    /**
+     * The height.
+     */
+    private int height;
+
+    /**
+     * The data.
+     */
+    private byte[] GRAY;
+
+    /**
+     * The index of the first pixel in the data.
+     */
+    private int offset = 0;
+
+    /**
+     * The distance between two rows in the data.
+     */
+    private int stride;
+
+    /**
+     * The image this view was taken from, null if the processor owns its data.
+     */
+    private ByteProcessor parent = null;
+
+    /**
+     * The image data.
+     */
+    private ImageData image = null;
+
+    public ByteProcessor(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.stride = width;
+        this.GRAY = new byte[width*height];
+    }
+    
+    public ByteProcessor(byte[] data, int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.stride = width;
+        this.GRAY = data;
+
+        // setup hist
+        final int histSize = 256;
+        int[] hist = new int[histSize];
+        for (byte aData : data) {
+            hist[aData & VALUE_0000FF]++;
+        }
+    }
+
+    /**
+     * The view constructor, the data is shared with the parent.
+     */
+    private ByteProcessor(ByteProcessor parent, int offset, int width, int height) {
+        this.parent = parent;
+        this.GRAY = parent.GRAY;
+        this.offset = offset;
+        this.stride = parent.stride;
+        this.width = width;
+        this.height = height;
+    }
+
+    protected void setCallBack(ImageData data) {
+        this.image = data;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public int getChannels() {
+        return 1;
+    }
+
+    @Override
+    public int getOffset() {
+        return offset;
+    }
+
+    @Override
+    public int getStride() {
+        return stride;
+    }
+
+    @Override
+    public ImageProcessor getParent() {
+        return parent;
+    }
+
+    /**
+     * Returns a view of a rectangle of this image, no pixel is copied:
+     * writing to the view writes to this image.
+     * @param rect The rectangle, in the coordinates of this image.
+     * @return     The view.
+     */
+    public ByteProcessor subView(Rect rect) {
+        if (rect == null || !rect.isInside(width, height)) {
+            throw new CV4JException("Invalid argument...");
+        }
+
+        ByteProcessor root = (parent != null) ? parent : this;
+        return new ByteProcessor(root, offset + rect.y * stride + rect.x, rect.width, rect.height);
+    }
+
+    /**
+     * @return A copy of this image that owns its pixels.
+     */
+    public ByteProcessor duplicate() {
+        ByteProcessor copy = new ByteProcessor(width, height);
+        for (int row = 0; row < height; row++) {
+            System.arraycopy(GRAY, offset + row * stride, copy.GRAY, row * width, width);
+        }
+        return copy;
+    }
+
+    public void getPixel(int row, int col, byte[] rgb) {
+        int index = offset + row*stride + col;
+        if(rgb != null && rgb.length == 1) {
+            rgb[0] = GRAY[index];
+        }
+    }
+
+    /**
+     * @return The backing data, for a view the pixel (row, col) is at
+     * getOffset() + row * getStride() + col.
+     */
+    public byte[] getGray() {
+        return GRAY;
+    }
+
+    /**
+     * Copy the gray values.
+     * @param gray The width * height values, row after row.
+     */
+    public void putGray(byte[] gray) {
+        if (offset == 0 && stride == width) {
+            System.arraycopy(gray, 0, GRAY, 0, gray.length);
+            return;
+        }
+
+        for (int row = 0; row < height; row++) {
+            System.arraycopy(gray, row * width, GRAY, offset + row * stride, width);
+        }
+    }
+
+    public int[] histogram() {
+        return new int[0];
+    }
+
+    public int[] getPixels() {
+        final int size = this.width * this.height;
+        final int valueFF000000 = 0xff000000;
+        final int value16 = 16;
+        final int value8  = 8;
+
+        int[] pixels = new int[size];
+
+        int i = 0;
+        for (int row = 0; row < height; row++) {
+            int index = offset + row * stride;
+            for (int col = 0; col < width; col++, index++, i++) {
+                pixels[i] = valueFF000000 | ((GRAY[index] & VALUE_0000FF) << value16)
+                                          | ((GRAY[index] & VALUE_0000FF) << value8)
+                                          | (GRAY[index] & VALUE_0000FF);
+            }
+        }
+
+        return pixels;
+    }
+    public ImageData getImage() {
+        return this.image;
+    }
+
+    @Override
+    public float[] toFloat(int index) {
+        float[] data = new float[width * height];
+        int i = 0;
+        for (int row = 0; row < height; row++) {
+            int offsetRow = offset + row * stride;
+            for (int col = 0; col < width; col++) {
+                data[i++] = GRAY[offsetRow + col] & VALUE_0000FF;
+            }
+        }
+        return data;
+    }
+
+    @Override
+    public int[] toInt(int index) {
+        int[] data = new int[width * height];
+        int i = 0;
+        for (int row = 0; row < height; row++) {
+            int offsetRow = offset + row * stride;
+            for (int col = 0; col < width; col++) {
+                data[i++] = GRAY[offsetRow + col] & VALUE_0000FF;
+            }
+        }
+        return data;
+    }
+
+    @Override
+    public byte[] toByte(int index) {
+        if (offset == 0 && stride == width) {
+            return GRAY;
+        }
+
+        byte[] packed = new byte[width * height];
+        for (int row = 0; row < height; row++) {
+            System.arraycopy(GRAY, offset + row * stride, packed, row * width, width);
+        }
+        return packed;
+    }
+
+    @Override
+    public Plane getPlane(int index) {
+        return new ArrayPlane(GRAY);
+    }
+
+}
@@ -17,6 +17,8 @@ package com.cv4j.core.datamodel;
 
 import com.cv4j.core.datamodel.image.ImageData;
 import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.datamodel.plane.ArrayPlane;
+import com.cv4j.core.datamodel.plane.Plane;
 import com.cv4j.core.utils.SafeCasting;
 import com.cv4j.exception.CV4JException;
 
@@ -91,6 +93,21 @@ public class ColorProcessor implements ImageProcessor {
      */
     private int height = 0;
 
+    /**
+     * The index of the first pixel in the R, G, B arrays.
+     */
+    private int offset = 0;
+
+    /**
+     * The distance between two rows in the R, G, B arrays.
+     */
+    private int stride = 0;
+
+    /**
+     * The image this view was taken from, null if the processor owns its arrays.
+     */
+    private ColorProcessor parent = null;
+
     /**
      * The image data.
      */
@@ -116,6 +133,7 @@ public class ColorProcessor implements ImageProcessor {
 
         this.width  = w;
         this.height = h;
+        this.stride = w;
 
         this.R = new byte[size];
         this.G = new byte[size];
@@ -126,6 +144,20 @@ public class ColorProcessor implements ImageProcessor {
         }
     }
 
+    /**
+     * The view constructor, the arrays are shared with the parent.
+     */
+    private ColorProcessor(ColorProcessor parent, int offset, int w, int h) {
+        this.parent = parent;
+        this.R = parent.R;
+        this.G = parent.G;
+        this.B = parent.B;
+        this.offset = offset;
+        this.stride = parent.stride;
+        this.width  = w;
+        this.height = h;
+    }
+
     private void backFillData(int[] input) {
         final int valueFF0000 = 0xff0000;
         final int value00FF00 = 0x00ff00;
@@ -158,22 +190,71 @@ public class ColorProcessor implements ImageProcessor {
         return NUM_CHANNELS;
     }
 
+    @Override
+    public int getOffset() {
+        return offset;
+    }
+
+    @Override
+    public int getStride() {
+        return stride;
+    }
+
+    @Override
+    public ImageProcessor getParent() {
+        return parent;
+    }
+
+    /**
+     * Returns a view of a rectangle of this image, no pixel is copied:
+     * writing to the view writes to this image.
+     * @param rect The rectangle, in the coordinates of this image.
+     * @return     The view.
+     */
+    public ColorProcessor subView(Rect rect) {
+        if (rect == null || !rect.isInside(width, height)) {
+            throw new CV4JException(INVALID_ARGUMENT_STRING_EXCEPTION);
+        }
+
+        ColorProcessor root = (parent != null) ? parent : this;
+        return new ColorProcessor(root, offset + rect.y * stride + rect.x, rect.width, rect.height);
+    }
+
+    /**
+     * @return A copy of this image that owns its pixels.
+     */
+    public ColorProcessor duplicate() {
+        ColorProcessor copy = new ColorProcessor(width, height);
+        copy.putRGB(this);
+        return copy;
+    }
+
+    /**
+     * @return true if the pixels of the image are stored row after row without gap.
+     */
+    private boolean isPacked() {
+        return offset == 0 && stride == width;
+    }
+
     /**
-     * @return The red array.
+     * @return The backing red array, for a view the pixel (row, col) is at
+     * getOffset() + row * getStride() + col.
      */
     public byte[] getRed() {
         return this.R;
     }
 
     /**
-     * @return The green array.
+     * @return The backing green array, for a view the pixel (row, col) is at
+     * getOffset() + row * getStride() + col.
      */
     public byte[] getGreen() {
         return this.G;
     }
 
     /**
-     * @return The blue array.
+     * @return The backing blue array, for a view the pixel (row, col) is at
+     * getOffset() + row * getStride() + col.
      */
     public byte[] getBlue() {
         return B;
@@ -181,7 +262,7 @@ public class ColorProcessor implements ImageProcessor {
 
     @Override
     public void getPixel(int row, int col, byte[] rgb) {
-        final int index = (row * this.width) + col;
+        final int index = this.offset + (row * this.stride) + col;
 
         if(rgb != null && rgb.length == NUM_CHANNELS) {
             rgb[RED_CHANNEL_INDEX]   = this.R[index];
@@ -192,14 +273,39 @@ public class ColorProcessor implements ImageProcessor {
 
     /**
      * Copy RGB values.
-     * @param red   The red array to copy.
+     * @param red   The red array to copy, width * height values row after row.
      * @param green The green array to copy.
      * @param blue  The blue array to copy.
      */
     public void putRGB(byte[] red, byte[] green, byte[] blue) {
-        System.arraycopy(red, 0, R, 0, red.length);
-        System.arraycopy(green, 0, G, 0, green.length);
-        System.arraycopy(blue, 0, B, 0, blue.length);
+        if (isPacked()) {
+            System.arraycopy(red, 0, R, 0, red.length);
+            System.arraycopy(green, 0, G, 0, green.length);
+            System.arraycopy(blue, 0, B, 0, blue.length);
+            return;
+        }
+
+        for (int row = 0; row < height; row++) {
+            int from = row * width;
+            int to = offset + row * stride;
+            System.arraycopy(red, from, R, to, width);
+            System.arraycopy(green, from, G, to, width);
+            System.arraycopy(blue, from, B, to, width);
+        }
+    }
+
+    /**
+     * Copy the RGB values of an image of the same size.
+     * @param src The image to copy, it can be a view.
+     */
+    public void putRGB(ColorProcessor src) {
+        for (int row = 0; row < height; row++) {
+            int from = src.offset + row * src.stride;
+            int to = offset + row * stride;
+            System.arraycopy(src.R, from, R, to, width);
+            System.arraycopy(src.G, from, G, to, width);
+            System.arraycopy(src.B, from, B, to, width);
+        }
     }
 
     /**
@@ -209,10 +315,14 @@ public class ColorProcessor implements ImageProcessor {
         final int valueFF000000 = 0xff000000;
 
         int[] pixels = new int[width * height];
-        for (int i=0; i < pixels.length; i++){
-            pixels[i] = valueFF000000 | ((R[i] & VALUE_0000FF) << VALUE_16)
-                                      | ((G[i] & VALUE_0000FF) << VALUE_8)
-                                      |   B[i] & VALUE_0000FF;
+        int i = 0;
+        for (int row = 0; row < height; row++) {
+            int index = offset + row * stride;
+            for (int col = 0; col < width; col++, index++, i++) {
+                pixels[i] = valueFF000000 | ((R[index] & VALUE_0000FF) << VALUE_16)
+                                          | ((G[index] & VALUE_0000FF) << VALUE_8)
+                                          |   B[index] & VALUE_0000FF;
+            }
         }
 
         return pixels;
@@ -283,53 +393,75 @@ public class ColorProcessor implements ImageProcessor {
 
     @Override
     public byte[] toByte(int index) {
-        byte[] data = null;
+        byte[] data = plane(index);
+        if (isPacked()) {
+            return data;
+        }
 
+        byte[] packed = new byte[width * height];
+        for (int row = 0; row < height; row++) {
+            System.arraycopy(data, offset + row * stride, packed, row * width, width);
+        }
+        return packed;
+    }
+
+    @Override
+    public Plane getPlane(int index) {
+        return new ArrayPlane(plane(index));
+    }
+
+    /**
+     * @return The backing array of a channel.
+     */
+    private byte[] plane(int index) {
         switch (index) {
             case RED_CHANNEL_INDEX:
-                data = this.R;
-                break;
+                return this.R;
 
             case GREEN_CHANNEL_INDEX:
-                data = this.G;
-                break;
+                return this.G;
 
             case BLUE_CHANNEL_INDEX:
-                data = this.B;
-                break;
+                return this.B;
 
             default:
                 throw new CV4JException(INVALID_ARGUMENT_STRING_EXCEPTION);
         }
-
-        return data;
     }
 
     /**
-     * Convert a color data to a float color data.
+     * Convert a color data to a float color data, packed row after row.
      * @param colorData The color data (R, G, B)
      * @return          The float color data.
      */
     private float[] colorDataToFloat(byte[] colorData) {
-        float[] floatColorData = new float[colorData.length];
-
-        for(int i = 0; i < floatColorData.length; i++){
-            floatColorData[i] = colorData[i] & VALUE_0000FF;
+        float[] floatColorData = new float[width * height];
+
+        int i = 0;
+        for (int row = 0; row < height; row++) {
+            int index = offset + row * stride;
+            for (int col = 0; col < width; col++) {
+                floatColorData[i++] = colorData[index++] & VALUE_0000FF;
+            }
         }
 
         return floatColorData;
     }
 
     /**
-     * Convert a color data to an int color data.
+     * Convert a color data to an int color data, packed row after row.
      * @param colorData The color data (R, G, B)
      * @return          The int color data.
      */
     private int[] colorDataToInt(byte[] colorData) {
-        int[] intColorData = new int[colorData.length];
-
-        for(int i = 0; i < intColorData.length; i++){
-            intColorData[i] = colorData[i] & VALUE_0000FF;
+        int[] intColorData = new int[width * height];
+
+        int i = 0;
+        for (int row = 0; row < height; row++) {
+            int index = offset + row * stride;
+            for (int col = 0; col < width; col++) {
+                intColorData[i++] = colorData[index++] & VALUE_0000FF;
+            }
         }
 
         return intColorData;
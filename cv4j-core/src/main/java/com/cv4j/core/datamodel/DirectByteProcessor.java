@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.datamodel;
+
+import com.cv4j.core.datamodel.image.ImageData;
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.datamodel.plane.BufferPlane;
+import com.cv4j.core.datamodel.plane.Plane;
+import com.cv4j.core.datamodel.plane.Planes;
+import com.cv4j.exception.CV4JException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A gray image whose plane lives in a ByteBuffer instead of a byte array,
+ * see {@link DirectColorProcessor}.
+ */
+public class DirectByteProcessor implements ImageProcessor {
+
+    private int width;
+
+    private int height;
+
+    private ByteBuffer GRAY;
+
+    /**
+     * Allocate the plane as a direct buffer, all the pixels are 0.
+     * @param width  The width.
+     * @param height The height.
+     */
+    public DirectByteProcessor(int width, int height) {
+        this(ByteBuffer.allocateDirect(width * height), width, height);
+    }
+
+    /**
+     * Wrap the buffer, the pixels are not copied.
+     * The pixel (row, col) is at index row * width + col.
+     * @param data   The gray plane.
+     * @param width  The width.
+     * @param height The height.
+     */
+    public DirectByteProcessor(ByteBuffer data, int width, int height) {
+        if (data.capacity() < width * height) {
+            throw new CV4JException("Invalid argument...");
+        }
+
+        this.width = width;
+        this.height = height;
+        this.GRAY = data;
+    }
+
+    /**
+     * Copy an image of the java heap off the heap.
+     * @param src The image, it can be a view.
+     * @return    The copy.
+     */
+    public static DirectByteProcessor copyOf(ByteProcessor src) {
+        DirectByteProcessor copy = new DirectByteProcessor(src.getWidth(), src.getHeight());
+        Planes.copy(src, copy);
+        return copy;
+    }
+
+    /**
+     * @return A copy of this image on the java heap.
+     */
+    public ByteProcessor toByteProcessor() {
+        ByteProcessor copy = new ByteProcessor(width, height);
+        Planes.copy(this, copy);
+        return copy;
+    }
+
+    /**
+     * Copy the gray values of an image of the same size.
+     * @param src The image to copy, it can be a view.
+     */
+    public void putGray(ImageProcessor src) {
+        Planes.copy(src, this);
+    }
+
+    public ByteBuffer getGray() {
+        return GRAY;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public int getChannels() {
+        return 1;
+    }
+
+    @Override
+    public void getPixel(int row, int col, byte[] rgb) {
+        if (rgb != null && rgb.length == 1) {
+            rgb[0] = GRAY.get(row * width + col);
+        }
+    }
+
+    @Override
+    public int[] getPixels() {
+        int[] pixels = new int[width * height];
+        for (int i = 0; i < pixels.length; i++) {
+            int c = GRAY.get(i) & 0xff;
+            pixels[i] = 0xff000000 | (c << 16) | (c << 8) | c;
+        }
+        return pixels;
+    }
+
+    @Override
+    public ImageData getImage() {
+        return null;
+    }
+
+    @Override
+    public float[] toFloat(int index) {
+        float[] data = new float[width * height];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = GRAY.get(i) & 0xff;
+        }
+        return data;
+    }
+
+    @Override
+    public int[] toInt(int index) {
+        int[] data = new int[width * height];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = GRAY.get(i) & 0xff;
+        }
+        return data;
+    }
+
+    @Override
+    public byte[] toByte(int index) {
+        throw new IllegalStateException("Off heap planes, use getPlane instead!!!");
+    }
+
+    @Override
+    public Plane getPlane(int index) {
+        return new BufferPlane(GRAY);
+    }
+
+    @Override
+    public int getOffset() {
+        return 0;
+    }
+
+    @Override
+    public int getStride() {
+        return width;
+    }
+
+    @Override
+    public ImageProcessor getParent() {
+        return null;
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.datamodel;
+
+import com.cv4j.core.datamodel.image.ImageData;
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.datamodel.plane.BufferPlane;
+import com.cv4j.core.datamodel.plane.Plane;
+import com.cv4j.core.datamodel.plane.Planes;
+import com.cv4j.exception.CV4JException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A color image whose R, G, B planes live in ByteBuffers instead of byte arrays,
+ * direct buffers by default so the pixels are off the java heap and do not
+ * weigh on the garbage collector. The buffers can also be handed over by the
+ * caller, for example buffers filled by a FileChannel or mapped from a file.
+ * There is no array behind the planes: toByte is not supported, the pixels
+ * are reached through getPlane.
+ */
+public class DirectColorProcessor implements ImageProcessor {
+
+    private static final int NUM_CHANNELS = 3;
+
+    private int width;
+
+    private int height;
+
+    private ByteBuffer R;
+
+    private ByteBuffer G;
+
+    private ByteBuffer B;
+
+    /**
+     * Allocate the planes as direct buffers, all the pixels are 0.
+     * @param width  The width.
+     * @param height The height.
+     */
+    public DirectColorProcessor(int width, int height) {
+        this(ByteBuffer.allocateDirect(width * height),
+             ByteBuffer.allocateDirect(width * height),
+             ByteBuffer.allocateDirect(width * height), width, height);
+    }
+
+    /**
+     * Allocate the planes as direct buffers and fill them with the pixels.
+     * @param pixels The ARGB pixels.
+     * @param width  The width.
+     * @param height The height.
+     */
+    public DirectColorProcessor(int[] pixels, int width, int height) {
+        this(width, height);
+
+        for (int i = 0; i < width * height; i++) {
+            int c = pixels[i];
+            R.put(i, (byte) (c >> 16));
+            G.put(i, (byte) (c >> 8));
+            B.put(i, (byte) c);
+        }
+    }
+
+    /**
+     * Wrap the buffers, the pixels are not copied.
+     * The pixel (row, col) is at index row * width + col of each buffer.
+     * @param red    The red plane.
+     * @param green  The green plane.
+     * @param blue   The blue plane.
+     * @param width  The width.
+     * @param height The height.
+     */
+    public DirectColorProcessor(ByteBuffer red, ByteBuffer green, ByteBuffer blue, int width, int height) {
+        int size = width * height;
+        if (red.capacity() < size || green.capacity() < size || blue.capacity() < size) {
+            throw new CV4JException("Invalid argument...");
+        }
+
+        this.width = width;
+        this.height = height;
+        this.R = red;
+        this.G = green;
+        this.B = blue;
+    }
+
+    /**
+     * Copy an image of the java heap off the heap.
+     * @param src The image, it can be a view.
+     * @return    The copy.
+     */
+    public static DirectColorProcessor copyOf(ColorProcessor src) {
+        DirectColorProcessor copy = new DirectColorProcessor(src.getWidth(), src.getHeight());
+        Planes.copy(src, copy);
+        return copy;
+    }
+
+    /**
+     * @return A copy of this image on the java heap.
+     */
+    public ColorProcessor toColorProcessor() {
+        ColorProcessor copy = new ColorProcessor(width, height);
+        Planes.copy(this, copy);
+        return copy;
+    }
+
+    /**
+     * Copy the RGB values of an image of the same size.
+     * @param src The image to copy, it can be a view.
+     */
+    public void putRGB(ImageProcessor src) {
+        Planes.copy(src, this);
+    }
+
+    public ByteBuffer getRed() {
+        return R;
+    }
+
+    public ByteBuffer getGreen() {
+        return G;
+    }
+
+    public ByteBuffer getBlue() {
+        return B;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public int getChannels() {
+        return NUM_CHANNELS;
+    }
+
+    @Override
+    public void getPixel(int row, int col, byte[] rgb) {
+        int index = row * width + col;
+        if (rgb != null && rgb.length == NUM_CHANNELS) {
+            rgb[0] = R.get(index);
+            rgb[1] = G.get(index);
+            rgb[2] = B.get(index);
+        }
+    }
+
+    @Override
+    public int[] getPixels() {
+        int[] pixels = new int[width * height];
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = 0xff000000 | ((R.get(i) & 0xff) << 16)
+                                   | ((G.get(i) & 0xff) << 8)
+                                   |  (B.get(i) & 0xff);
+        }
+        return pixels;
+    }
+
+    @Override
+    public ImageData getImage() {
+        return null;
+    }
+
+    @Override
+    public float[] toFloat(int index) {
+        ByteBuffer plane = buffer(index);
+        float[] data = new float[width * height];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = plane.get(i) & 0xff;
+        }
+        return data;
+    }
+
+    @Override
+    public int[] toInt(int index) {
+        ByteBuffer plane = buffer(index);
+        int[] data = new int[width * height];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = plane.get(i) & 0xff;
+        }
+        return data;
+    }
+
+    @Override
+    public byte[] toByte(int index) {
+        throw new IllegalStateException("Off heap planes, use getPlane instead!!!");
+    }
+
+    @Override
+    public Plane getPlane(int index) {
+        return new BufferPlane(buffer(index));
+    }
+
+    @Override
+    public int getOffset() {
+        return 0;
+    }
+
+    @Override
+    public int getStride() {
+        return width;
+    }
+
+    @Override
+    public ImageProcessor getParent() {
+        return null;
+    }
+
+    private ByteBuffer buffer(int index) {
+        switch (index) {
+            case 0:
+                return R;
+            case 1:
+                return G;
+            case 2:
+                return B;
+            default:
+                throw new CV4JException("Invalid argument...");
+        }
+    }
+}
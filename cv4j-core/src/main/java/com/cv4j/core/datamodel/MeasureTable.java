@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.datamodel;
+
+import com.cv4j.core.utils.SafeCasting;
+
+import java.util.Arrays;
+
+/**
+ * The measures of many regions, one array per measure indexed by the label of the region.
+ * A region without pixels has an area of 0 and no other measure.
+ */
+public class MeasureTable {
+
+    /**
+     * The number of Hu invariants of a region.
+     */
+    public static final int HU_COUNT = 7;
+
+    private final int count;
+
+    private final double[] area;
+    private final double[] centerX;
+    private final double[] centerY;
+    private final double[] angle;
+    private final double[] roundness;
+
+    /**
+     * The Hu invariants, HU_COUNT values per region.
+     */
+    private final double[] hu;
+
+    /**
+     * @param count The number of regions.
+     */
+    public MeasureTable(int count) {
+        this.count = count;
+        area = new double[count];
+        centerX = new double[count];
+        centerY = new double[count];
+        angle = new double[count];
+        roundness = new double[count];
+        hu = new double[count * HU_COUNT];
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Sets the measures of a region.
+     * @param index     The region.
+     * @param area      The number of pixels.
+     * @param centerX   The x of the centroid.
+     * @param centerY   The y of the centroid.
+     * @param angle     The angle of the major axis with the x axis, in radians.
+     * @param roundness The ratio of the major axis to the minor axis.
+     */
+    public void set(int index, double area, double centerX, double centerY, double angle, double roundness) {
+        this.area[index] = area;
+        this.centerX[index] = centerX;
+        this.centerY[index] = centerY;
+        this.angle[index] = angle;
+        this.roundness[index] = roundness;
+    }
+
+    /**
+     * @param index The region.
+     * @param hu    The HU_COUNT Hu invariants of the region.
+     */
+    public void setHu(int index, double[] hu) {
+        System.arraycopy(hu, 0, this.hu, index * HU_COUNT, HU_COUNT);
+    }
+
+    public double getArea(int index) {
+        return area[index];
+    }
+
+    public double getCenterX(int index) {
+        return centerX[index];
+    }
+
+    public double getCenterY(int index) {
+        return centerY[index];
+    }
+
+    public double getAngle(int index) {
+        return angle[index];
+    }
+
+    public double getRoundness(int index) {
+        return roundness[index];
+    }
+
+    /**
+     * @param index The region.
+     * @param k     The invariant, 0 to HU_COUNT - 1.
+     * @return The Hu invariant k + 1 of the region.
+     */
+    public double getHu(int index, int k) {
+        if (k < 0 || k >= HU_COUNT) {
+            throw new IndexOutOfBoundsException("Hu invariant " + k);
+        }
+        return hu[index * HU_COUNT + k];
+    }
+
+    /**
+     * @param index The region.
+     * @return The Hu invariants of the region.
+     */
+    public double[] getHu(int index) {
+        return Arrays.copyOfRange(hu, index * HU_COUNT, (index + 1) * HU_COUNT);
+    }
+
+    /**
+     * @param index The region.
+     * @return The measures of the region as a MeasureData.
+     */
+    public MeasureData get(int index) {
+        MeasureData measures = new MeasureData();
+        measures.setArea(area[index]);
+        measures.setCp(new Point(SafeCasting.safeDoubleToInt(centerX[index]), SafeCasting.safeDoubleToInt(centerY[index])));
+        measures.setAngle(angle[index]);
+        measures.setRoundness(roundness[index]);
+        return measures;
+    }
+}
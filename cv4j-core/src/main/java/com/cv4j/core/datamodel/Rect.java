@@ -58,4 +58,13 @@ public class Rect {
     public Point br() {
         return new Point(x+width, y+height);
     }
+
+    /**
+     * Return true if the rectangle is not empty and lies
+     * inside an image of the given size.
+     */
+    public boolean isInside(int imageWidth, int imageHeight) {
+        return x >= 0 && y >= 0 && width > 0 && height > 0
+                && x + width <= imageWidth && y + height <= imageHeight;
+    }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.datamodel;
+/**
+ * The RotatedRect class of DataModel, a rectangle rotated around its center.
+ */
+public class RotatedRect {
+
+    /**
+     * Coordinate x of the center
+     */
+    public double centerX;
+
+    /**
+     * Coordinate y of the center
+     */
+    public double centerY;
+
+    /**
+     * The length of the side along the angle
+     */
+    public double width;
+
+    /**
+     * The length of the other side
+     */
+    public double height;
+
+    /**
+     * The angle of the width side with the x axis, in radians
+     */
+    public double angle;
+
+    /**
+     * Return the 4 corners, x and y packed, in order around the rectangle
+     */
+    public double[] corners() {
+        double ux = Math.cos(angle) * width / 2;
+        double uy = Math.sin(angle) * width / 2;
+        double vx = -Math.sin(angle) * height / 2;
+        double vy = Math.cos(angle) * height / 2;
+        return new double[] {
+                centerX - ux - vx, centerY - uy - vy,
+                centerX + ux - vx, centerY + uy - vy,
+                centerX + ux + vx, centerY + uy + vy,
+                centerX - ux + vx, centerY - uy + vy
+        };
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.datamodel.image;
+
+/**
+ * Converts between a platform image type (android Bitmap, BufferedImage, ...)
+ * and the cv4j image model, so the core never depends on the platform.
+ * @param <T> The platform image type.
+ */
+public interface ImageConverter<T> {
+
+    /** Returns the ARGB pixels of the platform image, row by row. */
+    int[] getPixels(T source);
+
+    /** Returns the width of the platform image in pixels. */
+    int getWidth(T source);
+
+    /** Returns the height of the platform image in pixels. */
+    int getHeight(T source);
+
+    /** Create a platform image from the processor's pixels. */
+    T create(ImageProcessor processor);
+}
@@ -15,10 +15,6 @@
  */
 package com.cv4j.core.datamodel.image;
 
-import android.graphics.Bitmap;
-
-import com.cv4j.core.datamodel.CV4JImage;
-
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -77,13 +73,11 @@ public interface ImageData {
 
     ImageProcessor getProcessor();
 
-    CV4JImage convert2Gray();
-
-    Bitmap toBitmap();
-
-    Bitmap toBitmap(Bitmap.Config bitmapConfig);
-
-    void setBitmap(Bitmap bitmap);
+    ImageData convert2Gray();
 
+    /**
+     * Drop the cached platform image (e.g. the android Bitmap), so the next
+     * rendering reflects the current pixels of the processor.
+     */
     void resetBitmap();
 }
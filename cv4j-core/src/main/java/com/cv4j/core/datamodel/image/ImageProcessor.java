@@ -14,6 +14,9 @@
  * limitations under the License.
  */
 package com.cv4j.core.datamodel.image;
+
+import com.cv4j.core.datamodel.plane.Plane;
+
 /**
  * The ImageProcessor class of DataModel
  */
@@ -41,7 +44,27 @@ public interface ImageProcessor {
 	/** Returns int array with one channel of image by index*/
 	int[] toInt(int index);
 
-	/** Returns byte array with one channel of image by index*/
+	/**
+	 * Returns byte array with one channel of image by index, packed row after row.
+	 * For an image that owns its pixels it is the backing plane, for a view it is
+	 * a copy: writing to it does not change the image, see Planes.array for the plane.
+	 */
 	byte[] toByte(int index);
 
+	/**
+	 * Returns one channel of image by index, whatever memory backs it.
+	 * The plane shares the pixels of the image, the pixel (row, col)
+	 * is at getOffset() + row * getStride() + col.
+	 */
+	Plane getPlane(int index);
+
+	/** Returns the index of the first pixel of this image in its planes. */
+	int getOffset();
+
+	/** Returns the distance between two consecutive rows in the planes of this image. */
+	int getStride();
+
+	/** Returns the image this view was taken from, or null if this image owns its pixels. */
+	ImageProcessor getParent();
+
 }
@@ -15,12 +15,13 @@
  */
 package com.cv4j.core.datamodel.lut;
 
-import android.util.SparseArray;
-
 import com.cv4j.core.datamodel.lut.warm.AutumnLUT;
 import com.cv4j.core.datamodel.lut.warm.HotLUT;
 import com.cv4j.core.datamodel.lut.warm.SpringLUT;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import static com.cv4j.core.filters.image.ColorFilter.AUTUMN_STYLE;
 import static com.cv4j.core.filters.image.ColorFilter.BONE_STYLE;
 import static com.cv4j.core.filters.image.ColorFilter.COOL_STYLE;
@@ -41,11 +42,11 @@ public class LUT {
     /**
      * The LUTs list.
      */
-    private static SparseArray<int[][]> luts;
+    private static Map<Integer, int[][]> luts;
 
     static {
         final int dimLut = 12;
-        LUT.luts = new SparseArray<>(dimLut);
+        LUT.luts = new HashMap<>(dimLut);
 
         LUT.luts.put(AUTUMN_STYLE, AutumnLUT.getAutumnLut());
         LUT.luts.put(BONE_STYLE, BoneLUT.getBoneLut());
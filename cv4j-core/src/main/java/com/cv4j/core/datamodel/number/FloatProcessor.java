@@ -17,6 +17,7 @@ package com.cv4j.core.datamodel.number;
 
 import com.cv4j.core.datamodel.image.ImageData;
 import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.datamodel.plane.Plane;
 
 /**
  * The FloatProcessor class of DataModel
@@ -68,6 +69,21 @@ public class FloatProcessor implements ImageProcessor {
         return 1;
     }
 
+    @Override
+    public int getOffset() {
+        return 0;
+    }
+
+    @Override
+    public int getStride() {
+        return width;
+    }
+
+    @Override
+    public ImageProcessor getParent() {
+        return null;
+    }
+
     @Override
     public void getPixel(int row, int col, byte[] rgb) {
 
@@ -145,4 +161,9 @@ public class FloatProcessor implements ImageProcessor {
         throw new IllegalStateException("Invalid data type, not support this type!!!");
     }
 
+    @Override
+    public Plane getPlane(int index) {
+        throw new IllegalStateException("Invalid data type, not support this type!!!");
+    }
+
 }
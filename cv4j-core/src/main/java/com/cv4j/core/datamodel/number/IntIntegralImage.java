@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.datamodel.number;
+
+import com.cv4j.core.parallel.ExecutionContext;
+
+/**
+ * The IntIntegralImage class of DataModel
+ *
+ * The tables have an extra first row and column of zeros, entry (y, x) holds the sum
+ * over the pixels above and to the left of pixel (y, x), so a block that touches
+ * the border needs no special case.
+ *
+ * The sum tables are int and wrap around on large images, the sum of a block is still
+ * exact as long as it fits an int, that is blocks up to 8421504 pixels. The square sums
+ * are long and always exact. The tables are reused when the next image has the same size.
+ */
+public class IntIntegralImage {
+
+	/**
+	 * The sum table, see {@link #getSum(int, int, int, int)}.
+	 */
+	public static final int SUM = 1;
+
+	/**
+	 * The square sum table, see {@link #getSquareSum(int, int, int, int)}.
+	 */
+	public static final int SQUARE_SUM = 2;
+
+	/**
+	 * The 45 degrees tilted sum table, see {@link #getTiltedSum(int, int, int, int)}.
+	 */
+	public static final int TILTED_SUM = 4;
+
+	/**
+	 * The hex value 0000FF.
+	 */
+	private static final int VALUE_0000FF = 0x0000ff;
+
+	/**
+	 * Sum index tables.
+ 	 */
+	private int[] sum;
+
+	/**
+	 * The image data.
+ 	 */
+	private byte[] image;
+
+	/**
+	 * The offset of the first pixel in the image data.
+	 */
+	private int offset;
+
+	/**
+	 * The distance between two rows in the image data, 0 means the width.
+	 */
+	private int stride;
+
+	/**
+	 * The square sum index table.
+	 */
+	private long[] squareSum;
+
+	/**
+	 * The tilted sum table, (width + 2) * (height + 1) entries.
+	 */
+	private int[] tiltedSum;
+
+	/**
+	 * The tables built by the last process.
+	 */
+	private int tables;
+
+	/**
+	 * The width.
+	 */
+	private int width;
+
+	/**
+	 * The height.
+	 */
+	private int height;
+
+	/**
+	 * @return The image data.
+	 */
+	public byte[] getImage() {
+		return image;
+	}
+
+	/**
+	 * Set the image data, packed row after row.
+	 * @param imageData The new image data.
+	 */
+	public void setImage(byte[] imageData) {
+		setImage(imageData, 0, 0);
+	}
+
+	/**
+	 * Set the image data, the pixel (row, col) is imageData[offset + row * stride + col].
+	 * @param imageData The new image data.
+	 * @param offset    The offset of the first pixel.
+	 * @param stride    The distance between two rows, 0 means the width.
+	 */
+	public void setImage(byte[] imageData, int offset, int stride) {
+		this.image  = imageData;
+		this.offset = offset;
+		this.stride = stride;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * Return the block sum 2, the sum over the rows (ney, swy] and the columns (nex, swx].
+	 * @param ney The row above the block, from -1.
+	 * @param nex The column left of the block, from -1.
+	 * @param swy The last row of the block.
+	 * @param swx The last column of the block.
+	 * @return    The block sum.
+	 */
+	public int getBlockSum2(int ney, int nex, int swy, int swx) {
+		return getSum(nex + 1, ney + 1, swx - nex, swy - ney);
+	}
+
+	/**
+	 * Returns the block sum, the block is clipped to the image.
+	 * @param x The center column.
+	 * @param y The center row.
+	 * @param m The number of rows.
+	 * @param n The number of columns.
+	 * @return  The block sum.
+	 */
+	public int getBlockSum(int x, int y, int m, int n) {
+		int left = Math.max(x - n/2, 0);
+		int top = Math.max(y - m/2, 0);
+		int right = Math.min(x + n/2 + 1, width);
+		int bottom = Math.min(y + m/2 + 1, height);
+
+		return getSum(left, top, right - left, bottom - top);
+	}
+
+	/**
+	 * Returns the block square sum, the block is clipped to the image.
+	 * @param x The center column.
+	 * @param y The center row.
+	 * @param m The number of rows.
+	 * @param n The number of columns.
+	 * @return  The block square sum.
+	 */
+	public long getBlockSquareSum(int x, int y, int m, int n) {
+		int left = Math.max(x - n/2, 0);
+		int top = Math.max(y - m/2, 0);
+		int right = Math.min(x + n/2 + 1, width);
+		int bottom = Math.min(y + m/2 + 1, height);
+
+		return getSquareSum(left, top, right - left, bottom - top);
+	}
+
+	/**
+	 * @return The sum of the pixels of the rectangle, it must be inside the image.
+	 */
+	public int getSum(int x, int y, int w, int h) {
+		final int step = width + 1;
+		int top = y * step + x;
+		int bottom = (y + h) * step + x;
+		return sum[bottom + w] - sum[bottom] - sum[top + w] + sum[top];
+	}
+
+	/**
+	 * @return The sum of the squares of the pixels of the rectangle, it must be inside the image.
+	 */
+	public long getSquareSum(int x, int y, int w, int h) {
+		final int step = width + 1;
+		int top = y * step + x;
+		int bottom = (y + h) * step + x;
+		return squareSum[bottom + w] - squareSum[bottom] - squareSum[top + w] + squareSum[top];
+	}
+
+	/**
+	 * The sum of the rectangle rotated by 45 degrees whose top corner is the pixel (x, y),
+	 * its sides run w pixels down to the right and h pixels down to the left
+	 * (R. Lienhart, J. Maydt, An extended set of Haar-like features, 2002).
+	 * The columns x - h to x + w must be in [-1, width], the rows up to y + w + h - 1 in the image.
+	 * @return The tilted sum.
+	 */
+	public int getTiltedSum(int x, int y, int w, int h) {
+		return tilted(x - h + w, y + w + h - 1) + tilted(x, y - 1)
+				- tilted(x - h, y + h - 1) - tilted(x + w, y + w - 1);
+	}
+
+	/**
+	 * @return The sum over the pixels (x', y') with y' <= y and |x' - x| <= y - y',
+	 *         x from -1 to width, y from -1.
+	 */
+	public int tilted(int x, int y) {
+		return tiltedSum[(y + 1) * (width + 2) + x + 1];
+	}
+
+	public void process(int distance, int elevation) {
+		process(distance, elevation, SUM);
+	}
+
+	public void process(int distance, int elevation, boolean includeSqrt) {
+		process(distance, elevation, includeSqrt ? SUM | SQUARE_SUM : SUM);
+	}
+
+	/**
+	 * Build the requested tables. The rows, then the columns of the sum
+	 * and square sum tables are summed in parallel bands, the tilted table
+	 * is built row after row.
+	 * @param distance  The width.
+	 * @param elevation The height.
+	 * @param tables    SUM, SQUARE_SUM and TILTED_SUM or'ed together.
+	 */
+	public void process(int distance, int elevation, int tables) {
+		if (distance <= 0 || elevation <= 0 || image == null) {
+			throw new IllegalArgumentException("Invalid argument: the size is " + distance + "x" + elevation);
+		}
+
+		this.width  = distance;
+		this.height = elevation;
+		this.tables = tables;
+
+		final int size = (distance + 1) * (elevation + 1);
+		if ((tables & SUM) != 0 && (sum == null || sum.length != size)) {
+			sum = new int[size];
+		}
+		if ((tables & SQUARE_SUM) != 0 && (squareSum == null || squareSum.length != size)) {
+			squareSum = new long[size];
+		}
+		if ((tables & (SUM | SQUARE_SUM)) != 0) {
+			processRows((tables & SUM) != 0 ? sum : null, (tables & SQUARE_SUM) != 0 ? squareSum : null);
+			processColumns((tables & SUM) != 0 ? sum : null, (tables & SQUARE_SUM) != 0 ? squareSum : null);
+		}
+
+		if ((tables & TILTED_SUM) != 0) {
+			final int tiltedSize = (distance + 2) * (elevation + 1);
+			if (tiltedSum == null || tiltedSum.length != tiltedSize) {
+				tiltedSum = new int[tiltedSize];
+			}
+			processTilted();
+		}
+	}
+
+	/**
+	 * @return true if the last process built all these tables.
+	 */
+	public boolean hasTables(int tables) {
+		return (this.tables & tables) == tables;
+	}
+
+	/**
+	 * Row prefix sums, the first row of the tables stays zero.
+	 */
+	private void processRows(final int[] s, final long[] sq) {
+		final byte[] data = image;
+		final int w = width;
+		final int step = width + 1;
+		final int first = offset;
+		final int rowStride = stride > 0 ? stride : width;
+
+		ExecutionContext.forEachBand(height, 0, band -> {
+			for (int row = band.start; row < band.end; row++) {
+				int in = first + row * rowStride;
+				int out = (row + 1) * step;
+				int rowSum = 0;
+				long rowSquareSum = 0;
+				for (int col = 0; col < w; col++) {
+					int v = data[in + col] & VALUE_0000FF;
+					rowSum += v;
+					rowSquareSum += v * v;
+					if (s != null) s[out + col + 1] = rowSum;
+					if (sq != null) sq[out + col + 1] = rowSquareSum;
+				}
+				if (s != null) s[out] = 0;
+				if (sq != null) sq[out] = 0;
+			}
+		});
+	}
+
+	/**
+	 * Column prefix sums, each band walks down its own columns.
+	 */
+	private void processColumns(final int[] s, final long[] sq) {
+		final int h = height;
+		final int step = width + 1;
+
+		ExecutionContext.forEachBand(step, 0, band -> {
+			for (int col = band.start; col < band.end; col++) {
+				if (s != null) s[col] = 0;
+				if (sq != null) sq[col] = 0;
+			}
+			for (int row = 1; row <= h; row++) {
+				int index = row * step;
+				if (s != null) {
+					for (int col = band.start; col < band.end; col++) {
+						s[index + col] += s[index - step + col];
+					}
+				}
+				if (sq != null) {
+					for (int col = band.start; col < band.end; col++) {
+						sq[index + col] += sq[index - step + col];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * T(x, y) = T(x - 1, y - 1) + T(x + 1, y - 1) - T(x, y - 2) + p(x, y) + p(x, y - 1),
+	 * the triangles of the columns -1 and width are those of their neighbours one row up.
+	 */
+	private void processTilted() {
+		final int[] t = tiltedSum;
+		final int step = width + 2;
+		final int rowStride = stride > 0 ? stride : width;
+
+		for (int col = 0; col < step; col++) {
+			t[col] = 0;
+		}
+
+		for (int row = 0; row < height; row++) {
+			int out = (row + 1) * step + 1;
+			int in = offset + row * rowStride;
+			for (int col = 0; col < width; col++) {
+				int p = image[in + col] & VALUE_0000FF;
+				int value = t[out - step + col - 1] + t[out - step + col + 1] + p;
+				if (row > 0) {
+					value += (image[in - rowStride + col] & VALUE_0000FF) - t[out - 2 * step + col];
+				}
+				t[out + col] = value;
+			}
+			t[out - 1] = t[out - step];
+			t[out + width] = t[out - step + width - 1];
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.datamodel.number;
+
+/**
+ * The local statistics of one channel, the mean, variance and standard deviation
+ * of any window are read in constant time from the sum and square sum tables.
+ * A window centered on (col, row) is clipped to the image and the statistics
+ * are those of the pixels inside it.
+ */
+public class LocalStatistics extends IntIntegralImage {
+
+    public LocalStatistics() {
+    }
+
+    /**
+     * Build the tables of a packed channel.
+     * @param data   The channel.
+     * @param width  The width.
+     * @param height The height.
+     */
+    public LocalStatistics(byte[] data, int width, int height) {
+        build(data, 0, width, width, height);
+    }
+
+    /**
+     * Build the tables of a packed channel, see {@link #build(byte[], int, int, int, int)}.
+     */
+    public void build(byte[] data, int width, int height) {
+        build(data, 0, width, width, height);
+    }
+
+    /**
+     * Build the tables of a channel, the tables of the previous channel are reused
+     * when they have the same size.
+     * @param data   The channel, the pixel (row, col) is data[offset + row * stride + col].
+     * @param offset The offset of the first pixel.
+     * @param stride The distance between two rows.
+     * @param width  The width.
+     * @param height The height.
+     */
+    public void build(byte[] data, int offset, int stride, int width, int height) {
+        setImage(data, offset, stride);
+        process(width, height, SUM | SQUARE_SUM);
+    }
+
+    /**
+     * @return The number of pixels of the window of radius xr, yr centered on (col, row).
+     */
+    public int getCount(int col, int row, int xr, int yr) {
+        return (right(col, xr) - left(col, xr)) * (bottom(row, yr) - top(row, yr));
+    }
+
+    /**
+     * @return The mean of the window of radius xr, yr centered on (col, row).
+     */
+    public double getMean(int col, int row, int xr, int yr) {
+        int x = left(col, xr);
+        int y = top(row, yr);
+        int w = right(col, xr) - x;
+        int h = bottom(row, yr) - y;
+        return getSum(x, y, w, h) / (double) (w * h);
+    }
+
+    /**
+     * @return The variance of the window of radius xr, yr centered on (col, row).
+     */
+    public double getVariance(int col, int row, int xr, int yr) {
+        int x = left(col, xr);
+        int y = top(row, yr);
+        int w = right(col, xr) - x;
+        int h = bottom(row, yr) - y;
+        return variance(getSum(x, y, w, h), getSquareSum(x, y, w, h), w * h);
+    }
+
+    /**
+     * @return The standard deviation of the window of radius xr, yr centered on (col, row).
+     */
+    public double getStdDev(int col, int row, int xr, int yr) {
+        return Math.sqrt(getVariance(col, row, xr, yr));
+    }
+
+    /**
+     * The variance from the sums, n * squareSum - sum * sum is exact so
+     * the result does not suffer from cancellation.
+     * @param sum       The sum of the pixels.
+     * @param squareSum The sum of the squares of the pixels.
+     * @param count     The number of pixels.
+     * @return          The variance.
+     */
+    public static double variance(long sum, long squareSum, int count) {
+        long n = count;
+        return (n * squareSum - sum * sum) / ((double) n * n);
+    }
+
+    private int left(int col, int xr) {
+        return Math.max(col - xr, 0);
+    }
+
+    private int right(int col, int xr) {
+        return Math.min(col + xr + 1, getWidth());
+    }
+
+    private int top(int row, int yr) {
+        return Math.max(row - yr, 0);
+    }
+
+    private int bottom(int row, int yr) {
+        return Math.min(row + yr + 1, getHeight());
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.datamodel.plane;
+
+/**
+ * A plane backed by a byte array on the java heap.
+ */
+public class ArrayPlane implements Plane {
+
+    private final byte[] data;
+
+    public ArrayPlane(byte[] data) {
+        this.data = data;
+    }
+
+    /**
+     * @return The backing array, writes are seen by the plane.
+     */
+    public byte[] getArray() {
+        return data;
+    }
+
+    @Override
+    public int size() {
+        return data.length;
+    }
+
+    @Override
+    public int get(int index) {
+        return data[index] & 0xff;
+    }
+
+    @Override
+    public void set(int index, int value) {
+        data[index] = (byte) value;
+    }
+
+    @Override
+    public void get(int index, byte[] dst, int dstOffset, int length) {
+        System.arraycopy(data, index, dst, dstOffset, length);
+    }
+
+    @Override
+    public void put(int index, byte[] src, int srcOffset, int length) {
+        System.arraycopy(src, srcOffset, data, index, length);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.datamodel.plane;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A plane backed by a ByteBuffer, usually a direct buffer allocated
+ * off the java heap or a buffer mapped from a file.
+ * Only absolute accesses are used, the position and the limit of the
+ * buffer are never changed, so several threads can share the plane
+ * as long as they write to different indices.
+ */
+public class BufferPlane implements Plane {
+
+    private final ByteBuffer buffer;
+
+    public BufferPlane(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * @return The backing buffer, writes are seen by the plane.
+     */
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    @Override
+    public int size() {
+        return buffer.capacity();
+    }
+
+    @Override
+    public int get(int index) {
+        return buffer.get(index) & 0xff;
+    }
+
+    @Override
+    public void set(int index, int value) {
+        buffer.put(index, (byte) value);
+    }
+
+    @Override
+    public void get(int index, byte[] dst, int dstOffset, int length) {
+        // the duplicate has its own position, the bulk copy stays thread safe
+        ByteBuffer view = buffer.duplicate();
+        view.position(index);
+        view.get(dst, dstOffset, length);
+    }
+
+    @Override
+    public void put(int index, byte[] src, int srcOffset, int length) {
+        ByteBuffer view = buffer.duplicate();
+        view.position(index);
+        view.put(src, srcOffset, length);
+    }
+}
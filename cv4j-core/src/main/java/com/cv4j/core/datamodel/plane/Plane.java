@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.datamodel.plane;
+
+/**
+ * One channel of an image, whatever the memory it lives in.
+ * The values are unsigned bytes, the pixel (row, col) of an image is at
+ * getOffset() + row * getStride() + col of its planes.
+ */
+public interface Plane {
+
+    /** Returns the number of values of the plane. */
+    int size();
+
+    /** Returns the value at index, between 0 and 255. */
+    int get(int index);
+
+    /** Store the low 8 bits of the value at index. */
+    void set(int index, int value);
+
+    /**
+     * Copy length values starting at index into dst.
+     * @param index     The first value of the plane.
+     * @param dst       The destination array.
+     * @param dstOffset The first value written in dst.
+     * @param length    The number of values.
+     */
+    void get(int index, byte[] dst, int dstOffset, int length);
+
+    /**
+     * Copy length values of src into the plane starting at index.
+     * @param index     The first value of the plane.
+     * @param src       The source array.
+     * @param srcOffset The first value read in src.
+     * @param length    The number of values.
+     */
+    void put(int index, byte[] src, int srcOffset, int length);
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.datamodel.plane;
+
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.datamodel.ColorProcessor;
+import com.cv4j.core.datamodel.image.ImageProcessor;
+
+/**
+ * Copies between images that may use different backing stores,
+ * and the access to the planes of views.
+ */
+public final class Planes {
+
+    private Planes() {
+    }
+
+    /**
+     * @return true if the pixels of the image are stored row after row without gap.
+     */
+    public static boolean isPacked(ImageProcessor image) {
+        return image.getOffset() == 0 && image.getStride() == image.getWidth();
+    }
+
+    /**
+     * @return true if every channel of the image is backed by a heap array.
+     */
+    public static boolean isHeap(ImageProcessor image) {
+        for (int c = 0; c < image.getChannels(); c++) {
+            if (!(image.getPlane(c) instanceof ArrayPlane)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The image itself when its channels are heap arrays, else a packed heap copy of it,
+     * for the algorithms that read the planes through {@link #array(ImageProcessor, int)}.
+     * A filter writes the copy back with {@link #copy(ImageProcessor, ImageProcessor)}.
+     * @param image The image, on the heap or off heap.
+     * @return The image or its copy.
+     */
+    public static ImageProcessor onHeap(ImageProcessor image) {
+        return isHeap(image) ? image : packedCopy(image);
+    }
+
+    /**
+     * The heap array backing a channel, for code that addresses views through
+     * getOffset() + row * getStride() + col. toByte returns a packed copy of a view instead.
+     * @param image The image, on the java heap.
+     * @param index The channel.
+     * @return The array, shared with the image.
+     */
+    public static byte[] array(ImageProcessor image, int index) {
+        Plane plane = image.getPlane(index);
+        if (!(plane instanceof ArrayPlane)) {
+            throw new IllegalStateException("Off heap planes, use getPlane instead!!!");
+        }
+        return ((ArrayPlane) plane).getArray();
+    }
+
+    /**
+     * A packed heap copy of an image of 1 or 3 channels, for the algorithms that
+     * address the pixels as row * width + col: they run on the copy, then
+     * {@link #copy(ImageProcessor, ImageProcessor)} writes the copy back to the view.
+     * @param image The image, often a view.
+     * @return The copy.
+     */
+    public static ImageProcessor packedCopy(ImageProcessor image) {
+        ImageProcessor copy = image.getChannels() == 1
+                ? new ByteProcessor(image.getWidth(), image.getHeight())
+                : new ColorProcessor(image.getWidth(), image.getHeight());
+        copy(image, copy);
+        return copy;
+    }
+
+    /**
+     * Copy every channel of src into dst, row by row.
+     * The images must have the same size and the same number of channels,
+     * either of them can be a view.
+     * @param src The source image.
+     * @param dst The destination image.
+     */
+    public static void copy(ImageProcessor src, ImageProcessor dst) {
+        int width = src.getWidth();
+        int height = src.getHeight();
+
+        for (int c = 0; c < src.getChannels(); c++) {
+            Plane from = src.getPlane(c);
+            Plane to = dst.getPlane(c);
+
+            for (int y = 0; y < height; y++) {
+                copy(from, src.getOffset() + y * src.getStride(),
+                     to, dst.getOffset() + y * dst.getStride(), width);
+            }
+        }
+    }
+
+    /**
+     * Copy length values between two planes.
+     * @param from      The source plane.
+     * @param fromIndex The first value read in from.
+     * @param to        The destination plane.
+     * @param toIndex   The first value written in to.
+     * @param length    The number of values.
+     */
+    public static void copy(Plane from, int fromIndex, Plane to, int toIndex, int length) {
+        if (to instanceof ArrayPlane) {
+            from.get(fromIndex, ((ArrayPlane) to).getArray(), toIndex, length);
+        } else if (from instanceof ArrayPlane) {
+            to.put(toIndex, ((ArrayPlane) from).getArray(), fromIndex, length);
+        } else {
+            byte[] row = new byte[length];
+            from.get(fromIndex, row, 0, length);
+            to.put(toIndex, row, 0, length);
+        }
+    }
+}
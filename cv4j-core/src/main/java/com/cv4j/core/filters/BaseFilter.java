@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.filters;
+
+import com.cv4j.core.datamodel.ColorProcessor;
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.datamodel.plane.Plane;
+import com.cv4j.core.datamodel.plane.Planes;
+import com.cv4j.core.metrics.Instrumentation;
+import com.cv4j.core.metrics.StageTimer;
+import com.cv4j.core.parallel.ExecutionContext;
+import com.cv4j.core.parallel.RowBandTask;
+import com.cv4j.core.spatial.conv.Convolution;
+
+/**
+ * The class of Filter Base
+ */
+public abstract class BaseFilter implements CommonFilter {
+
+    protected int width;
+    protected int height;
+    protected byte[] R;
+    protected byte[] G;
+    protected byte[] B;
+
+    /**
+     * The pixel (row, col) is at offset + row * stride + col in R, G and B.
+     * For an image that is not a view offset is 0 and stride is width.
+     */
+    protected int offset;
+    protected int stride;
+
+    /**
+     * The planes of an image that is not a ColorProcessor, R, G and B are then null.
+     */
+    protected Plane[] planes;
+
+    @Override
+    public ImageProcessor filter(ImageProcessor src) {
+
+        StageTimer timer = Instrumentation.begin();
+        try {
+            return apply(src);
+        } finally {
+            if (timer != null) Instrumentation.end(timer, getStageName(), src);
+        }
+    }
+
+    private ImageProcessor apply(ImageProcessor src) {
+
+        if (src == null) return null;
+
+        boolean heap = src instanceof ColorProcessor;
+        if (!heap && src.getChannels() != 3) return src;
+
+        width = src.getWidth();
+        height = src.getHeight();
+
+        boolean packed = src.getOffset() == 0 && src.getStride() == width;
+        if (heap ? !(packed || isStrideAware()) : !isPlaneAware()) {
+            return filterCopy(src);
+        }
+
+        offset = src.getOffset();
+        stride = src.getStride();
+
+        if (heap) {
+            R = ((ColorProcessor)src).getRed();
+            G = ((ColorProcessor)src).getGreen();
+            B = ((ColorProcessor)src).getBlue();
+            planes = null;
+        } else {
+            R = G = B = null;
+            planes = new Plane[]{src.getPlane(0), src.getPlane(1), src.getPlane(2)};
+        }
+
+        return doFilter(src);
+    }
+
+    public abstract ImageProcessor doFilter(ImageProcessor src);
+
+    /**
+     * @return The name of the events this filter emits to the Instrumentation listeners.
+     */
+    protected String getStageName() {
+        return getClass().getSimpleName();
+    }
+
+    /**
+     * A filter that addresses R, G and B through offset and stride runs
+     * directly on a view, the others run on a copy of it.
+     * @return true if doFilter supports views.
+     */
+    protected boolean isStrideAware() {
+        return false;
+    }
+
+    /**
+     * A filter that only reaches the pixels through forEachRow and
+     * channelHistograms runs directly on an image that is not a ColorProcessor,
+     * an off-heap image for example, the others run on a heap copy of it.
+     * @return true if doFilter supports any backing store.
+     */
+    protected boolean isPlaneAware() {
+        return false;
+    }
+
+    /**
+     * Filter a packed heap copy of the image and write the result back into the image.
+     */
+    private ImageProcessor filterCopy(ImageProcessor src) {
+        ColorProcessor copy = new ColorProcessor(width, height);
+        Planes.copy(src, copy);
+        ImageProcessor result = apply(copy);
+
+        if (result instanceof ColorProcessor
+                && result.getWidth() == src.getWidth()
+                && result.getHeight() == src.getHeight()) {
+            Planes.copy(result, src);
+            return src;
+        }
+
+        return result;
+    }
+
+    /**
+     * Run the task over the rows of the image split into bands,
+     * the bands are processed in parallel on the shared ExecutionContext.
+     * A task must only write the rows [band.start, band.end) of its output.
+     * @param halo The number of rows above and below a band the task reads.
+     * @param task The task.
+     */
+    protected void forEachBand(int halo, RowBandTask task) {
+        ExecutionContext.forEachBand(height, halo, task);
+    }
+
+    /**
+     * Convolve R, G and B in place, the kernel runs in parallel bands.
+     * @param convolution The convolution.
+     */
+    protected void convolve(Convolution convolution) {
+        for (byte[] channel : new byte[][]{R, G, B}) {
+            convolution.filter(channel, offset, stride, width, height);
+        }
+    }
+
+    /**
+     * Run the kernel over every row of the image, the rows are split into
+     * parallel bands. The rows of a heap image are processed in place,
+     * the rows of any other image go through a buffer of one row.
+     * @param kernel The kernel.
+     */
+    protected void forEachRow(final RowKernel kernel) {
+        forEachBand(0, band -> {
+            if (planes == null) {
+                for (int row = band.start; row < band.end; row++) {
+                    int start = offset + row * stride;
+                    kernel.run(R, G, B, start, start + width);
+                }
+                return;
+            }
+
+            byte[][] rows = new byte[3][width];
+            for (int row = band.start; row < band.end; row++) {
+                int start = offset + row * stride;
+                for (int c = 0; c < 3; c++) {
+                    planes[c].get(start, rows[c], 0, width);
+                }
+                kernel.run(rows[0], rows[1], rows[2], 0, width);
+                for (int c = 0; c < 3; c++) {
+                    planes[c].put(start, rows[c], 0, width);
+                }
+            }
+        });
+    }
+
+    /**
+     * Map the R, G, B planes through the table, in place.
+     * @param lut The 3 x 256 table, lut[channel][value].
+     */
+    protected void applyLUT(final int[][] lut) {
+        final int[] redLut = lut[0];
+        final int[] greenLut = lut[1];
+        final int[] blueLut = lut[2];
+
+        forEachRow((red, green, blue, start, end) -> {
+            for (int i = start; i < end; i++) {
+                red[i] = (byte) redLut[red[i] & 0xff];
+                green[i] = (byte) greenLut[green[i] & 0xff];
+                blue[i] = (byte) blueLut[blue[i] & 0xff];
+            }
+        });
+    }
+
+    /**
+     * Run the transfer function over every pixel, in place.
+     * @param filter The pointwise filter.
+     */
+    protected void applyTransfer(final PointwiseFilter filter) {
+        forEachRow((red, green, blue, start, end) -> {
+            int[] rgb = new int[3];
+            for (int i = start; i < end; i++) {
+                rgb[0] = red[i] & 0xff;
+                rgb[1] = green[i] & 0xff;
+                rgb[2] = blue[i] & 0xff;
+                filter.transfer(rgb);
+                red[i] = (byte) rgb[0];
+                green[i] = (byte) rgb[1];
+                blue[i] = (byte) rgb[2];
+            }
+        });
+    }
+
+    /**
+     * @return The 3 x 256 histograms of the R, G, B planes.
+     */
+    protected int[][] channelHistograms() {
+        int[][] histograms = new int[3][256];
+        if (planes == null) {
+            for (int row = 0; row < height; row++) {
+                int end = offset + row * stride + width;
+                for (int i = end - width; i < end; i++) {
+                    histograms[0][R[i] & 0xff]++;
+                    histograms[1][G[i] & 0xff]++;
+                    histograms[2][B[i] & 0xff]++;
+                }
+            }
+            return histograms;
+        }
+
+        byte[] data = new byte[width];
+        for (int c = 0; c < 3; c++) {
+            int[] histogram = histograms[c];
+            for (int row = 0; row < height; row++) {
+                planes[c].get(offset + row * stride, data, 0, width);
+                for (int i = 0; i < width; i++) {
+                    histogram[data[i] & 0xff]++;
+                }
+            }
+        }
+        return histograms;
+    }
+}
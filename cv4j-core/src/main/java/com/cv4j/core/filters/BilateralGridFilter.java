@@ -0,0 +1,340 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.filters;
+
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.datamodel.plane.Planes;
+import com.cv4j.core.memory.BufferPool;
+import com.cv4j.core.metrics.Instrumentation;
+import com.cv4j.core.metrics.StageTimer;
+import com.cv4j.core.parallel.ExecutionContext;
+import com.cv4j.image.util.Tools;
+
+import java.util.Arrays;
+
+/**
+ * The edge preserving bilateral filter computed on a bilateral grid (Paris and Durand 2006,
+ * Chen, Paris and Durand 2007). Every pixel is added to the cell of a coarse
+ * (x, y, gray level) grid, one cell per sigma in each dimension, the grid is blurred
+ * and the pixels are read back by trilinear interpolation at their own position and gray level.
+ *
+ * The gray level of a color image is its luminance, so the 3 channels are smoothed
+ * along the same edges. The cost is linear in the number of pixels and does not
+ * depend on the spatial sigma, a larger sigma only makes the grid smaller.
+ */
+public class BilateralGridFilter implements CommonFilter {
+
+    /**
+     * The empty cells around the grid, for the blur and the interpolation.
+     */
+    private static final int PAD = 1;
+
+    /**
+     * The spatial sigma in pixels, 0 means 1% of the largest side of the image.
+     */
+    private float sigmaSpatial;
+
+    /**
+     * The range sigma in gray levels.
+     */
+    private float sigmaRange;
+
+    public BilateralGridFilter() {
+        this(0, 20);
+    }
+
+    /**
+     * @param sigmaSpatial The spatial sigma in pixels, 0 means 1% of the largest side of the image.
+     * @param sigmaRange   The range sigma in gray levels.
+     */
+    public BilateralGridFilter(float sigmaSpatial, float sigmaRange) {
+        setSigmaSpatial(sigmaSpatial);
+        setSigmaRange(sigmaRange);
+    }
+
+    public float getSigmaSpatial() {
+        return sigmaSpatial;
+    }
+
+    public void setSigmaSpatial(float sigmaSpatial) {
+        if (sigmaSpatial < 0) {
+            throw new IllegalArgumentException("Invalid argument: sigma spatial " + sigmaSpatial);
+        }
+        this.sigmaSpatial = sigmaSpatial;
+    }
+
+    public float getSigmaRange() {
+        return sigmaRange;
+    }
+
+    public void setSigmaRange(float sigmaRange) {
+        if (sigmaRange < 1) {
+            throw new IllegalArgumentException("Invalid argument: sigma range " + sigmaRange);
+        }
+        this.sigmaRange = sigmaRange;
+    }
+
+    @Override
+    public ImageProcessor filter(ImageProcessor src) {
+        StageTimer timer = Instrumentation.begin();
+        try {
+            if (!Planes.isHeap(src)) {
+                // the grid reads and writes the planes as arrays, filter a heap copy
+                ImageProcessor copy = Planes.packedCopy(src);
+                filterImage(copy);
+                Planes.copy(copy, src);
+                return src;
+            }
+            return filterImage(src);
+        } finally {
+            if (timer != null) Instrumentation.end(timer, getClass().getSimpleName(), src);
+        }
+    }
+
+    private ImageProcessor filterImage(ImageProcessor src) {
+        final int channels = src.getChannels();
+        if (channels != 1 && channels != 3) {
+            throw new IllegalArgumentException("Invalid argument: " + channels + " channels");
+        }
+
+        final int width = src.getWidth();
+        final int height = src.getHeight();
+        final float spatial = sigmaSpatial > 0 ? sigmaSpatial : Math.max(1f, Math.max(width, height) * 0.01f);
+
+        byte[][] data = new byte[channels][];
+        for (int c = 0; c < channels; c++) {
+            data[c] = Planes.array(src, c);
+        }
+
+        byte[] guide = null;
+        if (channels == 3) {
+            guide = BufferPool.acquireBytes(width * height);
+            luminance(data, src.getOffset(), src.getStride(), width, height, guide);
+        }
+
+        Grid grid = new Grid(width, height, channels, spatial, sigmaRange);
+        grid.splat(data, src.getOffset(), src.getStride(), guide);
+        grid.blur();
+        grid.slice(data, src.getOffset(), src.getStride(), guide);
+
+        if (guide != null) {
+            BufferPool.release(guide);
+        }
+        return src;
+    }
+
+    private static void luminance(final byte[][] data, final int offset, final int stride,
+                                  final int width, int height, final byte[] guide) {
+        ExecutionContext.forEachBand(height, 0, band -> {
+            for (int row = band.start; row < band.end; row++) {
+                int index = offset + row * stride;
+                int out = row * width;
+                for (int col = 0; col < width; col++) {
+                    // 0.299, 0.587 and 0.114 in 8 bits fixed point
+                    guide[out + col] = (byte) ((77 * (data[0][index + col] & 0xff) + 150 * (data[1][index + col] & 0xff)
+                            + 29 * (data[2][index + col] & 0xff)) >> 8);
+                }
+            }
+        });
+    }
+
+    /**
+     * The grid, a cell holds the sums of every channel followed by the number of pixels,
+     * the gray level varies fastest, then x, then y.
+     */
+    private static final class Grid {
+
+        private final int width;
+        private final int height;
+        private final int channels;
+        private final float spatial;
+        private final float range;
+
+        /**
+         * The number of values of a cell.
+         */
+        private final int n;
+        private final int gw;
+        private final int gh;
+        private final int gd;
+        private float[] cells;
+        private float[] buffer;
+
+        Grid(int width, int height, int channels, float spatial, float range) {
+            this.width = width;
+            this.height = height;
+            this.channels = channels;
+            this.spatial = spatial;
+            this.range = range;
+            this.n = channels + 1;
+            this.gw = (int) ((width - 1) / spatial) + 2 + 2 * PAD;
+            this.gh = (int) ((height - 1) / spatial) + 2 + 2 * PAD;
+            this.gd = (int) (255 / range) + 2 + 2 * PAD;
+            this.cells = new float[gw * gh * gd * n];
+            this.buffer = new float[cells.length];
+        }
+
+        private int nearest(float v) {
+            return (int) (v + 0.5f) + PAD;
+        }
+
+        /**
+         * Add every pixel to its nearest cell. The image rows of a grid row only touch
+         * the cells of that grid row, so the grid rows are split into parallel bands.
+         */
+        void splat(final byte[][] data, final int offset, final int stride, final byte[] guide) {
+            // the first image row of every grid row, the rows are in order
+            final int[] firstRow = new int[gh + 1];
+            int gy = 0;
+            for (int row = 0; row < height; row++) {
+                int cell = nearest(row / spatial);
+                while (gy <= cell) {
+                    firstRow[gy++] = row;
+                }
+            }
+            while (gy <= gh) {
+                firstRow[gy++] = height;
+            }
+
+            final int[] columnCell = new int[width];
+            for (int col = 0; col < width; col++) {
+                columnCell[col] = nearest(col / spatial) * gd;
+            }
+
+            final int[] levelCell = new int[256];
+            for (int level = 0; level < 256; level++) {
+                levelCell[level] = nearest(level / range);
+            }
+
+            ExecutionContext.forEachBand(gh, 0, band -> {
+                for (int row = firstRow[band.start]; row < firstRow[band.end]; row++) {
+                    int plane = nearest(row / spatial) * gw * gd;
+                    int index = offset + row * stride;
+                    int g = row * width;
+                    for (int col = 0; col < width; col++) {
+                        int level = guide != null ? guide[g + col] & 0xff : data[0][index + col] & 0xff;
+                        int cell = (plane + columnCell[col] + levelCell[level]) * n;
+                        for (int c = 0; c < channels; c++) {
+                            cells[cell + c] += data[c][index + col] & 0xff;
+                        }
+                        cells[cell + channels] += 1;
+                    }
+                }
+            });
+        }
+
+        /**
+         * Blur the grid with [1 2 1] / 4 along the gray levels, x and y.
+         */
+        void blur() {
+            blurAxis(n);
+            blurAxis(gd * n);
+            blurAxis(gw * gd * n);
+        }
+
+        private void blurAxis(final int step) {
+            final float[] in = cells;
+            final float[] out = buffer;
+            final int plane = gw * gd * n;
+            // the length of the axis and the distance between two of its lines
+            final int length = step == n ? gd : (step == gd * n ? gw : gh);
+
+            ExecutionContext.forEachBand(gh, 0, band -> {
+                for (int i = band.start * plane; i < band.end * plane; i++) {
+                    int position = (i / step) % length;
+                    float sum = 2 * in[i];
+                    if (position > 0) {
+                        sum += in[i - step];
+                    }
+                    if (position < length - 1) {
+                        sum += in[i + step];
+                    }
+                    out[i] = sum * 0.25f;
+                }
+            });
+
+            buffer = in;
+            cells = out;
+        }
+
+        /**
+         * Read every pixel back by trilinear interpolation of the grid at its position
+         * and gray level, the channels are divided by the interpolated number of pixels.
+         */
+        void slice(final byte[][] data, final int offset, final int stride, final byte[] guide) {
+            final int[] columnCell = new int[width];
+            final float[] columnWeight = new float[width];
+            for (int col = 0; col < width; col++) {
+                float x = col / spatial + PAD;
+                columnCell[col] = (int) x;
+                columnWeight[col] = x - (int) x;
+            }
+
+            // the gray level only takes 256 values
+            final int[] levelCell = new int[256];
+            final float[] levelWeight = new float[256];
+            for (int level = 0; level < 256; level++) {
+                float z = level / range + PAD;
+                levelCell[level] = (int) z * n;
+                levelWeight[level] = z - (int) z;
+            }
+
+            final float[] grid = cells;
+            final int x1 = gd * n;
+            final int y1 = gw * gd * n;
+
+            ExecutionContext.forEachBand(height, 0, band -> {
+                float[] values = new float[n];
+                for (int row = band.start; row < band.end; row++) {
+                    float y = row / spatial + PAD;
+                    int gy = (int) y;
+                    float wy = y - gy;
+                    int plane = gy * y1;
+                    int index = offset + row * stride;
+                    int g = row * width;
+                    for (int col = 0; col < width; col++) {
+                        int level = guide != null ? guide[g + col] & 0xff : data[0][index + col] & 0xff;
+                        float wx = columnWeight[col];
+                        float wz = levelWeight[level];
+                        int cell = plane + columnCell[col] * x1 + levelCell[level];
+
+                        // the 4 pairs of cells around the pixel, a pair holds 2 gray levels
+                        Arrays.fill(values, 0);
+                        add(grid, cell, (1 - wy) * (1 - wx), wz, values);
+                        add(grid, cell + x1, (1 - wy) * wx, wz, values);
+                        add(grid, cell + y1, wy * (1 - wx), wz, values);
+                        add(grid, cell + y1 + x1, wy * wx, wz, values);
+
+                        float weight = values[channels];
+                        if (weight <= 0) continue;
+                        float scale = 1 / weight;
+                        for (int c = 0; c < channels; c++) {
+                            data[c][index + col] = (byte) Tools.clamp((int) (values[c] * scale + 0.5f));
+                        }
+                    }
+                }
+            });
+        }
+
+        private void add(float[] grid, int cell, float weight, float wz, float[] values) {
+            float near = weight * (1 - wz);
+            float far = weight * wz;
+            for (int k = 0; k < n; k++) {
+                values[k] += near * grid[cell + k] + far * grid[cell + n + k];
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.filters;
+
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.spatial.conv.Convolution;
+import com.cv4j.core.spatial.conv.Kernel;
+/**
+ * The CarveFilter class.
+ * Emboss effect, support two types of relief, 
+ * according to boolean parameters to decide which one to use
+ */
+public class CarveFilter extends BaseFilter{
+
+	/**
+	 * The value added to the differences.
+	 */
+	private static final int HALF_RGB = 129;
+
+	/**
+	 * The right pixel minus the left pixel.
+	 */
+	private static final int[] CARVE = new int[] {-1, 0, 1};
+
+	/**
+	 * The left pixel minus the right pixel.
+	 */
+	private static final int[] RELIEF = new int[] {1, 0, -1};
+
+	private boolean isCarve;
+	
+	public CarveFilter()
+	{
+		isCarve = true;
+	}
+	
+	public void setCarve(boolean carve)
+	{
+		isCarve =carve;
+	}
+	@Override
+	public ImageProcessor doFilter(ImageProcessor src) {
+		// the difference between the pixels right and left of the pixel
+		Convolution convolution = new Convolution(new Kernel(3, 1, isCarve ? CARVE : RELIEF));
+		convolution.setDelta(HALF_RGB);
+		convolve(convolution);
+
+		return src;
+	}
+
+	@Override
+	protected boolean isStrideAware() {
+		return true;
+	}
+
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.filters;
+
+/**
+ * A filter that maps every channel through a 256-entry look-up table.
+ * CompositeFilters composes consecutive tables into a single one.
+ */
+public interface ChannelLUTFilter extends CommonFilter {
+
+    /**
+     * @return true if the table depends on the image, getLUT then receives
+     *         the histograms of the image as it enters the filter.
+     */
+    boolean isHistogramRequired();
+
+    /**
+     * @param histograms The 3 x 256 histograms of the R, G, B planes,
+     *                   null if isHistogramRequired() returns false.
+     * @return           The 3 x 256 table, lut[channel][value].
+     */
+    int[][] getLUT(int[][] histograms);
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.filters;
+
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.metrics.Instrumentation;
+import com.cv4j.core.metrics.StageTimer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 组合使用多个滤镜
+ *
+ * The filters are applied in the order they were added.
+ * Consecutive pointwise filters (ChannelLUTFilter, PointwiseFilter) are fused
+ * into a single pass over the image, any other filter is a fusion barrier
+ * and runs on its own.
+ * The image can be a ColorProcessor or any other color image, an off-heap
+ * DirectColorProcessor for example.
+ * Each filter emits its own Instrumentation event, a fused run is named after
+ * its stages, and the whole chain emits a "CompositeFilters" event.
+ */
+
+public class CompositeFilters {
+
+    private List<CommonFilter> lists;
+
+    public CompositeFilters() {
+
+        lists = new ArrayList<>();
+    }
+
+    public CompositeFilters addFilter(CommonFilter f) {
+
+        lists.add(f);
+        return this;
+    }
+
+    public ImageProcessor filter(ImageProcessor imageData) {
+
+        if (imageData == null || imageData.getChannels() != 3) return imageData;
+
+        StageTimer timer = Instrumentation.begin();
+        try {
+            return filterChain(imageData);
+        } finally {
+            if (timer != null) Instrumentation.end(timer, "CompositeFilters", imageData);
+        }
+    }
+
+    private ImageProcessor filterChain(ImageProcessor imageData) {
+
+        ImageProcessor result = imageData;
+        List<CommonFilter> fused = new ArrayList<>();
+        boolean hasTransfer = false;
+
+        for (CommonFilter filter : lists) {
+
+            if (!FusedFilter.isFusible(filter)) {
+                result = flush(result, fused);
+                hasTransfer = false;
+                result = filter.filter(result);
+                continue;
+            }
+
+            // the histograms are only known while the fused stages are all tables
+            if (hasTransfer && filter instanceof ChannelLUTFilter
+                    && ((ChannelLUTFilter) filter).isHistogramRequired()) {
+                result = flush(result, fused);
+                hasTransfer = false;
+            }
+
+            fused.add(filter);
+            hasTransfer |= !(filter instanceof ChannelLUTFilter);
+        }
+
+        return flush(result, fused);
+    }
+
+    private ImageProcessor flush(ImageProcessor imageData, List<CommonFilter> fused) {
+
+        ImageProcessor result = imageData;
+
+        if (fused.size() == 1) {
+            result = fused.get(0).filter(imageData);
+        } else if (fused.size() > 1) {
+            result = new FusedFilter(fused).filter(imageData);
+        }
+
+        fused.clear();
+        return result;
+    }
+
+}
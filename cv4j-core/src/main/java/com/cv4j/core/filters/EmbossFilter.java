@@ -15,10 +15,9 @@
  */
 package com.cv4j.core.filters;
 
-import com.cv4j.core.datamodel.ColorProcessor;
 import com.cv4j.core.datamodel.image.ImageProcessor;
-import com.cv4j.core.utils.SafeCasting;
-import com.cv4j.image.util.Tools;
+import com.cv4j.core.spatial.conv.Convolution;
+import com.cv4j.core.spatial.conv.Kernel;
 /**
  * The EmbossFilter class.
  * The ginning effect, based on the relief effect, is similar, 
@@ -26,6 +25,16 @@ import com.cv4j.image.util.Tools;
  */
 public class EmbossFilter extends BaseFilter {
 
+	/**
+	 * The pixel minus the pixel below it.
+	 */
+	private static final int[] OUT = new int[] {0, 1, -1};
+
+	/**
+	 * The pixel below minus the pixel.
+	 */
+	private static final int[] IN = new int[] {0, -1, 1};
+
 	private int colorConstants;
 	private boolean out;
 
@@ -41,53 +50,20 @@ public class EmbossFilter extends BaseFilter {
 
 	@Override
 	public ImageProcessor doFilter(ImageProcessor src){
-		int offset = 0;
-
-		byte[][] output = new byte[3][R.length];
-		for ( int y = 1; y < height-1; y++ ) {
-			offset = y*width;
-			setOutput(out, output, offset);
-		}
-		((ColorProcessor)src).putRGB(output[0], output[1], output[2]);
+		// the difference between the pixel and the pixel below it
+		Kernel kernel = new Kernel(1, 3, out ? OUT : IN);
+		Convolution convolution = new Convolution(kernel);
+		convolution.setDelta(colorConstants);
+		convolve(convolution);
 
 		return src;
 	}
 
-
-	private void setOutput(boolean isOut, byte[][] output, int offset){
-		final int value0000FF = 0x0000ff;
-
-		for ( int x = 1; x < width-1; x++ ) {
-			int r1 = R[offset] & value0000FF;
-			int g1 = G[offset] & value0000FF;
-			int b1 = B[offset] & value0000FF;
-
-			int r2 = R[offset + width] & value0000FF;
-			int g2 = G[offset + width] & value0000FF;
-			int b2 = B[offset + width] & value0000FF;
-
-			int r = 0;
-			int g = 0;
-			int b = 0;
-			if(isOut) {
-					r = r1 - r2;
-					g = g1 - g2;
-					b = b1 - b2;
-				} else {
-					r = r2 - r1;
-					g = g2 - g1;
-					b = b2 - b1;
-				}
-				r = Tools.clamp(r + colorConstants);
-				g = Tools.clamp(g + colorConstants);
-				b = Tools.clamp(b + colorConstants);
-
-				output[0][offset] = SafeCasting.safeIntToByte(r);
-				output[1][offset] = SafeCasting.safeIntToByte(g);
-				output[2][offset] = SafeCasting.safeIntToByte(b);
-				offset++;
-			}
+	@Override
+	protected boolean isStrideAware() {
+		return true;
 	}
+
 	/**
 	 * 
 	 * @param out
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.filters;
+
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.datamodel.number.LocalStatistics;
+import com.cv4j.core.datamodel.plane.Planes;
+import com.cv4j.core.metrics.Instrumentation;
+import com.cv4j.core.metrics.StageTimer;
+import com.cv4j.core.parallel.ExecutionContext;
+import com.cv4j.image.util.Tools;
+
+/**
+ * good method try to smooth the minor noise
+ * the local mean and variance come from the integral images of each channel,
+ * the cost does not depend on the window size.
+ */
+public class FastEPFilter implements CommonFilter {
+
+	/**
+	 * The x radius, 0 means 2% of the largest side of the image.
+	 */
+	private int xr;
+
+	/**
+	 * The y radius, 0 means 2% of the largest side of the image.
+	 */
+	private int yr;
+
+	/**
+	 * The sigma.
+	 */
+	private float sigma;
+
+	public FastEPFilter() {
+		this.sigma = 10.0f;
+		this.xr    = 0;
+		this.yr    = 0;
+	}
+	
+	public void setWinsize(int radius) {
+		this.xr = radius;
+		this.yr = radius;
+	}
+
+	public float getSigma() {
+		return sigma;
+	}
+
+	public void setSigma(float sigma) {
+		this.sigma = sigma;
+	}
+
+	@Override
+	public ImageProcessor filter(ImageProcessor src) {
+		StageTimer timer = Instrumentation.begin();
+		try {
+			if (!Planes.isHeap(src)) {
+				// the tables and the median read the planes as arrays, filter a heap copy
+				ImageProcessor copy = Planes.packedCopy(src);
+				filterImage(copy);
+				Planes.copy(copy, src);
+				return src;
+			}
+			return filterImage(src);
+		} finally {
+			if (timer != null) Instrumentation.end(timer, getClass().getSimpleName(), src);
+		}
+	}
+
+	private ImageProcessor filterImage(ImageProcessor src) {
+		// initialization parameters
+		int width = src.getWidth();
+		int height = src.getHeight();
+		int radius = (int)(Math.max(width, height) * 0.02);
+		int rx = xr > 0 ? xr : radius;
+		int ry = yr > 0 ? yr : radius;
+		float s = 10 + sigma * sigma * 5;
+
+		// start ep process, the tables hold the whole channel so it is filtered in place
+		LocalStatistics statistics = new LocalStatistics();
+		final int channels = src.getChannels();
+		for(int i = 0; i < channels; i++) {
+			byte[] data = Planes.array(src, i);
+			statistics.build(data, src.getOffset(), src.getStride(), width, height);
+			processChannel(statistics, data, src.getOffset(), src.getStride(), rx, ry, s * s);
+		}
+
+		return src;
+	}
+
+	private void processChannel(LocalStatistics input, byte[] data, int offset, int stride,
+								int rx, int ry, float sigma2) {
+		final int width = input.getWidth();
+		ExecutionContext.forEachBand(input.getHeight(), 0, band -> {
+			for (int row = band.start; row < band.end; row++) {
+				int index = offset + row * stride;
+				for (int col = 0; col < width; col++) {
+					double b = input.getMean(col, row, rx, ry);
+					double c = input.getVariance(col, row, rx, ry);
+					double d = c / (c + sigma2);
+					int r = data[index + col] & 0xff;
+					data[index + col] = (byte) Tools.clamp((int)((1 - d) * b + d * r));
+				}
+			}
+		});
+	}
+}
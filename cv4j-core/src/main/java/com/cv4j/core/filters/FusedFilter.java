@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.filters;
+
+import com.cv4j.core.datamodel.image.ImageProcessor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Consecutive pointwise filters compiled into a single pass over the image.
+ * Channel LUTs that follow each other are composed into one table,
+ * transfer functions run in between on the same pixel, so the R, G, B
+ * planes are read and written only once whatever the number of stages.
+ * A filter which needs the histograms must not follow a transfer function,
+ * CompositeFilters starts a new fused pass in that case.
+ */
+class FusedFilter extends BaseFilter {
+
+    private final List<CommonFilter> stages;
+
+    FusedFilter(List<CommonFilter> stages) {
+        this.stages = new ArrayList<>(stages);
+    }
+
+    static boolean isFusible(CommonFilter filter) {
+        return filter instanceof ChannelLUTFilter || filter instanceof PointwiseFilter;
+    }
+
+    @Override
+    public ImageProcessor doFilter(ImageProcessor src) {
+        List<int[][]> luts = new ArrayList<>();
+        List<PointwiseFilter> transfers = new ArrayList<>();
+        compile(luts, transfers);
+
+        final int[][][] lutStages = luts.toArray(new int[luts.size()][][]);
+        final PointwiseFilter[] transferStages = transfers.toArray(new PointwiseFilter[transfers.size()]);
+
+        if (lutStages.length == 1 && transferStages.length == 0) {
+            applyLUT(lutStages[0]);
+        } else {
+            forEachRow((red, green, blue, start, end) -> {
+                int[] rgb = new int[3];
+                for (int i = start; i < end; i++) {
+                    rgb[0] = red[i] & 0xff;
+                    rgb[1] = green[i] & 0xff;
+                    rgb[2] = blue[i] & 0xff;
+                    run(lutStages, transferStages, rgb);
+                    red[i] = (byte) rgb[0];
+                    green[i] = (byte) rgb[1];
+                    blue[i] = (byte) rgb[2];
+                }
+            });
+        }
+
+        return src;
+    }
+
+    @Override
+    protected String getStageName() {
+        StringBuilder name = new StringBuilder("FusedFilter[");
+        for (int i = 0; i < stages.size(); i++) {
+            if (i > 0) name.append('+');
+            name.append(stages.get(i).getClass().getSimpleName());
+        }
+        return name.append(']').toString();
+    }
+
+    @Override
+    protected boolean isStrideAware() {
+        return true;
+    }
+
+    @Override
+    protected boolean isPlaneAware() {
+        return true;
+    }
+
+    /**
+     * The program alternates tables and transfer functions: lut, transfer, lut, ...
+     * A null table stands for the identity.
+     */
+    private void run(int[][][] luts, PointwiseFilter[] transfers, int[] rgb) {
+        for (int s = 0; s < luts.length; s++) {
+            int[][] lut = luts[s];
+            if (lut != null) {
+                rgb[0] = lut[0][rgb[0]] & 0xff;
+                rgb[1] = lut[1][rgb[1]] & 0xff;
+                rgb[2] = lut[2][rgb[2]] & 0xff;
+            }
+            if (s < transfers.length) {
+                transfers[s].transfer(rgb);
+            }
+        }
+    }
+
+    private void compile(List<int[][]> luts, List<PointwiseFilter> transfers) {
+        int[][] histograms = null;
+        int[][] lut = null;
+
+        for (CommonFilter stage : stages) {
+            if (stage instanceof ChannelLUTFilter) {
+                ChannelLUTFilter lutFilter = (ChannelLUTFilter) stage;
+                int[][] stageHistograms = null;
+
+                if (lutFilter.isHistogramRequired()) {
+                    if (histograms == null) {
+                        histograms = channelHistograms();
+                    }
+                    stageHistograms = (lut == null) ? histograms : remap(histograms, lut);
+                }
+
+                lut = compose(lut, lutFilter.getLUT(stageHistograms));
+            } else {
+                luts.add(lut);
+                transfers.add((PointwiseFilter) stage);
+                lut = null;
+            }
+        }
+
+        luts.add(lut);
+    }
+
+    /**
+     * @return The table of "second after first", values wrap like a byte cast.
+     */
+    private static int[][] compose(int[][] first, int[][] second) {
+        int[][] result = new int[3][256];
+        for (int c = 0; c < 3; c++) {
+            for (int v = 0; v < 256; v++) {
+                int mid = (first == null) ? v : first[c][v] & 0xff;
+                result[c][v] = second[c][mid] & 0xff;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return The histograms of the image after it went through the table.
+     */
+    private static int[][] remap(int[][] histograms, int[][] lut) {
+        int[][] result = new int[3][256];
+        for (int c = 0; c < 3; c++) {
+            for (int v = 0; v < 256; v++) {
+                result[c][lut[c][v] & 0xff] += histograms[c][v];
+            }
+        }
+        return result;
+    }
+}
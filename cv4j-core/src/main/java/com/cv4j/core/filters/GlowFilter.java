@@ -17,6 +17,7 @@ package com.cv4j.core.filters;
 
 import com.cv4j.core.datamodel.image.ImageProcessor;
 import com.cv4j.core.filters.math.GaussianBlurFilter;
+import com.cv4j.core.memory.BufferPool;
 import com.cv4j.core.utils.SafeCasting;
 import com.cv4j.image.util.Tools;
 
@@ -40,9 +41,9 @@ public class GlowFilter extends GaussianBlurFilter {
 	public ImageProcessor doFilter(ImageProcessor src){
 
 		int total = width*height;
-		byte[] R1 = new byte[total];
-		byte[] G1 = new byte[total];
-		byte[] B1 = new byte[total];
+		byte[] R1 = BufferPool.acquireBytes(total);
+		byte[] G1 = BufferPool.acquireBytes(total);
+		byte[] B1 = BufferPool.acquireBytes(total);
 		System.arraycopy(R, 0, R1, 0, total);
 		System.arraycopy(G, 0, G1, 0, total);
 		System.arraycopy(B, 0, B1, 0, total);
@@ -51,6 +52,9 @@ public class GlowFilter extends GaussianBlurFilter {
 		super.doFilter(src);
 
 		setRGB(R, G, B, R1, G1, B1);
+		BufferPool.release(R1);
+		BufferPool.release(G1);
+		BufferPool.release(B1);
 
 		return src;
     }
@@ -18,6 +18,8 @@ package com.cv4j.core.filters;
 import com.cv4j.core.datamodel.ByteProcessor;
 import com.cv4j.core.datamodel.ColorProcessor;
 import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.metrics.Instrumentation;
+import com.cv4j.core.metrics.StageTimer;
 import com.cv4j.core.utils.SafeCasting;
 
 /**
@@ -25,7 +27,17 @@ import com.cv4j.core.utils.SafeCasting;
  */
 public class MeansBinaryFilter implements CommonFilter {
 
+	@Override
 	public ImageProcessor filter(ImageProcessor src) {
+		StageTimer timer = Instrumentation.begin();
+		try {
+			return filterImage(src);
+		} finally {
+			if (timer != null) Instrumentation.end(timer, getClass().getSimpleName(), src);
+		}
+	}
+
+	private ImageProcessor filterImage(ImageProcessor src) {
 	    final int value0000FF = 0x0000ff;
 	    final int maxRgbValue = 255;
 
@@ -37,7 +49,7 @@ public class MeansBinaryFilter implements CommonFilter {
         int width  = src.getWidth();
         int height = src.getHeight();
 
-        byte[] GRAY = ((ByteProcessor)src).getGray();
+        byte[] GRAY = src.toByte(0);
 
         float graySum = 0;
         int total = width * height;
@@ -51,6 +63,7 @@ public class MeansBinaryFilter implements CommonFilter {
             int c = ((GRAY[i] & value0000FF) >= means) ? maxRgbValue : 0;
             GRAY[i] = SafeCasting.safeIntToByte(c);
         }
+        ((ByteProcessor)src).putGray(GRAY);
 
         return src;
 	}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.filters;
+
+/**
+ * A filter whose output pixel only depends on the same input pixel.
+ * CompositeFilters runs consecutive pointwise filters in one fused pass.
+ */
+public interface PointwiseFilter extends CommonFilter {
+
+    /**
+     * Transform one pixel in place.
+     * @param rgb The red, green and blue values in [0, 255].
+     */
+    void transfer(int[] rgb);
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.filters;
+
+/**
+ * The work of a pointwise filter on one row of a color image.
+ * The kernel always sees byte arrays, BaseFilter hands over the planes of a
+ * heap image and copies the rows of an off-heap image in and out of a buffer.
+ */
+public interface RowKernel {
+
+    /**
+     * Process the pixels [start, end) of the arrays, in place.
+     */
+    void run(byte[] red, byte[] green, byte[] blue, int start, int end);
+}
@@ -17,6 +17,7 @@ package com.cv4j.core.filters.blur;
 
 import com.cv4j.core.datamodel.image.ImageProcessor;
 import com.cv4j.core.filters.BaseFilter;
+import com.cv4j.core.memory.BufferPool;
 import com.cv4j.core.utils.SafeCasting;
 import com.cv4j.image.util.Tools;
 /**
@@ -34,17 +35,17 @@ public class BoxBlurFilter extends BaseFilter {
     @Override
     public ImageProcessor doFilter(ImageProcessor src) {
 
-        byte[][] output = new byte[3][width*height];
+        byte[][] output = BufferPool.acquireBytes(3, width*height);
         byte[][] input = new byte[][]{R, G, B};
         for (int i = 0; i < iterations; i++ ) {
             blur( input, output, width, height, hRadius );
             blur( output, input, height, width, vRadius );
         }
+        BufferPool.release(output);
         return src;
     }
 
     private void blur( byte[][] in, byte[][] out, int width, int height, int radius ) {
-        int widthMinus1 = width-1;
         int tableSize = 2*radius+1;
         int maxRGB = 256;
         int divide[] = new int[maxRGB*tableSize];
@@ -74,13 +75,15 @@ public class BoxBlurFilter extends BaseFilter {
             }
 
             // 每一列，每一个像素
-            outIndex = setOut(divide, outIndex, tr, tg, tb, radius, widthMinus1, height, out);
+            setOut(divide, in, inIndex, outIndex, tr, tg, tb, radius, width, height, out);
             // 继续到下一行
             inIndex += width;
         }
     }
 
-    private int setOut(int[] divide, int outIndex, int tr, int tg, int tb, int radius, int widthMinus1, int height, byte[][] out){
+    private void setOut(int[] divide, byte[][] in, int inIndex, int outIndex, int tr, int tg, int tb,
+                        int radius, int width, int height, byte[][] out){
+        int widthMinus1 = width-1;
         for ( int x = 0; x < width; x++ ) {
             // 赋值到输出像素
             out[0][outIndex] = SafeCasting.safeIntToByte(divide[tr]);
@@ -99,10 +102,14 @@ public class BoxBlurFilter extends BaseFilter {
                 i2 = 0;
             }
 
+            // 更新盒子里面的像素和
+            tr += (in[0][inIndex+i1] & 0xff) - (in[0][inIndex+i2] & 0xff);
+            tg += (in[1][inIndex+i1] & 0xff) - (in[1][inIndex+i2] & 0xff);
+            tb += (in[2][inIndex+i1] & 0xff) - (in[2][inIndex+i2] & 0xff);
+
             // 继续到下一行
             outIndex += height;
         }
-        return outIndex;
     }
 
 
@@ -19,6 +19,7 @@ import com.cv4j.core.datamodel.ColorProcessor;
 import com.cv4j.core.datamodel.image.ImageProcessor;
 import com.cv4j.core.datamodel.number.IntIntegralImage;
 import com.cv4j.core.filters.BaseFilter;
+import com.cv4j.core.memory.BufferPool;
 import com.cv4j.core.utils.SafeCasting;
 
 /**
@@ -47,7 +48,7 @@ public class MosaicFilter extends BaseFilter {
 		int tr = 0;
 		int tg = 0;
 		int tb = 0;
-		byte[][] output = new byte[3][R.length];
+		byte[][] output = BufferPool.acquireBytes(3, R.length);
 
 		IntIntegralImage rii = new IntIntegralImage();
 		rii.setImage(R);
@@ -66,6 +67,7 @@ public class MosaicFilter extends BaseFilter {
 		}
 
 		((ColorProcessor) src).putRGB(output[0], output[1], output[2]);
+		BufferPool.release(output);
 
 		return src;
 	}
@@ -18,6 +18,7 @@ package com.cv4j.core.filters.effect;
 import com.cv4j.core.datamodel.ColorProcessor;
 import com.cv4j.core.datamodel.image.ImageProcessor;
 import com.cv4j.core.filters.BaseFilter;
+import com.cv4j.core.memory.BufferPool;
 import com.cv4j.core.utils.SafeCasting;
 import com.cv4j.image.util.Tools;
 
@@ -104,7 +105,7 @@ public class MotionFilter extends BaseFilter {
 	}
 
 	private boolean isOutOfBounds(int value, int boundStart, int boundEnd) {
-		return (value < boundStart || value > boundEnd);
+		return (value < boundStart || value >= boundEnd);
 	}
 
 	private int[] setResults(int tr, int tg, int tb, int count){
@@ -140,7 +141,7 @@ public class MotionFilter extends BaseFilter {
 		final float onePI = (float) Math.PI;
 		final float zoom = 0.4f;
 		int total = width * height;
-		byte[][] output = new byte[3][total];
+		byte[][] output = BufferPool.acquireBytes(3, total);
 
         int index = 0;
         int cx = width / 2;
@@ -157,7 +158,8 @@ public class MotionFilter extends BaseFilter {
 
     	setOuts(width, height, cx, cy, output, index, sinAngle, cosAngle, maxDistance);
 
-		((ColorProcessor) src).putRGB(R, G, B);
+		((ColorProcessor) src).putRGB(output[0], output[1], output[2]);
+		BufferPool.release(output);
 
 		return src;
 	}
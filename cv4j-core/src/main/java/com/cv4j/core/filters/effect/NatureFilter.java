@@ -15,13 +15,14 @@
  */
 package com.cv4j.core.filters.effect;
 
-import android.util.SparseArray;
-
 import com.cv4j.core.datamodel.ColorProcessor;
 import com.cv4j.core.datamodel.image.ImageProcessor;
 import com.cv4j.core.filters.BaseFilter;
 import com.cv4j.image.util.Tools;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * The nature filter.
  */
@@ -98,7 +99,7 @@ public class NatureFilter extends BaseFilter {
 	 */
 	private int[] fogLookUp;
 
-	private SparseArray<NatureFilterFunction> styles;
+	private Map<Integer, NatureFilterFunction> styles;
 
 	/**
 	 * Constructor without parameters.
@@ -115,15 +116,15 @@ public class NatureFilter extends BaseFilter {
 		this.style = style;
 		buildFogLookupTable();
 		int dim = 8;
-		styles = new SparseArray<>(dim);
-		styles.append(ATMOSPHERE_STYLE, this::calculateAtmosphereStyle);
-		styles.append(BURN_STYLE, this::calculateBurnStyle);
-		styles.append(FOG_STYLE, this::calculateFogStyle);
-		styles.append(FREEZE_STYLE, this::calculateFreezeStyle);
-		styles.append(LAVA_STYLE, this::calculateLavaStyle);
-		styles.append(METAL_STYLE, this::calculateMetalStyle);
-		styles.append(OCEAN_STYLE, this::calculateOceanStyle);
-		styles.append(WATER_STYLE, this::calculateWaterStyle);
+		styles = new HashMap<>(dim);
+		styles.put(ATMOSPHERE_STYLE, this::calculateAtmosphereStyle);
+		styles.put(BURN_STYLE, this::calculateBurnStyle);
+		styles.put(FOG_STYLE, this::calculateFogStyle);
+		styles.put(FREEZE_STYLE, this::calculateFreezeStyle);
+		styles.put(LAVA_STYLE, this::calculateLavaStyle);
+		styles.put(METAL_STYLE, this::calculateMetalStyle);
+		styles.put(OCEAN_STYLE, this::calculateOceanStyle);
+		styles.put(WATER_STYLE, this::calculateWaterStyle);
 	}
 	
 	/**
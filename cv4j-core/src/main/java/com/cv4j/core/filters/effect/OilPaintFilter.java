@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.filters.effect;
+
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.filters.BaseFilter;
+import com.cv4j.core.memory.BufferPool;
+import com.cv4j.core.parallel.ExecutionContext;
+import com.cv4j.core.parallel.RowBand;
+import com.cv4j.core.utils.SafeCasting;
+
+import java.util.Arrays;
+
+/**
+ * The oil paint filter, every pixel takes the average color of the most
+ * frequent gray level of the window around it, the window is clamped at the border.
+ */
+public class OilPaintFilter extends BaseFilter {
+
+    /**
+     * Default radius value.
+     */
+    private static final int RADIUS_DEFAULT = 15;
+
+    /**
+     * Default intensity value.
+     */
+    private static final int INTENSITY_DEFAULT = 40;
+
+    /**
+     * The largest number of gray levels.
+     */
+    private static final int MAX_INTENSITY = 255;
+
+    /**
+     * The count, r, g and b sums of a gray level.
+     */
+    private static final int HISTOGRAM_ENTRIES = 4;
+
+    private int radius = 15; // default value
+    private int intensity = 40; // default value
+
+    public OilPaintFilter() {
+        this(RADIUS_DEFAULT, INTENSITY_DEFAULT);
+    }
+
+    public OilPaintFilter(int radius, int graylevel) {
+        this.radius    = radius;
+        this.intensity = graylevel;
+    }
+
+    public int getRadius() {
+        return radius;
+    }
+
+    public void setRadius(int radius) {
+        this.radius = radius;
+    }
+
+    public int getIntensity() {
+        return intensity;
+    }
+
+    public void setIntensity(int intensity) {
+        this.intensity = intensity;
+    }
+
+    @Override
+    protected boolean isStrideAware() {
+        return true;
+    }
+
+    @Override
+    public ImageProcessor doFilter(ImageProcessor src) {
+        final int subradius = this.radius / 2;
+        // the number of gray levels is bounded by the 256 values of a pixel
+        final int levels = Math.max(1, Math.min(intensity, MAX_INTENSITY));
+        final byte[] bins = BufferPool.acquireBytes(width * height);
+        final byte[][] output = BufferPool.acquireBytes(3, width * height);
+
+        forEachBand(0, band -> {
+            for (int row = band.start; row < band.end; row++) {
+                int index = offset + row * stride;
+                for (int col = 0; col < width; col++, index++) {
+                    int tr = R[index] & 0xff;
+                    int tg = G[index] & 0xff;
+                    int tb = B[index] & 0xff;
+                    bins[row * width + col] = (byte) (((tr + tg + tb) / 3 * levels) / 255);
+                }
+            }
+        });
+
+        // a band starts by adding the 2 * subradius + 1 rows of the window to the column
+        // histograms, with bands of twice the window that is at most a fifth of its work
+        ExecutionContext.forEachBand(height, subradius, 2 * (2 * subradius + 1),
+                band -> paintBand(band, bins, levels, subradius, output));
+
+        forEachBand(0, band -> {
+            for (int row = band.start; row < band.end; row++) {
+                int start = row * width;
+                int dst = offset + row * stride;
+                System.arraycopy(output[0], start, R, dst, width);
+                System.arraycopy(output[1], start, G, dst, width);
+                System.arraycopy(output[2], start, B, dst, width);
+            }
+        });
+
+        BufferPool.release(output);
+        BufferPool.release(bins);
+
+        return src;
+    }
+
+    /**
+     * Paint the rows of the band. Every column keeps the histogram of the gray levels
+     * of its 2 * subradius + 1 rows together with the r, g, b sums of every level,
+     * they move down one pixel per row. The window histogram then moves right by adding
+     * one column and removing another, the cost of a pixel does not depend on the radius.
+     * The histograms hold 4 ints per level: count, r, g and b sums.
+     */
+    private void paintBand(RowBand band, byte[] bins, int levels, int subradius, byte[][] output) {
+        final int n = (levels + 1) * HISTOGRAM_ENTRIES;
+        int[] columns = BufferPool.acquireInts(width * n);
+        int[] window = BufferPool.acquireInts(n);
+
+        for (int r = band.start - subradius; r <= band.start + subradius; r++) {
+            updateColumns(clamp(r, height), bins, n, 1, columns);
+        }
+
+        for (int row = band.start; row < band.end; row++) {
+            if (row > band.start) {
+                updateColumns(clamp(row - subradius - 1, height), bins, n, -1, columns);
+                updateColumns(clamp(row + subradius, height), bins, n, 1, columns);
+            }
+
+            Arrays.fill(window, 0);
+            for (int c = -subradius; c <= subradius; c++) {
+                int from = clamp(c, width) * n;
+                for (int i = 0; i < n; i++) {
+                    window[i] += columns[from + i];
+                }
+            }
+
+            int index = row * width;
+            for (int col = 0; col < width; col++, index++) {
+                if (col > 0) {
+                    int out = clamp(col - subradius - 1, width) * n;
+                    int in = clamp(col + subradius, width) * n;
+                    if (out != in) {
+                        for (int i = 0; i < n; i++) {
+                            window[i] += columns[in + i] - columns[out + i];
+                        }
+                    }
+                }
+
+                // find the max number of same gray level pixel
+                int maxIndex = findMaxNumberIndex(window);
+                int maxCount = window[maxIndex];
+
+                // get average value of the pixel
+                output[0][index] = SafeCasting.safeIntToByte(window[maxIndex + 1] / maxCount);
+                output[1][index] = SafeCasting.safeIntToByte(window[maxIndex + 2] / maxCount);
+                output[2][index] = SafeCasting.safeIntToByte(window[maxIndex + 3] / maxCount);
+            }
+        }
+
+        BufferPool.release(window);
+        BufferPool.release(columns);
+    }
+
+    /**
+     * Add (delta 1) or remove (delta -1) the pixels of a row to the column histograms.
+     */
+    private void updateColumns(int row, byte[] bins, int n, int delta, int[] columns) {
+        int bin = row * width;
+        int index = offset + row * stride;
+        for (int col = 0; col < width; col++, bin++, index++) {
+            int k = col * n + (bins[bin] & 0xff) * HISTOGRAM_ENTRIES;
+            columns[k] += delta;
+            columns[k + 1] += delta * (R[index] & 0xff);
+            columns[k + 2] += delta * (G[index] & 0xff);
+            columns[k + 3] += delta * (B[index] & 0xff);
+        }
+    }
+
+    /**
+     * @return The position of the count of the first most frequent level.
+     */
+    private int findMaxNumberIndex(int[] histogram) {
+        int maxIndex = 0;
+
+        for(int i = HISTOGRAM_ENTRIES; i < histogram.length; i += HISTOGRAM_ENTRIES) {
+            if(histogram[i] > histogram[maxIndex]) {
+                maxIndex = i;
+            }
+        }
+
+        return maxIndex;
+    }
+
+    private static int clamp(int i, int length) {
+        return i < 0 ? 0 : (i >= length ? length - 1 : i);
+    }
+}
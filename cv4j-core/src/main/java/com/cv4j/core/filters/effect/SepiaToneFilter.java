@@ -17,32 +17,41 @@ package com.cv4j.core.filters.effect;
 
 import com.cv4j.core.datamodel.image.ImageProcessor;
 import com.cv4j.core.filters.BaseFilter;
+import com.cv4j.core.filters.PointwiseFilter;
 import com.cv4j.image.util.Tools;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
  * The sepia tone filter.
  */
-public class SepiaToneFilter extends BaseFilter {
+public class SepiaToneFilter extends BaseFilter implements PointwiseFilter {
 
 	@Override
 	public ImageProcessor doFilter(ImageProcessor src) {
+		applyTransfer(this);
+        return src;
+	}
 
-        int total = width * height;
+	@Override
+	protected boolean isStrideAware() {
+		return true;
+	}
 
-        for(int i=0; i<total; i++) {
-			processForFilter(i);
-		}
-        return src;
+	@Override
+	protected boolean isPlaneAware() {
+		return true;
 	}
 
-	private void processForFilter(int i) {
+	@Override
+	public void transfer(int[] rgb) {
 		int r = 0;
 		int g = 0;
 		int b = 0;
 
-		r = R[i] & 0xff;
-		g = G[i] & 0xff;
-		b = B[i] & 0xff;
+		r = rgb[0];
+		g = rgb[1];
+		b = rgb[2];
 
 		float r1 = 0.393f;
 		int   r2 = 349;
@@ -53,18 +62,22 @@ public class SepiaToneFilter extends BaseFilter {
 		float b1 = 0.189f;
 		float b2 = 0.168f;
 		float b3 = 0.131f;
+
 		r = (int) colorBlend(noise(), (r * r1) + (g * g1) + (b * b1), r);
 		g = (int) colorBlend(noise(), (r * r2) + (g * g2) + (b * b2), g);
 		b = (int) colorBlend(noise(), (r * r3) + (g * g3) + (b * b3), b);
 
-		R[i] = (byte) Tools.clamp(r);
-		G[i] = (byte) Tools.clamp(g);
-		B[i] = (byte) Tools.clamp(b);
+		rgb[0] = Tools.clamp(r);
+		rgb[1] = Tools.clamp(g);
+		rgb[2] = Tools.clamp(b);
 	}
 	
+	/**
+	 * The pixels are transferred in parallel bands, every thread draws from its own generator.
+	 */
 	private double noise() {
 		float noiseFactor = 0.5f;
-		return (Math.random() * noiseFactor) + noiseFactor;
+		return (ThreadLocalRandom.current().nextDouble() * noiseFactor) + noiseFactor;
 	}
 	
 	private double colorBlend(double scale, double dest, double src) {
@@ -15,20 +15,20 @@
  */
 package com.cv4j.core.filters.effect;
 
-import android.graphics.Color;
-
 import com.cv4j.core.datamodel.image.ImageData;
 import com.cv4j.core.datamodel.image.ImageProcessor;
 import com.cv4j.core.filters.BaseFilter;
+import com.cv4j.core.filters.PointwiseFilter;
 import com.cv4j.core.utils.SafeCasting;
+import com.cv4j.image.util.Tools;
 
 /**
  * The Sin City filter.
  */
-public class SinCityFilter extends BaseFilter {
+public class SinCityFilter extends BaseFilter implements PointwiseFilter {
 
 	int maxRgb = 255;
-	private int mainColor = Color.argb(maxRgb, maxRgb, 0, 0);
+	private int mainColor = Tools.argb(maxRgb, maxRgb, 0, 0);
 
 	public void setMainColor(int argb) {
 		this.mainColor = argb;
@@ -36,31 +36,41 @@ public class SinCityFilter extends BaseFilter {
 
 	@Override
 	public ImageProcessor doFilter(ImageProcessor src) {
-		final double threshold = 200; // default value
-        int total = width * height;
-		int tr = 0;
-		int tg = 0;
-		int tb = 0;
-
-        for(int i=0; i<total; i++) {
-			tr = R[i] & 0xff;
-			tg = G[i] & 0xff;
-			tb = B[i] & 0xff;
-
-			int gray = setGray(tr, tg, tb);
-			double distance = getDistance(tr, tg, tb);
-
-			if(distance < threshold) {
-				float k = SafeCasting.safeDoubleToFloat(distance / threshold);
-				int[] rgb = getAdjustableRGB(tr, tg, tb, gray, k);
-				setsRGB(tr, tg, tb, rgb, i);
-			} else {
-				setsRGBGray(gray, gray, gray, i);
-			}
-        }
+		applyTransfer(this);
         return src;
 	}
 
+	@Override
+	protected boolean isStrideAware() {
+		return true;
+	}
+
+	@Override
+	protected boolean isPlaneAware() {
+		return true;
+	}
+
+	@Override
+	public void transfer(int[] rgb) {
+		final double threshold = 200; // default value
+		int tr = rgb[0];
+		int tg = rgb[1];
+		int tb = rgb[2];
+
+		int gray = setGray(tr, tg, tb);
+		double distance = getDistance(tr, tg, tb);
+
+		if(distance < threshold) {
+			float k = SafeCasting.safeDoubleToFloat(distance / threshold);
+			int[] adjusted = getAdjustableRGB(tr, tg, tb, gray, k);
+			System.arraycopy(adjusted, 0, rgb, 0, adjusted.length);
+		} else {
+			rgb[0] = gray;
+			rgb[1] = gray;
+			rgb[2] = gray;
+		}
+	}
+
 	private int setGray(int tr, int tg, int tb){
 		final double r1 = 0.299f;
 		final double g1 = 0.587f;
@@ -69,26 +79,6 @@ public class SinCityFilter extends BaseFilter {
 		return SafeCasting.safeDoubleToInt(r1 * tr + g1 * tg + b1 * tb);
 	}
 
-	private void setsRGB(int tr, int tg, int tb, int[] rgb, int i){
-		int index0 = 0;
-		int index1 = 1;
-		int index2 = 2;
-
-		tr = rgb[index0];
-		tg = rgb[index1];
-		tb = rgb[index2];
-
-		R[i] = SafeCasting.safeIntToByte(tr);
-		G[i] = SafeCasting.safeIntToByte(tg);
-		B[i] = SafeCasting.safeIntToByte(tb);
-	}
-
-	private void setsRGBGray(int rset, int gset, int bset, int i){
-		R[i] = SafeCasting.safeIntToByte(rset);
-		G[i] = SafeCasting.safeIntToByte(gset);
-		B[i] = SafeCasting.safeIntToByte(bset);
-	}
-
 	private int[] getAdjustableRGB(int tr, int tg, int tb, int gray, float rate) {
 		int length = 3;
 		int[] rgb = new int[length];
@@ -102,9 +92,9 @@ public class SinCityFilter extends BaseFilter {
 	}
 
 	private double getDistance(int tr, int tg, int tb) {
-		int dr = tr - Color.red(mainColor);
-		int dg = tg - Color.green(mainColor);
-		int db = tb - Color.blue(mainColor);
+		int dr = tr - Tools.red(mainColor);
+		int dg = tg - Tools.green(mainColor);
+		int db = tb - Tools.blue(mainColor);
 
 		int distance = ImageData.SQRT_LUT.get(Math.abs(dr))
 				     + ImageData.SQRT_LUT.get(Math.abs(dg))
@@ -15,11 +15,10 @@
  */
 package com.cv4j.core.filters.effect;
 
-import android.graphics.Color;
-
 import com.cv4j.core.datamodel.ColorProcessor;
 import com.cv4j.core.datamodel.image.ImageProcessor;
 import com.cv4j.core.filters.BaseFilter;
+import com.cv4j.core.memory.BufferPool;
 import com.cv4j.core.utils.SafeCasting;
 import com.cv4j.image.util.Tools;
 
@@ -36,14 +35,14 @@ public class VignetteFilter extends BaseFilter {
 	public VignetteFilter() {
 		vignetteWidth = 50;
 		fade = 35;
-		vignetteColor = Color.BLACK;
+		vignetteColor = Tools.argb(255, 0, 0, 0);
 	}
 	
 	@Override
 	public ImageProcessor doFilter(ImageProcessor src){
 
 		int total = width*height;
-		byte[][] output = new byte[3][total];
+		byte[][] output = BufferPool.acquireBytes(3, total);
 
 		int index = 0;
 		for(int row=0; row<height; row++) {
@@ -61,6 +60,7 @@ public class VignetteFilter extends BaseFilter {
 		}
         
         ((ColorProcessor) src).putRGB(output[0], output[1], output[2]);
+        BufferPool.release(output);
 
         return src;
 	}
@@ -108,9 +108,9 @@ public class VignetteFilter extends BaseFilter {
 	}
 
 	private void setOutsColor(byte[][] output, int index){
-		output[0][index] = SafeCasting.safeIntToByte(Color.red(vignetteColor));
-		output[1][index] = SafeCasting.safeIntToByte(Color.green(vignetteColor));
-		output[2][index] = SafeCasting.safeIntToByte(Color.blue(vignetteColor));
+		output[0][index] = SafeCasting.safeIntToByte(Tools.red(vignetteColor));
+		output[1][index] = SafeCasting.safeIntToByte(Tools.green(vignetteColor));
+		output[2][index] = SafeCasting.safeIntToByte(Tools.blue(vignetteColor));
 	}
 	private void setOuts(byte[][] output, int index, int tr, int tg, int tb, double k){
 		int[] rgb = superpositionColor(tr, tg, tb, k);
@@ -120,9 +120,9 @@ public class VignetteFilter extends BaseFilter {
 	}
 	
 	public int[] superpositionColor(int red, int green, int blue, double k) {
-		red   = SafeCasting.safeDoubleToInt(Color.red(vignetteColor)   * k + red *(1.0-k));
-		green = SafeCasting.safeDoubleToInt(Color.green(vignetteColor) * k + green *(1.0-k));
-		blue  = SafeCasting.safeDoubleToInt(Color.blue(vignetteColor)  * k + blue *(1.0-k));
+		red   = SafeCasting.safeDoubleToInt(Tools.red(vignetteColor)   * k + red *(1.0-k));
+		green = SafeCasting.safeDoubleToInt(Tools.green(vignetteColor) * k + green *(1.0-k));
+		blue  = SafeCasting.safeDoubleToInt(Tools.blue(vignetteColor)  * k + blue *(1.0-k));
 
 		return new int[]{ Tools.clamp(red), Tools.clamp(green), Tools.clamp(blue) };
 	}
@@ -17,18 +17,25 @@ package com.cv4j.core.filters.face;
 
 import com.cv4j.core.binary.Erode.Erode;
 import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.datamodel.ColorProcessor;
 import com.cv4j.core.datamodel.image.ImageProcessor;
 import com.cv4j.core.datamodel.number.IntIntegralImage;
 import com.cv4j.core.datamodel.Size;
+import com.cv4j.core.datamodel.plane.Planes;
+import com.cv4j.core.filters.BilateralGridFilter;
 import com.cv4j.core.filters.CommonFilter;
 import com.cv4j.core.filters.FastEPFilter;
 import com.cv4j.core.filters.gradients.GradientFilter;
+import com.cv4j.core.memory.BufferPool;
+import com.cv4j.core.metrics.Instrumentation;
+import com.cv4j.core.metrics.StageTimer;
 import com.cv4j.core.utils.SafeCasting;
 
 import java.util.Arrays;
 
 /**
- * The beauty skin filter.
+ * The beauty skin filter. The skin is smoothed by an edge preserving filter, the
+ * {@link FastEPFilter} by default or the {@link BilateralGridFilter}.
  */
 public class BeautySkinFilter implements CommonFilter {
 
@@ -57,23 +64,65 @@ public class BeautySkinFilter implements CommonFilter {
      */
     private static final int INDEX2 = 2;
 
+    /**
+     * The edge preserving filter that smooths the skin.
+     */
+    private CommonFilter smoothFilter;
+
+    public BeautySkinFilter() {
+        this(new FastEPFilter());
+    }
+
+    /**
+     * @param smoothFilter The edge preserving filter that smooths the skin, it works in place.
+     */
+    public BeautySkinFilter(CommonFilter smoothFilter) {
+        setSmoothFilter(smoothFilter);
+    }
+
+    public CommonFilter getSmoothFilter() {
+        return smoothFilter;
+    }
+
+    public void setSmoothFilter(CommonFilter smoothFilter) {
+        if (smoothFilter == null) {
+            throw new IllegalArgumentException("Invalid argument: smooth filter is null");
+        }
+        this.smoothFilter = smoothFilter;
+    }
+
     @Override
     public ImageProcessor filter(ImageProcessor src) {
+        StageTimer timer = Instrumentation.begin();
+        try {
+            if (src instanceof ColorProcessor && Planes.isPacked(src)) {
+                return filterImage(src);
+            }
+
+            // the pixels are addressed as row * width + col, a view is filtered as a packed copy
+            ImageProcessor copy = Planes.packedCopy(src);
+            filterImage(copy);
+            Planes.copy(copy, src);
+            return src;
+        } finally {
+            if (timer != null) Instrumentation.end(timer, getClass().getSimpleName(), src);
+        }
+    }
+
+    private ImageProcessor filterImage(ImageProcessor src) {
         int width = src.getWidth();
         int height = src.getHeight();
         int length = width * height;
-        byte[] R = new byte[length];
-        byte[] G = new byte[length];
-        byte[] B = new byte[length];
+        byte[] R = BufferPool.acquireBytes(length);
+        byte[] G = BufferPool.acquireBytes(length);
+        byte[] B = BufferPool.acquireBytes(length);
 
         copyArray(src, R, G, B);
 
-        FastEPFilter epFilter = new FastEPFilter();
-        epFilter.filter(src);
+        smoothFilter.filter(src);
 
         ISkinDetection skinDetector = new DefaultSkinDetection();
-        byte[] mask = new byte[length];
-        Arrays.fill(mask, (byte) 0);
+        byte[] mask = BufferPool.acquireBytes(length);
 
         setMask(R, G, B, skinDetector, mask);
 
@@ -92,6 +141,12 @@ public class BeautySkinFilter implements CommonFilter {
         // alpha blend
         alphaBlend(src, blurmask, R, G, B);
 
+        BufferPool.release(R);
+        BufferPool.release(G);
+        BufferPool.release(B);
+        BufferPool.release(mask);
+        BufferPool.release(blurmask);
+
         return src;
     }
 
@@ -102,12 +157,15 @@ public class BeautySkinFilter implements CommonFilter {
     }
 
     private void setSrcByte(ImageProcessor src, byte[] R, byte[] G, byte[] B, byte[] mask){
+        byte[] red = src.toByte(INDEX0);
+        byte[] green = src.toByte(INDEX1);
+        byte[] blue = src.toByte(INDEX2);
         for (int i = 0; i < mask.length; i++) {
             int c = mask[i] & 0xff;
             if (c > 0) {
-                src.toByte(INDEX0)[i] = R[i];
-                src.toByte(INDEX1)[i] = G[i];
-                src.toByte(INDEX2)[i] = B[i];
+                red[i] = R[i];
+                green[i] = G[i];
+                blue[i] = B[i];
             }
         }
     }
@@ -154,7 +212,7 @@ public class BeautySkinFilter implements CommonFilter {
         IntIntegralImage ii = new IntIntegralImage();
         ii.setImage(mask);
         ii.process(width, height);
-        byte[] blurmask = new byte[mask.length];
+        byte[] blurmask = BufferPool.acquireBytes(mask.length);
         int offset = 0;
         int swx = 5;
         int swy = 5;
@@ -174,17 +232,20 @@ public class BeautySkinFilter implements CommonFilter {
     private void alphaBlend(ImageProcessor src, byte[] blurMask, byte[] R, byte[] G, byte[] B) {
         float w = 0;
         int wc = 0;
+        byte[] red = src.toByte(INDEX0);
+        byte[] green = src.toByte(INDEX1);
+        byte[] blue = src.toByte(INDEX2);
         for (int i = 0; i < blurMask.length; i++) {
             wc = blurMask[i] & 0xff;
             w = wc / 255.0f;
 
-            int r = SafeCasting.safeFloatToInt((R[i] & VALUE_0000FF) * w + (src.toByte(INDEX0)[i] & VALUE_0000FF) * (1.0f - w));
-            int g = SafeCasting.safeFloatToInt((G[i] & VALUE_0000FF) * w + (src.toByte(INDEX1)[i] & VALUE_0000FF) * (1.0f - w));
-            int b = SafeCasting.safeFloatToInt((B[i] & VALUE_0000FF) * w + (src.toByte(INDEX2)[i] & VALUE_0000FF) * (1.0f - w));
+            int r = SafeCasting.safeFloatToInt((R[i] & VALUE_0000FF) * w + (red[i] & VALUE_0000FF) * (1.0f - w));
+            int g = SafeCasting.safeFloatToInt((G[i] & VALUE_0000FF) * w + (green[i] & VALUE_0000FF) * (1.0f - w));
+            int b = SafeCasting.safeFloatToInt((B[i] & VALUE_0000FF) * w + (blue[i] & VALUE_0000FF) * (1.0f - w));
 
-            src.toByte(INDEX0)[i] = SafeCasting.safeIntToByte(r);
-            src.toByte(INDEX1)[i] = SafeCasting.safeIntToByte(g);
-            src.toByte(INDEX2)[i] = SafeCasting.safeIntToByte(b);
+            red[i] = SafeCasting.safeIntToByte(r);
+            green[i] = SafeCasting.safeIntToByte(g);
+            blue[i] = SafeCasting.safeIntToByte(b);
         }
     }
 }
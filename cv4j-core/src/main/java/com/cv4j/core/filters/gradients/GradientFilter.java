@@ -160,7 +160,7 @@ public class GradientFilter {
         float min = 255;
         float max = 0;
 
-        byte[] intput = src.getGray();
+        byte[] intput = src.toByte(0);
 
         for (int row = 0; row < height; row++) {
             for (int col = 0; col < width; col++) {
@@ -18,13 +18,14 @@ package com.cv4j.core.filters.image;
 import com.cv4j.core.datamodel.image.ImageProcessor;
 import com.cv4j.core.datamodel.lut.LUT;
 import com.cv4j.core.filters.BaseFilter;
+import com.cv4j.core.filters.ChannelLUTFilter;
 
 /**
  * The ColorFilter class.
  * Color matching, support 12 color style conversion (equivalent to 12 filters), 
  * based on the look-up table to achieve very fast
  */
-public class ColorFilter extends BaseFilter {
+public class ColorFilter extends BaseFilter implements ChannelLUTFilter {
     /**
      * Constant autmun style
      */
@@ -106,22 +107,36 @@ public class ColorFilter extends BaseFilter {
 
     @Override
     public ImageProcessor doFilter(ImageProcessor src) {
+        applyLUT(getLUT(null));
+        return src;
+    }
 
-        int tr=0;
-        int tg=0;
-        int tb=0;
-        int[][] lut = getStyleLUT(style);
-        int size = R.length;
-        for(int i=0; i<size; i++) {
-            tr = R[i] & 0xff;
-            tg = G[i] & 0xff;
-            tb = B[i] & 0xff;
+    @Override
+    protected boolean isStrideAware() {
+        return true;
+    }
+
+    @Override
+    protected boolean isPlaneAware() {
+        return true;
+    }
+
+    @Override
+    public boolean isHistogramRequired() {
+        return false;
+    }
 
-            R[i] = (byte)lut[tr][0];
-            G[i] = (byte)lut[tg][1];
-            B[i] = (byte)lut[tb][2];
+    @Override
+    public int[][] getLUT(int[][] histograms) {
+        // the style tables are stored as lut[value][channel]
+        int[][] lut = getStyleLUT(style);
+        int[][] channelLut = new int[3][lut.length];
+        for(int i=0; i<lut.length; i++) {
+            channelLut[0][i] = lut[i][0];
+            channelLut[1][i] = lut[i][1];
+            channelLut[2][i] = lut[i][2];
         }
-        return src;
+        return channelLut;
     }
 
     /**
@@ -17,20 +17,15 @@ package com.cv4j.core.filters.image;
 
 import com.cv4j.core.datamodel.image.ImageProcessor;
 import com.cv4j.core.filters.BaseFilter;
-import com.cv4j.core.utils.SafeCasting;
 import com.cv4j.image.util.Tools;
+import com.cv4j.core.filters.ChannelLUTFilter;
 
 /**
  * this filter illustrate the brightness and contrast of the image
  * and demo how to change the both attributes of the image.
  *
  */
-public class ConBriFilter extends BaseFilter {
-
-	/**
-	 * The value of 0000FF.
-	 */
-	private static final int VALUE_0000FF = 0x0000ff;
+public class ConBriFilter extends BaseFilter implements ChannelLUTFilter {
 
 	/**
 	 * The contrast.
@@ -44,56 +39,63 @@ public class ConBriFilter extends BaseFilter {
 
 	@Override
 	public ImageProcessor doFilter(ImageProcessor src) {
-        
-        // calculate RED, GREEN, BLUE means of pixel
-		int[] rgbMeans = new int[3];
+		applyLUT(getLUT(channelHistograms()));
+		return src;
+	}
 
-		double redSum = 0;
-		double greenSum = 0;
-		double blueSum = 0;
+	@Override
+	protected boolean isStrideAware() {
+		return true;
+	}
+
+	@Override
+	protected boolean isPlaneAware() {
+		return true;
+	}
 
-		int total = height * width;
+	@Override
+	public boolean isHistogramRequired() {
+		return true;
+	}
 
-        for(int i=0; i<total; i++) {
-			redSum   += R[i] & VALUE_0000FF;
-			greenSum += G[i] & VALUE_0000FF;
-			blueSum  += B[i] & VALUE_0000FF;
-        }
+	@Override
+	public int[][] getLUT(int[][] histograms) {
+        // calculate RED, GREEN, BLUE means of pixel
+		int[] rgbMeans = new int[3];
+		int[][] lut = new int[3][256];
+
+		for(int c=0; c<3; c++) {
+			double sum = 0;
+			long total = 0;
+			for(int v=0; v<256; v++) {
+				sum   += (double) v * histograms[c][v];
+				total += histograms[c][v];
+			}
+			rgbMeans[c] = (total == 0) ? 0 : (int)(sum / total);
+		}
 
-        rgbMeans[0] = (int)(redSum / total);
-        rgbMeans[1] = (int)(greenSum / total);
-        rgbMeans[2] = (int)(blueSum / total);
-        
         // adjust contrast and brightness algorithm, here
-        setRGBArrays(total, rgbMeans);
-        return src;
+		for(int c=0; c<3; c++) {
+			for(int v=0; v<256; v++) {
+				lut[c][v] = adjust(v, rgbMeans[c]);
+			}
+		}
+		return lut;
 	}
 
-	private void setRGBArrays(int total, int[] rgbmeans) {
-		for(int i=0; i<total; i++) {
-			int r = R[i] & VALUE_0000FF;
-			int g = G[i] & VALUE_0000FF;
-			int b = B[i] & VALUE_0000FF;
-
-			// remove means
-			r -=rgbmeans[0];
-			g -=rgbmeans[1];
-			b -=rgbmeans[2];
-
-			// adjust contrast now !!!
-			r *= this.contrast;
-			g *= this.contrast;
-			b *= this.contrast;
-
-			// adjust brightness
-			r += rgbmeans[0] * this.contrast;
-			g += rgbmeans[1] * this.contrast;
-			b += rgbmeans[2] * this.contrast;
-
-			R[i] = SafeCasting.safeIntToByte(Tools.clamp(r));
-			G[i] = SafeCasting.safeIntToByte(Tools.clamp(g));
-			B[i] = SafeCasting.safeIntToByte(Tools.clamp(b));
-        }
+	private int adjust(int value, int mean) {
+		int c = value;
+
+		// remove means
+		c -= mean;
+
+		// adjust contrast now !!!
+		c *= this.contrast;
+
+		// adjust brightness
+		c += mean * this.contrast;
+
+		return Tools.clamp(c);
 	}
 
 	public float getContrast() {
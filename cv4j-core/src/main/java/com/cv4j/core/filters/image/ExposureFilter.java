@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.filters.image;
+
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.filters.BaseFilter;
+import com.cv4j.core.filters.ChannelLUTFilter;
+
+/**
+ * The Exposure filter.
+ */
+public class ExposureFilter extends BaseFilter implements ChannelLUTFilter {
+
+    @Override
+    public ImageProcessor doFilter(ImageProcessor src) {
+        applyLUT(getLUT(null));
+        return src;
+    }
+
+    @Override
+    protected boolean isStrideAware() {
+        return true;
+    }
+
+    @Override
+    protected boolean isPlaneAware() {
+        return true;
+    }
+
+    @Override
+    public boolean isHistogramRequired() {
+        return false;
+    }
+
+    @Override
+    public int[][] getLUT(int[][] histograms) {
+        int[] lut = new int[256];
+        for(int i=0; i<lut.length; i++) {
+            lut[i] = (~i) & 0xff;
+        }
+        return new int[][] {lut, lut, lut};
+    }
+}
@@ -17,11 +17,12 @@ package com.cv4j.core.filters.image;
 
 import com.cv4j.core.datamodel.image.ImageProcessor;
 import com.cv4j.core.filters.BaseFilter;
+import com.cv4j.core.filters.ChannelLUTFilter;
 
 /**
  * The gamma filter.
  */
-public class GammaFilter extends BaseFilter {
+public class GammaFilter extends BaseFilter implements ChannelLUTFilter {
 
 	private int[] lut;
 	private double gamma;
@@ -33,27 +34,31 @@ public class GammaFilter extends BaseFilter {
 
 	@Override
 	public ImageProcessor doFilter(ImageProcessor src) {
+		// LUT search
+		applyLUT(getLUT(null));
+		return src;
+	}
+
+	@Override
+	protected boolean isStrideAware() {
+		return true;
+	}
+
+	@Override
+	protected boolean isPlaneAware() {
+		return true;
+	}
 
+	@Override
+	public boolean isHistogramRequired() {
+		return false;
+	}
+
+	@Override
+	public int[][] getLUT(int[][] histograms) {
 		// setup LUT
 		setupGammaLut();
-		int index = 0;
-		for (int row = 0; row < height; row++) {
-			int tr = 0;
-			int tg = 0;
-			int tb = 0;
-			for (int col = 0; col < width; col++) {
-				index = row * width + col;
-				tr = R[index] & 0xff;
-				tg = G[index] & 0xff;
-				tb = B[index] & 0xff;
-
-				// LUT search
-				R[index] = (byte)lut[tr];
-				G[index] = (byte)lut[tg];
-				B[index] = (byte)lut[tb];
-			}
-		}
-		return src;
+		return new int[][] {lut, lut, lut};
 	}
 
 	private void setupGammaLut() {
@@ -17,11 +17,12 @@ package com.cv4j.core.filters.image;
 
 import com.cv4j.core.datamodel.image.ImageProcessor;
 import com.cv4j.core.filters.BaseFilter;
+import com.cv4j.core.filters.ChannelLUTFilter;
 
 /**
  * The white image filter.
  */
-public class WhiteImageFilter extends BaseFilter {
+public class WhiteImageFilter extends BaseFilter implements ChannelLUTFilter {
 	private double beta;
 
 	public WhiteImageFilter() {
@@ -38,6 +39,27 @@ public class WhiteImageFilter extends BaseFilter {
 
 	@Override
 	public ImageProcessor doFilter(ImageProcessor src) {
+		applyLUT(getLUT(null));
+		return src;
+	}
+
+	@Override
+	protected boolean isStrideAware() {
+		return true;
+	}
+
+	@Override
+	protected boolean isPlaneAware() {
+		return true;
+	}
+
+	@Override
+	public boolean isHistogramRequired() {
+		return false;
+	}
+
+	@Override
+	public int[][] getLUT(int[][] histograms) {
 		int maxRgb = 255;
 		maxRgb++;
 		// make LUT
@@ -45,18 +67,7 @@ public class WhiteImageFilter extends BaseFilter {
 		for(int i=0; i<maxRgb; i++) {
 			lut[i] = imageMath(i);
 		}
-
-		int index = 0;
-
-		for (int row = 0; row < height; row++) {
-			for (int col = 0; col < width; col++) {
-				index = row * width + col;
-				R[index] = (byte)lut[R[index] & 0xff];
-				G[index] = (byte)lut[G[index] & 0xff];
-				B[index] = (byte)lut[B[index] & 0xff];
-			}
-		}
-		return src;
+		return new int[][] {lut, lut, lut};
 	}
 
 	private int imageMath(int gray) {
@@ -20,6 +20,9 @@ import com.cv4j.core.datamodel.ColorProcessor;
 import com.cv4j.core.datamodel.image.ImageData;
 import com.cv4j.core.datamodel.image.ImageProcessor;
 import com.cv4j.core.filters.CommonFilter;
+import com.cv4j.core.memory.BufferPool;
+import com.cv4j.core.metrics.Instrumentation;
+import com.cv4j.core.metrics.StageTimer;
 import com.cv4j.core.utils.SafeCasting;
 import com.cv4j.image.util.Tools;
 
@@ -120,6 +123,15 @@ public class FloSteDitheringFilter implements CommonFilter {
 
     @Override
     public ImageProcessor filter(ImageProcessor src) {
+        StageTimer timer = Instrumentation.begin();
+        try {
+            return filterImage(src);
+        } finally {
+            if (timer != null) Instrumentation.end(timer, getClass().getSimpleName(), src);
+        }
+    }
+
+    private ImageProcessor filterImage(ImageProcessor src) {
         if (src instanceof ColorProcessor) {
             src.getImage().convert2Gray();
             src = src.getImage().getProcessor();
@@ -130,8 +142,8 @@ public class FloSteDitheringFilter implements CommonFilter {
 
         ByteProcessor byteSrc = (ByteProcessor) src;
 
-        byte[] GRAY = byteSrc.getGray();
-        byte[] output = new byte[GRAY.length];
+        byte[] GRAY = byteSrc.toByte(0);
+        byte[] output = BufferPool.acquireBytes(GRAY.length);
 
         int gray = 0;
 
@@ -149,7 +161,8 @@ public class FloSteDitheringFilter implements CommonFilter {
             }
         }
 
-        byteSrc.putGray(GRAY);
+        byteSrc.putGray(output);
+        BufferPool.release(output);
 
         return src;
     }
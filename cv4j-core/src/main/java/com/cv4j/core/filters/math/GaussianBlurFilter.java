@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.filters.math;
+
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.filters.BaseFilter;
+import com.cv4j.core.memory.BufferPool;
+import com.cv4j.core.parallel.ExecutionContext;
+import com.cv4j.core.parallel.RowBand;
+import com.cv4j.core.utils.SafeCasting;
+import com.cv4j.image.util.Tools;
+
+/**
+ * The gaussian blur filter.
+ * In {@link #MODE_DIRECT} every pixel is a weighted sum of 2 * radius + 1 pixels,
+ * the radius grows with sigma. In {@link #MODE_RECURSIVE} it is the output of a
+ * {@link RecursiveGaussian}, whose cost does not depend on sigma, much faster for
+ * large sigma. From sigma 2 it differs from the direct kernel by at most 3 gray levels,
+ * less than one on average; below sigma 2 the error grows quickly and the direct kernel,
+ * cheap at that size, is used instead.
+ */
+public class GaussianBlurFilter extends BaseFilter {
+
+    /**
+     * Convolution with the truncated gaussian kernel.
+     */
+    public static final int MODE_DIRECT = 0;
+
+    /**
+     * The recursive gaussian of Young and van Vliet, sigma below
+     * RECURSIVE_MIN_SIGMA falls back to the direct kernel.
+     */
+    public static final int MODE_RECURSIVE = 1;
+
+    /**
+     * The smallest sigma MODE_RECURSIVE uses the recursive gaussian for.
+     */
+    public static final double RECURSIVE_MIN_SIGMA = 2;
+
+    /**
+     * The accuracy of the kernel, the weights below it are cut.
+     */
+    private static final float ACCURACY = 0.002f;
+
+    /**
+     * The kernel.
+     */
+    private float[] kernel;
+
+    /**
+     * The sigma.
+     */
+    private double sigma = 2;
+
+    private int mode = MODE_DIRECT;
+
+    public GaussianBlurFilter() {
+        kernel = new float[0];
+    }
+
+    public void setSigma(double a) {
+        this.sigma = a;
+    }
+
+    public double getSigma() {
+        return sigma;
+    }
+
+    /**
+     * @param mode MODE_DIRECT or MODE_RECURSIVE.
+     */
+    public void setMode(int mode) {
+        if (mode != MODE_DIRECT && mode != MODE_RECURSIVE) {
+            throw new IllegalArgumentException("Invalid argument: mode " + mode);
+        }
+        this.mode = mode;
+    }
+
+    public int getMode() {
+        return mode;
+    }
+
+    /**
+     * @return The number of pixels on each side of a pixel that weigh on it, plus one.
+     */
+    public int getKernelRadius() {
+        return kernelRadius(sigma, ACCURACY);
+    }
+
+    /**
+     * @return The half kernel used on an image of this size, from the center outwards.
+     */
+    public float[] getKernel(int imageWidth, int imageHeight) {
+        makeGaussianKernel(sigma, ACCURACY, Math.min(imageWidth, imageHeight));
+        return kernel.clone();
+    }
+
+    private static int kernelRadius(double sigmaValue, double accuracy) {
+        int factor = -2;
+        return (int) Math.ceil(sigmaValue * Math.sqrt(factor * Math.log(accuracy))) + 1;
+    }
+
+    @Override
+    public ImageProcessor doFilter(final ImageProcessor src){
+
+        final int size = width*height;
+        int dims = src.getChannels();
+
+        if (mode == MODE_RECURSIVE && sigma >= RECURSIVE_MIN_SIGMA) {
+            recursiveBlur(src, new RecursiveGaussian(sigma));
+            return src;
+        }
+
+        makeGaussianKernel(sigma, ACCURACY, Math.min(width, height));
+
+        // the channels run one after another, the rows of each pass run in parallel
+        byte[] temp = BufferPool.acquireBytes(size);
+        for(int i=0; i<dims; i++) {
+            final byte[] inPixels = src.toByte(i);
+            final byte[] outPixels = temp;
+            ExecutionContext.forEachBand(height, 0,
+                    band -> blur(inPixels, outPixels, width, height, band)); // H Gaussian
+            ExecutionContext.forEachBand(width, 0,
+                    band -> blur(outPixels, inPixels, height, width, band)); // V Gaussain
+        }
+        BufferPool.release(temp);
+
+        return src;
+    }
+
+    private void recursiveBlur(ImageProcessor src, final RecursiveGaussian iir) {
+        byte[] temp = BufferPool.acquireBytes(width*height);
+        for (int i = 0; i < src.getChannels(); i++) {
+            final byte[] inPixels = src.toByte(i);
+            final byte[] outPixels = temp;
+            ExecutionContext.forEachBand(height, 0,
+                    band -> recursiveBlur(iir, inPixels, outPixels, width, height, band)); // H Gaussian
+            ExecutionContext.forEachBand(width, 0,
+                    band -> recursiveBlur(iir, outPixels, inPixels, height, width, band)); // V Gaussian
+        }
+        BufferPool.release(temp);
+    }
+
+    /**
+     * Blur the rows of the band and write them as columns, like blur.
+     */
+    private static void recursiveBlur(RecursiveGaussian iir, byte[] inPixels, byte[] outPixels,
+                                      int width, int height, RowBand band) {
+        float[] line = BufferPool.acquireFloats(width);
+        for (int row = band.start; row < band.end; row++) {
+            int offset = row * width;
+            for (int col = 0; col < width; col++) {
+                line[col] = inPixels[offset + col] & 0xff;
+            }
+
+            iir.filter(line, 0, width);
+
+            int index = row;
+            for (int col = 0; col < width; col++) {
+                outPixels[index] = (byte) Tools.clamp(line[col] + 0.5f);
+                index += height;
+            }
+        }
+        BufferPool.release(line);
+    }
+
+    /**
+     * <p> here is 1D Gaussian        , </p>
+     *
+     * @param inPixels
+     * @param outPixels
+     * @param width
+     * @param height
+     * @param band the rows of this pass to blur
+     */
+    private void blur(byte[] inPixels, byte[] outPixels, int width, int height, RowBand band)
+    {
+        int subCol = 0;
+        int index = 0;
+        int index2 = 0;
+        float sum = 0;
+        int k = kernel.length-1;
+        for(int row=band.start; row<band.end; row++) {
+            int c = 0;
+            index = row;
+            for(int col=0; col<width; col++) {
+                sum = getSum(c, inPixels, index2, row, subCol, width, col, k);
+                outPixels[index] = (byte)Tools.clamp(sum + 0.5f);
+                index += height;
+            }
+        }
+    }
+
+    private float getSum(int c, byte[] inPixels, int index2, int row, int subCol, int width, int col, int k){
+        float sum = 0;
+        for(int m = -k; m< kernel.length; m++) {
+            // the pixels beyond the border repeat the border
+            subCol = Tools.clamp(col + m, 0, width - 1);
+            index2 = row * width + subCol;
+            c = inPixels[index2] & 0xff;
+            sum += c * kernel[Math.abs(m)];
+        }
+        return sum;
+    }
+
+
+    public void makeGaussianKernel(final double sigmaValue, final double accuracy, int maxRadius) {
+        int radiusLimit = 50;
+        float expFactor = -0.5f;
+
+        int kRadius = kernelRadius(sigmaValue, accuracy);
+        // too small maxRadius would result in inaccurate sum.
+        if (maxRadius < radiusLimit) {
+            maxRadius = radiusLimit;         
+        }
+
+        this.kernel = new float[kRadius];
+        // Gaussian function
+        for (int i=0; i<kRadius; i++){               
+            this.kernel[i] = (float)(Math.exp(expFactor*i*i/sigmaValue/sigmaValue));
+            this.kernel[i] = (float)(Math.exp(expFactor*i*i/sigmaValue/sigmaValue));
+        }
+        // sum over all kernel elements for normalization
+        double sum = getSum(kRadius, maxRadius, sigmaValue);
+
+        setKernel(kRadius, sum);
+    }
+
+    private void setKernel(int kRadius, double sum){
+        for (int i = 0; i < kRadius; i++) {
+            kernel[i] = SafeCasting.safeDoubleToFloat(kernel[i] / sum);
+        }
+    }
+
+    private double getSum(int kRadius, int maxRadius, final double sigmaValue){
+        double sum = 0;
+        int sumFactor = 2;
+        if (kRadius < maxRadius) {
+            sum = kernel[0];
+            for (int i=1; i<kRadius; i++){
+                sum += sumFactor*kernel[i];
+            }
+        } else {
+            sum = sigmaValue * Math.sqrt(sumFactor * Math.PI);
+        }
+
+        return sum;
+    }
+}
@@ -18,6 +18,7 @@ package com.cv4j.core.hist;
 import com.cv4j.core.datamodel.ByteProcessor;
 import com.cv4j.core.datamodel.ColorProcessor;
 import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.memory.BufferPool;
 import com.cv4j.core.utils.SafeCasting;
 
 /**
@@ -33,9 +34,9 @@ public class BackProjectHist {
         int height = src.getHeight();
         ColorProcessor colorProcessor = (ColorProcessor) src;
 
-        byte[] R = colorProcessor.getRed();
-        byte[] G = colorProcessor.getGreen();
-        byte[] B = colorProcessor.getBlue();
+        byte[] R = colorProcessor.toByte(0);
+        byte[] G = colorProcessor.toByte(1);
+        byte[] B = colorProcessor.toByte(2);
 
         // 计算比率脂肪图 R
         float[] rHist = calculateFatMapRatio(mHist, src, bins);
@@ -43,13 +44,13 @@ public class BackProjectHist {
         // 根据像素值查找R，得到分布概率权重
         int index = 0;
 
-        float[] rimage = new float[width * height];
+        float[] rimage = BufferPool.acquireFloats(width * height);
         setRimage(R, G, B, height, width, index, rHist, bins, rimage);
 
         // 计算卷积
         int offset = 0;
         float sum = 0;
-        float[] output = new float[width*height];
+        float[] output = BufferPool.acquireFloats(width*height);
         System.arraycopy(rimage, 0, output, 0, output.length);
         setOut(output, width, height, offset, sum, rimage);
 
@@ -57,6 +58,9 @@ public class BackProjectHist {
         setOut2(output);
 
         thresholdBastardizationDisplay(output, backProj);
+
+        BufferPool.release(rimage);
+        BufferPool.release(output);
     }
 
     private void setOut2(float[] output){
@@ -112,6 +116,7 @@ public class BackProjectHist {
     }
 
     private void thresholdBastardizationDisplay(float[] output, ByteProcessor backProj) {
+        byte[] display = new byte[output.length];
         for(int i = 0; i < output.length; i++) {
             int pv = (int) output[i];
 
@@ -119,8 +124,9 @@ public class BackProjectHist {
                 pv = 255;
             }
 
-            backProj.getGray()[i] = SafeCasting.safeIntToByte(pv);
+            display[i] = SafeCasting.safeIntToByte(pv);
         }
+        backProj.putGray(display);
     }
 
     private float[] calculateFatMapRatio(int[] mHist, ImageProcessor src, int bins) {
@@ -15,8 +15,8 @@
  */
 package com.cv4j.core.hist;
 
-import com.cv4j.core.datamodel.ColorProcessor;
 import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.memory.BufferPool;
 import com.cv4j.core.utils.SafeCasting;
 import com.cv4j.image.util.Tools;
 
@@ -52,9 +52,9 @@ public class CalcHistogram {
         int width = src.getWidth();
         int height = src.getHeight();
         int len = width * height;
-        byte[] R = ((ColorProcessor)src).getRed();
-        byte[] G = ((ColorProcessor)src).getGreen();
-        byte[] B = ((ColorProcessor)src).getBlue();
+        byte[] R = src.toByte(0);
+        byte[] G = src.toByte(1);
+        byte[] B = src.toByte(2);
         int level = 256 / bins;
         int[] hist = new int[bins*bins*bins];
         int r=0;
@@ -136,15 +136,16 @@ public class CalcHistogram {
 
         int width = src.getWidth();
         int height = src.getHeight();
-        byte[][] hsv = new byte[3][width*height];
-        byte[] R = ((ColorProcessor)src).getRed();
-        byte[] G = ((ColorProcessor)src).getGreen();
-        byte[] B = ((ColorProcessor)src).getBlue();
+        byte[][] hsv = BufferPool.acquireBytes(3, width*height);
+        byte[] R = src.toByte(0);
+        byte[] G = src.toByte(1);
+        byte[] B = src.toByte(2);
         Tools.rgb2hsv(new byte[][]{R, G, B}, hsv);
         for(int i=0; i<3; i++) {
             byte[] data = hsv[i];
             hist[i] = getHistogram(data, bins, ranges[i]);
         }
+        BufferPool.release(hsv);
         if(!norm) return;
         setHist(hist, bins, ranges);
     }
@@ -44,7 +44,7 @@ public class EqualHist {
         Arrays.fill(inputBins, 0);
         Arrays.fill(outputBins, 0);
 
-        byte[] data = src.getGray();
+        byte[] data = src.toByte(0);
         if (Preconditions.isNotBlank(data)) {
             for (byte d : data) {
                 inputBins[d & VALUE_0000FF]++;
@@ -64,6 +64,7 @@ public class EqualHist {
                 data[index] = (byte)outputBins[pv];
             }
         }
+        src.putGray(data);
     }
 
     /**
@@ -69,9 +69,11 @@ public class GaussianBackProjection {
 
         float delta = max - min;
         int maxRgb = 255;
+        byte[] output = new byte[result.length];
         for(int i=0; i<result.length; i++) {
-            dst.getGray()[i] =  (byte)(((result[i] - min)/delta)*maxRgb);
+            output[i] =  (byte)(((result[i] - min)/delta)*maxRgb);
         }
+        dst.putGray(output);
     }
 
     /**
@@ -88,12 +90,15 @@ public class GaussianBackProjection {
         int height = src.getHeight();
         float[] result = new float[width*height];
         float sum = 0;
+        byte[] R = src.toByte(INDEX_R);
+        byte[] G = src.toByte(INDEX_G);
+        byte[] B = src.toByte(INDEX_B);
 
         for (int row = 0; row < height; row++) {
             for (int col = 0; col < width; col++) {
                 index = row*width + col;
 
-                sum = sumRgbValues(src, row, col, index, rmdev, gmdev);
+                sum = sumRgbValues(R, G, B, index, rmdev, gmdev);
 
                 if(Float.isNaN(sum)){
                     result[index] = 0;
@@ -107,22 +112,21 @@ public class GaussianBackProjection {
 
     /**
      * Sum RGB Values
-     * @param src
-     * @param row
-     * @param col
+     * @param R
+     * @param G
+     * @param B
      * @param index
      * @param rmdev
      * @param gmdev
      * @return the sum
      */
-    private float sumRgbValues(ImageProcessor src, int row, int col, int index, float[] rmdev, float[] gmdev) {
-        System.out.println(col+" "+row);
+    private float sumRgbValues(byte[] R, byte[] G, byte[] B, int index, float[] rmdev, float[] gmdev) {
         int r = 0, g = 0, b = 0;
         float pr = 0, pg = 0, sum = 0;
 
-        b = src.toByte(INDEX_B)[index]&0xff;
-        g = src.toByte(INDEX_G)[index]&0xff;
-        r = src.toByte(INDEX_R)[index]&0xff;
+        b = B[index]&0xff;
+        g = G[index]&0xff;
+        r = R[index]&0xff;
         sum = b + g + r;
         float red = r / sum;
         float green = g / sum;
@@ -141,13 +145,16 @@ public class GaussianBackProjection {
     private void calculateMeanRGB(ImageProcessor model, float[] R, float[] G) {
         int width = model.getWidth();
         int height = model.getHeight();
+        byte[] red = model.toByte(INDEX_R);
+        byte[] green = model.toByte(INDEX_G);
+        byte[] blue = model.toByte(INDEX_B);
 
         for (int row = 0; row < height; row++) {
             for (int col = 0; col < width; col++) {
                 int index = row*width + col;
-                int b = model.toByte(INDEX_B)[index] & 0xff;
-                int g = model.toByte(INDEX_G)[index] & 0xff;
-                int r = model.toByte(INDEX_R)[index] & 0xff;
+                int b = blue[index] & 0xff;
+                int g = green[index] & 0xff;
+                int r = red[index] & 0xff;
                 int sum = b + g + r;
                 R[index] = r / sum;
                 G[index] = g / sum;
@@ -48,7 +48,7 @@ public class ProjectionHist {
         // calculate Y Projection
         int width = src.getWidth();
         int height = src.getHeight();
-        byte[] data = src.getGray();
+        byte[] data = src.toByte(0);
         int index = 0;
         if(direction == X_DIRECTION) {
             calculateProjectionXDirection(width, height, bins, index, data, output);
@@ -0,0 +1,373 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.memory;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The pool of scratch planes shared by all the filters of cv4j.
+ * Filters acquire their work arrays at the start of a call and release them at the end,
+ * so processing a stream of same-size images reuses the same planes instead of
+ * producing new garbage for every image.
+ * <p>
+ * Buffers are bucketed by type and exact length, an acquired buffer is always
+ * filled with zeros like a new array. The pool is safe to use from any thread,
+ * a buffer belongs to the thread that acquired it until it is released.
+ * The idle buffers never take more than {@link #getMaxBytes()} bytes, a buffer
+ * released above the cap is left to the garbage collector.
+ * <p>
+ * Every thread keeps its last few released buffers of up to {@link #THREAD_CACHE_BYTES}
+ * bytes, the scratch rows and histograms of the parallel bands, and takes them back
+ * without locking the shared pool. These buffers are not counted in the cap, they take
+ * at most {@link #THREAD_CACHE_SLOTS} times {@link #THREAD_CACHE_BYTES} bytes per type
+ * and per thread. A buffer released twice is detected in the shared pool and in the
+ * cache of the releasing thread.
+ */
+public class BufferPool {
+
+    private static final int BYTE_SIZE  = 1;
+    private static final int SHORT_SIZE = 2;
+    private static final int INT_SIZE   = 4;
+    private static final int FLOAT_SIZE = 4;
+
+    /**
+     * The default cap is this fraction of the max heap.
+     */
+    private static final int DEFAULT_HEAP_DIVISOR = 8;
+
+    /**
+     * The largest buffer, in bytes, that a thread keeps for itself.
+     */
+    public static final int THREAD_CACHE_BYTES = 64 * 1024;
+
+    /**
+     * The number of buffers of each type that a thread keeps for itself.
+     */
+    public static final int THREAD_CACHE_SLOTS = 4;
+
+    private static final Map<Integer, ArrayDeque<byte[]>> BYTES = new HashMap<>();
+    private static final Map<Integer, ArrayDeque<short[]>> SHORTS = new HashMap<>();
+    private static final Map<Integer, ArrayDeque<int[]>> INTS = new HashMap<>();
+    private static final Map<Integer, ArrayDeque<float[]>> FLOATS = new HashMap<>();
+
+    private static final ThreadLocal<ThreadCache> BYTE_CACHE = ThreadLocal.withInitial(ThreadCache::new);
+    private static final ThreadLocal<ThreadCache> SHORT_CACHE = ThreadLocal.withInitial(ThreadCache::new);
+    private static final ThreadLocal<ThreadCache> INT_CACHE = ThreadLocal.withInitial(ThreadCache::new);
+    private static final ThreadLocal<ThreadCache> FLOAT_CACHE = ThreadLocal.withInitial(ThreadCache::new);
+
+    private static volatile long maxBytes = Runtime.getRuntime().maxMemory() / DEFAULT_HEAP_DIVISOR;
+
+    /**
+     * Incremented by clear(), the thread caches of an older generation are dropped.
+     */
+    private static volatile int generation;
+
+    private static long pooledBytes;
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder RELEASES = new LongAdder();
+    private static final LongAdder DISCARDS = new LongAdder();
+
+    private BufferPool() {
+    }
+
+    /**
+     * @param length The number of elements.
+     * @return A zero-filled buffer of exactly length elements.
+     */
+    public static byte[] acquireBytes(int length) {
+        byte[] buffer = take(BYTES, BYTE_CACHE, length, BYTE_SIZE);
+        if (buffer == null) {
+            return new byte[length];
+        }
+        Arrays.fill(buffer, (byte) 0);
+        return buffer;
+    }
+
+    /**
+     * @param planes The number of planes, e.g. 3 for R, G, B.
+     * @param length The number of elements of each plane.
+     * @return The zero-filled planes.
+     */
+    public static byte[][] acquireBytes(int planes, int length) {
+        byte[][] buffers = new byte[planes][];
+        for (int i = 0; i < planes; i++) {
+            buffers[i] = acquireBytes(length);
+        }
+        return buffers;
+    }
+
+    /**
+     * @param length The number of elements.
+     * @return A zero-filled buffer of exactly length elements.
+     */
+    public static short[] acquireShorts(int length) {
+        short[] buffer = take(SHORTS, SHORT_CACHE, length, SHORT_SIZE);
+        if (buffer == null) {
+            return new short[length];
+        }
+        Arrays.fill(buffer, (short) 0);
+        return buffer;
+    }
+
+    /**
+     * @param length The number of elements.
+     * @return A zero-filled buffer of exactly length elements.
+     */
+    public static int[] acquireInts(int length) {
+        int[] buffer = take(INTS, INT_CACHE, length, INT_SIZE);
+        if (buffer == null) {
+            return new int[length];
+        }
+        Arrays.fill(buffer, 0);
+        return buffer;
+    }
+
+    /**
+     * @param length The number of elements.
+     * @return A zero-filled buffer of exactly length elements.
+     */
+    public static float[] acquireFloats(int length) {
+        float[] buffer = take(FLOATS, FLOAT_CACHE, length, FLOAT_SIZE);
+        if (buffer == null) {
+            return new float[length];
+        }
+        Arrays.fill(buffer, 0f);
+        return buffer;
+    }
+
+    /**
+     * Give a buffer back to the pool, the caller must not use it any more.
+     * @param buffer The buffer, null is ignored.
+     */
+    public static void release(byte[] buffer) {
+        if (buffer != null) {
+            put(BYTES, BYTE_CACHE, buffer, buffer.length, BYTE_SIZE);
+        }
+    }
+
+    /**
+     * Give planes back to the pool, the caller must not use them any more.
+     * @param buffers The planes, null is ignored.
+     */
+    public static void release(byte[][] buffers) {
+        if (buffers != null) {
+            for (byte[] buffer : buffers) {
+                release(buffer);
+            }
+        }
+    }
+
+    /**
+     * Give a buffer back to the pool, the caller must not use it any more.
+     * @param buffer The buffer, null is ignored.
+     */
+    public static void release(short[] buffer) {
+        if (buffer != null) {
+            put(SHORTS, SHORT_CACHE, buffer, buffer.length, SHORT_SIZE);
+        }
+    }
+
+    /**
+     * Give a buffer back to the pool, the caller must not use it any more.
+     * @param buffer The buffer, null is ignored.
+     */
+    public static void release(int[] buffer) {
+        if (buffer != null) {
+            put(INTS, INT_CACHE, buffer, buffer.length, INT_SIZE);
+        }
+    }
+
+    /**
+     * Give a buffer back to the pool, the caller must not use it any more.
+     * @param buffer The buffer, null is ignored.
+     */
+    public static void release(float[] buffer) {
+        if (buffer != null) {
+            put(FLOATS, FLOAT_CACHE, buffer, buffer.length, FLOAT_SIZE);
+        }
+    }
+
+    public static long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Set the memory cap of the idle buffers, 0 disables the pool.
+     * Idle buffers above the new cap are dropped.
+     * @param bytes The cap in bytes.
+     */
+    public static synchronized void setMaxBytes(long bytes) {
+        if (bytes < 0) {
+            throw new IllegalArgumentException("max bytes must not be negative: " + bytes);
+        }
+        maxBytes = bytes;
+        if (pooledBytes > maxBytes || maxBytes == 0) {
+            clear();
+        }
+    }
+
+    /**
+     * Drop every idle buffer, the threads drop theirs at their next acquire or release.
+     */
+    public static synchronized void clear() {
+        generation++;
+        BYTES.clear();
+        SHORTS.clear();
+        INTS.clear();
+        FLOATS.clear();
+        pooledBytes = 0;
+    }
+
+    /**
+     * @return A snapshot of the counters.
+     */
+    public static synchronized PoolStats getStats() {
+        return new PoolStats(HITS.sum(), MISSES.sum(), RELEASES.sum(), DISCARDS.sum(), pooledBytes);
+    }
+
+    /**
+     * Reset the counters, the idle buffers are kept.
+     */
+    public static void resetStats() {
+        HITS.reset();
+        MISSES.reset();
+        RELEASES.reset();
+        DISCARDS.reset();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T take(Map<Integer, ArrayDeque<T>> buckets, ThreadLocal<ThreadCache> cache,
+                              int length, int elementSize) {
+        if (isThreadCached(length, elementSize)) {
+            T buffer = (T) cache.get().take(length);
+            if (buffer != null) {
+                HITS.increment();
+                return buffer;
+            }
+        }
+        return takeShared(buckets, length, elementSize);
+    }
+
+    private static <T> void put(Map<Integer, ArrayDeque<T>> buckets, ThreadLocal<ThreadCache> cache,
+                                T buffer, int length, int elementSize) {
+        if (isThreadCached(length, elementSize) && cache.get().put(buffer, length)) {
+            RELEASES.increment();
+            return;
+        }
+        putShared(buckets, buffer, length, elementSize);
+    }
+
+    private static boolean isThreadCached(int length, int elementSize) {
+        return maxBytes > 0 && (long) length * elementSize <= THREAD_CACHE_BYTES;
+    }
+
+    private static synchronized <T> T takeShared(Map<Integer, ArrayDeque<T>> buckets, int length, int elementSize) {
+        ArrayDeque<T> bucket = buckets.get(length);
+        T buffer = (bucket == null) ? null : bucket.pollLast();
+
+        if (buffer == null) {
+            MISSES.increment();
+        } else {
+            HITS.increment();
+            pooledBytes -= (long) length * elementSize;
+        }
+
+        return buffer;
+    }
+
+    private static synchronized <T> void putShared(Map<Integer, ArrayDeque<T>> buckets, T buffer, int length, int elementSize) {
+        long size = (long) length * elementSize;
+        RELEASES.increment();
+
+        if (pooledBytes + size > maxBytes) {
+            DISCARDS.increment();
+            return;
+        }
+
+        ArrayDeque<T> bucket = buckets.get(length);
+        if (bucket == null) {
+            bucket = new ArrayDeque<>();
+            buckets.put(length, bucket);
+        }
+
+        // a buffer released twice would be handed to two callers
+        Iterator<T> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() == buffer) {
+                throw new IllegalStateException("buffer released twice");
+            }
+        }
+
+        bucket.addLast(buffer);
+        pooledBytes += size;
+    }
+
+    /**
+     * The last small buffers of one type released by a thread.
+     */
+    private static final class ThreadCache {
+        private final Object[] buffers = new Object[THREAD_CACHE_SLOTS];
+        private final int[] lengths = new int[THREAD_CACHE_SLOTS];
+        private int cacheGeneration = generation;
+
+        Object take(int length) {
+            sync();
+            for (int i = 0; i < THREAD_CACHE_SLOTS; i++) {
+                if (buffers[i] != null && lengths[i] == length) {
+                    Object buffer = buffers[i];
+                    buffers[i] = null;
+                    return buffer;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @return false if every slot is taken.
+         */
+        boolean put(Object buffer, int length) {
+            sync();
+            int free = -1;
+            for (int i = 0; i < THREAD_CACHE_SLOTS; i++) {
+                if (buffers[i] == buffer) {
+                    throw new IllegalStateException("buffer released twice");
+                }
+                if (buffers[i] == null && free < 0) {
+                    free = i;
+                }
+            }
+            if (free < 0) {
+                return false;
+            }
+            buffers[free] = buffer;
+            lengths[free] = length;
+            return true;
+        }
+
+        private void sync() {
+            if (cacheGeneration != generation) {
+                Arrays.fill(buffers, null);
+                cacheGeneration = generation;
+            }
+        }
+    }
+}
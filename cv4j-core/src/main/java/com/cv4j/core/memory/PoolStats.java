@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.memory;
+
+/**
+ * A snapshot of the counters of the {@link BufferPool}.
+ */
+public class PoolStats {
+
+    private final long hits;
+    private final long misses;
+    private final long releases;
+    private final long discards;
+    private final long pooledBytes;
+
+    PoolStats(long hits, long misses, long releases, long discards, long pooledBytes) {
+        this.hits = hits;
+        this.misses = misses;
+        this.releases = releases;
+        this.discards = discards;
+        this.pooledBytes = pooledBytes;
+    }
+
+    /**
+     * @return The number of acquisitions served by an idle buffer.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return The number of acquisitions that allocated a new buffer.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return The number of released buffers, discards included.
+     */
+    public long getReleases() {
+        return releases;
+    }
+
+    /**
+     * @return The number of released buffers dropped because of the memory cap.
+     */
+    public long getDiscards() {
+        return discards;
+    }
+
+    /**
+     * @return The bytes held by the idle buffers.
+     */
+    public long getPooledBytes() {
+        return pooledBytes;
+    }
+
+    /**
+     * @return The fraction of acquisitions served by the pool.
+     */
+    public double getHitRate() {
+        long total = hits + misses;
+        return (total == 0) ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return "PoolStats{hits=" + hits + ", misses=" + misses + ", releases=" + releases
+                + ", discards=" + discards + ", pooledBytes=" + pooledBytes + "}";
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.metrics;
+
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.parallel.RowBandTask;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The observer hook of the filters and the analysis algorithms of cv4j.
+ * Every instrumented call emits a {@link StageEvent} to the installed listeners,
+ * a {@link MetricsRegistry} keeps latency histograms and throughput counters of them.
+ * <p>
+ * A stage does:
+ * <pre>
+ *     StageTimer timer = Instrumentation.begin();
+ *     ... the work ...
+ *     if (timer != null) Instrumentation.end(timer, "Name", image);
+ * </pre>
+ * When no listener is installed begin() is one volatile read and returns null,
+ * nothing is measured or allocated. Stages nest, a filter that calls other filters
+ * emits an event for each of them and its own event covers them all.
+ */
+public class Instrumentation {
+
+    private static final StageListener[] NONE = new StageListener[0];
+
+    private static volatile StageListener[] listeners = NONE;
+
+    private static final ThreadLocal<StageTimer> CURRENT = new ThreadLocal<>();
+
+    private Instrumentation() {
+    }
+
+    public static synchronized void addListener(StageListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("listener is null");
+        }
+        StageListener[] copy = Arrays.copyOf(listeners, listeners.length + 1);
+        copy[listeners.length] = listener;
+        listeners = copy;
+    }
+
+    public static synchronized void removeListener(StageListener listener) {
+        List<StageListener> copy = new ArrayList<>(Arrays.asList(listeners));
+        if (copy.remove(listener)) {
+            listeners = copy.isEmpty() ? NONE : copy.toArray(new StageListener[copy.size()]);
+        }
+    }
+
+    public static synchronized void clearListeners() {
+        listeners = NONE;
+    }
+
+    /**
+     * @return true if at least one listener is installed.
+     */
+    public static boolean isEnabled() {
+        return listeners.length > 0;
+    }
+
+    /**
+     * Start measuring a stage on the current thread.
+     * @return The timer to pass to end, null when no listener is installed.
+     */
+    public static StageTimer begin() {
+        if (listeners.length == 0) return null;
+
+        StageTimer timer = new StageTimer(CURRENT.get());
+        CURRENT.set(timer);
+        return timer;
+    }
+
+    /**
+     * Stop measuring a stage and emit its event.
+     * @param timer The timer returned by begin, nothing is done if it is null.
+     * @param name  The name of the stage.
+     * @param image The image the stage processed.
+     */
+    public static void end(StageTimer timer, String name, ImageProcessor image) {
+        if (timer == null) return;
+
+        if (image == null) {
+            end(timer, name, 0, 0, 0);
+        } else {
+            end(timer, name, image.getWidth(), image.getHeight(), image.getChannels());
+        }
+    }
+
+    /**
+     * Stop measuring a stage and emit its event.
+     * @param timer    The timer returned by begin, nothing is done if it is null.
+     * @param name     The name of the stage.
+     * @param width    The width of the processed image.
+     * @param height   The height of the processed image.
+     * @param channels The channels of the processed image.
+     */
+    public static void end(StageTimer timer, String name, int width, int height, int channels) {
+        if (timer == null) return;
+
+        long wall = System.nanoTime() - timer.startWall;
+        long cpu = delta(timer.startCpu, cpuTime(), timer.bandCpu.get());
+        long allocated = delta(timer.startAllocated, allocatedBytes(), timer.bandAllocated.get());
+
+        CURRENT.set(timer.parent);
+        if (timer.parent != null) {
+            // the parent measures its own thread, the bands of the child are added to it
+            timer.parent.bandCpu.addAndGet(timer.bandCpu.get());
+            timer.parent.bandAllocated.addAndGet(timer.bandAllocated.get());
+        }
+
+        StageEvent event = new StageEvent(name, width, height, channels, wall, cpu, allocated);
+        for (StageListener listener : listeners) {
+            listener.onStage(event);
+        }
+    }
+
+    /**
+     * Attribute the CPU time and the allocations of the bands a task runs on
+     * other threads to the stage of the current thread.
+     * @param task The task.
+     * @return The task itself when no stage is measured on the current thread.
+     */
+    public static RowBandTask measureBands(final RowBandTask task) {
+        if (listeners.length == 0) return task;
+
+        final StageTimer timer = CURRENT.get();
+        if (timer == null) return task;
+
+        return band -> {
+            if (Thread.currentThread() == timer.owner) {
+                task.run(band);
+                return;
+            }
+
+            long cpu = cpuTime();
+            long allocated = allocatedBytes();
+            task.run(band);
+            timer.bandCpu.addAndGet(Math.max(0, cpuTime() - cpu));
+            timer.bandAllocated.addAndGet(Math.max(0, allocatedBytes() - allocated));
+        };
+    }
+
+    static long cpuTime() {
+        return Clock.AVAILABLE ? ThreadClock.cpuTime() : -1;
+    }
+
+    static long allocatedBytes() {
+        return Clock.AVAILABLE ? ThreadClock.allocatedBytes() : -1;
+    }
+
+    private static long delta(long start, long end, long bands) {
+        if (start < 0 || end < 0) return -1;
+        return end - start + bands;
+    }
+
+    /**
+     * Probes the thread clock on first use, so a JVM without
+     * java.lang.management never loads it.
+     */
+    private static final class Clock {
+
+        static final boolean AVAILABLE = probe();
+
+        private static boolean probe() {
+            try {
+                ThreadClock.cpuTime();
+                return true;
+            } catch (LinkageError e) {
+                return false;
+            }
+        }
+    }
+}
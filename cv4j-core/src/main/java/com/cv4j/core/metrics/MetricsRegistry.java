@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The default in-memory listener, it keeps the latency histogram and
+ * the throughput counters of every stage by name.
+ * Install it with {@link Instrumentation#addListener(StageListener)} and read
+ * the snapshots periodically to export them to a metrics system.
+ */
+public class MetricsRegistry implements StageListener {
+
+    private final ConcurrentMap<String, StageRecorder> stages = new ConcurrentHashMap<>();
+
+    @Override
+    public void onStage(StageEvent event) {
+        StageRecorder recorder = stages.get(event.getName());
+        if (recorder == null) {
+            StageRecorder created = new StageRecorder(event.getName());
+            recorder = stages.putIfAbsent(event.getName(), created);
+            if (recorder == null) {
+                recorder = created;
+            }
+        }
+        recorder.record(event);
+    }
+
+    /**
+     * @param name The name of the stage.
+     * @return The snapshot of the stage, null if it never ran.
+     */
+    public StageStats getStats(String name) {
+        StageRecorder recorder = stages.get(name);
+        return (recorder == null) ? null : recorder.snapshot();
+    }
+
+    /**
+     * @return The snapshots of all the stages, sorted by name.
+     */
+    public Map<String, StageStats> getStats() {
+        Map<String, StageStats> result = new TreeMap<>();
+        for (Map.Entry<String, StageRecorder> entry : stages.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        return result;
+    }
+
+    public void reset() {
+        stages.clear();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.metrics;
+
+/**
+ * One call of a filter or an analysis algorithm.
+ * CPU time and allocated bytes are -1 when the JVM cannot measure them, on Android for example.
+ */
+public class StageEvent {
+
+    private final String name;
+    private final int width;
+    private final int height;
+    private final int channels;
+    private final long wallNanos;
+    private final long cpuNanos;
+    private final long allocatedBytes;
+
+    StageEvent(String name, int width, int height, int channels,
+               long wallNanos, long cpuNanos, long allocatedBytes) {
+        this.name = name;
+        this.width = width;
+        this.height = height;
+        this.channels = channels;
+        this.wallNanos = wallNanos;
+        this.cpuNanos = cpuNanos;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    /**
+     * @return The name of the stage, the simple class name of the filter by default.
+     */
+    public String getName() {
+        return name;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getChannels() {
+        return channels;
+    }
+
+    public long getPixels() {
+        return (long) width * height;
+    }
+
+    /**
+     * @return The elapsed time of the call.
+     */
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    /**
+     * @return The CPU time of the calling thread plus the one of the
+     * parallel bands it ran on the ExecutionContext pool.
+     */
+    public long getCpuNanos() {
+        return cpuNanos;
+    }
+
+    /**
+     * @return The bytes allocated by the calling thread and by the parallel bands.
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "StageEvent{name=" + name + ", size=" + width + "x" + height + "x" + channels
+                + ", wallNanos=" + wallNanos + ", cpuNanos=" + cpuNanos
+                + ", allocatedBytes=" + allocatedBytes + "}";
+    }
+}
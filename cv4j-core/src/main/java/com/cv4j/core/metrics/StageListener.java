@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.metrics;
+
+/**
+ * Receives an event for every instrumented call of a filter or an analysis algorithm.
+ * A listener is called on the thread that ran the stage, right after it
+ * returned, so it must be thread safe and cheap.
+ */
+public interface StageListener {
+
+    void onStage(StageEvent event);
+
+}
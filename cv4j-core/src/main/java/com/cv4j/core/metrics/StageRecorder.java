@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.metrics;
+
+/**
+ * The counters of one stage of a {@link MetricsRegistry}.
+ */
+class StageRecorder {
+
+    /**
+     * Bucket i of the latency histogram counts the calls that took [2^i, 2^(i+1)) nanoseconds.
+     */
+    static final int BUCKETS = 64;
+
+    private final String name;
+    private final long[] histogram = new long[BUCKETS];
+
+    private long count;
+    private long wallNanos;
+    private long cpuNanos;
+    private long allocatedBytes;
+    private long pixels;
+    private long minWallNanos = Long.MAX_VALUE;
+    private long maxWallNanos;
+
+    StageRecorder(String name) {
+        this.name = name;
+    }
+
+    synchronized void record(StageEvent event) {
+        long wall = event.getWallNanos();
+
+        count++;
+        wallNanos += wall;
+        pixels += event.getPixels();
+        minWallNanos = Math.min(minWallNanos, wall);
+        maxWallNanos = Math.max(maxWallNanos, wall);
+        histogram[bucket(wall)]++;
+
+        if (event.getCpuNanos() > 0) {
+            cpuNanos += event.getCpuNanos();
+        }
+        if (event.getAllocatedBytes() > 0) {
+            allocatedBytes += event.getAllocatedBytes();
+        }
+    }
+
+    synchronized StageStats snapshot() {
+        return new StageStats(name, count, wallNanos, cpuNanos, allocatedBytes, pixels,
+                count == 0 ? 0 : minWallNanos, maxWallNanos, histogram.clone());
+    }
+
+    static int bucket(long nanos) {
+        return 63 - Long.numberOfLeadingZeros(Math.max(1, nanos));
+    }
+}
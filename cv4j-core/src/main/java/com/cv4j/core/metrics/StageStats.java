@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.metrics;
+
+/**
+ * A snapshot of the counters of one stage of a {@link MetricsRegistry}.
+ */
+public class StageStats {
+
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final String name;
+    private final long count;
+    private final long totalWallNanos;
+    private final long totalCpuNanos;
+    private final long totalAllocatedBytes;
+    private final long totalPixels;
+    private final long minWallNanos;
+    private final long maxWallNanos;
+    private final long[] histogram;
+
+    StageStats(String name, long count, long totalWallNanos, long totalCpuNanos, long totalAllocatedBytes,
+               long totalPixels, long minWallNanos, long maxWallNanos, long[] histogram) {
+        this.name = name;
+        this.count = count;
+        this.totalWallNanos = totalWallNanos;
+        this.totalCpuNanos = totalCpuNanos;
+        this.totalAllocatedBytes = totalAllocatedBytes;
+        this.totalPixels = totalPixels;
+        this.minWallNanos = minWallNanos;
+        this.maxWallNanos = maxWallNanos;
+        this.histogram = histogram;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The number of calls.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalWallNanos() {
+        return totalWallNanos;
+    }
+
+    /**
+     * @return The total CPU time, 0 if the JVM cannot measure it.
+     */
+    public long getTotalCpuNanos() {
+        return totalCpuNanos;
+    }
+
+    /**
+     * @return The total allocated bytes, 0 if the JVM cannot measure them.
+     */
+    public long getTotalAllocatedBytes() {
+        return totalAllocatedBytes;
+    }
+
+    /**
+     * @return The number of pixels of all the processed images.
+     */
+    public long getTotalPixels() {
+        return totalPixels;
+    }
+
+    public long getMinWallNanos() {
+        return minWallNanos;
+    }
+
+    public long getMaxWallNanos() {
+        return maxWallNanos;
+    }
+
+    public double getMeanWallNanos() {
+        return (count == 0) ? 0 : (double) totalWallNanos / count;
+    }
+
+    public double getMeanAllocatedBytes() {
+        return (count == 0) ? 0 : (double) totalAllocatedBytes / count;
+    }
+
+    /**
+     * @return The pixels processed per second of wall time.
+     */
+    public double getPixelsPerSecond() {
+        return (totalWallNanos == 0) ? 0 : totalPixels * NANOS_PER_SECOND / totalWallNanos;
+    }
+
+    /**
+     * The latency histogram, bucket i counts the calls that took [2^i, 2^(i+1)) nanoseconds.
+     * @return A copy of the buckets.
+     */
+    public long[] getHistogram() {
+        return histogram.clone();
+    }
+
+    /**
+     * Estimate a latency percentile from the histogram, the result is the upper
+     * bound of the bucket holding the percentile, so it is at most twice the real value.
+     * @param percentile The percentile, in [0, 100].
+     * @return The latency in nanoseconds.
+     */
+    public long getPercentileNanos(double percentile) {
+        if (count == 0) return 0;
+
+        long rank = (long) Math.ceil(Math.max(0, Math.min(100, percentile)) / 100 * count);
+        long seen = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            seen += histogram[i];
+            if (seen >= rank && seen > 0) {
+                long upper = (i >= 62) ? Long.MAX_VALUE : (2L << i) - 1;
+                return Math.max(minWallNanos, Math.min(maxWallNanos, upper));
+            }
+        }
+        return maxWallNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "StageStats{name=" + name + ", count=" + count + ", meanWallNanos=" + (long) getMeanWallNanos()
+                + ", p99Nanos=" + getPercentileNanos(99) + ", maxWallNanos=" + maxWallNanos
+                + ", totalCpuNanos=" + totalCpuNanos + ", meanAllocatedBytes=" + (long) getMeanAllocatedBytes()
+                + ", pixelsPerSecond=" + (long) getPixelsPerSecond() + "}";
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The start of an instrumented call, returned by {@link Instrumentation#begin()}.
+ * The parallel bands of the call add their own CPU time and allocations to it.
+ */
+public final class StageTimer {
+
+    final Thread owner;
+    final StageTimer parent;
+
+    final long startWall;
+    final long startCpu;
+    final long startAllocated;
+
+    final AtomicLong bandCpu = new AtomicLong();
+    final AtomicLong bandAllocated = new AtomicLong();
+
+    StageTimer(StageTimer parent) {
+        this.owner = Thread.currentThread();
+        this.parent = parent;
+        this.startCpu = Instrumentation.cpuTime();
+        this.startAllocated = Instrumentation.allocatedBytes();
+        this.startWall = System.nanoTime();
+    }
+}
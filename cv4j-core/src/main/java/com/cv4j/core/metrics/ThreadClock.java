@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * The CPU time and the allocated bytes of the current thread.
+ * java.lang.management does not exist on Android, so this class is only
+ * loaded through {@link Instrumentation}, which falls back to -1 when it fails.
+ */
+final class ThreadClock {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private static final boolean CPU_TIME = enableCpuTime();
+
+    private static final boolean ALLOCATION = enableAllocation();
+
+    private ThreadClock() {
+    }
+
+    static long cpuTime() {
+        return CPU_TIME ? THREADS.getCurrentThreadCpuTime() : -1;
+    }
+
+    static long allocatedBytes() {
+        if (!ALLOCATION) return -1;
+        return ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static boolean enableCpuTime() {
+        if (!THREADS.isCurrentThreadCpuTimeSupported()) return false;
+        if (!THREADS.isThreadCpuTimeEnabled()) {
+            THREADS.setThreadCpuTimeEnabled(true);
+        }
+        return true;
+    }
+
+    private static boolean enableAllocation() {
+        try {
+            if (!(THREADS instanceof com.sun.management.ThreadMXBean)) return false;
+
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+            if (!threads.isThreadAllocatedMemorySupported()) return false;
+            if (!threads.isThreadAllocatedMemoryEnabled()) {
+                threads.setThreadAllocatedMemoryEnabled(true);
+            }
+            return true;
+        } catch (LinkageError | UnsupportedOperationException | SecurityException e) {
+            // not a HotSpot based JVM
+            return false;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.parallel;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Splits the rows in halves until a band is small enough, then runs it.
+ */
+class BandAction extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int start;
+    private final int end;
+    private final int grain;
+    private final int halo;
+    private final int height;
+    private final transient RowBandTask task;
+
+    BandAction(int start, int end, int grain, int halo, int height, RowBandTask task) {
+        this.start = start;
+        this.end = end;
+        this.grain = grain;
+        this.halo = halo;
+        this.height = height;
+        this.task = task;
+    }
+
+    @Override
+    protected void compute() {
+        if (end - start <= grain) {
+            task.run(new RowBand(start, end, halo, height));
+            return;
+        }
+
+        int middle = (start + end) >>> 1;
+        invokeAll(new BandAction(start, middle, grain, halo, height, task),
+                  new BandAction(middle, end, grain, halo, height, task));
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.parallel;
+
+import com.cv4j.core.metrics.Instrumentation;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The execution context shared by all the filters of cv4j.
+ * It owns one work-stealing ForkJoinPool sized to the number of cores,
+ * callers may change its parallelism or hand over their own pool.
+ */
+public class ExecutionContext {
+
+    /**
+     * Bands smaller than this are not split any more.
+     */
+    private static final int DEFAULT_MIN_BAND_ROWS = 16;
+
+    /**
+     * Each worker gets about this many bands, so stealing can balance the load.
+     */
+    private static final int BANDS_PER_THREAD = 4;
+
+    private static volatile ForkJoinPool pool;
+
+    private static volatile boolean ownPool;
+
+    private static volatile int minBandRows = DEFAULT_MIN_BAND_ROWS;
+
+    /**
+     * @return The shared pool, created on first use.
+     */
+    public static ForkJoinPool getPool() {
+        ForkJoinPool result = pool;
+        if (result == null) {
+            synchronized (ExecutionContext.class) {
+                result = pool;
+                if (result == null) {
+                    result = newPool(Runtime.getRuntime().availableProcessors());
+                    pool = result;
+                    ownPool = true;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Replace the shared pool by a new one with the given parallelism,
+     * parallelism 1 runs every filter on the calling thread.
+     * @param parallelism The number of worker threads.
+     */
+    public static synchronized void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        replacePool(newPool(parallelism), true);
+    }
+
+    /**
+     * Use a pool owned by the caller, it is never shut down by cv4j.
+     * @param forkJoinPool The pool.
+     */
+    public static synchronized void setPool(ForkJoinPool forkJoinPool) {
+        if (forkJoinPool == null) {
+            throw new IllegalArgumentException("pool is null");
+        }
+        replacePool(forkJoinPool, false);
+    }
+
+    public static int getParallelism() {
+        return getPool().getParallelism();
+    }
+
+    public static int getMinBandRows() {
+        return minBandRows;
+    }
+
+    /**
+     * @param rows Bands are not split below this number of rows.
+     */
+    public static void setMinBandRows(int rows) {
+        minBandRows = Math.max(1, rows);
+    }
+
+    /**
+     * Run the task over the rows [0, height) split into bands,
+     * returns when every band has been processed.
+     * @param height The number of rows.
+     * @param halo   The number of extra rows above and below a band the task reads.
+     * @param task   The task.
+     */
+    public static void forEachBand(int height, int halo, RowBandTask task) {
+        forEachBand(height, halo, 1, task);
+    }
+
+    /**
+     * Run the task over the rows [0, height) split into bands of at least minRows rows,
+     * for tasks whose bands have a start-up cost, returns when every band has been processed.
+     * @param height  The number of rows.
+     * @param halo    The number of extra rows above and below a band the task reads.
+     * @param minRows The smallest band unless the image is smaller.
+     * @param task    The task.
+     */
+    public static void forEachBand(int height, int halo, int minRows, RowBandTask task) {
+        if (height <= 0) return;
+
+        ForkJoinPool forkJoinPool = getPool();
+        int parallelism = forkJoinPool.getParallelism();
+        // the bands are halved while they are larger than the grain, so the halves of
+        // a grain of 2 * minRows - 1 rows are still minRows rows
+        int min = Math.max(minBandRows, 2 * minRows - 1);
+
+        if (parallelism == 1 || height <= min) {
+            task.run(new RowBand(0, height, halo, height));
+            return;
+        }
+
+        int bands = parallelism * BANDS_PER_THREAD;
+        int grain = Math.max(min, (height + bands - 1) / bands);
+        invoke(forkJoinPool, new BandAction(0, height, grain, halo, height, Instrumentation.measureBands(task)));
+    }
+
+    /**
+     * Run the task once for every index in [0, count), each index is a band of its own
+     * whatever the minimum band rows, for a few coarse units of work such as strips of rows.
+     * Returns when every index has been processed.
+     * @param count The number of indices.
+     * @param task  The task, band.start is the index and band.end is band.start + 1.
+     */
+    public static void forEachIndex(int count, RowBandTask task) {
+        if (count <= 0) return;
+
+        ForkJoinPool forkJoinPool = getPool();
+        if (forkJoinPool.getParallelism() == 1 || count == 1) {
+            for (int i = 0; i < count; i++) {
+                task.run(new RowBand(i, i + 1, 0, count));
+            }
+            return;
+        }
+
+        invoke(forkJoinPool, new BandAction(0, count, 1, 0, count, Instrumentation.measureBands(task)));
+    }
+
+    private static void invoke(ForkJoinPool forkJoinPool, BandAction action) {
+        if (ForkJoinTask.getPool() == forkJoinPool) {
+            // already inside a worker of the pool, e.g. nested filters
+            action.invoke();
+        } else {
+            forkJoinPool.invoke(action);
+        }
+    }
+
+    private static void replacePool(ForkJoinPool newPool, boolean owned) {
+        ForkJoinPool old = pool;
+        boolean oldOwned = ownPool;
+        pool = newPool;
+        ownPool = owned;
+        if (old != null && oldOwned) {
+            old.shutdown();
+        }
+    }
+
+    private static ForkJoinPool newPool(int parallelism) {
+        final AtomicInteger count = new AtomicInteger();
+        ForkJoinPool.ForkJoinWorkerThreadFactory factory = new ForkJoinPool.ForkJoinWorkerThreadFactory() {
+            @Override
+            public ForkJoinWorkerThread newThread(ForkJoinPool forkJoinPool) {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                thread.setName("cv4j:thread-" + count.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+        return new ForkJoinPool(parallelism, factory, null, false);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.parallel;
+
+/**
+ * A band of rows [start, end) handed to a RowBandTask.
+ * The halo rows [haloStart, haloEnd) are the rows the band may read,
+ * for neighborhood filters they are the band extended by the kernel radius
+ * and clamped to the image.
+ */
+public class RowBand {
+
+    /** The first row the band writes. */
+    public final int start;
+
+    /** The row after the last row the band writes. */
+    public final int end;
+
+    /** The first row the band may read. */
+    public final int haloStart;
+
+    /** The row after the last row the band may read. */
+    public final int haloEnd;
+
+    public RowBand(int start, int end, int halo, int height) {
+        this.start = start;
+        this.end = end;
+        this.haloStart = Math.max(0, start - halo);
+        this.haloEnd = Math.min(height, end + halo);
+    }
+
+    /**
+     * @return The number of rows the band writes.
+     */
+    public int rows() {
+        return end - start;
+    }
+
+    @Override
+    public String toString() {
+        return "RowBand[" + start + ", " + end + ") halo [" + haloStart + ", " + haloEnd + ")";
+    }
+}
@@ -48,13 +48,16 @@ public final class Operator {
 		int h = image1.getHeight();
 		ImageProcessor dst = (channels == NUM_CHANNELS) ? new ColorProcessor(w, h) : new ByteProcessor(w, h);
 		int size = w*h;
-		for(int i=0; i<size; i++) {
-			for(int n=0; n<channels; n++) {
-				int a = image1.toByte(n)[i] & VALUE_0000FF;
-				int b = image2.toByte(n)[i] & VALUE_0000FF;
+		for(int n=0; n<channels; n++) {
+			byte[] in1 = image1.toByte(n);
+			byte[] in2 = image2.toByte(n);
+			byte[] out = dst.toByte(n);
+			for(int i=0; i<size; i++) {
+				int a = in1[i] & VALUE_0000FF;
+				int b = in2[i] & VALUE_0000FF;
 
 				int c = Tools.clamp(a + b);
-				dst.toByte(n)[i] = SafeCasting.safeIntToByte(c);
+				out[i] = SafeCasting.safeIntToByte(c);
 			}
 		}
 		return dst;
@@ -72,14 +75,17 @@ public final class Operator {
 		int a=0;
 		int b=0;
 		int c=0;
-		for(int i=0; i<size; i++) {
-			for(int n=0; n<channels; n++) {
-				a = image1.toByte(n)[i] & VALUE_0000FF;
-				b = image2.toByte(n)[i] & VALUE_0000FF;
+		for(int n=0; n<channels; n++) {
+			byte[] in1 = image1.toByte(n);
+			byte[] in2 = image2.toByte(n);
+			byte[] out = dst.toByte(n);
+			for(int i=0; i<size; i++) {
+				a = in1[i] & VALUE_0000FF;
+				b = in2[i] & VALUE_0000FF;
 
 				c = Tools.clamp(a - b);
 
-				dst.toByte(n)[i] = SafeCasting.safeIntToByte(c);
+				out[i] = SafeCasting.safeIntToByte(c);
 			}
 		}
 		return dst;
@@ -97,12 +103,15 @@ public final class Operator {
 		int a=0;
 		int b=0;
 		int c=0;
-		for(int i=0; i<size; i++) {
-			for(int n=0; n<channels; n++) {
-				a = image1.toByte(n)[i] & VALUE_0000FF;
-				b = image2.toByte(n)[i] & VALUE_0000FF;
+		for(int n=0; n<channels; n++) {
+			byte[] in1 = image1.toByte(n);
+			byte[] in2 = image2.toByte(n);
+			byte[] out = dst.toByte(n);
+			for(int i=0; i<size; i++) {
+				a = in1[i] & VALUE_0000FF;
+				b = in2[i] & VALUE_0000FF;
 				c = Tools.clamp(a * b);
-				dst.toByte(n)[i] = SafeCasting.safeIntToByte(c);
+				out[i] = SafeCasting.safeIntToByte(c);
 			}
 		}
 		return dst;
@@ -120,12 +129,15 @@ public final class Operator {
 		int a=0;
 		int b=0;
 		int c=0;
-		for(int i=0; i<size; i++) {
-			for(int n=0; n<channels; n++) {
-				a = image1.toByte(n)[i] & VALUE_0000FF;
-				b = image2.toByte(n)[i] & VALUE_0000FF;
+		for(int n=0; n<channels; n++) {
+			byte[] in1 = image1.toByte(n);
+			byte[] in2 = image2.toByte(n);
+			byte[] out = dst.toByte(n);
+			for(int i=0; i<size; i++) {
+				a = in1[i] & VALUE_0000FF;
+				b = in2[i] & VALUE_0000FF;
 				c = b == 0 ? 0 : Tools.clamp(a / b);
-				dst.toByte(n)[i] = SafeCasting.safeIntToByte(c);
+				out[i] = SafeCasting.safeIntToByte(c);
 			}
 		}
 		return dst;
@@ -143,12 +155,15 @@ public final class Operator {
 		int a=0;
 		int b=0;
 		int c=0;
-		for(int i=0; i<size; i++) {
-			for(int n=0; n<channels; n++) {
-				a = image1.toByte(n)[i] & VALUE_0000FF;
-				b = image2.toByte(n)[i] & VALUE_0000FF;
+		for(int n=0; n<channels; n++) {
+			byte[] in1 = image1.toByte(n);
+			byte[] in2 = image2.toByte(n);
+			byte[] out = dst.toByte(n);
+			for(int i=0; i<size; i++) {
+				a = in1[i] & VALUE_0000FF;
+				b = in2[i] & VALUE_0000FF;
 				c = a&b;
-				dst.toByte(n)[i] = SafeCasting.safeIntToByte(Tools.clamp(c));
+				out[i] = SafeCasting.safeIntToByte(Tools.clamp(c));
 			}
 		}
 		return dst;
@@ -166,12 +181,15 @@ public final class Operator {
 		int a=0;
 		int b=0;
 		int c=0;
-		for(int i=0; i<size; i++) {
-			for(int n=0; n<channels; n++) {
-				a = image1.toByte(n)[i] & VALUE_0000FF;
-				b = image2.toByte(n)[i] & VALUE_0000FF;
+		for(int n=0; n<channels; n++) {
+			byte[] in1 = image1.toByte(n);
+			byte[] in2 = image2.toByte(n);
+			byte[] out = dst.toByte(n);
+			for(int i=0; i<size; i++) {
+				a = in1[i] & VALUE_0000FF;
+				b = in2[i] & VALUE_0000FF;
 				c = a|b;
-				dst.toByte(n)[i] = SafeCasting.safeIntToByte(Tools.clamp(c));
+				out[i] = SafeCasting.safeIntToByte(Tools.clamp(c));
 			}
 		}
 		return dst;
@@ -184,10 +202,12 @@ public final class Operator {
 		ImageProcessor dst = (channels == NUM_CHANNELS) ? new ColorProcessor(w, h) : new ByteProcessor(w, h);
 		int size = w*h;
 		int c=0;
-		for(int i=0; i<size; i++) {
-			for(int n=0; n<channels; n++) {
-				c = ~image.toByte(n)[i];
-				dst.toByte(n)[i] = SafeCasting.safeIntToByte(c);
+		for(int n=0; n<channels; n++) {
+			byte[] in = image.toByte(n);
+			byte[] out = dst.toByte(n);
+			for(int i=0; i<size; i++) {
+				c = ~in[i];
+				out[i] = SafeCasting.safeIntToByte(c);
 			}
 		}
 		return dst;
@@ -205,12 +225,15 @@ public final class Operator {
 		int a=0;
 		int b=0;
 		int c=0;
-		for(int i=0; i<size; i++) {
-			for(int n=0; n<channels; n++) {
-				a = image1.toByte(n)[i] & VALUE_0000FF;
-				b = image2.toByte(n)[i] & VALUE_0000FF;
+		for(int n=0; n<channels; n++) {
+			byte[] in1 = image1.toByte(n);
+			byte[] in2 = image2.toByte(n);
+			byte[] out = dst.toByte(n);
+			for(int i=0; i<size; i++) {
+				a = in1[i] & VALUE_0000FF;
+				b = in2[i] & VALUE_0000FF;
 				c = a^b;
-				dst.toByte(n)[i] = SafeCasting.safeIntToByte(Tools.clamp(c));
+				out[i] = SafeCasting.safeIntToByte(Tools.clamp(c));
 			}
 		}
 		return dst;
@@ -228,48 +251,53 @@ public final class Operator {
 		int a=0;
 		int b=0;
 		int c=0;
-		for(int i=0; i<size; i++) {
-			for(int n=0; n<channels; n++) {
-				a = image1.toByte(n)[i] & VALUE_0000FF;
-				b = image2.toByte(n)[i] & VALUE_0000FF;
+		for(int n=0; n<channels; n++) {
+			byte[] in1 = image1.toByte(n);
+			byte[] in2 = image2.toByte(n);
+			byte[] out = dst.toByte(n);
+			for(int i=0; i<size; i++) {
+				a = in1[i] & VALUE_0000FF;
+				b = in2[i] & VALUE_0000FF;
 				c = SafeCasting.safeFloatToInt(a*w1 + b*w2 + gamma);
-				dst.toByte(n)[i] = SafeCasting.safeIntToByte(Tools.clamp(c));
+				out[i] = SafeCasting.safeIntToByte(Tools.clamp(c));
 			}
 		}
 		return dst;
 	}
 
 	/**
-	 * ROI sub image by rect.x, rect.y, rect.width, rect.height
+	 * ROI sub image by rect.x, rect.y, rect.width, rect.height, the pixels are copied
 	 * @param image
 	 * @param rect
 	 * @return
 	 * @throws CV4JException
 	 */
 	public static ImageProcessor subImage(ImageProcessor image, Rect rect) throws CV4JException{
-		int channels = image.getChannels();
-		int w = rect.width;
-		int h = rect.height;
-		ImageProcessor dst = (channels == NUM_CHANNELS) ? new ColorProcessor(w, h) : new ByteProcessor(w, h);
-		int a=0;
-		int index = 0;
+		ImageProcessor view = subView(image, rect);
 
-		try {
-			for(int n=0; n<channels; n++) {
-				for(int row=rect.y; row < (rect.y+rect.height); row++) {
-					for(int col=rect.x; col < (rect.x+rect.width); col++) {
-						index = row*image.getWidth() + col;
-						a = image.toByte(n)[index] & VALUE_0000FF;
-						index = (row - rect.y)*w + (col - rect.x);
-						dst.toByte(n)[index] = SafeCasting.safeIntToByte(a);
-					}
-				}
-			}
-		} catch (ArrayIndexOutOfBoundsException e) {
-			throw new CV4JException("数组越界了");
+		if (view instanceof ColorProcessor) {
+			return ((ColorProcessor) view).duplicate();
 		}
 
-		return dst;
+		return ((ByteProcessor) view).duplicate();
+	}
+
+	/**
+	 * ROI view by rect.x, rect.y, rect.width, rect.height, no pixel is copied:
+	 * the view shares the pixels of the image and addresses them with offset and stride
+	 * @param image
+	 * @param rect
+	 * @return
+	 * @throws CV4JException
+	 */
+	public static ImageProcessor subView(ImageProcessor image, Rect rect) throws CV4JException{
+		if (image instanceof ColorProcessor) {
+			return ((ColorProcessor) image).subView(rect);
+		} else if (image instanceof ByteProcessor) {
+			return ((ByteProcessor) image).subView(rect);
+		}
+
+		throw new CV4JException("not support this type of image");
 	}
 
 	private static boolean checkParams(ImageProcessor src1, ImageProcessor src2) {
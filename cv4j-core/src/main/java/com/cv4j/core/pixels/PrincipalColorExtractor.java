@@ -71,10 +71,12 @@ public class PrincipalColorExtractor {
 		// initialization the pixel data
         int width = processor.getWidth();
         int height = processor.getHeight();
-        byte[] R = processor.getRed();
-        byte[] G = processor.getGreen();
-        byte[] B = processor.getBlue();
-        
+        byte[] R = processor.toByte(0);
+        byte[] G = processor.toByte(1);
+        byte[] B = processor.toByte(2);
+        clusterCenterList.clear();
+        pointList.clear();
+
         //Create random points to use a the cluster center
 		createRandomPoints(R, G, B, width, height);
 
@@ -104,6 +106,7 @@ public class PrincipalColorExtractor {
         // calculate the new cluster center
         // computation the delta value
         // stop condition--
+        stepClusters();
         double[][] oldClusterCenterColors = reCalculateClusterCenters();
         int times = 10;
         int timesLimit = 10;
@@ -151,7 +154,7 @@ public class PrincipalColorExtractor {
 
 				final int red   = R[index] & VALUE_0000FF;
 				final int green = G[index] & VALUE_0000FF;
-				final int blue  = G[index] & VALUE_0000FF;
+				final int blue  = B[index] & VALUE_0000FF;
 				pointList.add(new ClusterPoint(row, col, red, green, blue));
 			}
 		}
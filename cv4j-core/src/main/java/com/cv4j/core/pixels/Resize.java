@@ -0,0 +1,364 @@
+/*
+ * Copyright (c) 2017 - present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.pixels;
+
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.datamodel.ColorProcessor;
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.datamodel.plane.Planes;
+import com.cv4j.core.memory.BufferPool;
+import com.cv4j.core.parallel.ExecutionContext;
+import com.cv4j.core.utils.SafeCasting;
+import com.cv4j.exception.CV4JException;
+import com.cv4j.image.util.Tools;
+
+/**
+ * The class resize.
+ * The image is resized separably, first the rows then the columns, with the source
+ * pixels and the fixed point weights of every destination column and row computed once.
+ * The pixel centers are aligned, so the destination pixel x samples the source at
+ * (x + 0.5) * width / w - 0.5.
+ */
+public class Resize {
+
+	/**
+	 * The nearest iterpolate.
+	 */
+	public final static int NEAREST_INTEPOLATE = 1;
+	
+	/**
+	 * The biline interpolate.
+	 */
+	public final static int BILINE_INTEPOLATE = 2;
+
+	/**
+	 * The bicubic interpolate (Keys, a = -0.5), smoothed when downscaling.
+	 */
+	public final static int BICUBIC_INTEPOLATE = 3;
+
+	/**
+	 * The Lanczos interpolate with 3 lobes, smoothed when downscaling.
+	 */
+	public final static int LANCZOS_INTEPOLATE = 4;
+
+	/**
+	 * The area averaging, every destination pixel is the mean of the source area it covers.
+	 * It is the one to use to make thumbnails since it does not alias.
+	 */
+	public final static int AREA_INTEPOLATE = 5;
+
+	/**
+	 * The bits of the fractional part of the weights.
+	 */
+	private static final int PRECISION = 14;
+
+	private static final int ONE = 1 << PRECISION;
+
+	private float xrate;
+	private float yrate;
+
+	/**
+	 * The size of the new image, 0 when it is given by the rates.
+	 */
+	private int width;
+	private int height;
+	
+	/**
+	 * Constructor with a rate.
+	 * @param  rate The rate
+	 */
+	public Resize(float rate)
+	{
+		xrate = rate;
+		yrate = rate;
+	}
+	
+	/**
+	 * Constructor with a x and y rate.
+	 * @param  xrate The x rate
+	 * @param  yrate The y rate
+	 */
+	public Resize(float xrate, float yrate)
+	{
+		this.xrate = xrate;
+		this.yrate = yrate;
+	}
+
+	/**
+	 * Creates a resize to a size in pixels.
+	 * @param  width  The width of the new image.
+	 * @param  height The height of the new image.
+	 * @return        The resize.
+	 */
+	public static Resize toSize(int width, int height) {
+		if (width <= 0 || height <= 0) {
+			throw new CV4JException("Invalid argument: size " + width + "x" + height);
+		}
+		Resize resize = new Resize(0);
+		resize.width = width;
+		resize.height = height;
+		return resize;
+	}
+
+	/**
+	 * Resizes a image processor with a given type.
+	 * @param  processor The image processor.
+	 * @param  type      The type.
+	 * @return           The new image processor.
+	 */
+	public ImageProcessor resize(ImageProcessor processor, int type) {
+		if(type == NEAREST_INTEPOLATE) {
+			return nearest(Planes.onHeap(processor));
+		} else if(type == BILINE_INTEPOLATE || type == BICUBIC_INTEPOLATE
+				|| type == LANCZOS_INTEPOLATE || type == AREA_INTEPOLATE) {
+			return resample(Planes.onHeap(processor), type);
+		} else {
+			throw new CV4JException("Unsupported resize type...");
+		}
+	}
+
+	private int targetWidth(ImageProcessor processor) {
+		return width > 0 ? width : Math.max(1, SafeCasting.safeFloatToInt(processor.getWidth() * xrate));
+	}
+
+	private int targetHeight(ImageProcessor processor) {
+		return height > 0 ? height : Math.max(1, SafeCasting.safeFloatToInt(processor.getHeight() * yrate));
+	}
+
+	private static ImageProcessor create(int channels, int w, int h) {
+		return (channels == 3) ? new ColorProcessor(w, h) : new ByteProcessor(w, h);
+	}
+
+	private ImageProcessor nearest(ImageProcessor processor) {
+		final int width = processor.getWidth();
+		final int height = processor.getHeight();
+		final int w = targetWidth(processor);
+		final int h = targetHeight(processor);
+		final int offset = processor.getOffset();
+		final int stride = processor.getStride();
+		final int channels = processor.getChannels();
+		final ImageProcessor dst = create(channels, w, h);
+
+		// the source pixel of every column, the one whose area holds the center of the destination pixel
+		final int[] columns = new int[w];
+		for (int col = 0; col < w; col++) {
+			columns[col] = Math.min(width - 1, (int) ((col + 0.5) * width / w));
+		}
+
+		ExecutionContext.forEachBand(h, 0, band -> {
+			for (int row = band.start; row < band.end; row++) {
+				int srcRow = Math.min(height - 1, (int) ((row + 0.5) * height / h));
+				int index = offset + srcRow * stride;
+				for (int i = 0; i < channels; i++) {
+					byte[] in = Planes.array(processor, i);
+					byte[] out = dst.toByte(i);
+					int out0 = row * w;
+					for (int col = 0; col < w; col++) {
+						out[out0 + col] = in[index + columns[col]];
+					}
+				}
+			}
+		});
+		return dst;
+	}
+	
+	/**
+	 * Biline
+	 * @param  processor The image processor.
+	 * @return           The new image processor.
+	 */
+	public ImageProcessor biline(ImageProcessor processor) {
+		return resample(Planes.onHeap(processor), BILINE_INTEPOLATE);
+	}
+
+	private ImageProcessor resample(ImageProcessor processor, int type) {
+		final int width = processor.getWidth();
+		final int height = processor.getHeight();
+		final int w = targetWidth(processor);
+		final int h = targetHeight(processor);
+		final int offset = processor.getOffset();
+		final int stride = processor.getStride();
+		final int channels = processor.getChannels();
+		final ImageProcessor dst = create(channels, w, h);
+
+		final Coefficients horizontal = new Coefficients(type, width, w);
+		final Coefficients vertical = new Coefficients(type, height, h);
+
+		// the rows resized to the new width
+		final byte[] temp = BufferPool.acquireBytes(w * height);
+		for (int i = 0; i < channels; i++) {
+			final byte[] in = Planes.array(processor, i);
+			final byte[] out = dst.toByte(i);
+			ExecutionContext.forEachBand(height, 0, band -> {
+				for (int row = band.start; row < band.end; row++) {
+					horizontal.apply(in, offset + row * stride, temp, row * w);
+				}
+			});
+			ExecutionContext.forEachBand(h, 0, band -> {
+				for (int row = band.start; row < band.end; row++) {
+					vertical.applyRow(temp, w, row, out, row * w);
+				}
+			});
+		}
+		BufferPool.release(temp);
+		return dst;
+	}
+
+	/**
+	 * The source pixels and the weights of every destination pixel along one axis.
+	 * The window of the destination pixel i starts at the source pixel start[i] and
+	 * its weights are weights[i * taps] to weights[i * taps + count[i] - 1],
+	 * they are fixed point numbers that sum to 1 &lt;&lt; PRECISION.
+	 */
+	private static final class Coefficients {
+
+		final int[] start;
+		final int[] count;
+		final int[] weights;
+		final int taps;
+
+		Coefficients(int type, int length, int target) {
+			float scale = (float) length / target;
+			// the kernel is stretched when downscaling so that it also smooths
+			float stretch = Math.max(1f, scale);
+			float support;
+			if (type == AREA_INTEPOLATE) {
+				support = scale / 2 + 1;
+			} else if (type == BILINE_INTEPOLATE) {
+				support = 1;
+				stretch = 1;
+			} else {
+				support = (type == BICUBIC_INTEPOLATE ? 2 : 3) * stretch;
+			}
+
+			taps = (int) Math.ceil(support) * 2 + 1;
+			start = new int[target];
+			count = new int[target];
+			weights = new int[target * taps];
+			float[] window = new float[taps];
+
+			for (int i = 0; i < target; i++) {
+				float center = (i + 0.5f) * scale;
+				int first = Math.max(0, (int) Math.floor(center - support));
+				int last = Math.min(length, (int) Math.ceil(center + support));
+				last = Math.min(last, first + taps);
+
+				float total = 0;
+				for (int j = first; j < last; j++) {
+					float weight;
+					if (type == AREA_INTEPOLATE) {
+						// the overlap of the source pixel with the area of the destination pixel
+						weight = Math.max(0f, Math.min(j + 1f, (i + 1) * scale) - Math.max((float) j, i * scale));
+					} else {
+						weight = kernel(type, (j + 0.5f - center) / stretch);
+					}
+					window[j - first] = weight;
+					total += weight;
+				}
+
+				// drop the zero weights at both ends of the window
+				while (last - 1 > first && window[last - 1 - first] == 0) {
+					last--;
+				}
+				int skip = 0;
+				while (first + skip < last - 1 && window[skip] == 0) {
+					skip++;
+				}
+
+				int sum = 0;
+				int peak = skip;
+				for (int j = skip; j < last - first; j++) {
+					int weight = total != 0 ? Math.round(window[j] / total * ONE) : 0;
+					weights[i * taps + j - skip] = weight;
+					sum += weight;
+					if (window[j] > window[peak]) {
+						peak = j;
+					}
+				}
+				// the rounding error goes to the largest weight
+				weights[i * taps + peak - skip] += ONE - sum;
+				start[i] = first + skip;
+				count[i] = last - first - skip;
+			}
+		}
+
+		private static float kernel(int type, float x) {
+			x = Math.abs(x);
+			if (type == BILINE_INTEPOLATE) {
+				return x < 1 ? 1 - x : 0;
+			} else if (type == BICUBIC_INTEPOLATE) {
+				final float a = -0.5f;
+				if (x < 1) {
+					return ((a + 2) * x - (a + 3)) * x * x + 1;
+				} else if (x < 2) {
+					return ((a * x - 5 * a) * x + 8 * a) * x - 4 * a;
+				}
+				return 0;
+			} else {
+				if (x < 1e-6f) {
+					return 1;
+				} else if (x < 3) {
+					double px = Math.PI * x;
+					return (float) (3 * Math.sin(px) * Math.sin(px / 3) / (px * px));
+				}
+				return 0;
+			}
+		}
+
+		/**
+		 * Resamples one row.
+		 * @param in     The source pixels.
+		 * @param inOff  The index of the first pixel of the source row.
+		 * @param out    The destination pixels.
+		 * @param outOff The index of the first pixel of the destination row.
+		 */
+		void apply(byte[] in, int inOff, byte[] out, int outOff) {
+			for (int i = 0; i < start.length; i++) {
+				int index = inOff + start[i];
+				int w = i * taps;
+				int sum = 1 << (PRECISION - 1);
+				for (int k = 0; k < count[i]; k++) {
+					sum += weights[w + k] * (in[index + k] & 0xff);
+				}
+				out[outOff + i] = (byte) Tools.clamp(sum >> PRECISION);
+			}
+		}
+
+		/**
+		 * Computes one destination row from the source rows, a whole row at a time
+		 * so that the source is read in order.
+		 * @param in     The source rows.
+		 * @param width  The length of a row.
+		 * @param row    The destination row.
+		 * @param out    The destination pixels.
+		 * @param outOff The index of the first pixel of the destination row.
+		 */
+		void applyRow(byte[] in, int width, int row, byte[] out, int outOff) {
+			int first = start[row] * width;
+			int w = row * taps;
+			int n = count[row];
+			for (int col = 0; col < width; col++) {
+				int index = first + col;
+				int sum = 1 << (PRECISION - 1);
+				for (int k = 0; k < n; k++) {
+					sum += weights[w + k] * (in[index] & 0xff);
+					index += width;
+				}
+				out[outOff + col] = (byte) Tools.clamp(sum >> PRECISION);
+			}
+		}
+	}
+}
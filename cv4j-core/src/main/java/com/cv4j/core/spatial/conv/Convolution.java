@@ -0,0 +1,404 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.spatial.conv;
+
+import com.cv4j.core.memory.BufferPool;
+import com.cv4j.core.parallel.ExecutionContext;
+import com.cv4j.core.parallel.RowBand;
+
+import java.util.Arrays;
+
+/**
+ * The convolution engine, it applies a {@link Kernel} to a channel of 8 bit pixels.
+ *
+ * The rows are split into parallel bands. Every band converts each source row once into
+ * a row padded with the border pixels, it keeps the rows the kernel covers in a ring,
+ * so the inner loops run over plain arrays without any bounds check.
+ * A separable kernel keeps the rows after the horizontal pass instead.
+ * Int kernels accumulate in int, float kernels in float.
+ */
+public class Convolution {
+
+    /**
+     * The pixels beyond the border repeat the border pixel: aaa|abcd|ddd.
+     */
+    public static final int BORDER_REPLICATE = 0;
+
+    /**
+     * The pixels beyond the border mirror the image around the border pixel: cb|abcd|cb.
+     */
+    public static final int BORDER_REFLECT = 1;
+
+    /**
+     * The pixels beyond the border have the border value: vv|abcd|vv.
+     */
+    public static final int BORDER_CONSTANT = 2;
+
+    private final Kernel kernel;
+
+    private int border = BORDER_REPLICATE;
+
+    private int borderValue;
+
+    private int delta;
+
+    public Convolution(Kernel kernel) {
+        this.kernel = kernel;
+    }
+
+    public Kernel getKernel() {
+        return kernel;
+    }
+
+    public int getBorder() {
+        return border;
+    }
+
+    /**
+     * @param border BORDER_REPLICATE, BORDER_REFLECT or BORDER_CONSTANT.
+     */
+    public void setBorder(int border) {
+        if (border < BORDER_REPLICATE || border > BORDER_CONSTANT) {
+            throw new IllegalArgumentException("Invalid argument: border " + border);
+        }
+        this.border = border;
+    }
+
+    public int getBorderValue() {
+        return borderValue;
+    }
+
+    /**
+     * @param borderValue The value of the pixels beyond the border for BORDER_CONSTANT.
+     */
+    public void setBorderValue(int borderValue) {
+        this.borderValue = borderValue;
+    }
+
+    public int getDelta() {
+        return delta;
+    }
+
+    /**
+     * @param delta The value added to every result.
+     */
+    public void setDelta(int delta) {
+        this.delta = delta;
+    }
+
+    /**
+     * Convolve a channel in place.
+     * @param channel The channel, the pixel (row, col) is channel[offset + row * stride + col].
+     * @param offset  The offset of the first pixel.
+     * @param stride  The distance between two rows.
+     * @param width   The width.
+     * @param height  The height.
+     */
+    public void filter(byte[] channel, int offset, int stride, int width, int height) {
+        byte[] output = BufferPool.acquireBytes(width * height);
+        convolve(channel, offset, stride, output, 0, width, width, height);
+        for (int row = 0; row < height; row++) {
+            System.arraycopy(output, row * width, channel, offset + row * stride, width);
+        }
+        BufferPool.release(output);
+    }
+
+    /**
+     * Convolve src into dst, the results are clamped to [0, 255], src and dst must not overlap.
+     */
+    public void convolve(byte[] src, int srcOffset, int srcStride,
+                         final byte[] dst, final int dstOffset, final int dstStride, final int width, int height) {
+        run(src, srcOffset, srcStride, width, height, (row, values) -> {
+            int index = dstOffset + row * dstStride;
+            for (int col = 0; col < width; col++) {
+                int v = values[col];
+                dst[index + col] = (byte) (v < 0 ? 0 : (v > 255 ? 255 : v));
+            }
+        });
+    }
+
+    /**
+     * Convolve src into dst, the results are not clamped, for gradients for example.
+     */
+    public void convolve(byte[] src, int srcOffset, int srcStride,
+                         final int[] dst, final int dstOffset, final int dstStride, final int width, int height) {
+        run(src, srcOffset, srcStride, width, height,
+                (row, values) -> System.arraycopy(values, 0, dst, dstOffset + row * dstStride, width));
+    }
+
+    /**
+     * Receives the results of an output row.
+     */
+    private interface RowSink {
+        void put(int row, int[] values);
+    }
+
+    private void run(final byte[] src, final int srcOffset, final int srcStride,
+                     final int width, final int height, final RowSink sink) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Invalid argument: the size is " + width + "x" + height);
+        }
+
+        ExecutionContext.forEachBand(height, kernel.getHeight() / 2, band -> {
+            Band b = new Band(src, srcOffset, srcStride, width, height);
+            b.process(band, sink);
+        });
+    }
+
+    /**
+     * The state of a band: the padded source rows, the ring and the results of a row.
+     */
+    private final class Band {
+
+        private final byte[] src;
+        private final int srcOffset;
+        private final int srcStride;
+        private final int width;
+        private final int height;
+
+        private final int kw;
+        private final int kh;
+        private final int rx;
+        private final int ry;
+        private final boolean integer;
+        private final boolean separable;
+
+        private final int[] paddedInts;
+        private final float[] paddedFloats;
+        private final int[][] ringInts;
+        private final float[][] ringFloats;
+        private final int[] values;
+        private final int[] accumulator;
+        private final float[] floatAccumulator;
+
+        Band(byte[] src, int srcOffset, int srcStride, int width, int height) {
+            this.src = src;
+            this.srcOffset = srcOffset;
+            this.srcStride = srcStride;
+            this.width = width;
+            this.height = height;
+            this.kw = kernel.getWidth();
+            this.kh = kernel.getHeight();
+            this.rx = kw / 2;
+            this.ry = kh / 2;
+            this.integer = kernel.isInteger();
+            this.separable = kernel.isSeparable();
+
+            int padded = width + kw - 1;
+            // a dense kernel keeps padded rows in the ring, a separable kernel keeps filtered rows
+            int ringWidth = separable ? width : padded;
+            paddedInts = integer ? new int[padded] : null;
+            paddedFloats = integer ? null : new float[padded];
+            ringInts = integer ? new int[kh][ringWidth] : null;
+            ringFloats = integer ? null : new float[kh][ringWidth];
+            values = new int[width];
+            accumulator = integer ? new int[width] : null;
+            floatAccumulator = integer ? null : new float[width];
+        }
+
+        void process(RowBand band, RowSink sink) {
+            for (int v = band.start - ry; v < band.start - ry + kh - 1; v++) {
+                load(v);
+            }
+            for (int row = band.start; row < band.end; row++) {
+                load(row - ry + kh - 1);
+                if (integer) {
+                    computeInts(row);
+                } else {
+                    computeFloats(row);
+                }
+                sink.put(row, values);
+            }
+        }
+
+        private int slot(int v) {
+            int s = v % kh;
+            return s < 0 ? s + kh : s;
+        }
+
+        /**
+         * Pad the virtual source row v, it may be beyond the border, and store it in the ring.
+         */
+        private void load(int v) {
+            int s = slot(v);
+            int row = map(v, height);
+            if (integer) {
+                int[] target = separable ? paddedInts : ringInts[s];
+                pad(row, target, null);
+                if (separable) {
+                    horizontal(target, ringInts[s]);
+                }
+            } else {
+                float[] target = separable ? paddedFloats : ringFloats[s];
+                pad(row, null, target);
+                if (separable) {
+                    horizontal(target, ringFloats[s]);
+                }
+            }
+        }
+
+        /**
+         * Copy a source row into ints or floats, the column c is at c + rx.
+         * @param row The source row, -1 for a row of the border value.
+         */
+        private void pad(int row, int[] ints, float[] floats) {
+            int length = width + kw - 1;
+            if (row < 0) {
+                if (ints != null) {
+                    Arrays.fill(ints, borderValue);
+                } else {
+                    Arrays.fill(floats, borderValue);
+                }
+                return;
+            }
+
+            int start = srcOffset + row * srcStride;
+            if (ints != null) {
+                for (int col = 0; col < width; col++) {
+                    ints[col + rx] = src[start + col] & 0xff;
+                }
+            } else {
+                for (int col = 0; col < width; col++) {
+                    floats[col + rx] = src[start + col] & 0xff;
+                }
+            }
+
+            // the columns beyond the left and the right border
+            for (int i = 0; i < length; i++) {
+                if (i == rx) {
+                    i += width - 1;
+                    continue;
+                }
+                int c = map(i - rx, width);
+                int value = c < 0 ? borderValue : src[start + c] & 0xff;
+                if (ints != null) {
+                    ints[i] = value;
+                } else {
+                    floats[i] = value;
+                }
+            }
+        }
+
+        private void horizontal(int[] padded, int[] out) {
+            int[] weights = kernel.rowInts();
+            Arrays.fill(out, 0);
+            for (int k = 0; k < kw; k++) {
+                int w = weights[k];
+                if (w == 0) continue;
+                for (int x = 0; x < width; x++) {
+                    out[x] += w * padded[x + k];
+                }
+            }
+        }
+
+        private void horizontal(float[] padded, float[] out) {
+            float[] weights = kernel.rowFloats();
+            Arrays.fill(out, 0);
+            for (int k = 0; k < kw; k++) {
+                float w = weights[k];
+                if (w == 0) continue;
+                for (int x = 0; x < width; x++) {
+                    out[x] += w * padded[x + k];
+                }
+            }
+        }
+
+        private void computeInts(int row) {
+            int[] acc = accumulator;
+            Arrays.fill(acc, 0);
+            for (int ky = 0; ky < kh; ky++) {
+                int[] source = ringInts[slot(row - ry + ky)];
+                if (separable) {
+                    int w = kernel.columnInts()[ky];
+                    if (w == 0) continue;
+                    for (int x = 0; x < width; x++) {
+                        acc[x] += w * source[x];
+                    }
+                    continue;
+                }
+                int[] weights = kernel.ints();
+                for (int kx = 0; kx < kw; kx++) {
+                    int w = weights[ky * kw + kx];
+                    if (w == 0) continue;
+                    for (int x = 0; x < width; x++) {
+                        acc[x] += w * source[x + kx];
+                    }
+                }
+            }
+
+            int shift = kernel.getShift();
+            int rounding = shift > 0 ? 1 << (shift - 1) : 0;
+            for (int x = 0; x < width; x++) {
+                values[x] = ((acc[x] + rounding) >> shift) + delta;
+            }
+        }
+
+        private void computeFloats(int row) {
+            float[] acc = floatAccumulator;
+            Arrays.fill(acc, 0);
+            for (int ky = 0; ky < kh; ky++) {
+                float[] source = ringFloats[slot(row - ry + ky)];
+                if (separable) {
+                    float w = kernel.columnFloats()[ky];
+                    if (w == 0) continue;
+                    for (int x = 0; x < width; x++) {
+                        acc[x] += w * source[x];
+                    }
+                    continue;
+                }
+                float[] weights = kernel.floats();
+                for (int kx = 0; kx < kw; kx++) {
+                    float w = weights[ky * kw + kx];
+                    if (w == 0) continue;
+                    for (int x = 0; x < width; x++) {
+                        acc[x] += w * source[x + kx];
+                    }
+                }
+            }
+
+            for (int x = 0; x < width; x++) {
+                values[x] = (int) Math.floor(acc[x] + 0.5f) + delta;
+            }
+        }
+    }
+
+    /**
+     * Map a row or column index beyond the border to the index it reads.
+     * @return The index in [0, length), -1 for the border value.
+     */
+    private int map(int i, int length) {
+        if (i >= 0 && i < length) {
+            return i;
+        }
+
+        switch (border) {
+            case BORDER_CONSTANT:
+                return -1;
+            case BORDER_REFLECT:
+                if (length == 1) {
+                    return 0;
+                }
+                int period = 2 * (length - 1);
+                int m = i % period;
+                if (m < 0) {
+                    m += period;
+                }
+                return m < length ? m : period - m;
+            default:
+                return i < 0 ? 0 : length - 1;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.spatial.conv;
+
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.filters.BaseFilter;
+
+/**
+ * can iteration this operation multiple, make it more blur
+ */
+public class ConvolutionHVFilter extends BaseFilter {
+
+    /**
+     * The 3x3 box, a horizontal then a vertical average of 3 pixels.
+     */
+    private static final float[] THIRDS = new float[] {1 / 3f, 1 / 3f, 1 / 3f};
+
+    private static final Kernel BOX = Kernel.separable(THIRDS, THIRDS);
+
+	@Override
+	public ImageProcessor doFilter(ImageProcessor src) {
+		convolve(new Convolution(BOX));
+		return src;
+	}
+
+	@Override
+	protected boolean isStrideAware() {
+		return true;
+	}
+
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.spatial.conv;
+
+/**
+ * A convolution kernel of any size with int or float weights, its anchor is the
+ * center (width / 2, height / 2). A separable kernel is the product of a row vector
+ * and a column vector, it is applied as a horizontal then a vertical pass.
+ *
+ * The result of an int kernel is the weighted sum rounded and shifted right by shift bits,
+ * so a small integer kernel runs entirely in int arithmetic. The weights must be small
+ * enough for the sum over 8 bit pixels to fit an int.
+ */
+public class Kernel {
+
+    private final int width;
+
+    private final int height;
+
+    private final int shift;
+
+    /**
+     * The weights row after row, null if the kernel is separable or float.
+     */
+    private final int[] ints;
+
+    /**
+     * The weights row after row, null if the kernel is separable or int.
+     */
+    private final float[] floats;
+
+    /**
+     * The row and column vectors of a separable int kernel.
+     */
+    private final int[] rowInts;
+    private final int[] columnInts;
+
+    /**
+     * The row and column vectors of a separable float kernel.
+     */
+    private final float[] rowFloats;
+    private final float[] columnFloats;
+
+    public Kernel(int width, int height, int[] weights) {
+        this(width, height, weights, 0);
+    }
+
+    /**
+     * @param width   The number of columns.
+     * @param height  The number of rows.
+     * @param weights The weights row after row.
+     * @param shift   The result is the sum divided by 2^shift, rounded.
+     */
+    public Kernel(int width, int height, int[] weights, int shift) {
+        this(width, height, shift, weights.clone(), null, null, null, null, null);
+        checkSize(weights.length);
+        checkRange(sum(weights));
+    }
+
+    /**
+     * @param width   The number of columns.
+     * @param height  The number of rows.
+     * @param weights The weights row after row.
+     */
+    public Kernel(int width, int height, float[] weights) {
+        this(width, height, 0, null, weights.clone(), null, null, null, null);
+        checkSize(weights.length);
+    }
+
+    private Kernel(int width, int height, int shift, int[] ints, float[] floats,
+                   int[] rowInts, int[] columnInts, float[] rowFloats, float[] columnFloats) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Invalid argument: kernel size " + width + "x" + height);
+        }
+        if (shift < 0 || shift > 30) {
+            throw new IllegalArgumentException("Invalid argument: shift " + shift);
+        }
+        this.width = width;
+        this.height = height;
+        this.shift = shift;
+        this.ints = ints;
+        this.floats = floats;
+        this.rowInts = rowInts;
+        this.columnInts = columnInts;
+        this.rowFloats = rowFloats;
+        this.columnFloats = columnFloats;
+    }
+
+    /**
+     * @param row    The row vector, applied first.
+     * @param column The column vector.
+     * @param shift  The result is the sum divided by 2^shift, rounded.
+     * @return       The kernel row x column.
+     */
+    public static Kernel separable(int[] row, int[] column, int shift) {
+        Kernel kernel = new Kernel(row.length, column.length, shift,
+                null, null, row.clone(), column.clone(), null, null);
+        kernel.checkRange(sum(row) * sum(column));
+        return kernel;
+    }
+
+    /**
+     * @param row    The row vector, applied first.
+     * @param column The column vector.
+     * @return       The kernel row x column.
+     */
+    public static Kernel separable(float[] row, float[] column) {
+        return new Kernel(row.length, column.length, 0,
+                null, null, null, null, row.clone(), column.clone());
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getShift() {
+        return shift;
+    }
+
+    public boolean isSeparable() {
+        return rowInts != null || rowFloats != null;
+    }
+
+    public boolean isInteger() {
+        return ints != null || rowInts != null;
+    }
+
+    int[] ints() {
+        return ints;
+    }
+
+    float[] floats() {
+        return floats;
+    }
+
+    int[] rowInts() {
+        return rowInts;
+    }
+
+    int[] columnInts() {
+        return columnInts;
+    }
+
+    float[] rowFloats() {
+        return rowFloats;
+    }
+
+    float[] columnFloats() {
+        return columnFloats;
+    }
+
+    private void checkSize(int length) {
+        if (length != width * height) {
+            throw new IllegalArgumentException("Invalid argument: " + length
+                    + " weights for a kernel of " + width + "x" + height);
+        }
+    }
+
+    /**
+     * @param absoluteSum The sum of the absolute values of the weights.
+     */
+    private void checkRange(long absoluteSum) {
+        if (absoluteSum * 255 + (1 << shift) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid argument: the kernel weights are too large for int sums");
+        }
+    }
+
+    private static long sum(int[] weights) {
+        long sum = 0;
+        for (int weight : weights) {
+            sum += Math.abs((long) weight);
+        }
+        return sum;
+    }
+}
@@ -18,6 +18,7 @@ package com.cv4j.core.spatial.conv;
 import com.cv4j.core.datamodel.ColorProcessor;
 import com.cv4j.core.datamodel.image.ImageProcessor;
 import com.cv4j.core.filters.math.GaussianBlurFilter;
+import com.cv4j.core.memory.BufferPool;
 import com.cv4j.image.util.Tools;
 
 /**
@@ -83,7 +84,7 @@ public class MaerOperatorFilter extends GaussianBlurFilter {
 		// 拉普拉斯算子 ，发现边缘
 
 		int total = width * height;
-		byte[][] output = new byte[3][total];
+		byte[][] output = BufferPool.acquireBytes(3, total);
 
 		int offset = 0;
 		
@@ -96,8 +97,7 @@ public class MaerOperatorFilter extends GaussianBlurFilter {
 
 		ColorProcessor colorSrc = (ColorProcessor) src;
 		colorSrc.putRGB(output[0], output[1], output[2]);
-		
-		output = null;
+		BufferPool.release(output);
 		
 		return src;
 	}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.spatial.conv;
+
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.filters.BaseFilter;
+
+/**
+ * The sharp filter.
+ */
+public class SharpFilter extends BaseFilter {
+
+    /**
+     * The kernel
+     */
+	private static final int[] kernel = new int[] {
+		-1, -1, -1, -1, 12, -1, -1, -1, -1
+	};
+
+	/**
+	 * The kernel sums to 4, the result is divided by 4.
+	 */
+	private static final Kernel SHARP = new Kernel(3, 3, kernel, 2);
+
+	@Override
+	public ImageProcessor doFilter(ImageProcessor src){
+		convolve(new Convolution(SHARP));
+		return src;
+	}
+
+	@Override
+	protected boolean isStrideAware() {
+		return true;
+	}
+
+}
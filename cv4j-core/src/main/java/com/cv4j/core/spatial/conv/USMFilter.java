@@ -18,6 +18,7 @@ package com.cv4j.core.spatial.conv;
 import com.cv4j.core.datamodel.ColorProcessor;
 import com.cv4j.core.datamodel.image.ImageProcessor;
 import com.cv4j.core.filters.math.GaussianBlurFilter;
+import com.cv4j.core.memory.BufferPool;
 import com.cv4j.image.util.Tools;
 
 /**
@@ -44,13 +45,13 @@ public class USMFilter extends GaussianBlurFilter {
 
 		int total = width*height;
 
-		byte[] R1 = new byte[total];
-		byte[] G1 = new byte[total];
-		byte[] B1 = new byte[total];
+		byte[] R1 = BufferPool.acquireBytes(total);
+		byte[] G1 = BufferPool.acquireBytes(total);
+		byte[] B1 = BufferPool.acquireBytes(total);
 		System.arraycopy(R, 0, R1, 0, total);
 		System.arraycopy(G, 0, G1, 0, total);
 		System.arraycopy(B, 0, B1, 0, total);
-		byte[][] output = new byte[3][total];
+		byte[][] output = BufferPool.acquireBytes(3, total);
 		
 		// 高斯模糊
 		super.doFilter(src);
@@ -60,7 +61,11 @@ public class USMFilter extends GaussianBlurFilter {
 		}
 
 		((ColorProcessor) src).putRGB(output[0], output[1], output[2]);
-		output = null;
+		BufferPool.release(output);
+		BufferPool.release(R1);
+		BufferPool.release(G1);
+		BufferPool.release(B1);
+
 		return src;
 	}
 
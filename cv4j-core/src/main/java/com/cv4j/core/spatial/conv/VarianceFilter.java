@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.spatial.conv;
+
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.datamodel.number.LocalStatistics;
+import com.cv4j.core.filters.BaseFilter;
+import com.cv4j.image.util.Tools;
+
+/**
+ * The variance filter, the variance of every window is read from
+ * the integral images of the channel so the cost does not depend on the radius.
+ */
+public class VarianceFilter extends BaseFilter {
+
+	private int radius;
+
+	public VarianceFilter() {
+		radius = 1;
+	}
+
+	public void setRadius(int radius) {
+		this.radius = radius;
+	}
+
+	public int getRadius() {
+		return radius;
+	}
+
+	@Override
+	protected boolean isStrideAware() {
+		return true;
+	}
+
+	public ImageProcessor doFilter(ImageProcessor src) {
+		LocalStatistics statistics = new LocalStatistics();
+
+		for (byte[] channel : new byte[][]{R, G, B}) {
+			// the tables hold the whole channel, so the pixels can be replaced in place
+			statistics.build(channel, offset, stride, width, height);
+			forEachBand(0, band -> {
+				for (int row = band.start; row < band.end; row++) {
+					int index = offset + row * stride;
+					for (int col = 0; col < width; col++) {
+						// 统计滤波器 -方差
+						double var = statistics.getVariance(col, row, radius, radius);
+						channel[index + col] = (byte) Tools.clamp((int) var);
+					}
+				}
+			});
+		}
+
+		return src;
+	}
+
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.spatial.conv.edge;
+
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.datamodel.plane.Planes;
+import com.cv4j.core.metrics.Instrumentation;
+import com.cv4j.core.metrics.StageTimer;
+import com.cv4j.core.parallel.ExecutionContext;
+import com.cv4j.core.spatial.conv.Convolution;
+import com.cv4j.core.spatial.conv.Kernel;
+
+import java.util.Arrays;
+
+/**
+ * The Canny edge detector, it returns thin and connected edges, 255 on 0.
+ *
+ * The gradients come from the integer Sobel kernels, the magnitude is kept as shorts
+ * and the direction quantized to 4 sectors as bytes. The non-maximum suppression
+ * marks every pixel as none, weak or strong in a single pass, the hysteresis then
+ * grows the strong edges into the 8 connected weak pixels with an explicit stack.
+ * Every stage before the hysteresis runs in parallel bands. The buffers are kept
+ * and reused by the next image of the same size.
+ */
+public class CannyEdgeDetector {
+
+	/**
+	 * tan(22.5 degrees) and tan(67.5 degrees) in 15 bits fixed point.
+	 */
+	private static final int TAN_22_5 = 13573;
+	private static final int TAN_67_5 = 79109;
+	private static final int FIXED_SHIFT = 15;
+
+	/**
+	 * The quantized directions of the gradient.
+	 */
+	private static final byte HORIZONTAL = 0;
+	private static final byte VERTICAL = 1;
+	private static final byte DIAGONAL = 2;
+	private static final byte ANTI_DIAGONAL = 3;
+
+	/**
+	 * The marks of the non-maximum suppression.
+	 */
+	private static final byte NONE = 0;
+	private static final byte WEAK = 1;
+	private static final byte STRONG = 2;
+
+	private static final Convolution SOBEL_X = new Convolution(Kernel.separable(new int[] {-1, 0, 1}, new int[] {1, 2, 1}, 0));
+	private static final Convolution SOBEL_Y = new Convolution(Kernel.separable(new int[] {1, 2, 1}, new int[] {-1, 0, 1}, 0));
+
+	private int lowThreshold;
+
+	private int highThreshold;
+
+	private boolean l2Gradient;
+
+	private byte[] gray;
+	private int[] dx;
+	private int[] dy;
+	private short[] magnitude;
+	private byte[] direction;
+	private byte[] marks;
+	private int[] stack;
+
+	public CannyEdgeDetector() {
+		this(50, 100);
+	}
+
+	/**
+	 * @param lowThreshold  The weak edges have a gradient magnitude of at least lowThreshold.
+	 * @param highThreshold The strong edges have a gradient magnitude of at least highThreshold.
+	 */
+	public CannyEdgeDetector(int lowThreshold, int highThreshold) {
+		setThresholds(lowThreshold, highThreshold);
+	}
+
+	public int getLowThreshold() {
+		return lowThreshold;
+	}
+
+	public int getHighThreshold() {
+		return highThreshold;
+	}
+
+	public void setThresholds(int lowThreshold, int highThreshold) {
+		if (lowThreshold < 0 || highThreshold < lowThreshold) {
+			throw new IllegalArgumentException("Invalid argument: thresholds " + lowThreshold + ", " + highThreshold);
+		}
+		this.lowThreshold = lowThreshold;
+		this.highThreshold = highThreshold;
+	}
+
+	public boolean isL2Gradient() {
+		return l2Gradient;
+	}
+
+	/**
+	 * @param l2Gradient true for the magnitude sqrt(dx^2 + dy^2), false for |dx| + |dy|.
+	 */
+	public void setL2Gradient(boolean l2Gradient) {
+		this.l2Gradient = l2Gradient;
+	}
+
+	/**
+	 * Detect the edges, a color image is converted to gray first.
+	 * The pixels of the outermost rows and columns are never edges.
+	 * @param src The image.
+	 * @return    The edges, 255 on 0.
+	 */
+	public ByteProcessor detect(ImageProcessor src) {
+		StageTimer timer = Instrumentation.begin();
+		try {
+			// an off-heap image is read through a heap copy
+			return detectEdges(Planes.onHeap(src));
+		} finally {
+			if (timer != null) Instrumentation.end(timer, "CannyEdgeDetector", src);
+		}
+	}
+
+	private ByteProcessor detectEdges(ImageProcessor src) {
+		final int width = src.getWidth();
+		final int height = src.getHeight();
+		allocate(width * height);
+
+		byte[] pixels;
+		int offset;
+		int stride;
+		if (src.getChannels() == 1) {
+			pixels = Planes.array(src, 0);
+			offset = src.getOffset();
+			stride = src.getStride();
+		} else {
+			toGray(src);
+			pixels = gray;
+			offset = 0;
+			stride = width;
+		}
+
+		SOBEL_X.convolve(pixels, offset, stride, dx, 0, width, width, height);
+		SOBEL_Y.convolve(pixels, offset, stride, dy, 0, width, width, height);
+
+		ExecutionContext.forEachBand(height, 0, band -> {
+			for (int i = band.start * width; i < band.end * width; i++) {
+				gradient(i);
+			}
+		});
+
+		ExecutionContext.forEachBand(height, 1, band -> {
+			for (int row = band.start; row < band.end; row++) {
+				suppress(row, width, height);
+			}
+		});
+
+		hysteresis(width, height);
+
+		final byte[] edges = new byte[width * height];
+		final byte[] m = marks;
+		ExecutionContext.forEachBand(height, 0, band -> {
+			for (int i = band.start * width; i < band.end * width; i++) {
+				edges[i] = m[i] == STRONG ? (byte) 255 : 0;
+			}
+		});
+
+		return new ByteProcessor(edges, width, height);
+	}
+
+	private void allocate(int size) {
+		if (dx == null || dx.length != size) {
+			gray = null;
+			dx = new int[size];
+			dy = new int[size];
+			magnitude = new short[size];
+			direction = new byte[size];
+			marks = new byte[size];
+			stack = new int[Math.min(size, 1 << 16)];
+		}
+	}
+
+	private void toGray(final ImageProcessor src) {
+		final int width = src.getWidth();
+		if (gray == null) {
+			gray = new byte[dx.length];
+		}
+		final byte[] red = Planes.array(src, 0);
+		final byte[] green = Planes.array(src, 1);
+		final byte[] blue = Planes.array(src, 2);
+		final int offset = src.getOffset();
+		final int stride = src.getStride();
+
+		// 0.299, 0.587 and 0.114 in 8 bits fixed point
+		ExecutionContext.forEachBand(src.getHeight(), 0, band -> {
+			for (int row = band.start; row < band.end; row++) {
+				int index = offset + row * stride;
+				int out = row * width;
+				for (int col = 0; col < width; col++) {
+					int c = (77 * (red[index + col] & 0xff) + 150 * (green[index + col] & 0xff)
+							+ 29 * (blue[index + col] & 0xff)) >> 8;
+					gray[out + col] = (byte) c;
+				}
+			}
+		});
+	}
+
+	/**
+	 * The magnitude and the quantized direction of the gradient of pixel i.
+	 */
+	private void gradient(int i) {
+		int gx = dx[i];
+		int gy = dy[i];
+		int ax = Math.abs(gx);
+		int ay = Math.abs(gy);
+
+		magnitude[i] = (short) (l2Gradient ? (int) (Math.sqrt(gx * gx + gy * gy) + 0.5) : ax + ay);
+
+		int y = ay << FIXED_SHIFT;
+		if (y <= ax * TAN_22_5) {
+			direction[i] = HORIZONTAL;
+		} else if (y > ax * TAN_67_5) {
+			direction[i] = VERTICAL;
+		} else {
+			direction[i] = (gx ^ gy) < 0 ? ANTI_DIAGONAL : DIAGONAL;
+		}
+	}
+
+	/**
+	 * Keep the pixels of a row whose magnitude is a maximum along the gradient,
+	 * mark them weak or strong. A pixel must be greater than its neighbour before it
+	 * and not smaller than the one after it, so a plateau gives a single edge.
+	 */
+	private void suppress(int row, int width, int height) {
+		int start = row * width;
+		if (row == 0 || row == height - 1) {
+			for (int i = start; i < start + width; i++) {
+				marks[i] = NONE;
+			}
+			return;
+		}
+
+		marks[start] = NONE;
+		marks[start + width - 1] = NONE;
+		for (int i = start + 1; i < start + width - 1; i++) {
+			int m = magnitude[i];
+			if (m < lowThreshold || m == 0) {
+				marks[i] = NONE;
+				continue;
+			}
+
+			int before;
+			int after;
+			switch (direction[i]) {
+				case HORIZONTAL:
+					before = i - 1;
+					after = i + 1;
+					break;
+				case VERTICAL:
+					before = i - width;
+					after = i + width;
+					break;
+				case DIAGONAL:
+					before = i - width - 1;
+					after = i + width + 1;
+					break;
+				default:
+					before = i - width + 1;
+					after = i + width - 1;
+					break;
+			}
+
+			if (m > magnitude[before] && m >= magnitude[after]) {
+				marks[i] = m >= highThreshold ? STRONG : WEAK;
+			} else {
+				marks[i] = NONE;
+			}
+		}
+	}
+
+	/**
+	 * Grow every strong pixel into its 8 connected weak pixels, depth first.
+	 */
+	private void hysteresis(int width, int height) {
+		int size = width * height;
+		int top = 0;
+		for (int i = 0; i < size; i++) {
+			if (marks[i] != STRONG) continue;
+
+			stack[top++] = i;
+			while (top > 0) {
+				int p = stack[--top];
+				// the outermost pixels are never marked, so the neighbours are inside
+				for (int dyo = -width; dyo <= width; dyo += width) {
+					for (int dxo = -1; dxo <= 1; dxo++) {
+						int q = p + dyo + dxo;
+						if (marks[q] == WEAK) {
+							marks[q] = STRONG;
+							if (top == stack.length) {
+								stack = Arrays.copyOf(stack, Math.min(size, stack.length * 2));
+							}
+							stack[top++] = q;
+						}
+					}
+				}
+			}
+		}
+	}
+}
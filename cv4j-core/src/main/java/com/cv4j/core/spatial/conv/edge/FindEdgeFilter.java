@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.spatial.conv.edge;
+
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.filters.BaseFilter;
+import com.cv4j.core.memory.BufferPool;
+import com.cv4j.core.spatial.conv.Convolution;
+import com.cv4j.core.spatial.conv.Kernel;
+
+import static com.cv4j.image.util.Tools.clamp;
+
+/**
+ * The find-edge filter.
+ */
+public class FindEdgeFilter extends BaseFilter {
+
+	/**
+	 * The horizontal Sobel operator filter is used for edge detection
+	 * <p>
+	 * This is a 3x3 filter:<br>
+	 * -1 -2 -1 <br>
+	 *  0  0  0 <br>
+	 *  1  2  1 <br>
+	 */
+	private static final int[] sobel_x = new int[] { -1, -2, -1, 0, 0, 0, 1, 2, 1 };
+	/**
+	 * Vertical Sobel operator filters for edge detection
+	 * <p>
+	 * This is a 3x3 filter:<br>
+	 * -1  0  1 <br>
+	 * -2  0  2 <br>
+	 * -1  0  1 <br>
+	 */
+	private static final int[] sobel_y = new int[] { -1, 0, 1, -2, 0, 2, -1, 0, 1 };
+
+	@Override
+	public ImageProcessor doFilter(ImageProcessor src) {
+		final int total = width * height;
+		final int[] dx = BufferPool.acquireInts(total);
+		final int[] dy = BufferPool.acquireInts(total);
+		Convolution convolutionX = new Convolution(new Kernel(3, 3, sobel_y));
+		Convolution convolutionY = new Convolution(new Kernel(3, 3, sobel_x));
+
+		for (final byte[] channel : new byte[][]{R, G, B}) {
+			convolutionX.convolve(channel, offset, stride, dx, 0, width, width, height);
+			convolutionY.convolve(channel, offset, stride, dy, 0, width, width, height);
+
+			// magnitude
+			forEachBand(0, band -> {
+				for (int row = band.start; row < band.end; row++) {
+					int index = offset + row * stride;
+					int gradient = row * width;
+					for (int col = 0; col < width; col++) {
+						int gx = dx[gradient + col];
+						int gy = dy[gradient + col];
+						channel[index + col] = (byte) clamp((int) Math.sqrt(gx * gx + gy * gy));
+					}
+				}
+			});
+		}
+
+		BufferPool.release(dx);
+		BufferPool.release(dy);
+		return src;
+	}
+
+	@Override
+	protected boolean isStrideAware() {
+		return true;
+	}
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.spatial.conv.edge;
+
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.filters.BaseFilter;
+import com.cv4j.core.spatial.conv.Convolution;
+import com.cv4j.core.spatial.conv.Kernel;
+
+/**
+ * The laplas filter.
+ */
+public class LaplasFilter extends BaseFilter {
+    
+    /**
+     * Constant of four
+     */
+	public static int[] FOUR = new int[] { 0, -1, 0, -1, 4, -1, 0, -1, 0 };
+    
+    /**
+     * Constant of eight
+     */
+	public static int[] EIGHT = new int[] { -1, -1, -1, -1, 8, -1, -1, -1, -1};
+	
+	private boolean _4direction;
+
+	public LaplasFilter() {
+		_4direction = true;
+	}
+
+	/**
+	 * @return Is four direct
+	 */
+	public boolean is4direct() {
+		return _4direction;
+	}
+
+	/**
+	 * Set 4 direct
+	 * @param xdirect The x direct
+	 */
+	public void set4direct(boolean xdirect) {
+		this._4direction = xdirect;
+	}
+
+	@Override
+	public ImageProcessor doFilter(ImageProcessor src){
+		convolve(new Convolution(new Kernel(3, 3, _4direction ? FOUR : EIGHT)));
+		return src;
+	}
+
+	@Override
+	protected boolean isStrideAware() {
+		return true;
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.spatial.conv.edge;
+
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.filters.BaseFilter;
+import com.cv4j.core.spatial.conv.Convolution;
+import com.cv4j.core.spatial.conv.Kernel;
+
+/**
+ * The sobel filter.
+ */
+public class SobelFilter extends BaseFilter {
+    
+    /**
+     *Sobel filter y
+     */
+	public static int[] sobel_y = new int[] { -1, -2, -1, 0, 0, 0, 1, 2, 1 };
+    
+    /**
+     *Sobel filter x
+     */
+	public static int[] sobel_x = new int[] { -1, 0, 1, -2, 0, 2, -1, 0, 1 };
+	
+	private boolean xdirect;
+
+	/**
+	 * Constructor.
+	 */
+	public SobelFilter() {
+		xdirect = true;
+	}
+
+	/**
+	 * @return Is X direct
+	 */
+	public boolean isXdirect() {
+		return xdirect;
+	}
+
+	/**
+	 * Set x direct
+	 * @param xdirect The x direct.
+	 */
+	public void setXdirect(boolean xdirect) {
+		this.xdirect = xdirect;
+	}
+
+	@Override
+	public ImageProcessor doFilter(ImageProcessor src){
+		convolve(new Convolution(new Kernel(3, 3, xdirect ? sobel_x : sobel_y)));
+		return src;
+	}
+
+	@Override
+	protected boolean isStrideAware() {
+		return true;
+	}
+
+}
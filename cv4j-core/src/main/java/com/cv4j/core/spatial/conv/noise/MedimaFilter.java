@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.spatial.conv.noise;
+
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.datamodel.plane.Planes;
+import com.cv4j.core.filters.CommonFilter;
+import com.cv4j.core.memory.BufferPool;
+import com.cv4j.core.metrics.Instrumentation;
+import com.cv4j.core.metrics.StageTimer;
+import com.cv4j.core.parallel.ExecutionContext;
+import com.cv4j.core.parallel.RowBand;
+
+import java.util.Arrays;
+
+/**
+ * The medima filter, the median of the (2 * radius + 1)^2 window of every pixel.
+ * A gray image is filtered as is, a color image channel by channel.
+ * The cost per pixel does not depend on the radius.
+ */
+public class MedimaFilter implements CommonFilter {
+	/**
+	 * The number of coarse bins of a histogram, each one covers 16 fine bins.
+	 */
+	private static final int COARSE = 16;
+
+	/**
+	 * The number of fine bins of a histogram, one per gray level.
+	 */
+	private static final int FINE = 256;
+
+	private boolean meanfilter;
+	private int radius;
+	public MedimaFilter() {
+		meanfilter = true;
+		radius = 1;
+	}
+	
+	public void setRadius(int radius) {
+		this.radius = radius;
+	}
+
+	public boolean isMeanfilter() {
+		return meanfilter;
+	}
+
+	public void setMeanfilter(boolean meanfilter) {
+		this.meanfilter = meanfilter;
+	}
+
+	@Override
+	public ImageProcessor filter(ImageProcessor src) {
+		StageTimer timer = Instrumentation.begin();
+		try {
+			if (!Planes.isHeap(src)) {
+				// the tables and the median read the planes as arrays, filter a heap copy
+				ImageProcessor copy = Planes.packedCopy(src);
+				filterImage(copy);
+				Planes.copy(copy, src);
+				return src;
+			}
+			return filterImage(src);
+		} finally {
+			if (timer != null) Instrumentation.end(timer, getClass().getSimpleName(), src);
+		}
+	}
+
+	private ImageProcessor filterImage(ImageProcessor src) {
+		final int width = src.getWidth();
+		final int height = src.getHeight();
+		final int offset = src.getOffset();
+		final int stride = src.getStride();
+		final byte[] output = BufferPool.acquireBytes(width*height);
+
+		// every channel on its own, the rows of a channel run in parallel bands
+		for(int i=0; i<src.getChannels(); i++) {
+			final byte[] input = Planes.array(src, i);
+			ExecutionContext.forEachBand(height, radius,
+					band -> medianBand(input, offset, stride, output, width, height, band));
+
+			for(int row=0; row<height; row++) {
+				System.arraycopy(output, row*width, input, offset + row*stride, width);
+			}
+		}
+
+		BufferPool.release(output);
+		return src;
+	}
+
+	/**
+	 * The median of the (2 * radius + 1)^2 window of every pixel of the band (Perreault and Hebert).
+	 * A histogram per column covers the 2 * radius + 1 rows of the window and moves down one row
+	 * at a time, the histogram of the window moves right one column at a time by adding the
+	 * entering column and removing the leaving one. Histograms have 16 coarse bins and 256 fine
+	 * bins, the window only keeps the fine bins of a coarse bin up to date when the median is in it.
+	 * The pixels beyond the border repeat the border.
+	 * @param input  the channel
+	 * @param offset the pixel (0, 0) of the channel
+	 * @param stride the row stride of the channel
+	 * @param output the packed result
+	 * @param width
+	 * @param height
+	 * @param band the rows to filter
+	 */
+	private void medianBand(byte[] input, int offset, int stride, byte[] output, int width, int height, RowBand band) {
+		final int r = radius;
+		final int span = 2*r + 1;
+		final int rank = span*span/2 + 1;
+
+		int[] colCoarse = BufferPool.acquireInts(width*COARSE);
+		int[] colFine = BufferPool.acquireInts(width*FINE);
+		int[] coarse = new int[COARSE];
+		int[] fine = new int[FINE];
+		int[] updated = new int[COARSE];
+
+		// the column histograms of the rows above the first row of the band
+		for(int i = -r - 1; i < r; i++) {
+			updateColumns(input, offset + clamp(band.start + i, height)*stride, width, colCoarse, colFine, 1);
+		}
+
+		for(int row=band.start; row<band.end; row++) {
+			updateColumns(input, offset + clamp(row - r - 1, height)*stride, width, colCoarse, colFine, -1);
+			updateColumns(input, offset + clamp(row + r, height)*stride, width, colCoarse, colFine, 1);
+
+			Arrays.fill(coarse, 0);
+			for(int j=-r; j<=r; j++) {
+				add(coarse, 0, colCoarse, clamp(j, width)*COARSE, COARSE, 1);
+			}
+			// the fine bins are out of date for the new row
+			Arrays.fill(updated, -span - 1);
+
+			int outIndex = row*width;
+			for(int col=0; col<width; col++) {
+				if (col > 0) {
+					add(coarse, 0, colCoarse, clamp(col + r, width)*COARSE, COARSE, 1);
+					add(coarse, 0, colCoarse, clamp(col - r - 1, width)*COARSE, COARSE, -1);
+				}
+
+				int sum = 0;
+				int bin = 0;
+				while (sum + coarse[bin] < rank) {
+					sum += coarse[bin++];
+				}
+
+				updateFine(fine, colFine, updated, bin, col, width);
+
+				int value = bin*COARSE;
+				while (sum + fine[value] < rank) {
+					sum += fine[value++];
+				}
+				output[outIndex++] = (byte) value;
+			}
+		}
+
+		BufferPool.release(colCoarse);
+		BufferPool.release(colFine);
+	}
+
+	/**
+	 * Bring the fine bins of one coarse bin of the window to the column col.
+	 */
+	private void updateFine(int[] fine, int[] colFine, int[] updated, int bin, int col, int width) {
+		final int r = radius;
+		final int base = bin*COARSE;
+		int last = updated[bin];
+
+		if (col - last > 2*r + 1) {
+			Arrays.fill(fine, base, base + COARSE, 0);
+			for(int j=col-r; j<=col+r; j++) {
+				add(fine, base, colFine, clamp(j, width)*FINE + base, COARSE, 1);
+			}
+		} else {
+			for(int x=last+1; x<=col; x++) {
+				add(fine, base, colFine, clamp(x + r, width)*FINE + base, COARSE, 1);
+				add(fine, base, colFine, clamp(x - r - 1, width)*FINE + base, COARSE, -1);
+			}
+		}
+		updated[bin] = col;
+	}
+
+	private static void updateColumns(byte[] input, int rowOffset, int width, int[] colCoarse, int[] colFine, int delta) {
+		for(int col=0; col<width; col++) {
+			int c = input[rowOffset + col]&0xff;
+			colCoarse[col*COARSE + (c >> 4)] += delta;
+			colFine[col*FINE + c] += delta;
+		}
+	}
+
+	/**
+	 * histogram[to + i] += delta * bins[from + i] for i in [0, length).
+	 */
+	private static void add(int[] histogram, int to, int[] bins, int from, int length, int delta) {
+		for(int i=0; i<length; i++) {
+			histogram[to + i] += delta*bins[from + i];
+		}
+	}
+
+	private static int clamp(int value, int size) {
+		return (value < 0) ? 0 : (value >= size ? size - 1 : value);
+	}
+
+}
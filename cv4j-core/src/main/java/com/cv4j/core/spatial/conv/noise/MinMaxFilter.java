@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.spatial.conv.noise;
+
+import com.cv4j.core.binary.fast.RunningMinMax;
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.filters.BaseFilter;
+
+/**
+ * The min-max filter, the minimum or the maximum of the (2 * radius + 1)^2 window
+ * of every pixel, the cost per pixel does not depend on the radius.
+ */
+public class MinMaxFilter extends BaseFilter {
+
+	private boolean minFilter;
+	private int radius;
+
+	public MinMaxFilter() {
+		minFilter = true;
+		radius = 1;
+	}
+
+	public void setRadius(int radius) {
+		this.radius = radius;
+	}
+
+	public boolean isMinFilter() {
+		return minFilter;
+	}
+
+	public void setMinFilter(boolean minFilter) {
+		this.minFilter = minFilter;
+	}
+
+	public int getRadius() {
+		return radius;
+	}
+
+	@Override
+	public ImageProcessor doFilter(ImageProcessor src){
+		int size = radius * 2 + 1;
+
+		// the square is separable, a running min or max over the rows then over the columns
+		for (byte[] channel : new byte[][]{R, G, B}) {
+			RunningMinMax.filter(channel, offset, stride, channel, offset, stride,
+					width, height, size, size, !minFilter);
+		}
+
+		return src;
+	}
+
+	@Override
+	protected boolean isStrideAware() {
+		return true;
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.stream;
+
+/**
+ * One pass of the box blur of a BoxBlurFilter: the mean of the 2 * radius + 1
+ * pixels around a pixel, the pixels beyond the border repeat the border.
+ * The vertical pass keeps the sums of the columns from one row to the next.
+ */
+public class BoxBlurStage extends RowStage {
+
+    private final int radius;
+
+    private final boolean vertical;
+
+    private int[][] sums;
+
+    /**
+     * @param radius   The radius of the box.
+     * @param vertical false for the horizontal pass, true for the vertical pass.
+     */
+    public BoxBlurStage(int radius, boolean vertical) {
+        this.radius = radius;
+        this.vertical = vertical;
+    }
+
+    @Override
+    protected void prepare() {
+        sums = new int[channels][width];
+    }
+
+    @Override
+    public int getRadius() {
+        return vertical ? radius : 0;
+    }
+
+    @Override
+    public void process(RowRing input, int row, byte[][] output) {
+        int size = 2 * radius + 1;
+
+        if (!vertical) {
+            byte[][] in = input.get(row);
+            for (int c = 0; c < channels; c++) {
+                byte[] src = in[c];
+                byte[] dst = output[c];
+                int sum = 0;
+                for (int m = -radius; m <= radius; m++) {
+                    sum += src[clamp(m, width)] & 0xff;
+                }
+                for (int col = 0; col < width; col++) {
+                    dst[col] = (byte) (sum / size);
+                    sum += (src[clamp(col + radius + 1, width)] & 0xff) - (src[clamp(col - radius, width)] & 0xff);
+                }
+            }
+            return;
+        }
+
+        for (int c = 0; c < channels; c++) {
+            int[] sum = sums[c];
+            if (row == 0) {
+                for (int m = -radius; m <= radius; m++) {
+                    byte[] src = input.get(m)[c];
+                    for (int col = 0; col < width; col++) {
+                        sum[col] += src[col] & 0xff;
+                    }
+                }
+            } else {
+                byte[] in = input.get(row + radius)[c];
+                byte[] out = input.get(row - radius - 1)[c];
+                for (int col = 0; col < width; col++) {
+                    sum[col] += (in[col] & 0xff) - (out[col] & 0xff);
+                }
+            }
+
+            byte[] dst = output[c];
+            for (int col = 0; col < width; col++) {
+                dst[col] = (byte) (sum[col] / size);
+            }
+        }
+    }
+
+    private static int clamp(int x, int length) {
+        return x < 0 ? 0 : (x >= length ? length - 1 : x);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.stream;
+
+import com.cv4j.core.filters.math.GaussianBlurFilter;
+import com.cv4j.image.util.Tools;
+
+import java.util.Arrays;
+
+/**
+ * One pass of the separable gaussian blur of a GaussianBlurFilter, with the
+ * same kernel and the same rounding: the horizontal pass works inside a row,
+ * the vertical pass on a window of 2 * radius + 1 rows.
+ * The stage always uses the direct kernel, the recursive mode of the filter needs whole columns.
+ */
+public class GaussianStage extends RowStage {
+
+    private final GaussianBlurFilter filter;
+
+    private final boolean vertical;
+
+    private float[] kernel;
+
+    private float[] sums;
+
+    /**
+     * @param filter   The filter, only its sigma is used.
+     * @param vertical false for the horizontal pass, true for the vertical pass.
+     */
+    public GaussianStage(GaussianBlurFilter filter, boolean vertical) {
+        this.filter = filter;
+        this.vertical = vertical;
+    }
+
+    @Override
+    protected void prepare() {
+        kernel = filter.getKernel(width, height);
+        sums = new float[width];
+    }
+
+    @Override
+    public int getRadius() {
+        return vertical ? kernel.length - 1 : 0;
+    }
+
+    @Override
+    public void process(RowRing input, int row, byte[][] output) {
+        int k = kernel.length - 1;
+
+        if (!vertical) {
+            byte[][] in = input.get(row);
+            for (int c = 0; c < channels; c++) {
+                byte[] src = in[c];
+                byte[] dst = output[c];
+                for (int col = 0; col < width; col++) {
+                    float sum = 0;
+                    for (int m = -k; m <= k; m++) {
+                        sum += (src[Tools.clamp(col + m, 0, width - 1)] & 0xff) * kernel[Math.abs(m)];
+                    }
+                    dst[col] = (byte) Tools.clamp(sum + 0.5f);
+                }
+            }
+            return;
+        }
+
+        // the rows are added in the order of the filter, the sums round the same way
+        for (int c = 0; c < channels; c++) {
+            Arrays.fill(sums, 0);
+            for (int m = -k; m <= k; m++) {
+                byte[] src = input.get(row + m)[c];
+                float weight = kernel[Math.abs(m)];
+                for (int col = 0; col < width; col++) {
+                    sums[col] += (src[col] & 0xff) * weight;
+                }
+            }
+
+            byte[] dst = output[c];
+            for (int col = 0; col < width; col++) {
+                dst[col] = (byte) Tools.clamp(sums[col] + 0.5f);
+            }
+        }
+    }
+}
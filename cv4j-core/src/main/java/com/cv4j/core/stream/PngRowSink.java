@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.stream;
+
+import java.io.File;
+
+import ar.com.hjg.pngj.ImageInfo;
+import ar.com.hjg.pngj.ImageLineByte;
+import ar.com.hjg.pngj.PngWriter;
+
+/**
+ * Encode a PNG file one row at a time, as an 8 bits gray or RGB image.
+ */
+public class PngRowSink implements RowSink {
+
+    private final PngWriter writer;
+
+    private final ImageLineByte line;
+
+    private final int height;
+
+    private int rows = 0;
+
+    public PngRowSink(File file, int width, int height, int channels) {
+        ImageInfo info = new ImageInfo(width, height, 8, false, channels == 1, false);
+        this.writer = new PngWriter(file, info, true);
+        this.line = new ImageLineByte(info);
+        this.height = height;
+    }
+
+    @Override
+    public void writeRow(byte[][] row) {
+        byte[] data = line.getScanlineByte();
+        int dims = row.length;
+
+        for (int c = 0; c < dims; c++) {
+            byte[] plane = row[c];
+            for (int col = 0, i = c; col < plane.length; col++, i += dims) {
+                data[i] = plane[col];
+            }
+        }
+
+        writer.writeRow(line);
+        rows++;
+    }
+
+    /**
+     * Finish the file, a file whose rows were not all written is only closed.
+     */
+    @Override
+    public void close() {
+        if (rows == height) {
+            writer.end();
+        } else {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.stream;
+
+import com.cv4j.exception.CV4JException;
+
+import java.io.File;
+
+import ar.com.hjg.pngj.ImageInfo;
+import ar.com.hjg.pngj.PngReaderByte;
+
+/**
+ * Decode a PNG file one row at a time.
+ * The 8 bits gray and RGB images are supported, the alpha channel is dropped.
+ */
+public class PngRowSource implements RowSource {
+
+    private final PngReaderByte reader;
+
+    private final ImageInfo info;
+
+    public PngRowSource(File file) {
+        reader = new PngReaderByte(file);
+        info = reader.imgInfo;
+        if (info.bitDepth != 8 || info.indexed) {
+            reader.close();
+            throw new CV4JException("This method is for GRAY8/RGB8/RGBA8 images");
+        }
+    }
+
+    @Override
+    public int getWidth() {
+        return info.cols;
+    }
+
+    @Override
+    public int getHeight() {
+        return info.rows;
+    }
+
+    @Override
+    public int getChannels() {
+        return info.greyscale ? 1 : 3;
+    }
+
+    @Override
+    public void readRow(byte[][] row) {
+        byte[] data = reader.readRowByte().getScanlineByte();
+        int dims = info.channels;
+
+        for (int c = 0; c < row.length; c++) {
+            byte[] plane = row[c];
+            for (int col = 0, i = c; col < plane.length; col++, i += dims) {
+                plane[col] = data[i];
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        reader.close();
+    }
+}
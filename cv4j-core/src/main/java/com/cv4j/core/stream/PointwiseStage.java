@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.stream;
+
+import com.cv4j.core.filters.ChannelLUTFilter;
+import com.cv4j.core.filters.CommonFilter;
+import com.cv4j.core.filters.PointwiseFilter;
+import com.cv4j.exception.CV4JException;
+
+/**
+ * Run a pointwise filter on every row: the table of a ChannelLUTFilter
+ * or the transfer function of a PointwiseFilter.
+ * A table computed from the histograms of the image needs the whole image
+ * and can not be streamed.
+ */
+public class PointwiseStage extends RowStage {
+
+    private final CommonFilter filter;
+
+    private int[][] lut;
+
+    public PointwiseStage(CommonFilter filter) {
+        if (filter instanceof ChannelLUTFilter) {
+            if (((ChannelLUTFilter) filter).isHistogramRequired()) {
+                throw new CV4JException("The filter needs the histograms of the whole image");
+            }
+        } else if (!(filter instanceof PointwiseFilter)) {
+            throw new CV4JException("Invalid argument...");
+        }
+        this.filter = filter;
+    }
+
+    @Override
+    protected void prepare() {
+        if (filter instanceof ChannelLUTFilter) {
+            lut = ((ChannelLUTFilter) filter).getLUT(null);
+        } else if (channels != 3) {
+            throw new CV4JException("The transfer function needs RGB rows");
+        }
+    }
+
+    @Override
+    public void process(RowRing input, int row, byte[][] output) {
+        byte[][] in = input.get(row);
+
+        if (lut != null) {
+            for (int c = 0; c < channels; c++) {
+                int[] table = lut[c];
+                byte[] src = in[c];
+                byte[] dst = output[c];
+                for (int col = 0; col < width; col++) {
+                    dst[col] = (byte) table[src[col] & 0xff];
+                }
+            }
+            return;
+        }
+
+        PointwiseFilter transfer = (PointwiseFilter) filter;
+        int[] rgb = new int[3];
+        for (int col = 0; col < width; col++) {
+            rgb[0] = in[0][col] & 0xff;
+            rgb[1] = in[1][col] & 0xff;
+            rgb[2] = in[2][col] & 0xff;
+            transfer.transfer(rgb);
+            output[0][col] = (byte) rgb[0];
+            output[1][col] = (byte) rgb[1];
+            output[2][col] = (byte) rgb[2];
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.stream;
+
+import com.cv4j.exception.CV4JException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Read the rows of a source ahead on a background thread, so that decoding
+ * overlaps the filters and the encoding. At most a fixed number of rows are
+ * decoded in advance, the memory does not depend on the height of the image.
+ */
+public class PrefetchRowSource implements RowSource {
+
+    /**
+     * Put in the queue when the decoder fails.
+     */
+    private static final byte[][] END = new byte[0][];
+
+    private final RowSource source;
+
+    private final BlockingQueue<byte[][]> free;
+
+    private final BlockingQueue<byte[][]> filled;
+
+    private final Thread decoder;
+
+    private volatile RuntimeException error;
+
+    /**
+     * @param source The source, read by the background thread only.
+     * @param rows   The number of rows decoded in advance.
+     */
+    public PrefetchRowSource(RowSource source, int rows) {
+        this.source = source;
+        this.free = new ArrayBlockingQueue<>(rows);
+        this.filled = new ArrayBlockingQueue<>(rows + 1);
+
+        for (int i = 0; i < rows; i++) {
+            free.add(new byte[source.getChannels()][source.getWidth()]);
+        }
+
+        decoder = new Thread(this::decode, "cv4j-row-prefetch");
+        decoder.setDaemon(true);
+        decoder.start();
+    }
+
+    private void decode() {
+        try {
+            for (int row = 0; row < source.getHeight(); row++) {
+                byte[][] data = free.take();
+                source.readRow(data);
+                filled.put(data);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            error = e;
+            filled.offer(END);
+        }
+    }
+
+    @Override
+    public int getWidth() {
+        return source.getWidth();
+    }
+
+    @Override
+    public int getHeight() {
+        return source.getHeight();
+    }
+
+    @Override
+    public int getChannels() {
+        return source.getChannels();
+    }
+
+    @Override
+    public void readRow(byte[][] row) {
+        byte[][] data;
+        try {
+            data = filled.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CV4JException(e);
+        }
+
+        if (data == END) {
+            throw new CV4JException(error);
+        }
+
+        for (int c = 0; c < row.length; c++) {
+            System.arraycopy(data[c], 0, row[c], 0, row[c].length);
+        }
+        free.add(data);
+    }
+
+    @Override
+    public void close() {
+        decoder.interrupt();
+        try {
+            decoder.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        source.close();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.stream;
+
+/**
+ * The last rows of a stream of planar rows, kept in a ring of fixed size.
+ * A row is stored as row[channel][col]. The rows above the first row and
+ * below the last row of the image read as the first and the last row.
+ */
+public class RowRing {
+
+    private final byte[][][] rows;
+
+    private final int height;
+
+    /**
+     * @param capacity The number of rows kept.
+     * @param channels The channels of a row.
+     * @param width    The width of a row.
+     * @param height   The number of rows of the image.
+     */
+    public RowRing(int capacity, int channels, int width, int height) {
+        this.rows = new byte[capacity][channels][width];
+        this.height = height;
+    }
+
+    /**
+     * Copy the row into the ring, it replaces the oldest row.
+     * @param row  The index of the row in the image.
+     * @param data The planar row.
+     */
+    public void put(int row, byte[][] data) {
+        byte[][] slot = rows[row % rows.length];
+        for (int c = 0; c < slot.length; c++) {
+            System.arraycopy(data[c], 0, slot[c], 0, slot[c].length);
+        }
+    }
+
+    /**
+     * @param row The index of the row in the image, it can be outside of the image.
+     * @return    The planar row, it must be one of the last rows put in the ring.
+     */
+    public byte[][] get(int row) {
+        if (row < 0) {
+            row = 0;
+        } else if (row >= height) {
+            row = height - 1;
+        }
+        return rows[row % rows.length];
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.stream;
+
+/**
+ * One step of a ScanlinePipeline.
+ * A stage computes the output row y from the input rows [y - radius, y + radius],
+ * so the pipeline only keeps a few rows of the image for every stage.
+ */
+public abstract class RowStage {
+
+    protected int width;
+    protected int height;
+    protected int channels;
+
+    /**
+     * Called by the pipeline once the size of the image is known, before getRadius.
+     */
+    void init(int width, int height, int channels) {
+        this.width = width;
+        this.height = height;
+        this.channels = channels;
+        prepare();
+    }
+
+    /**
+     * Set up the stage for the size of the image, the fields are set.
+     */
+    protected void prepare() {
+    }
+
+    /**
+     * @return The number of rows above and below a row the stage reads.
+     */
+    public int getRadius() {
+        return 0;
+    }
+
+    /**
+     * Compute one output row.
+     * @param input  The input rows, at least [row - radius - 1, row + radius] are available.
+     * @param row    The index of the output row.
+     * @param output The planar output row, output[channel][col].
+     */
+    public abstract void process(RowRing input, int row, byte[][] output);
+}
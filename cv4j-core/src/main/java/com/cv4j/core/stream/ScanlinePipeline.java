@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.stream;
+
+import com.cv4j.core.filters.CommonFilter;
+import com.cv4j.core.filters.blur.BoxBlurFilter;
+import com.cv4j.core.filters.math.GaussianBlurFilter;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Run row stages over an image streamed from a source to a sink, without
+ * ever holding the whole image: every stage keeps a ring of
+ * 2 * radius + 2 rows of its input, so the memory depends on the width of
+ * the image and on the stages, not on its height.
+ * A row goes down the stages as soon as the rows below it it depends on
+ * have been read.
+ */
+public class ScanlinePipeline {
+
+    /**
+     * The number of rows decoded in advance by run(File, File).
+     */
+    private static final int PREFETCH_ROWS = 16;
+
+    private final List<RowStage> stages = new ArrayList<>();
+
+    private RowRing[] rings;
+
+    private byte[][][] outputs;
+
+    private int[] next;
+
+    private RowSink sink;
+
+    private int height;
+
+    public ScanlinePipeline add(RowStage stage) {
+        stages.add(stage);
+        return this;
+    }
+
+    /**
+     * @param filter A ChannelLUTFilter whose table does not depend on the image,
+     *               or a PointwiseFilter.
+     */
+    public ScanlinePipeline addFilter(CommonFilter filter) {
+        return add(new PointwiseStage(filter));
+    }
+
+    public ScanlinePipeline addGaussianBlur(GaussianBlurFilter filter) {
+        add(new GaussianStage(filter, false));
+        return add(new GaussianStage(filter, true));
+    }
+
+    public ScanlinePipeline addBoxBlur(BoxBlurFilter filter) {
+        for (int i = 0; i < filter.getIterations(); i++) {
+            add(new BoxBlurStage(filter.getHRadius(), false));
+            add(new BoxBlurStage(filter.getVRadius(), true));
+        }
+        return this;
+    }
+
+    /**
+     * See {@link ThresholdStage}.
+     */
+    public ScanlinePipeline addThreshold(int thresh, int method) {
+        return add(new ThresholdStage(thresh, method));
+    }
+
+    /**
+     * Decode the PNG file, run the stages and encode the result to a PNG file.
+     * The decoding runs ahead on a background thread.
+     * @param input  The 8 bits gray or RGB(A) PNG file.
+     * @param output The PNG file written.
+     */
+    public void run(File input, File output) {
+        RowSource source = new PrefetchRowSource(new PngRowSource(input), PREFETCH_ROWS);
+        RowSink target = null;
+        try {
+            target = new PngRowSink(output, source.getWidth(), source.getHeight(), source.getChannels());
+            run(source, target);
+        } finally {
+            source.close();
+            if (target != null) {
+                target.close();
+            }
+        }
+    }
+
+    /**
+     * Read all the rows of the source, run the stages and write the rows to the sink.
+     * The source and the sink are not closed.
+     */
+    public void run(RowSource source, RowSink sink) {
+        int width = source.getWidth();
+        int channels = source.getChannels();
+        this.height = source.getHeight();
+        this.sink = sink;
+
+        int count = stages.size();
+        rings = new RowRing[count];
+        outputs = new byte[count][channels][width];
+        next = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            RowStage stage = stages.get(i);
+            stage.init(width, height, channels);
+            rings[i] = new RowRing(2 * stage.getRadius() + 2, channels, width, height);
+        }
+
+        byte[][] row = new byte[channels][width];
+        for (int y = 0; y < height; y++) {
+            source.readRow(row);
+            push(0, y, row);
+        }
+    }
+
+    /**
+     * Give the row to the stage, and send down the output rows it can now compute.
+     */
+    private void push(int index, int y, byte[][] row) {
+        if (index == rings.length) {
+            sink.writeRow(row);
+            return;
+        }
+
+        RowStage stage = stages.get(index);
+        rings[index].put(y, row);
+
+        int ready = (y == height - 1) ? y : y - stage.getRadius();
+        while (next[index] <= ready) {
+            int out = next[index]++;
+            stage.process(rings[index], out, outputs[index]);
+            push(index + 1, out, outputs[index]);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.stream;
+
+import com.cv4j.core.binary.Threshold;
+
+/**
+ * A fixed threshold on every channel, as Threshold.process with a given
+ * threshold value: the values up to thresh become 0, the others 255,
+ * the other way round for METHOD_THRESH_BINARY_INV.
+ * The threshold methods that look at the histogram need the whole image.
+ */
+public class ThresholdStage extends RowStage {
+
+    private final byte low;
+
+    private final byte high;
+
+    private final int thresh;
+
+    public ThresholdStage(int thresh, int method) {
+        boolean inverse = method == Threshold.METHOD_THRESH_BINARY_INV;
+        this.thresh = thresh;
+        this.low = inverse ? (byte) 255 : 0;
+        this.high = inverse ? 0 : (byte) 255;
+    }
+
+    @Override
+    public void process(RowRing input, int row, byte[][] output) {
+        byte[][] in = input.get(row);
+        for (int c = 0; c < channels; c++) {
+            byte[] src = in[c];
+            byte[] dst = output[c];
+            for (int col = 0; col < width; col++) {
+                dst[col] = (src[col] & 0xff) <= thresh ? low : high;
+            }
+        }
+    }
+}
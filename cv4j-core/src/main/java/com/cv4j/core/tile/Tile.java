@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.tile;
+
+import com.cv4j.core.datamodel.Rect;
+import com.cv4j.core.datamodel.image.ImageProcessor;
+
+/**
+ * One tile of a TiledImage.
+ * The processor of the tile reads and writes the mapped file directly,
+ * the tiles of the last column and of the last row can be smaller than
+ * the tile size of the image.
+ */
+public class Tile {
+
+    private final int column;
+
+    private final int row;
+
+    private final Rect bounds;
+
+    private final ImageProcessor processor;
+
+    Tile(int column, int row, Rect bounds, ImageProcessor processor) {
+        this.column = column;
+        this.row = row;
+        this.bounds = bounds;
+        this.processor = processor;
+    }
+
+    /** Returns the column of the tile in the grid of tiles. */
+    public int getColumn() {
+        return column;
+    }
+
+    /** Returns the row of the tile in the grid of tiles. */
+    public int getRow() {
+        return row;
+    }
+
+    /** Returns the rectangle covered by the tile, in the coordinates of the image. */
+    public Rect getBounds() {
+        return bounds;
+    }
+
+    /** Returns the pixels of the tile, a DirectColorProcessor or a DirectByteProcessor. */
+    public ImageProcessor getProcessor() {
+        return processor;
+    }
+}
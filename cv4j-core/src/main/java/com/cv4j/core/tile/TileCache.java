@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.tile;
+
+import com.cv4j.exception.CV4JException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The least recently used tiles of a TiledImage, mapped from its file.
+ * The cache keeps at most maxBytes of mapped tiles, but always the last one,
+ * an evicted tile is forced to the file before its mapping is dropped.
+ * The memory of a dropped mapping is given back when the buffer is collected.
+ */
+class TileCache {
+
+    private final FileChannel channel;
+
+    private final long tileBytes;
+
+    private long maxBytes;
+
+    /**
+     * The tiles by index, in access order: the eldest entry is the least recently used.
+     */
+    private final LinkedHashMap<Integer, MappedByteBuffer> tiles = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long hits;
+
+    private long misses;
+
+    TileCache(FileChannel channel, long tileBytes, long maxBytes) {
+        this.channel = channel;
+        this.tileBytes = tileBytes;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * @return The mapping of the tile, position and limit must not be changed.
+     */
+    synchronized ByteBuffer get(int index) {
+        MappedByteBuffer tile = tiles.get(index);
+        if (tile != null) {
+            hits++;
+            return tile;
+        }
+
+        misses++;
+        try {
+            tile = channel.map(FileChannel.MapMode.READ_WRITE, index * tileBytes, tileBytes);
+        } catch (IOException e) {
+            throw new CV4JException(e);
+        }
+
+        tiles.put(index, tile);
+        evict();
+        return tile;
+    }
+
+    synchronized void setMaxBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+        evict();
+    }
+
+    synchronized long getMaxBytes() {
+        return maxBytes;
+    }
+
+    synchronized long getCachedBytes() {
+        return tiles.size() * tileBytes;
+    }
+
+    synchronized long getHits() {
+        return hits;
+    }
+
+    synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Write the modified tiles to the file, they stay in the cache.
+     */
+    synchronized void flush() {
+        for (MappedByteBuffer tile : tiles.values()) {
+            tile.force();
+        }
+    }
+
+    synchronized void clear() {
+        flush();
+        tiles.clear();
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<Integer, MappedByteBuffer>> it = tiles.entrySet().iterator();
+        while (tiles.size() > 1 && tiles.size() * tileBytes > maxBytes) {
+            it.next().getValue().force();
+            it.remove();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.tile;
+
+import com.cv4j.core.binary.Threshold;
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.datamodel.Rect;
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.filters.CommonFilter;
+import com.cv4j.core.filters.blur.BoxBlurFilter;
+import com.cv4j.core.filters.math.GaussianBlurFilter;
+import com.cv4j.exception.CV4JException;
+
+/**
+ * Run neighborhood operations over a TiledImage one tile at a time.
+ * Each tile is read with a halo of the pixels around it, filtered on the
+ * java heap, and the tile without its halo is written to the destination.
+ * The memory needed is the tile cache plus one tile and its halo, whatever
+ * the size of the image. When the halo covers the neighborhood of the
+ * operation, the result is the one of the whole image.
+ */
+public final class TiledFilters {
+
+    private TiledFilters() {
+    }
+
+    /**
+     * @param src    The source image.
+     * @param dst    The destination image, same size and channels, not the source:
+     *               the halos of the next tiles are read from the source.
+     * @param filter The filter, it must return an image of the size of its input.
+     * @param halo   The number of pixels read on each side of a tile.
+     */
+    public static void filter(TiledImage src, TiledImage dst, CommonFilter filter, int halo) {
+        if (src == dst || src.getWidth() != dst.getWidth() || src.getHeight() != dst.getHeight()
+                || src.getChannels() != dst.getChannels() || halo < 0) {
+            throw new CV4JException("Invalid argument...");
+        }
+
+        for (int row = 0; row < src.getRows(); row++) {
+            for (int column = 0; column < src.getColumns(); column++) {
+                Rect bounds = src.bounds(column, row);
+
+                int x0 = Math.max(0, bounds.x - halo);
+                int y0 = Math.max(0, bounds.y - halo);
+                int x1 = Math.min(src.getWidth(), bounds.x + bounds.width + halo);
+                int y1 = Math.min(src.getHeight(), bounds.y + bounds.height + halo);
+
+                ImageProcessor window = src.read(TiledImage.rect(x0, y0, x1 - x0, y1 - y0));
+                ImageProcessor result = filter.filter(window);
+
+                Rect inner = TiledImage.rect(bounds.x - x0, bounds.y - y0, bounds.width, bounds.height);
+                dst.write(result, inner, bounds.x, bounds.y);
+            }
+        }
+
+        dst.flush();
+    }
+
+    public static void gaussianBlur(TiledImage src, TiledImage dst, GaussianBlurFilter filter) {
+        filter(src, dst, filter, filter.getKernelRadius());
+    }
+
+    public static void boxBlur(TiledImage src, TiledImage dst, BoxBlurFilter filter) {
+        // every iteration widens the box by its radius
+        int radius = Math.max(filter.getHRadius(), filter.getVRadius());
+        filter(src, dst, filter, radius * filter.getIterations());
+    }
+
+    /**
+     * See {@link Threshold#adaptiveThresh(ByteProcessor, int, int, int)}, the images are gray.
+     */
+    public static void adaptiveThresh(TiledImage src, TiledImage dst,
+                                      final int blockSize, final int constant, final int method) {
+        if (src.getChannels() != 1) {
+            throw new CV4JException("Invalid argument...");
+        }
+
+        filter(src, dst, window -> {
+            new Threshold().adaptiveThresh((ByteProcessor) window, blockSize, constant, method);
+            return window;
+        }, blockSize);
+    }
+
+    /**
+     * See {@link Threshold#localThresh(ByteProcessor, int, int, float, int)}, the images are gray.
+     */
+    public static void localThresh(TiledImage src, TiledImage dst, final int type,
+                                   final int radius, final float k, final int method) {
+        if (src.getChannels() != 1) {
+            throw new CV4JException("Invalid argument...");
+        }
+
+        filter(src, dst, window -> {
+            new Threshold().localThresh((ByteProcessor) window, type, radius, k, method);
+            return window;
+        }, radius);
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.tile;
+
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.datamodel.ColorProcessor;
+import com.cv4j.core.datamodel.DirectByteProcessor;
+import com.cv4j.core.datamodel.DirectColorProcessor;
+import com.cv4j.core.datamodel.Rect;
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.datamodel.plane.Plane;
+import com.cv4j.core.datamodel.plane.Planes;
+import com.cv4j.exception.CV4JException;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An image stored in a planar file cut into square tiles, for images that do
+ * not fit in memory. Only the tiles in use are mapped, through an LRU cache
+ * whose size is bounded by a memory budget, so the memory needed does not
+ * depend on the size of the image.
+ *
+ * The tiles are stored row after row, each tile takes channels * tileSize * tileSize
+ * bytes: the planes of the tile one after another, each plane stored row after row
+ * with the width of the tile as stride. The file has no header.
+ */
+public class TiledImage implements Iterable<Tile>, Closeable {
+
+    public static final int DEFAULT_TILE_SIZE = 512;
+
+    private final int width;
+
+    private final int height;
+
+    private final int channels;
+
+    private final int tileSize;
+
+    private final int columns;
+
+    private final int rows;
+
+    private final RandomAccessFile file;
+
+    private final TileCache cache;
+
+    /**
+     * Open the file, it is created or extended when it is too short for the image.
+     * @param file          The planar file.
+     * @param width         The width.
+     * @param height        The height.
+     * @param channels      1 for a gray image, 3 for a color image.
+     * @param tileSize      The width and height of a tile.
+     * @param maxCacheBytes The memory budget of the mapped tiles.
+     */
+    public TiledImage(File file, int width, int height, int channels, int tileSize, long maxCacheBytes) {
+        if (width <= 0 || height <= 0 || tileSize <= 0 || (channels != 1 && channels != 3)) {
+            throw new CV4JException("Invalid argument...");
+        }
+
+        this.width = width;
+        this.height = height;
+        this.channels = channels;
+        this.tileSize = tileSize;
+        this.columns = (width + tileSize - 1) / tileSize;
+        this.rows = (height + tileSize - 1) / tileSize;
+
+        long tileBytes = (long) channels * tileSize * tileSize;
+        if (tileBytes > Integer.MAX_VALUE) {
+            throw new CV4JException("Invalid argument...");
+        }
+
+        try {
+            this.file = new RandomAccessFile(file, "rw");
+            long length = tileBytes * columns * rows;
+            if (this.file.length() < length) {
+                this.file.setLength(length);
+            }
+        } catch (IOException e) {
+            throw new CV4JException(e);
+        }
+
+        this.cache = new TileCache(this.file.getChannel(), tileBytes, maxCacheBytes);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getChannels() {
+        return channels;
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    /** Returns the number of tiles in a row of tiles. */
+    public int getColumns() {
+        return columns;
+    }
+
+    /** Returns the number of tiles in a column of tiles. */
+    public int getRows() {
+        return rows;
+    }
+
+    public long getMaxCacheBytes() {
+        return cache.getMaxBytes();
+    }
+
+    /**
+     * Change the memory budget, the least recently used tiles are evicted if needed.
+     * @param maxCacheBytes The memory budget of the mapped tiles.
+     */
+    public void setMaxCacheBytes(long maxCacheBytes) {
+        cache.setMaxBytes(maxCacheBytes);
+    }
+
+    /** Returns the bytes of the tiles mapped by the cache. */
+    public long getCachedBytes() {
+        return cache.getCachedBytes();
+    }
+
+    /** Returns the number of tiles found in the cache. */
+    public long getCacheHits() {
+        return cache.getHits();
+    }
+
+    /** Returns the number of tiles mapped from the file. */
+    public long getCacheMisses() {
+        return cache.getMisses();
+    }
+
+    /**
+     * @param column The column of the tile.
+     * @param row    The row of the tile.
+     * @return       The tile, its pixels are the pixels of the file.
+     */
+    public Tile getTile(int column, int row) {
+        if (column < 0 || column >= columns || row < 0 || row >= rows) {
+            throw new CV4JException("Invalid argument...");
+        }
+
+        Rect bounds = bounds(column, row);
+        ByteBuffer data = cache.get(row * columns + column);
+        int planeBytes = tileSize * tileSize;
+        int size = bounds.width * bounds.height;
+
+        ByteBuffer[] planes = new ByteBuffer[channels];
+        for (int c = 0; c < channels; c++) {
+            ByteBuffer plane = data.duplicate();
+            plane.position(c * planeBytes);
+            plane.limit(c * planeBytes + size);
+            planes[c] = plane.slice();
+        }
+
+        ImageProcessor processor = (channels == 1)
+                ? new DirectByteProcessor(planes[0], bounds.width, bounds.height)
+                : new DirectColorProcessor(planes[0], planes[1], planes[2], bounds.width, bounds.height);
+        return new Tile(column, row, bounds, processor);
+    }
+
+    /**
+     * The tiles row after row. Each tile goes through the cache when the
+     * iterator reaches it, the tiles already visited can be evicted.
+     */
+    @Override
+    public Iterator<Tile> iterator() {
+        return new Iterator<Tile>() {
+
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < columns * rows;
+            }
+
+            @Override
+            public Tile next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int index = next++;
+                return getTile(index % columns, index / columns);
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    /**
+     * Copy a region of the image to the java heap.
+     * @param region The region, it must lie inside the image.
+     * @return       A ColorProcessor or a ByteProcessor of the size of the region.
+     */
+    public ImageProcessor read(Rect region) {
+        if (region == null || !region.isInside(width, height)) {
+            throw new CV4JException("Invalid argument...");
+        }
+
+        ImageProcessor image = (channels == 1)
+                ? new ByteProcessor(region.width, region.height)
+                : new ColorProcessor(region.width, region.height);
+        copy(region, image, 0, 0, true);
+        return image;
+    }
+
+    /**
+     * Copy a region of an image into this image.
+     * @param src    The image, it must have the channels of this image.
+     * @param region The region of src to copy.
+     * @param x      The column of the region in this image.
+     * @param y      The row of the region in this image.
+     */
+    public void write(ImageProcessor src, Rect region, int x, int y) {
+        if (src == null || src.getChannels() != channels || region == null
+                || !region.isInside(src.getWidth(), src.getHeight())) {
+            throw new CV4JException("Invalid argument...");
+        }
+
+        Rect target = rect(x, y, region.width, region.height);
+        if (!target.isInside(width, height)) {
+            throw new CV4JException("Invalid argument...");
+        }
+
+        copy(target, src, region.x, region.y, false);
+    }
+
+    /**
+     * Write the modified tiles to the file.
+     */
+    public void flush() {
+        cache.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        cache.clear();
+        file.close();
+    }
+
+    /**
+     * Copy between the region of this image and the image, tile by tile.
+     * @param region  The region of this image.
+     * @param image   The image.
+     * @param imageX  The column of the region in the image.
+     * @param imageY  The row of the region in the image.
+     * @param toImage true to read this image, false to write it.
+     */
+    private void copy(Rect region, ImageProcessor image, int imageX, int imageY, boolean toImage) {
+        int firstColumn = region.x / tileSize;
+        int lastColumn = (region.x + region.width - 1) / tileSize;
+        int firstRow = region.y / tileSize;
+        int lastRow = (region.y + region.height - 1) / tileSize;
+
+        for (int ty = firstRow; ty <= lastRow; ty++) {
+            for (int tx = firstColumn; tx <= lastColumn; tx++) {
+                Tile tile = getTile(tx, ty);
+                Rect bounds = tile.getBounds();
+                ImageProcessor pixels = tile.getProcessor();
+
+                int x0 = Math.max(region.x, bounds.x);
+                int x1 = Math.min(region.x + region.width, bounds.x + bounds.width);
+                int y0 = Math.max(region.y, bounds.y);
+                int y1 = Math.min(region.y + region.height, bounds.y + bounds.height);
+
+                for (int c = 0; c < channels; c++) {
+                    Plane tilePlane = pixels.getPlane(c);
+                    Plane imagePlane = image.getPlane(c);
+
+                    for (int y = y0; y < y1; y++) {
+                        int tileIndex = (y - bounds.y) * bounds.width + (x0 - bounds.x);
+                        int imageIndex = image.getOffset()
+                                + (y - region.y + imageY) * image.getStride() + (x0 - region.x + imageX);
+                        if (toImage) {
+                            Planes.copy(tilePlane, tileIndex, imagePlane, imageIndex, x1 - x0);
+                        } else {
+                            Planes.copy(imagePlane, imageIndex, tilePlane, tileIndex, x1 - x0);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    Rect bounds(int column, int row) {
+        int x = column * tileSize;
+        int y = row * tileSize;
+        return rect(x, y, Math.min(tileSize, width - x), Math.min(tileSize, height - y));
+    }
+
+    static Rect rect(int x, int y, int width, int height) {
+        Rect rect = new Rect();
+        rect.x = x;
+        rect.y = y;
+        rect.width = width;
+        rect.height = height;
+        return rect;
+    }
+}
@@ -20,6 +20,8 @@ import com.cv4j.core.datamodel.ColorProcessor;
 import com.cv4j.core.datamodel.number.FloatProcessor;
 import com.cv4j.core.datamodel.image.ImageProcessor;
 import com.cv4j.core.datamodel.Point;
+import com.cv4j.core.metrics.Instrumentation;
+import com.cv4j.core.metrics.StageTimer;
 import com.cv4j.image.util.Tools;
 
 import java.util.Arrays;
@@ -64,17 +66,28 @@ public class TemplateMatch {
 
     
     public void something(int[] tplmask, byte[] data, int raidus_height, int raidus_width, int th, int tw, int width, int row, int col) {
+        fillWindow(tplmask, data, 0, width, raidus_height, raidus_width, th, tw, row, col);
+    }
+
+    /**
+     * Copy the window centered on (row, col) into the template mask.
+     * @param offset the index of the first pixel of the image in data
+     * @param stride the distance between two rows in data
+     */
+    private void fillWindow(int[] tplmask, byte[] data, int offset, int stride, int raidus_height, int raidus_width,
+                            int th, int tw, int row, int col) {
         Arrays.fill(tplmask, 0);
         int wrow = 0;
 
         for(int subrow = -(raidus_height); subrow <= raidus_height; subrow++ ) {
             int wcol = 0;
+            int rowOffset = offset + ((row + subrow) * stride);
             for(int subcol = -(raidus_width); subcol <= raidus_width; subcol++ ) {
                 if(wrow >= th || wcol >= tw) {
                     continue;
                 }
 
-                tplmask[(wrow * tw) + wcol] = data[((row + subrow) * width) + (col + subcol)] & 0xff;
+                tplmask[(wrow * tw) + wcol] = data[rowOffset + (col + subcol)] & 0xff;
                 wcol++;
             }
             wrow++;
@@ -82,13 +95,22 @@ public class TemplateMatch {
     }
 
     /**
-     *
+     * The target and the template can be views of larger images.
      * @param target - source image contain template or not
      * @param tpl - template
      * @param method
      * @return FloatProcessor -
      */
     public FloatProcessor match(ImageProcessor target, ImageProcessor tpl, int method) {
+        StageTimer timer = Instrumentation.begin();
+        try {
+            return matchImage(target, tpl, method);
+        } finally {
+            if (timer != null) Instrumentation.end(timer, "TemplateMatch", target);
+        }
+    }
+
+    private FloatProcessor matchImage(ImageProcessor target, ImageProcessor tpl, int method) {
         int width         = target.getWidth();
         int height        = target.getHeight();
         int tw            = tpl.getWidth();
@@ -128,15 +150,24 @@ public class TemplateMatch {
     }
 
     /**
-     *
+     * The target and the template can be views of larger images.
      * @param target - source image contain template or not
      * @param tpl - template
-     * @param locations, left-upper corner with match template location
+     * @param locations, left-upper corner with match template location, in the coordinates of target
      * @param method, support TM_SQDIFF\TM_SQDIFF_NORMED\TM_CCORR\TM_CCORR_NORMED
      *                TM_CCOEFF\TM_CCOEFF_NORMED
      * @param threhold
      */
     public void match(ImageProcessor target, ImageProcessor tpl, List<Point> locations, int method,double threhold) {
+        StageTimer timer = Instrumentation.begin();
+        try {
+            matchLocations(target, tpl, locations, method, threhold);
+        } finally {
+            if (timer != null) Instrumentation.end(timer, "TemplateMatch", target);
+        }
+    }
+
+    private void matchLocations(ImageProcessor target, ImageProcessor tpl, List<Point> locations, int method,double threhold) {
         int width         = target.getWidth();
         int height        = target.getHeight();
         int tw            = tpl.getWidth();
@@ -165,13 +196,15 @@ public class TemplateMatch {
                                   int raidus_width, int raidus_height, int tw, int th) {
 
         byte[]   data     = ((ByteProcessor)target).getGray();
-        byte[]   tdata    = ((ByteProcessor)tpl).getGray();
-        float[]  meansdev = Tools.calcMeansAndDev(((ByteProcessor)tpl).toFloat(0));
+        int[]    tdata    = tpl.toInt(0);
+        float[]  meansdev = Tools.calcMeansAndDev(tdata);
         double[] tDiff    = calculateDiff(tdata, meansdev[0]);
+        int      offset   = target.getOffset();
+        int      stride   = target.getStride();
 
         for(int row = offy; row < height-offy; row += 2) {
             for(int col = offx; col < width-offx; col += 2) {
-                something(tplmask, data, raidus_height, raidus_width, th, tw, width, row, col);
+                fillWindow(tplmask, data, offset, stride, raidus_height, raidus_width, th, tw, row, col);
 
                 // calculate the ncc
                 float[] _meansDev = Tools.calcMeansAndDev(tplmask);
@@ -198,8 +231,8 @@ public class TemplateMatch {
         int raidus_width = tpl.getWidth() / 2;
         int raidus_height = tpl.getHeight()/2;
         byte[] data = ((ByteProcessor)target).getGray();
-        byte[] tdata = ((ByteProcessor)tpl).getGray();
-        float[] meansdev = Tools.calcMeansAndDev(((ByteProcessor)tpl).toFloat(0));
+        int[] tdata = tpl.toInt(0);
+        float[] meansdev = Tools.calcMeansAndDev(tdata);
         double[] tDiff = calculateDiff(tdata, meansdev[0]);
 
         int rw = width - offx*2;
@@ -207,32 +240,18 @@ public class TemplateMatch {
 
 
         processForGenerateNCCResult(result, tplmask, offx, offy, width, height, tw, th, raidus_width,
-                                    raidus_height, data, meansdev, tDiff, rw);
+                                    raidus_height, data, target.getOffset(), target.getStride(),
+                                    meansdev, tDiff, rw);
     }
 
     private void processForGenerateNCCResult(float[] result, int[] tplmask, int offx, int offy,
                                              int width, int height, int tw, int th, int raidus_width,
-                                             int raidus_height, byte[] data, float[] meansdev,
-                                             double[] tDiff, int rw) {
+                                             int raidus_height, byte[] data, int offset, int stride,
+                                             float[] meansdev, double[] tDiff, int rw) {
 
         for(int row=offy; row<height-offy; row+=2) {
             for(int col=offx; col<width-offx; col+=2) {
-                int wrow = 0;
-                Arrays.fill(tplmask, 0);
-                for(int subrow = -raidus_height; subrow <= raidus_height; subrow++ )
-                {
-                    int wcol = 0;
-                    for(int subcol = -raidus_width; subcol <= raidus_width; subcol++ )
-                    {
-                        if(wrow >= th || wcol >= tw)
-                        {
-                            continue;
-                        }
-                        tplmask[wrow * tw + wcol] = data[(row+subrow)*width + (col+subcol)]&0xff;
-                        wcol++;
-                    }
-                    wrow++;
-                }
+                fillWindow(tplmask, data, offset, stride, raidus_height, raidus_width, th, tw, row, col);
                 // calculate the ncc
                 float[] _meansDev = Tools.calcMeansAndDev(tplmask);
                 double[] diff = calculateDiff(tplmask, _meansDev[0]);
@@ -242,15 +261,6 @@ public class TemplateMatch {
         }
     }
 
-    private double[] calculateDiff(byte[] pixels, float mean) {
-        double[] diffs = new double[pixels.length];
-        int length = diffs.length;
-        for (int i = 0; i < length; i++) {
-            diffs[i] = (int) (pixels[i] & 0xff) - mean;
-        }
-        return diffs;
-    }
-
     private double[] calculateDiff(int[] pixels, float mean) {
         double[] diffs = new double[pixels.length];
         int length = diffs.length;
@@ -5,6 +5,9 @@ import java.util.Arrays;
 import com.cv4j.core.datamodel.number.FloatProcessor;
 import com.cv4j.core.datamodel.image.ImageProcessor;
 import com.cv4j.core.datamodel.number.IntIntegralImage;
+import com.cv4j.core.metrics.Instrumentation;
+import com.cv4j.core.metrics.StageTimer;
+import com.cv4j.core.parallel.ExecutionContext;
 
 /**
  * The template match 2.
@@ -50,6 +53,15 @@ public class TemplateMatch2 {
      * @return        The float processor
      */
     public FloatProcessor match(ImageProcessor target, ImageProcessor tpl, int method) {
+        StageTimer timer = Instrumentation.begin();
+        try {
+            return matchImage(target, tpl, method);
+        } finally {
+            if (timer != null) Instrumentation.end(timer, "TemplateMatch2", target);
+        }
+    }
+
+    private FloatProcessor matchImage(ImageProcessor target, ImageProcessor tpl, int method) {
         int width = target.getWidth();
         int height = target.getHeight();
         int tw = tpl.getWidth();
@@ -81,7 +93,8 @@ public class TemplateMatch2 {
                 tpl_data.addArray(tmp.toFloat(0));
             }
         } else if(target.getChannels() == 1 && tpl.getChannels() == 1) {
-            tpl_data = processSingleChannels(width, height, target.toByte(0), tw, th, tpl.toByte(0), 0);
+            FloatProcessor tmp = processSingleChannels(width, height, target.toByte(0), tw, th, tpl.toByte(0), 0);
+            tpl_data.addArray(tmp.toFloat(0));
         } else {
             throw new IllegalStateException("\nERR:Image Type is not same...\n");
         }
@@ -98,26 +111,37 @@ public class TemplateMatch2 {
      * @param  ch_index The channel index
      * @return          The float processor
      */
-    public FloatProcessor processSingleChannels(int width, int height, byte[] pixels, int tw, int th, byte[] tpl, int ch_index){
+    public FloatProcessor processSingleChannels(int width, int height, final byte[] pixels, final int tw, final int th, final byte[] tpl, int ch_index){
         int offFactor = 2;
-        int offx = tw/offFactor+1;
-        int offy = th/offFactor+1;
-        int[] tplmask = new int[tw * th];
-        Arrays.fill(tplmask, 0);
-        int rw = width - offx*offFactor;
+        final int offx = tw/offFactor+1;
+        final int offy = th/offFactor+1;
+        final int rw = width - offx*offFactor;
         int rh = height - offy*offFactor;
-        float[] result = new float[rw*rh];
-        IntIntegralImage ii = new IntIntegralImage();
+        final float[] result = new float[rw*rh];
+        final float tplSquareSum = sqrt_tpl[ch_index];
+        final IntIntegralImage ii = new IntIntegralImage();
         ii.setImage(pixels);
-        ii.process(width, height, true);
-        for(int row=offy; row<height-offy; row++) {
-            for(int col=offx; col<width-offx; col++) {
-            	int[] roi = getROI(width, height, tw, th, row, col, pixels);
-            	float sr = ii.getBlockSquareSum(col, row, (offx * offFactor + 1), (offy * offFactor + 1));
-            	float sum = sqrt_tpl[ch_index] + sr - multplyArras(roi, tpl);
-            	result[(row-offy)*rw + (col-offx)] = sum;
+        ii.process(width, height, IntIntegralImage.SQUARE_SUM);
+
+        // sum of squared differences = tpl^2 + roi^2 - 2 * tpl . roi, roi^2 comes from the integral image
+        ExecutionContext.forEachBand(rh, 0, band -> {
+            for(int row = band.start + offy; row < band.end + offy; row++) {
+                for(int col=offx; col<width-offx; col++) {
+                    int x = col - tw / offFactor;
+                    int y = row - th / offFactor;
+                    long sr = ii.getSquareSum(x, y, tw, th);
+                    long dot = 0;
+                    for (int i = 0; i < th; i++) {
+                        int index1 = (y + i) * width + x;
+                        int index2 = i * tw;
+                        for (int j = 0; j < tw; j++) {
+                            dot += (tpl[index2 + j] & 0xff) * (pixels[index1 + j] & 0xff);
+                        }
+                    }
+                    result[(row-offy)*rw + (col-offx)] = tplSquareSum + sr - offFactor * dot;
+                }
             }
-        }
+        });
 
         return new FloatProcessor(result, rw, rh);
     }
@@ -136,30 +160,4 @@ public class TemplateMatch2 {
     	}
     	return factor*sum;
     }
-    
-    /**
-     * Returns the ROI
-     * @param  w      The width
-     * @param  h      The height
-     * @param  tw     The tw
-     * @param  th     The th
-     * @param  y      The x
-     * @param  x      The y
-     * @param  pixels The pixels
-     * @return        The ROI
-     */
-	private int[] getROI(int w, int h, int tw, int th, int y, int x, byte[] pixels) {
-        int offFactor = 2;
-		int offx = x - tw / offFactor;
-		int offy = y - th / offFactor;
-		int[] roidata = new int[tw*th];
-		for(int row=offy; row<th+offy; row++) {
-			int index1 = row*w;
-			int index2 = (row-offy)*tw;
-			for(int col=offx; col<tw+offx; col++) {
-				roidata[index2+col-offx] = pixels[index1+col]&0xff;
-			}
-		}
-		return roidata;
-	}
 }
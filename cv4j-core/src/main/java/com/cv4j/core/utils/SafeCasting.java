@@ -27,7 +27,7 @@ public class SafeCasting {
      * @return      The float-casted value.
      */
     public static float safeDoubleToFloat(double value) {
-        if (value < Float.MIN_VALUE || value > Float.MAX_VALUE) {
+        if (value < -Float.MAX_VALUE || value > Float.MAX_VALUE) {
             throw new IllegalArgumentException(value + " cannot be cast to float without changing its value.");
         }
 
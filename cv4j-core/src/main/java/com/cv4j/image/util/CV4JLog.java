@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.image.util;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * CV4JLog.
+ * The logging facade of cv4j, by default it logs to the java.util.logging logger "cv4j",
+ * i at FINE and e at SEVERE, so the application decides what is printed and where.
+ * Android applications can print through android.util.Log with
+ * {@code CV4JLog.setPrinter(new AndroidLogPrinter())}.
+ */
+public class CV4JLog {
+
+    private static final Logger LOGGER = Logger.getLogger("cv4j");
+
+    private static volatile LogPrinter printer = new LogPrinter() {
+
+        @Override
+        public void i(String tag, String msg) {
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.fine(tag + ": " + msg);
+            }
+        }
+
+        @Override
+        public void e(String tag, String msg) {
+            LOGGER.severe(tag + ": " + msg);
+        }
+    };
+
+    public static void setPrinter(LogPrinter logPrinter) {
+        if (logPrinter != null) {
+            printer = logPrinter;
+        }
+    }
+
+    public static void i(String tag, String msg) {
+        printer.i(tag, msg);
+    }
+
+    public static void e(String tag, String msg) {
+        printer.e(tag, msg);
+    }
+}
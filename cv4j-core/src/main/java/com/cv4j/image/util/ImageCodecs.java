@@ -15,7 +15,8 @@
  */
 package com.cv4j.image.util;
 
-import com.cv4j.core.datamodel.CV4JImage;
+import com.cv4j.core.datamodel.BaseImage;
+import com.cv4j.core.stream.ScanlinePipeline;
 import com.cv4j.exception.CV4JException;
 
 import java.io.ByteArrayOutputStream;
@@ -33,7 +34,7 @@ import ar.com.hjg.pngj.PngReader;
  */
 public class ImageCodecs {
 
-    public static CV4JImage read(String filePath) {
+    public static BaseImage read(String filePath) {
 
         if(filePath == null) return null;
 
@@ -41,7 +42,7 @@ public class ImageCodecs {
 
         if (!file.exists() || !file.isFile()) return null;
 
-        CV4JImage image = null;
+        BaseImage image = null;
 
         if (filePath.endsWith(".jpg") || filePath.endsWith(".JPG")
                 || filePath.endsWith(".JPEG") || filePath.endsWith(".jpeg")) {
@@ -85,12 +86,27 @@ public class ImageCodecs {
                     }
                 }
             }
-            image = new CV4JImage(width, height, pixels);
+            image = new BaseImage(width, height, pixels);
         }
 
         return image;
     }
 
+    /**
+     * Filter a PNG file into another PNG file row by row, the image is never
+     * held in memory as a whole, see {@link ScanlinePipeline}.
+     * @param inputPath  The 8 bits gray or RGB(A) PNG file.
+     * @param outputPath The PNG file written.
+     * @param pipeline   The stages to run.
+     */
+    public static void stream(String inputPath, String outputPath, ScanlinePipeline pipeline) {
+        if (inputPath == null || outputPath == null || pipeline == null) {
+            throw new CV4JException("Invalid argument...");
+        }
+
+        pipeline.run(new File(inputPath), new File(outputPath));
+    }
+
     private static byte[] getBytesFromFile(File file) {
 
         if (file == null) return null;
@@ -15,13 +15,11 @@
  */
 package com.cv4j.image.util;
 
-import android.util.Log;
-
 import com.cv4j.core.binary.ConnectedAreaLabel;
 import com.cv4j.core.binary.morph.MorphOpen;
 import com.cv4j.core.binary.Threshold;
 import com.cv4j.core.datamodel.ByteProcessor;
-import com.cv4j.core.datamodel.CV4JImage;
+import com.cv4j.core.datamodel.BaseImage;
 import com.cv4j.core.datamodel.image.ImageProcessor;
 import com.cv4j.core.datamodel.Rect;
 import com.cv4j.core.datamodel.Size;
@@ -52,7 +50,7 @@ public class QRCodeScanner {
         src.getImage().resetBitmap();
 
         mOpen.process(copy, new Size(n2, n1)); // X方向开操作
-        CV4JImage cv4JImage = new CV4JImage(width,height);
+        BaseImage cv4JImage = new BaseImage(width,height);
         ((ByteProcessor)cv4JImage.getProcessor()).putGray(copy.getGray());
 
         for(int i=0; i<data.length; i++) {
@@ -93,7 +91,7 @@ public class QRCodeScanner {
 
         // find RQ code bounding
         Rect[] blocks = qrRects.toArray(new Rect[0]);
-        Log.i("QRCode Finder", "blocks.length : " + blocks.length);
+        CV4JLog.i("QRCode Finder", "blocks.length : " + blocks.length);
 
         if (Preconditions.isBlank(blocks)) {
 
@@ -117,7 +115,7 @@ public class QRCodeScanner {
 
             // find RQ code bounding
             blocks = qrRects.toArray(new Rect[0]);
-            Log.i("QRCode Finder", "blocks.length : " + blocks.length);
+            CV4JLog.i("QRCode Finder", "blocks.length : " + blocks.length);
         }
 
         // 二维码很小的情况
@@ -193,8 +191,8 @@ public class QRCodeScanner {
         }
 
         float[] mdev = Tools.calcMeansAndDev(data);
-        Log.i("QRCodeScanner","mdev[0]="+mdev[0]);
-        Log.i("QRCodeScanner","mdev[1]="+mdev[1]);
+        CV4JLog.i("QRCodeScanner","mdev[0]="+mdev[0]);
+        CV4JLog.i("QRCodeScanner","mdev[1]="+mdev[1]);
 
         if (useRate) {
             // 黑色跟白色的像素数目比
@@ -15,20 +15,12 @@
  */
 package com.cv4j.image.util;
 
-import android.graphics.Bitmap;
-import android.graphics.Canvas;
-import android.graphics.Color;
-import android.graphics.Paint;
-import android.support.annotation.NonNull;
-
 import com.cv4j.core.datamodel.Point;
-import com.cv4j.core.datamodel.Rect;
 
 import java.io.BufferedReader;
 import java.io.StringReader;
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.List;
 import java.util.StringTokenizer;
 import java.util.Vector;
 
@@ -70,6 +62,26 @@ public class Tools {
         return (int) p;
     }
 
+    /** Pack the components into an ARGB color, same as android.graphics.Color.argb */
+    public static int argb(int alpha, int red, int green, int blue) {
+        return (alpha << 24) | (red << 16) | (green << 8) | blue;
+    }
+
+    /** Returns the red component of an ARGB color */
+    public static int red(int color) {
+        return (color >> 16) & 0xff;
+    }
+
+    /** Returns the green component of an ARGB color */
+    public static int green(int color) {
+        return (color >> 8) & 0xff;
+    }
+
+    /** Returns the blue component of an ARGB color */
+    public static int blue(int color) {
+        return color & 0xff;
+    }
+
     public static float[] calcMeansAndDev(float[] data) {
         float sum = 0;
         for(int i=0; i<data.length; i++) {
@@ -513,18 +525,6 @@ public class Tools {
         return indexes2;
     }
 
-    public static void drawRects(@NonNull Bitmap bitmap, @NonNull List<Rect> rectangles) {
-
-        Canvas canvas = new Canvas(bitmap);
-        Paint paint = new Paint();
-        paint.setStyle(Paint.Style.STROKE);
-        paint.setColor(Color.RED);
-
-        for (Rect rect : rectangles) {
-            canvas.drawRect(rect.x, rect.y, rect.br().x, rect.br().y, paint);
-        }
-    }
-
     public static int[] rgbToYcrCb(int tr, int tg, int tb) {
         double sum = tr + tg + tb;
         double r = ((double) tr) / sum;
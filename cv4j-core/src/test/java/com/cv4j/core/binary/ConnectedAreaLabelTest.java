@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.binary;
+
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.parallel.ExecutionContext;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class ConnectedAreaLabelTest {
+
+    @After
+    public void restore() {
+        ExecutionContext.setParallelism(Runtime.getRuntime().availableProcessors());
+    }
+
+    private static ByteProcessor noise(int width, int height, double density, long seed) {
+        Random random = new Random(seed);
+        byte[] data = new byte[width * height];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (random.nextDouble() < density ? 255 : 0);
+        }
+        return new ByteProcessor(data, width, height);
+    }
+
+    private static int[] label(ByteProcessor binary, int connectivity, boolean parallel, RegionStatistics statistics) {
+        ConnectedAreaLabel ccl = new ConnectedAreaLabel();
+        ccl.setConnectivity(connectivity);
+        ccl.setParallel(parallel);
+        int[] labels = new int[binary.getWidth() * binary.getHeight()];
+        int regions = ccl.process(binary, labels, statistics);
+        assertEquals(regions, statistics.getCount());
+        return labels;
+    }
+
+    @Test
+    public void parallelLabelsEqualSequentialLabels() {
+        ExecutionContext.setParallelism(4);
+        for (int connectivity : new int[] {4, 8}) {
+            for (long seed = 0; seed < 4; seed++) {
+                ByteProcessor binary = noise(301, 517, 0.45 + 0.05 * seed, seed);
+                RegionStatistics sequential = new RegionStatistics();
+                RegionStatistics parallel = new RegionStatistics();
+                int[] expected = label(binary, connectivity, false, sequential);
+                int[] actual = label(binary, connectivity, true, parallel);
+
+                assertArrayEquals(expected, actual);
+                assertEquals(sequential.getCount(), parallel.getCount());
+                for (int i = 0; i < sequential.getCount(); i++) {
+                    assertEquals(sequential.getArea(i), parallel.getArea(i));
+                    assertEquals(sequential.getBoundingRect(i).x, parallel.getBoundingRect(i).x);
+                    assertEquals(sequential.getBoundingRect(i).y, parallel.getBoundingRect(i).y);
+                    assertEquals(sequential.getBoundingRect(i).width, parallel.getBoundingRect(i).width);
+                    assertEquals(sequential.getBoundingRect(i).height, parallel.getBoundingRect(i).height);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void labelsAreConnectedAndNumberedInScanOrder() {
+        // a ring is one region with 4 and 8 connectivity, the diagonal pair only with 8
+        byte[] data = {
+                -1, -1, -1,  0,  0,
+                -1,  0, -1,  0, -1,
+                -1, -1, -1, -1,  0
+        };
+        ByteProcessor binary = new ByteProcessor(data, 5, 3);
+        int[] four = label(binary, 4, false, new RegionStatistics());
+        int[] eight = label(binary, 8, false, new RegionStatistics());
+        assertArrayEquals(new int[] {0, 0, 0, -1, -1, 0, -1, 0, -1, 1, 0, 0, 0, 0, -1}, four);
+        assertArrayEquals(new int[] {0, 0, 0, -1, -1, 0, -1, 0, -1, 0, 0, 0, 0, 0, -1}, eight);
+    }
+
+    @Test
+    public void stripsRunConcurrently() throws InterruptedException {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        ExecutionContext.setPool(pool);
+        ByteProcessor binary = noise(1024, 2048, 0.5, 7);
+
+        // sample the pool while it labels, more than one active worker means the strips overlap
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final AtomicInteger maxActive = new AtomicInteger();
+        Thread monitor = new Thread(() -> {
+            while (running.get()) {
+                maxActive.accumulateAndGet(pool.getActiveThreadCount(), Math::max);
+            }
+        });
+        monitor.start();
+        try {
+            for (int i = 0; i < 50 && maxActive.get() < 2; i++) {
+                label(binary, 8, true, new RegionStatistics());
+            }
+        } finally {
+            running.set(false);
+            monitor.join();
+            pool.shutdown();
+        }
+        assertTrue("at most " + maxActive.get() + " worker was active", maxActive.get() >= 2);
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.binary.Contour;
+
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.datamodel.Rect;
+import com.cv4j.core.datamodel.RotatedRect;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ContourFinderTest {
+
+    /**
+     * The 8 directions, east then counterclockwise on the screen.
+     */
+    private static final int[] DX = {1, 1, 0, -1, -1, -1, 0, 1};
+    private static final int[] DY = {0, -1, -1, -1, 0, 1, 1, 1};
+
+    /**
+     * The contours as the paper of Suzuki and Abe follows them, on a padded int copy
+     * of the image that is written with the numbers of the borders.
+     */
+    private static class Reference {
+        final List<int[]> points = new ArrayList<>();
+        final List<Boolean> holes = new ArrayList<>();
+        final List<Integer> parents = new ArrayList<>();
+
+        Reference(byte[] binary, int width, int height) {
+            int w = width + 2;
+            int[] f = new int[w * (height + 2)];
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    f[(y + 1) * w + x + 1] = binary[y * width + x] != 0 ? 1 : 0;
+                }
+            }
+
+            int nbd = 1;
+            for (int i = 1; i <= height; i++) {
+                int lnbd = 1;
+                for (int j = 1; j <= width; j++) {
+                    int v = f[i * w + j];
+                    int fromX = j + 1;
+                    boolean hole;
+                    if (v == 1 && f[i * w + j - 1] == 0) {
+                        hole = false;
+                        fromX = j - 1;
+                    } else if (v >= 1 && f[i * w + j + 1] == 0) {
+                        hole = true;
+                        if (v > 1) {
+                            lnbd = v;
+                        }
+                    } else {
+                        if (v != 0 && v != 1) {
+                            lnbd = Math.abs(v);
+                        }
+                        continue;
+                    }
+
+                    nbd++;
+                    int parent = -1;
+                    if (lnbd != 1) {
+                        int last = lnbd - 2;
+                        parent = holes.get(last) == hole ? parents.get(last) : last;
+                    }
+                    holes.add(hole);
+                    parents.add(parent);
+                    points.add(follow(f, w, j, i, fromX, nbd));
+
+                    v = f[i * w + j];
+                    if (v != 0 && v != 1) {
+                        lnbd = Math.abs(v);
+                    }
+                }
+            }
+        }
+
+        private static int[] follow(int[] f, int w, int j, int i, int fromX, int nbd) {
+            List<Integer> pts = new ArrayList<>();
+            int d0 = fromX > j ? 0 : 4;
+            int d1 = -1;
+            for (int k = 0; k < 8; k++) {
+                int d = (d0 - k + 8) & 7;
+                if (f[(i + DY[d]) * w + j + DX[d]] != 0) {
+                    d1 = d;
+                    break;
+                }
+            }
+
+            if (d1 < 0) {
+                // a single pixel
+                f[i * w + j] = -nbd;
+                pts.add(j - 1);
+                pts.add(i - 1);
+            } else {
+                int x1 = j + DX[d1];
+                int y1 = i + DY[d1];
+                int x3 = j;
+                int y3 = i;
+                int back = d1;
+                while (true) {
+                    int d4 = back;
+                    boolean east = false;
+                    for (int k = 1; k <= 8; k++) {
+                        d4 = (back + k) & 7;
+                        if (f[(y3 + DY[d4]) * w + x3 + DX[d4]] != 0) {
+                            break;
+                        }
+                        if (d4 == 0) {
+                            east = true;
+                        }
+                    }
+                    if (east) {
+                        f[y3 * w + x3] = -nbd;
+                    } else if (f[y3 * w + x3] == 1) {
+                        f[y3 * w + x3] = nbd;
+                    }
+                    pts.add(x3 - 1);
+                    pts.add(y3 - 1);
+
+                    int x4 = x3 + DX[d4];
+                    int y4 = y3 + DY[d4];
+                    if (x4 == j && y4 == i && x3 == x1 && y3 == y1) {
+                        break;
+                    }
+                    back = (d4 + 4) & 7;
+                    x3 = x4;
+                    y3 = y4;
+                }
+            }
+
+            int[] result = new int[pts.size()];
+            for (int k = 0; k < result.length; k++) {
+                result[k] = pts.get(k);
+            }
+            return result;
+        }
+    }
+
+    private static void assertSame(byte[] binary, int width, int height, Contours contours) {
+        Reference reference = new Reference(binary, width, height);
+        assertEquals(reference.points.size(), contours.getCount());
+        for (int i = 0; i < contours.getCount(); i++) {
+            assertArrayEquals("contour " + i, reference.points.get(i), contours.getPoints(i));
+            assertEquals("contour " + i, reference.holes.get(i), contours.isHole(i));
+            assertEquals("contour " + i, (int) reference.parents.get(i), contours.getParent(i));
+        }
+    }
+
+    /**
+     * A square ring with a dot in its hole.
+     */
+    private static ByteProcessor ring() {
+        byte[] binary = new byte[20 * 20];
+        for (int y = 2; y < 18; y++) {
+            for (int x = 2; x < 18; x++) {
+                boolean inHole = x >= 5 && x < 15 && y >= 5 && y < 15;
+                binary[y * 20 + x] = (byte) (inHole ? 0 : 255);
+            }
+        }
+        binary[10 * 20 + 10] = (byte) 255;
+        return new ByteProcessor(binary, 20, 20);
+    }
+
+    @Test
+    public void randomImagesEqualReference() {
+        Random random = new Random(1);
+        for (int n = 0; n < 200; n++) {
+            int width = 1 + random.nextInt(40);
+            int height = 1 + random.nextInt(40);
+            double density = random.nextDouble();
+            byte[] binary = new byte[width * height];
+            for (int i = 0; i < binary.length; i++) {
+                binary[i] = (byte) (random.nextDouble() < density ? 255 : 0);
+            }
+            assertSame(binary, width, height, new ContourFinder().find(new ByteProcessor(binary.clone(), width, height)));
+        }
+    }
+
+    @Test
+    public void viewEqualsReference() {
+        Random random = new Random(2);
+        ByteProcessor image = new ByteProcessor(45, 38);
+        for (int i = 0; i < image.getGray().length; i++) {
+            image.getGray()[i] = (byte) (random.nextBoolean() ? 255 : 0);
+        }
+        byte[] before = image.getGray().clone();
+        Rect rect = new Rect();
+        rect.x = 3;
+        rect.y = 5;
+        rect.width = 30;
+        rect.height = 25;
+        ByteProcessor view = image.subView(rect);
+
+        assertSame(view.toByte(0), 30, 25, new ContourFinder().find(view));
+        assertArrayEquals(before, image.getGray());
+    }
+
+    @Test
+    public void hierarchy() {
+        Contours contours = new ContourFinder().find(ring());
+        assertEquals(3, contours.getCount());
+        assertFalse(contours.isHole(0));
+        assertEquals(-1, contours.getParent(0));
+        assertTrue(contours.isHole(1));
+        assertEquals(0, contours.getParent(1));
+        assertFalse(contours.isHole(2));
+        assertEquals(1, contours.getParent(2));
+        assertEquals(1, contours.getPointCount(2));
+        assertEquals(60, contours.getPerimeter(0), 1e-9);
+    }
+
+    @Test
+    public void convexHullHoldsEveryPoint() {
+        ByteProcessor image = new ByteProcessor(60, 60);
+        Random random = new Random(3);
+        for (int y = 10; y < 50; y++) {
+            for (int x = 10 + random.nextInt(10); x < 50 - random.nextInt(10); x++) {
+                image.getGray()[y * 60 + x] = (byte) 255;
+            }
+        }
+        Contours contours = new ContourFinder().find(image);
+        int[] hull = contours.convexHull(0);
+        int corners = hull.length / 2;
+        assertTrue(corners >= 3);
+        for (int k = 0; k < corners; k++) {
+            int ax = hull[2 * k];
+            int ay = hull[2 * k + 1];
+            int bx = hull[2 * ((k + 1) % corners)];
+            int by = hull[2 * ((k + 1) % corners) + 1];
+            int[] points = contours.getPoints(0);
+            for (int i = 0; i < points.length; i += 2) {
+                // clockwise on the screen, every point is on the right of the edge or on it
+                long cross = (long) (bx - ax) * (points[i + 1] - ay) - (long) (by - ay) * (points[i] - ax);
+                assertTrue(cross >= 0);
+            }
+        }
+    }
+
+    @Test
+    public void minAreaRectOfRotatedRectangle() {
+        byte[] binary = new byte[200 * 200];
+        for (int y = 0; y < 200; y++) {
+            for (int x = 0; x < 200; x++) {
+                double u = (x - 100) * Math.cos(0.5) + (y - 100) * Math.sin(0.5);
+                double v = -(x - 100) * Math.sin(0.5) + (y - 100) * Math.cos(0.5);
+                if (Math.abs(u) < 60 && Math.abs(v) < 25) {
+                    binary[y * 200 + x] = (byte) 255;
+                }
+            }
+        }
+        Contours contours = new ContourFinder().find(new ByteProcessor(binary, 200, 200));
+        assertEquals(1, contours.getCount());
+        RotatedRect rect = contours.minAreaRect(0);
+        assertEquals(100, rect.centerX, 1);
+        assertEquals(100, rect.centerY, 1);
+        double longSide = Math.max(rect.width, rect.height);
+        double shortSide = Math.min(rect.width, rect.height);
+        assertEquals(120, longSide, 2);
+        assertEquals(50, shortSide, 2);
+
+        // no rectangle at another angle holding all the points is smaller
+        int[] points = contours.getPoints(0);
+        for (int step = 0; step < 180; step++) {
+            double a = step * Math.PI / 180;
+            double minU = Double.MAX_VALUE;
+            double maxU = -Double.MAX_VALUE;
+            double minV = Double.MAX_VALUE;
+            double maxV = -Double.MAX_VALUE;
+            for (int i = 0; i < points.length; i += 2) {
+                double u = points[i] * Math.cos(a) + points[i + 1] * Math.sin(a);
+                double v = -points[i] * Math.sin(a) + points[i + 1] * Math.cos(a);
+                minU = Math.min(minU, u);
+                maxU = Math.max(maxU, u);
+                minV = Math.min(minV, v);
+                maxV = Math.max(maxV, v);
+            }
+            assertTrue(rect.width * rect.height <= (maxU - minU) * (maxV - minV) + 1e-6);
+        }
+    }
+
+    @Test
+    public void simplifiedPolygonIsWithinEpsilon() {
+        Contours contours = new ContourFinder().find(ring());
+        int[] points = contours.getPoints(0);
+        int[] kept = contours.simplify(0, 0.5);
+        assertEquals(8, kept.length);
+
+        // every point of the contour is within epsilon of an edge of the simplified polygon
+        int corners = kept.length / 2;
+        for (int i = 0; i < points.length; i += 2) {
+            double best = Double.MAX_VALUE;
+            for (int k = 0; k < corners; k++) {
+                best = Math.min(best, distance(points[i], points[i + 1], kept[2 * k], kept[2 * k + 1],
+                        kept[2 * ((k + 1) % corners)], kept[2 * ((k + 1) % corners) + 1]));
+            }
+            assertTrue(best <= 0.5);
+        }
+    }
+
+    /**
+     * The distance of (px, py) to the segment from a to b.
+     */
+    private static double distance(int px, int py, int ax, int ay, int bx, int by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double length = dx * dx + dy * dy;
+        double t = length == 0 ? 0 : Math.max(0, Math.min(1, ((px - ax) * dx + (py - ay) * dy) / length));
+        return Math.hypot(px - ax - t * dx, py - ay - t * dy);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.binary;
+
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.datamodel.Rect;
+import com.cv4j.core.parallel.ExecutionContext;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class DistanceTransformTest {
+
+    @After
+    public void restore() {
+        ExecutionContext.setParallelism(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Blobs of foreground with a few background pixels, at least one.
+     */
+    private static ByteProcessor blobs(int width, int height, long seed) {
+        Random random = new Random(seed);
+        ByteProcessor image = new ByteProcessor(width, height);
+        byte[] gray = image.getGray();
+        for (int i = 0; i < gray.length; i++) {
+            gray[i] = (byte) (random.nextInt(60) == 0 ? 0 : 255);
+        }
+        gray[random.nextInt(gray.length)] = 0;
+        return image;
+    }
+
+    /**
+     * The distance to every background pixel, the smallest one.
+     * @param metric the metric of the transform, 3 * max + min for the chamfer 3-4 distance.
+     */
+    private static float[] nearest(byte[] gray, int width, int height, int metric) {
+        float[] distances = new float[width * height];
+        for (int i = 0; i < distances.length; i++) {
+            if (gray[i] == 0) {
+                continue;
+            }
+            double best = Double.MAX_VALUE;
+            for (int j = 0; j < distances.length; j++) {
+                if (gray[j] != 0) {
+                    continue;
+                }
+                int dx = Math.abs(i % width - j % width);
+                int dy = Math.abs(i / width - j / width);
+                double d;
+                if (metric == DtBase.EUCLIDEAN) {
+                    d = Math.sqrt(dx * dx + dy * dy);
+                } else if (metric == DtBase.CITY_BLOCK) {
+                    d = dx + dy;
+                } else {
+                    d = (3 * Math.max(dx, dy) + Math.min(dx, dy)) / 3f;
+                }
+                best = Math.min(best, d);
+            }
+            distances[i] = (float) best;
+        }
+        return distances;
+    }
+
+    @Test
+    public void everyMetricEqualsNearestBackground() {
+        int[] metrics = {DtBase.EUCLIDEAN, DtBase.CITY_BLOCK, DtBase.CHAMFER_3_4};
+        for (int metric : metrics) {
+            for (long seed = 0; seed < 3; seed++) {
+                ByteProcessor image = blobs(43, 31, seed);
+                float[] expected = nearest(image.getGray(), 43, 31, metric);
+                float[] actual = new DistanceTransform(metric).transform(image).getGray();
+                assertArrayEquals("metric " + metric, expected, actual, 1e-5f);
+            }
+        }
+    }
+
+    @Test
+    public void chamferIsCloseToEuclidean() {
+        ByteProcessor image = blobs(60, 45, 7);
+        float[] euclidean = nearest(image.getGray(), 60, 45, DtBase.EUCLIDEAN);
+        float[] chamfer = new DistanceTransform(DtBase.CHAMFER_3_4).transform(image).getGray();
+        for (int i = 0; i < euclidean.length; i++) {
+            assertEquals(euclidean[i], chamfer[i], 0.1f * euclidean[i] + 1e-5f);
+        }
+    }
+
+    @Test
+    public void singleBackgroundPixelAndParallelBands() {
+        ExecutionContext.setParallelism(4);
+        ByteProcessor image = new ByteProcessor(70, 180);
+        Arrays.fill(image.getGray(), (byte) 255);
+        image.getGray()[170 * 70 + 3] = 0;
+        float[] expected = nearest(image.getGray(), 70, 180, DtBase.EUCLIDEAN);
+        float[] actual = new DistanceTransform().transform(image).getGray();
+        assertArrayEquals(expected, actual, 1e-5f);
+    }
+
+    @Test
+    public void viewIsTransformedLikeItsCopy() {
+        Rect rect = new Rect();
+        rect.x = 9;
+        rect.y = 4;
+        rect.width = 27;
+        rect.height = 30;
+        ByteProcessor view = blobs(50, 40, 11).subView(rect);
+        ByteProcessor copy = view.duplicate();
+        copy.getGray()[0] = 0;
+        view.getGray()[view.getOffset()] = 0;
+
+        float[] expected = nearest(copy.getGray(), 27, 30, DtBase.EUCLIDEAN);
+        assertArrayEquals(expected, new DistanceTransform().transform(view).getGray(), 1e-5f);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownMetricIsRejected() {
+        new DistanceTransform(3);
+    }
+}
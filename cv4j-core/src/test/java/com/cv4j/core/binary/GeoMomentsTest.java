@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.binary;
+
+import com.cv4j.core.datamodel.MeasureData;
+import com.cv4j.core.datamodel.MeasureTable;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class GeoMomentsTest {
+
+    @Test
+    public void pixelListEqualsLabels() {
+        // a 12 x 3 bar, wider than tall, away from the diagonal
+        int width = 20;
+        int height = 10;
+        int[] labels = new int[width * height];
+        Arrays.fill(labels, -1);
+        List<PixelNode> pixels = new ArrayList<>();
+        for (int row = 6; row < 9; row++) {
+            for (int col = 2; col < 14; col++) {
+                labels[row * width + col] = 0;
+                pixels.add(new PixelNode(col, row, row * width + col));
+            }
+        }
+
+        MeasureTable table = new GeoMoments().calculate(labels, width, height, 1);
+        MeasureData data = new GeoMoments().calculate(pixels);
+        assertEquals(36, data.getArea(), 1e-9);
+        assertEquals(table.getArea(0), data.getArea(), 1e-9);
+        assertEquals(table.get(0).getCp().x, data.getCp().x);
+        assertEquals(table.get(0).getCp().y, data.getCp().y);
+        assertEquals(7.5, table.getCenterX(0), 1e-9);
+        assertEquals(7, table.getCenterY(0), 1e-9);
+        assertEquals(table.getAngle(0), data.getAngle(), 1e-9);
+        assertEquals(table.getRoundness(0), data.getRoundness(), 1e-9);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.binary.Hat;
+
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.datamodel.Rect;
+import com.cv4j.core.datamodel.Size;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class TopHatTest {
+
+    private static ByteProcessor noise(int width, int height) {
+        Random random = new Random(8);
+        ByteProcessor image = new ByteProcessor(width, height);
+        for (int i = 0; i < width * height; i++) {
+            image.getGray()[i] = (byte) (random.nextInt(3) == 0 ? 0 : 255);
+        }
+        return image;
+    }
+
+    private static Rect rect() {
+        Rect rect = new Rect();
+        rect.x = 7;
+        rect.y = 4;
+        rect.width = 30;
+        rect.height = 25;
+        return rect;
+    }
+
+    @Test
+    public void topHatOfViewEqualsTopHatOfCopy() {
+        ByteProcessor view = noise(50, 40).subView(rect());
+        ByteProcessor expected = view.duplicate();
+        new TopHat().process(expected, new Size(3));
+        new TopHat().process(view, new Size(3));
+        assertArrayEquals(expected.getGray(), view.toByte(0));
+    }
+
+    @Test
+    public void blackHatOfViewEqualsBlackHatOfCopy() {
+        ByteProcessor view = noise(50, 40).subView(rect());
+        ByteProcessor expected = view.duplicate();
+        new BlackHat().process(expected, new Size(3));
+        new BlackHat().process(view, new Size(3));
+        assertArrayEquals(expected.getGray(), view.toByte(0));
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.binary;
+
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.datamodel.Rect;
+import com.cv4j.core.parallel.ExecutionContext;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ThresholdTest {
+
+    private static final int ADAPTIVE = 0;
+    private static final int SAUVOLA = 1;
+    private static final int NIBLACK = 2;
+
+    @After
+    public void restore() {
+        ExecutionContext.setParallelism(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Text-like dark strokes on a background with a gradient and noise.
+     */
+    private static ByteProcessor page(int width, int height, long seed) {
+        Random random = new Random(seed);
+        ByteProcessor image = new ByteProcessor(width, height);
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                int value = 120 + col + random.nextInt(20);
+                if ((col / 3) % 4 == 0 && (row / 5) % 2 == 0) {
+                    value -= 90;
+                }
+                image.getGray()[row * width + col] = (byte) Math.max(0, Math.min(255, value));
+            }
+        }
+        return image;
+    }
+
+    /**
+     * The threshold rules on the sums of the pixels of the clipped window, counted one by one.
+     */
+    private static byte[] threshold(byte[] gray, int width, int height, int rule, int radius, double k, boolean inverse) {
+        byte[] output = new byte[width * height];
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                long sum = 0;
+                long squares = 0;
+                int n = 0;
+                for (int y = Math.max(0, row - radius); y <= Math.min(height - 1, row + radius); y++) {
+                    for (int x = Math.max(0, col - radius); x <= Math.min(width - 1, col + radius); x++) {
+                        int v = gray[y * width + x] & 0xff;
+                        sum += v;
+                        squares += v * v;
+                        n++;
+                    }
+                }
+                double mean = sum / (double) n;
+                double deviation = Math.sqrt((n * squares - sum * sum) / ((double) n * n));
+                int pixel = gray[row * width + col] & 0xff;
+                boolean high;
+                if (rule == ADAPTIVE) {
+                    high = pixel > (int) mean - (int) k;
+                } else if (rule == SAUVOLA) {
+                    high = pixel > mean * (1 + k * (deviation / 128 - 1));
+                } else {
+                    high = pixel > mean + k * deviation;
+                }
+                output[row * width + col] = (byte) (high != inverse ? 255 : 0);
+            }
+        }
+        return output;
+    }
+
+    @Test
+    public void adaptiveEqualsClippedWindowMean() {
+        int[][] cases = {{1, 0}, {7, 10}, {10, 7}, {40, 3}};
+        for (int[] c : cases) {
+            ByteProcessor image = page(57, 41, c[0]);
+            byte[] expected = threshold(image.getGray(), 57, 41, ADAPTIVE, c[0], c[1], false);
+            new Threshold().adaptiveThresh(image, c[0], c[1], Threshold.METHOD_THRESH_BINARY);
+            assertArrayEquals("blockSize " + c[0] + " constant " + c[1], expected, image.getGray());
+        }
+
+        ByteProcessor image = page(57, 41, 5);
+        byte[] expected = threshold(image.getGray(), 57, 41, ADAPTIVE, 4, 5, true);
+        new Threshold().adaptiveThresh(image, 4, 5, Threshold.METHOD_THRESH_BINARY_INV);
+        assertArrayEquals(expected, image.getGray());
+    }
+
+    @Test
+    public void sauvolaEqualsClippedWindow() {
+        for (float k : new float[]{0.2f, 0.5f}) {
+            ByteProcessor image = page(60, 45, 6);
+            byte[] expected = threshold(image.getGray(), 60, 45, SAUVOLA, 6, k, false);
+            new Threshold().localThresh(image, Threshold.ADAPTIVE_SAUVOLA_THRESH, 6, k, Threshold.METHOD_THRESH_BINARY);
+            assertArrayEquals("k " + k, expected, image.getGray());
+        }
+    }
+
+    @Test
+    public void niblackEqualsClippedWindow() {
+        ExecutionContext.setParallelism(4);
+        ByteProcessor image = page(80, 160, 7);
+        byte[] expected = threshold(image.getGray(), 80, 160, NIBLACK, 9, -0.2f, true);
+        new Threshold().localThresh(image, Threshold.ADAPTIVE_NIBLACK_THRESH, 9, -0.2f, Threshold.METHOD_THRESH_BINARY_INV);
+        assertArrayEquals(expected, image.getGray());
+    }
+
+    @Test
+    public void viewIsBinarizedLikeItsCopy() {
+        ByteProcessor image = page(70, 50, 8);
+        byte[] before = image.getGray().clone();
+        Rect rect = new Rect();
+        rect.x = 12;
+        rect.y = 6;
+        rect.width = 40;
+        rect.height = 33;
+        ByteProcessor view = image.subView(rect);
+        byte[] expected = threshold(view.toByte(0), 40, 33, SAUVOLA, 5, 0.3f, false);
+
+        new Threshold().localThresh(view, Threshold.ADAPTIVE_SAUVOLA_THRESH, 5, 0.3f, Threshold.METHOD_THRESH_BINARY);
+        assertArrayEquals(expected, view.toByte(0));
+        assertEquals(before[0], image.getGray()[0]);
+        assertEquals(before[70 * 50 - 1], image.getGray()[70 * 50 - 1]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownLocalThresholdIsRejected() {
+        new Threshold().localThresh(page(10, 10, 9), Threshold.ADAPTIVE_C_MEANS_THRESH, 3, 0.2f,
+                Threshold.METHOD_THRESH_BINARY);
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.binary;
+
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.datamodel.Rect;
+import com.cv4j.core.parallel.ExecutionContext;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ZhangSuenThinTest {
+
+    @After
+    public void restore() {
+        ExecutionContext.setParallelism(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Zhang and Suen as in the paper: full scans of the image padded with background,
+     * every sub-iteration decides on the image as it was before it, until nothing changes.
+     */
+    private static byte[] thin(byte[] gray, int width, int height) {
+        int w = width + 2;
+        int[] image = new int[w * (height + 2)];
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                image[(row + 1) * w + col + 1] = gray[row * width + col] != 0 ? 1 : 0;
+            }
+        }
+
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int step = 0; step < 2; step++) {
+                int[] before = image.clone();
+                for (int row = 1; row <= height; row++) {
+                    for (int col = 1; col <= width; col++) {
+                        int i = row * w + col;
+                        if (before[i] == 0) {
+                            continue;
+                        }
+                        // P2 (north) to P9 (north west), clockwise
+                        int[] p = {before[i - w], before[i - w + 1], before[i + 1], before[i + w + 1],
+                                   before[i + w], before[i + w - 1], before[i - 1], before[i - w - 1]};
+                        int b = 0;
+                        int a = 0;
+                        for (int k = 0; k < 8; k++) {
+                            b += p[k];
+                            if (p[k] == 0 && p[(k + 1) % 8] == 1) {
+                                a++;
+                            }
+                        }
+                        boolean open = step == 0
+                                ? p[0] * p[2] * p[4] == 0 && p[2] * p[4] * p[6] == 0
+                                : p[0] * p[2] * p[6] == 0 && p[0] * p[4] * p[6] == 0;
+                        if (b >= 2 && b <= 6 && a == 1 && open) {
+                            image[i] = 0;
+                            changed = true;
+                        }
+                    }
+                }
+            }
+        }
+
+        byte[] output = new byte[width * height];
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                output[row * width + col] = (byte) (image[(row + 1) * w + col + 1] * 255);
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Thick random rectangles and disks, touching the border of the image.
+     */
+    private static ByteProcessor shapes(int width, int height, long seed) {
+        Random random = new Random(seed);
+        ByteProcessor image = new ByteProcessor(width, height);
+        byte[] gray = image.getGray();
+        for (int n = 0; n < 12; n++) {
+            int x = random.nextInt(width);
+            int y = random.nextInt(height);
+            int r = 2 + random.nextInt(10);
+            boolean disk = random.nextBoolean();
+            for (int row = Math.max(0, y - r); row < Math.min(height, y + r); row++) {
+                for (int col = Math.max(0, x - 2 * r); col < Math.min(width, x + 2 * r); col++) {
+                    int dx = col - x;
+                    int dy = row - y;
+                    if (!disk || dx * dx + dy * dy <= r * r) {
+                        gray[row * width + col] = (byte) 255;
+                    }
+                }
+            }
+        }
+        return image;
+    }
+
+    @Test
+    public void equalsFullScans() {
+        for (long seed = 0; seed < 6; seed++) {
+            ByteProcessor image = shapes(64, 48, seed);
+            byte[] expected = thin(image.getGray(), 64, 48);
+            new ZhangSuenThin().process(image);
+            assertArrayEquals("seed " + seed, expected, image.getGray());
+        }
+    }
+
+    @Test
+    public void parallelEqualsFullScans() {
+        ExecutionContext.setParallelism(4);
+        ByteProcessor image = shapes(120, 200, 42);
+        byte[] expected = thin(image.getGray(), 120, 200);
+        new ZhangSuenThin().process(image);
+        assertArrayEquals(expected, image.getGray());
+    }
+
+    @Test
+    public void viewIsThinnedLikeItsCopy() {
+        ByteProcessor image = shapes(80, 60, 3);
+        byte[] before = image.getGray().clone();
+        Rect rect = new Rect();
+        rect.x = 10;
+        rect.y = 12;
+        rect.width = 45;
+        rect.height = 35;
+        ByteProcessor view = image.subView(rect);
+        byte[] expected = thin(view.toByte(0), 45, 35);
+
+        new ZhangSuenThin().process(view);
+        assertArrayEquals(expected, view.toByte(0));
+        for (int row = 0; row < 60; row++) {
+            for (int col = 0; col < 80; col++) {
+                boolean inside = col >= 10 && col < 55 && row >= 12 && row < 47;
+                if (!inside) {
+                    assertEquals(before[row * 80 + col], image.getGray()[row * 80 + col]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void lineStaysALine() {
+        ByteProcessor image = new ByteProcessor(20, 5);
+        for (int col = 2; col < 18; col++) {
+            image.getGray()[2 * 20 + col] = (byte) 255;
+        }
+        byte[] expected = image.getGray().clone();
+        new ZhangSuenThin().process(image);
+        assertArrayEquals(expected, image.getGray());
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.binary.fast;
+
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.datamodel.ColorProcessor;
+import com.cv4j.core.datamodel.Rect;
+import com.cv4j.core.datamodel.Size;
+import com.cv4j.core.parallel.ExecutionContext;
+import com.cv4j.core.spatial.conv.noise.MinMaxFilter;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class RunningMinMaxTest {
+
+    @After
+    public void restore() {
+        ExecutionContext.setParallelism(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * The min or max of the cols x rows rectangle by scanning it, n / 2 pixels before
+     * the center and n - n / 2 - 1 after it, the pixels beyond the border repeat the border.
+     */
+    private static byte[] minMax(byte[] input, int width, int height, int cols, int rows, boolean max) {
+        byte[] output = new byte[width * height];
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                int value = max ? 0 : 255;
+                for (int dy = -(rows / 2); dy < rows - rows / 2; dy++) {
+                    int y = Math.min(height - 1, Math.max(0, row + dy));
+                    for (int dx = -(cols / 2); dx < cols - cols / 2; dx++) {
+                        int x = Math.min(width - 1, Math.max(0, col + dx));
+                        int v = input[y * width + x] & 0xff;
+                        value = max ? Math.max(value, v) : Math.min(value, v);
+                    }
+                }
+                output[row * width + col] = (byte) value;
+            }
+        }
+        return output;
+    }
+
+    private static byte[] random(int length, long seed) {
+        byte[] data = new byte[length];
+        new Random(seed).nextBytes(data);
+        return data;
+    }
+
+    @Test
+    public void rectanglesEqualScannedWindow() {
+        int width = 33;
+        int height = 27;
+        int[][] sizes = {{1, 1}, {3, 3}, {2, 4}, {5, 2}, {7, 9}, {16, 11}, {40, 3}, {3, 60}, {80, 80}};
+        for (int[] size : sizes) {
+            for (boolean max : new boolean[]{false, true}) {
+                byte[] input = random(width * height, size[0] * 31 + size[1]);
+                byte[] expected = minMax(input, width, height, size[0], size[1], max);
+                byte[] output = new byte[width * height];
+                RunningMinMax.filter(input, 0, width, output, 0, width, width, height, size[0], size[1], max);
+                assertArrayEquals(size[0] + "x" + size[1] + " max " + max, expected, output);
+            }
+        }
+    }
+
+    @Test
+    public void inPlaceEqualsOutOfPlace() {
+        byte[] input = random(50 * 40, 2);
+        byte[] expected = minMax(input, 50, 40, 6, 5, true);
+        RunningMinMax.filter(input, 0, 50, input, 0, 50, 50, 40, 6, 5, true);
+        assertArrayEquals(expected, input);
+    }
+
+    @Test
+    public void parallelEqualsScannedWindow() {
+        ExecutionContext.setParallelism(4);
+        byte[] input = random(150 * 170, 3);
+        byte[] expected = minMax(input, 150, 170, 9, 13, false);
+        byte[] output = new byte[150 * 170];
+        RunningMinMax.filter(input, 0, 150, output, 0, 150, 150, 170, 9, 13, false);
+        assertArrayEquals(expected, output);
+    }
+
+    @Test
+    public void erodeAndDilateOfView() {
+        Rect rect = new Rect();
+        rect.x = 5;
+        rect.y = 8;
+        rect.width = 31;
+        rect.height = 24;
+        for (boolean dilate : new boolean[]{false, true}) {
+            ByteProcessor image = new ByteProcessor(50, 40);
+            byte[] noise = random(50 * 40, 4);
+            for (int i = 0; i < noise.length; i++) {
+                image.getGray()[i] = (byte) ((noise[i] & 3) == 0 ? 255 : 0);
+            }
+            byte[] before = image.getGray().clone();
+            ByteProcessor view = image.subView(rect);
+            byte[] expected = minMax(view.toByte(0), 31, 24, 4, 3, dilate);
+
+            FastBase op = dilate ? new FastDilate() : new FastErode();
+            op.process(view, new Size(4, 3));
+            assertArrayEquals(expected, view.toByte(0));
+            for (int row = 0; row < 40; row++) {
+                for (int col = 0; col < 50; col++) {
+                    boolean inside = col >= 5 && col < 36 && row >= 8 && row < 32;
+                    if (!inside) {
+                        assertEquals(before[row * 50 + col], image.getGray()[row * 50 + col]);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void minMaxFilterFiltersEveryChannel() {
+        ColorProcessor image = new ColorProcessor(29, 21);
+        Random random = new Random(5);
+        random.nextBytes(image.getRed());
+        random.nextBytes(image.getGreen());
+        random.nextBytes(image.getBlue());
+        byte[][] expected = new byte[3][];
+        for (int c = 0; c < 3; c++) {
+            expected[c] = minMax(image.toByte(c), 29, 21, 5, 5, false);
+        }
+        MinMaxFilter filter = new MinMaxFilter();
+        filter.setRadius(2);
+        filter.setMinFilter(true);
+        filter.filter(image);
+        for (int c = 0; c < 3; c++) {
+            assertArrayEquals(expected[c], image.toByte(c));
+        }
+    }
+}
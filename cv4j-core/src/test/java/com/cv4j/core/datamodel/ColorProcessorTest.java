@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.datamodel;
+
+import com.cv4j.core.datamodel.plane.Planes;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ColorProcessorTest {
+
+    static ColorProcessor random(int width, int height, long seed) {
+        Random random = new Random(seed);
+        ColorProcessor image = new ColorProcessor(width, height);
+        random.nextBytes(image.getRed());
+        random.nextBytes(image.getGreen());
+        random.nextBytes(image.getBlue());
+        return image;
+    }
+
+    static Rect rect(int x, int y, int width, int height) {
+        Rect rect = new Rect();
+        rect.x = x;
+        rect.y = y;
+        rect.width = width;
+        rect.height = height;
+        return rect;
+    }
+
+    @Test
+    public void toByteOfViewIsPackedCopy() {
+        ColorProcessor image = random(40, 30, 1);
+        ColorProcessor view = image.subView(rect(5, 7, 20, 11));
+        ColorProcessor copy = view.duplicate();
+
+        for (int c = 0; c < 3; c++) {
+            byte[] packed = view.toByte(c);
+            assertEquals(20 * 11, packed.length);
+            assertArrayEquals(copy.toByte(c), packed);
+
+            // writing to the copy does not change the image
+            packed[0]++;
+            assertNotEquals(packed[0], Planes.array(view, c)[view.getOffset()]);
+        }
+    }
+
+    @Test
+    public void toByteOfImageIsBackingPlane() {
+        ColorProcessor image = random(8, 6, 2);
+        assertSame(image.getRed(), image.toByte(0));
+        assertSame(image.getGreen(), image.toByte(1));
+        assertSame(image.getBlue(), image.toByte(2));
+    }
+
+    @Test
+    public void planeOfViewIsShared() {
+        ColorProcessor image = random(40, 30, 3);
+        ColorProcessor view = image.subView(rect(5, 7, 20, 11));
+        assertSame(image.getRed(), Planes.array(view, 0));
+        assertSame(image.getBlue(), Planes.array(view, 2));
+        view.getPlane(1).set(view.getOffset(), 42);
+        assertEquals(42, image.getGreen()[7 * 40 + 5]);
+    }
+
+    @Test
+    public void grayViewToByteIsPackedCopy() {
+        ByteProcessor image = new ByteProcessor(30, 20);
+        new Random(4).nextBytes(image.getGray());
+        ByteProcessor view = image.subView(rect(3, 2, 10, 9));
+        assertArrayEquals(view.duplicate().getGray(), view.toByte(0));
+        assertSame(image.getGray(), image.toByte(0));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.datamodel;
+
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.datamodel.plane.Planes;
+import com.cv4j.core.filters.CommonFilter;
+import com.cv4j.core.filters.FastEPFilter;
+import com.cv4j.core.filters.math.GaussianBlurFilter;
+import com.cv4j.core.pixels.Resize;
+import com.cv4j.core.spatial.conv.edge.CannyEdgeDetector;
+import com.cv4j.core.spatial.conv.noise.MedimaFilter;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class DirectColorProcessorTest {
+
+    private static ColorProcessor color(int width, int height) {
+        Random random = new Random(12);
+        ColorProcessor image = new ColorProcessor(width, height);
+        for (int i = 0; i < width * height; i++) {
+            int base = (i % width) * 3 + random.nextInt(25);
+            image.getRed()[i] = (byte) Math.min(255, base);
+            image.getGreen()[i] = (byte) Math.min(255, base / 2 + 40);
+            image.getBlue()[i] = (byte) Math.min(255, 200 - base / 3);
+        }
+        return image;
+    }
+
+    private static void assertSameImage(ImageProcessor expected, ImageProcessor actual) {
+        assertEquals(expected.getChannels(), actual.getChannels());
+        ImageProcessor heap = Planes.packedCopy(actual);
+        for (int c = 0; c < expected.getChannels(); c++) {
+            assertArrayEquals("channel " + c, expected.toByte(c), heap.toByte(c));
+        }
+    }
+
+    private static void assertFiltersLikeHeap(CommonFilter heapFilter, CommonFilter directFilter) {
+        ColorProcessor heap = color(48, 37);
+        DirectColorProcessor direct = DirectColorProcessor.copyOf(heap);
+        heapFilter.filter(heap);
+        assertSame(direct, directFilter.filter(direct));
+        assertSameImage(heap, direct);
+
+        ByteProcessor gray = new ByteProcessor(heap.toByte(1).clone(), 48, 37);
+        DirectByteProcessor directGray = DirectByteProcessor.copyOf(gray);
+        heapFilter.filter(gray);
+        directFilter.filter(directGray);
+        assertSameImage(gray, directGray);
+    }
+
+    @Test
+    public void planesAreOffHeap() {
+        DirectColorProcessor direct = new DirectColorProcessor(4, 3);
+        assertFalse(Planes.isHeap(direct));
+        assertTrue(Planes.isHeap(new ColorProcessor(4, 3)));
+        ImageProcessor copy = Planes.onHeap(direct);
+        assertNotSame(direct, copy);
+        assertTrue(Planes.isHeap(copy));
+    }
+
+    @Test
+    public void medianFiltersOffHeap() {
+        MedimaFilter heap = new MedimaFilter();
+        heap.setRadius(2);
+        MedimaFilter direct = new MedimaFilter();
+        direct.setRadius(2);
+        assertFiltersLikeHeap(heap, direct);
+    }
+
+    @Test
+    public void fastEPFiltersOffHeap() {
+        assertFiltersLikeHeap(new FastEPFilter(), new FastEPFilter());
+    }
+
+    @Test
+    public void gaussianFiltersOffHeap() {
+        assertFiltersLikeHeap(new GaussianBlurFilter(), new GaussianBlurFilter());
+    }
+
+    @Test
+    public void resizeReadsOffHeap() {
+        ColorProcessor heap = color(40, 30);
+        DirectColorProcessor direct = DirectColorProcessor.copyOf(heap);
+        int[] types = {Resize.NEAREST_INTEPOLATE, Resize.BILINE_INTEPOLATE, Resize.BICUBIC_INTEPOLATE,
+                Resize.LANCZOS_INTEPOLATE, Resize.AREA_INTEPOLATE};
+        for (int type : types) {
+            Resize resize = new Resize(0.7f);
+            assertSameImage(resize.resize(heap, type), resize.resize(direct, type));
+        }
+        Resize resize = new Resize(1.5f);
+        assertSameImage(resize.biline(heap), resize.biline(direct));
+    }
+
+    @Test
+    public void cannyReadsOffHeap() {
+        ColorProcessor heap = color(40, 30);
+        DirectColorProcessor direct = DirectColorProcessor.copyOf(heap);
+        assertSameImage(new CannyEdgeDetector().detect(heap), new CannyEdgeDetector().detect(direct));
+
+        ByteProcessor gray = new ByteProcessor(heap.toByte(0).clone(), 40, 30);
+        assertSameImage(new CannyEdgeDetector().detect(gray),
+                new CannyEdgeDetector().detect(DirectByteProcessor.copyOf(gray)));
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.datamodel.number;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class IntIntegralImageTest {
+
+    @Test
+    public void blockSquareSumIsExact() {
+        // beyond 2^24 a float drops the last units of the sum
+        byte[] image = new byte[300 * 300];
+        Arrays.fill(image, (byte) 255);
+        image[150 * 300 + 150] = (byte) 254;
+        IntIntegralImage integral = new IntIntegralImage();
+        integral.setImage(image);
+        integral.process(300, 300, true);
+
+        long expected = 300L * 300 * 255 * 255 - (255 * 255 - 254 * 254);
+        assertEquals(expected, integral.getBlockSquareSum(150, 150, 301, 301));
+        assertEquals(300 * 300 * 255 - 1, integral.getBlockSum(150, 150, 301, 301));
+    }
+
+    @Test
+    public void blockIsClippedToImage() {
+        byte[] image = new byte[5 * 4];
+        for (int i = 0; i < image.length; i++) {
+            image[i] = (byte) i;
+        }
+        IntIntegralImage integral = new IntIntegralImage();
+        integral.setImage(image);
+        integral.process(5, 4, true);
+
+        // the 3x3 block around (0, 0) keeps the pixels (0..1, 0..1)
+        assertEquals(0 + 1 + 5 + 6, integral.getBlockSum(0, 0, 3, 3));
+        assertEquals(0 + 1 + 25 + 36, integral.getBlockSquareSum(0, 0, 3, 3));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.datamodel.number;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class LocalStatisticsTest {
+
+    @Test
+    public void meanAndVarianceOfClippedWindow() {
+        int width = 23;
+        int height = 17;
+        int stride = 30;
+        int offset = 2 * stride + 5;
+        byte[] plane = new byte[stride * 20];
+        new Random(1).nextBytes(plane);
+        LocalStatistics statistics = new LocalStatistics();
+        statistics.build(plane, offset, stride, width, height);
+
+        int[][] radii = {{0, 0}, {1, 1}, {3, 2}, {0, 5}, {30, 30}};
+        for (int[] r : radii) {
+            for (int row = 0; row < height; row++) {
+                for (int col = 0; col < width; col++) {
+                    // the pixels of the window inside the image, two passes
+                    double sum = 0;
+                    int n = 0;
+                    for (int y = Math.max(0, row - r[1]); y <= Math.min(height - 1, row + r[1]); y++) {
+                        for (int x = Math.max(0, col - r[0]); x <= Math.min(width - 1, col + r[0]); x++) {
+                            sum += plane[offset + y * stride + x] & 0xff;
+                            n++;
+                        }
+                    }
+                    double mean = sum / n;
+                    double squares = 0;
+                    for (int y = Math.max(0, row - r[1]); y <= Math.min(height - 1, row + r[1]); y++) {
+                        for (int x = Math.max(0, col - r[0]); x <= Math.min(width - 1, col + r[0]); x++) {
+                            double d = (plane[offset + y * stride + x] & 0xff) - mean;
+                            squares += d * d;
+                        }
+                    }
+
+                    assertEquals(n, statistics.getCount(col, row, r[0], r[1]));
+                    assertEquals(mean, statistics.getMean(col, row, r[0], r[1]), 1e-9);
+                    assertEquals(squares / n, statistics.getVariance(col, row, r[0], r[1]), 1e-6);
+                    assertEquals(Math.sqrt(squares / n), statistics.getStdDev(col, row, r[0], r[1]), 1e-6);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void constantHasNoVariance() {
+        byte[] data = new byte[40 * 30];
+        Arrays.fill(data, (byte) 255);
+        LocalStatistics statistics = new LocalStatistics(data, 40, 30);
+        assertEquals(255, statistics.getMean(20, 15, 7, 7), 0);
+        assertEquals(0, statistics.getVariance(20, 15, 7, 7), 0);
+        assertEquals(0, statistics.getVariance(0, 0, 100, 100), 0);
+    }
+}
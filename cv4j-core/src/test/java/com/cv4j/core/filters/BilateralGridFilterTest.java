@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.filters;
+
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.datamodel.ColorProcessor;
+import com.cv4j.core.datamodel.DirectColorProcessor;
+import com.cv4j.core.datamodel.Rect;
+import com.cv4j.core.filters.face.BeautySkinFilter;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class BilateralGridFilterTest {
+
+    private static ColorProcessor noisy(int width, int height, long seed) {
+        Random random = new Random(seed);
+        ColorProcessor image = new ColorProcessor(width, height);
+        for (int i = 0; i < width * height; i++) {
+            int base = (i % width) < width / 2 ? 60 : 180;
+            image.getRed()[i] = (byte) (base + random.nextInt(20));
+            image.getGreen()[i] = (byte) (base - 20 + random.nextInt(20));
+            image.getBlue()[i] = (byte) (base - 40 + random.nextInt(20));
+        }
+        return image;
+    }
+
+    private static Rect rect() {
+        Rect rect = new Rect();
+        rect.x = 6;
+        rect.y = 9;
+        rect.width = 40;
+        rect.height = 30;
+        return rect;
+    }
+
+    @Test
+    public void constantStaysConstant() {
+        ByteProcessor gray = new ByteProcessor(50, 40);
+        Arrays.fill(gray.getGray(), (byte) 137);
+        new BilateralGridFilter(4, 20).filter(gray);
+        for (byte value : gray.getGray()) {
+            assertEquals(137, value & 0xff);
+        }
+
+        ColorProcessor color = new ColorProcessor(50, 40);
+        Arrays.fill(color.getRed(), (byte) 10);
+        Arrays.fill(color.getGreen(), (byte) 100);
+        Arrays.fill(color.getBlue(), (byte) 250);
+        new BilateralGridFilter().filter(color);
+        for (int i = 0; i < 50 * 40; i++) {
+            assertEquals(10, color.getRed()[i] & 0xff);
+            assertEquals(100, color.getGreen()[i] & 0xff);
+            assertEquals(250, color.getBlue()[i] & 0xff);
+        }
+    }
+
+    @Test
+    public void stepEdgeIsPreserved() {
+        ByteProcessor gray = new ByteProcessor(60, 20);
+        for (int i = 0; i < 60 * 20; i++) {
+            gray.getGray()[i] = (byte) ((i % 60) < 30 ? 40 : 200);
+        }
+        new BilateralGridFilter(8, 20).filter(gray);
+        for (int row = 0; row < 20; row++) {
+            // the pixels right next to the edge keep their side
+            assertEquals(40, gray.getGray()[row * 60 + 29] & 0xff, 2);
+            assertEquals(200, gray.getGray()[row * 60 + 30] & 0xff, 2);
+        }
+    }
+
+    @Test
+    public void noiseIsSmoothed() {
+        ColorProcessor image = noisy(60, 40, 1);
+        ColorProcessor before = image.duplicate();
+        new BilateralGridFilter(3, 30).filter(image);
+        assertTrue(spread(image.getRed(), 60, 40) < spread(before.getRed(), 60, 40) / 2);
+    }
+
+    /**
+     * The mean absolute difference between horizontal neighbours of the left half.
+     */
+    private static double spread(byte[] channel, int width, int height) {
+        double sum = 0;
+        int n = 0;
+        for (int row = 0; row < height; row++) {
+            for (int col = 1; col < width / 2 - 4; col++) {
+                sum += Math.abs((channel[row * width + col] & 0xff) - (channel[row * width + col - 1] & 0xff));
+                n++;
+            }
+        }
+        return sum / n;
+    }
+
+    @Test
+    public void viewIsFilteredLikeItsCopy() {
+        ColorProcessor image = noisy(60, 50, 2);
+        ColorProcessor before = image.duplicate();
+        ColorProcessor view = image.subView(rect());
+        ColorProcessor expected = view.duplicate();
+        new BilateralGridFilter(3, 20).filter(expected);
+        new BilateralGridFilter(3, 20).filter(view);
+        for (int c = 0; c < 3; c++) {
+            assertArrayEquals(expected.toByte(c), view.toByte(c));
+        }
+        assertEquals(before.getRed()[0], image.getRed()[0]);
+        assertEquals(before.getBlue()[60 * 50 - 1], image.getBlue()[60 * 50 - 1]);
+    }
+
+    @Test
+    public void offHeapIsFilteredLikeHeap() {
+        ColorProcessor heap = noisy(50, 40, 3);
+        DirectColorProcessor direct = DirectColorProcessor.copyOf(heap);
+        new BilateralGridFilter(3, 20).filter(heap);
+        new BilateralGridFilter(3, 20).filter(direct);
+        ColorProcessor result = direct.toColorProcessor();
+        for (int c = 0; c < 3; c++) {
+            assertArrayEquals(heap.toByte(c), result.toByte(c));
+        }
+    }
+
+    @Test
+    public void beautySkinWithGridRunsOffHeap() {
+        ColorProcessor heap = noisy(50, 40, 4);
+        DirectColorProcessor direct = DirectColorProcessor.copyOf(heap);
+        new BeautySkinFilter(new BilateralGridFilter()).filter(heap);
+        new BeautySkinFilter(new BilateralGridFilter()).filter(direct);
+        ColorProcessor result = direct.toColorProcessor();
+        for (int c = 0; c < 3; c++) {
+            assertArrayEquals(heap.toByte(c), result.toByte(c));
+        }
+    }
+}
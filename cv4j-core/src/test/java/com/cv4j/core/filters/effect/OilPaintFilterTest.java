@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.filters.effect;
+
+import com.cv4j.core.datamodel.ColorProcessor;
+import com.cv4j.core.parallel.ExecutionContext;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class OilPaintFilterTest {
+
+    @After
+    public void restore() {
+        ExecutionContext.setParallelism(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Counts the levels of the whole window of every pixel, the indices beyond the border
+     * are clamped so the border pixels count several times.
+     */
+    private static byte[][] paint(byte[][] rgb, int width, int height, int radius, int levels) {
+        int r = radius / 2;
+        byte[][] output = new byte[3][width * height];
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                int[] count = new int[levels + 1];
+                long[][] sums = new long[3][levels + 1];
+                for (int dy = -r; dy <= r; dy++) {
+                    int y = Math.min(height - 1, Math.max(0, row + dy));
+                    for (int dx = -r; dx <= r; dx++) {
+                        int x = Math.min(width - 1, Math.max(0, col + dx));
+                        int i = y * width + x;
+                        int red = rgb[0][i] & 0xff;
+                        int green = rgb[1][i] & 0xff;
+                        int blue = rgb[2][i] & 0xff;
+                        int level = (red + green + blue) / 3 * levels / 255;
+                        count[level]++;
+                        sums[0][level] += red;
+                        sums[1][level] += green;
+                        sums[2][level] += blue;
+                    }
+                }
+                int best = 0;
+                for (int level = 1; level <= levels; level++) {
+                    if (count[level] > count[best]) {
+                        best = level;
+                    }
+                }
+                for (int c = 0; c < 3; c++) {
+                    output[c][row * width + col] = (byte) (sums[c][best] / count[best]);
+                }
+            }
+        }
+        return output;
+    }
+
+    private static ColorProcessor random(int width, int height, long seed) {
+        Random random = new Random(seed);
+        ColorProcessor image = new ColorProcessor(width, height);
+        for (int i = 0; i < width * height; i++) {
+            // smooth enough for the levels to repeat, with noise
+            int base = (i % width + i / width) * 2;
+            image.getRed()[i] = (byte) Math.min(255, base + random.nextInt(30));
+            image.getGreen()[i] = (byte) Math.min(255, base / 2 + random.nextInt(30));
+            image.getBlue()[i] = (byte) Math.min(255, 255 - base / 2 - random.nextInt(30));
+        }
+        return image;
+    }
+
+    @Test
+    public void equalsCountedWindow() {
+        int[][] cases = {{1, 40}, {4, 10}, {9, 40}, {15, 255}, {70, 20}};
+        for (int[] c : cases) {
+            ColorProcessor image = random(47, 33, c[0]);
+            byte[][] expected = paint(new byte[][]{image.getRed(), image.getGreen(), image.getBlue()},
+                    47, 33, c[0], c[1]);
+            new OilPaintFilter(c[0], c[1]).filter(image);
+            for (int channel = 0; channel < 3; channel++) {
+                assertArrayEquals("radius " + c[0], expected[channel], image.toByte(channel));
+            }
+        }
+    }
+
+    @Test
+    public void parallelEqualsCountedWindow() {
+        ExecutionContext.setParallelism(4);
+        ColorProcessor image = random(60, 150, 3);
+        byte[][] expected = paint(new byte[][]{image.getRed(), image.getGreen(), image.getBlue()}, 60, 150, 15, 40);
+        new OilPaintFilter().filter(image);
+        for (int channel = 0; channel < 3; channel++) {
+            assertArrayEquals(expected[channel], image.toByte(channel));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.filters.face;
+
+import com.cv4j.core.datamodel.ColorProcessor;
+import com.cv4j.core.datamodel.Rect;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class BeautySkinFilterTest {
+
+    /**
+     * Skin tones with noise, so that the mask, the smoothing and the blend all matter.
+     */
+    private static ColorProcessor skin(int width, int height) {
+        Random random = new Random(5);
+        ColorProcessor image = new ColorProcessor(width, height);
+        for (int i = 0; i < width * height; i++) {
+            int light = (i % width) * 2 + random.nextInt(40);
+            image.getRed()[i] = (byte) Math.min(255, 150 + light / 3);
+            image.getGreen()[i] = (byte) Math.min(255, 90 + light / 4);
+            image.getBlue()[i] = (byte) Math.min(255, 60 + light / 5);
+        }
+        return image;
+    }
+
+    @Test
+    public void viewIsFilteredLikeItsCopy() {
+        ColorProcessor image = skin(90, 70);
+        ColorProcessor before = image.duplicate();
+        Rect rect = new Rect();
+        rect.x = 13;
+        rect.y = 9;
+        rect.width = 50;
+        rect.height = 40;
+
+        ColorProcessor view = image.subView(rect);
+        ColorProcessor expected = view.duplicate();
+        new BeautySkinFilter().filter(expected);
+        new BeautySkinFilter().filter(view);
+
+        for (int c = 0; c < 3; c++) {
+            assertArrayEquals(expected.toByte(c), view.toByte(c));
+        }
+
+        // the pixels out of the view are not touched
+        for (int row = 0; row < 70; row++) {
+            for (int col = 0; col < 90; col++) {
+                boolean inside = col >= 13 && col < 63 && row >= 9 && row < 49;
+                int i = row * 90 + col;
+                if (!inside) {
+                    assertEquals(before.getRed()[i], image.getRed()[i]);
+                    assertEquals(before.getGreen()[i], image.getGreen()[i]);
+                    assertEquals(before.getBlue()[i], image.getBlue()[i]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.filters.math;
+
+import com.cv4j.core.datamodel.ColorProcessor;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class GaussianBlurFilterTest {
+
+    private static final int WIDTH = 160;
+    private static final int HEIGHT = 120;
+
+    /**
+     * Noise in red, a checkerboard in green and a smooth wave in blue.
+     */
+    private static ColorProcessor image() {
+        ColorProcessor image = new ColorProcessor(WIDTH, HEIGHT);
+        Random random = new Random(3);
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                int i = y * WIDTH + x;
+                image.getRed()[i] = (byte) random.nextInt(256);
+                image.getGreen()[i] = (byte) (((x / 16 + y / 16) & 1) * 255);
+                image.getBlue()[i] = (byte) (128 + 100 * Math.sin(x * 0.1) * Math.cos(y * 0.07));
+            }
+        }
+        return image;
+    }
+
+    private static ColorProcessor blur(ColorProcessor src, double sigma, int mode) {
+        ColorProcessor image = src.duplicate();
+        GaussianBlurFilter filter = new GaussianBlurFilter();
+        filter.setSigma(sigma);
+        filter.setMode(mode);
+        filter.filter(image);
+        return image;
+    }
+
+    @Test
+    public void recursiveIsCloseToDirectKernel() {
+        ColorProcessor src = image();
+        for (double sigma : new double[] {2, 3, 5, 10, 20}) {
+            ColorProcessor direct = blur(src, sigma, GaussianBlurFilter.MODE_DIRECT);
+            ColorProcessor recursive = blur(src, sigma, GaussianBlurFilter.MODE_RECURSIVE);
+            for (int c = 0; c < 3; c++) {
+                byte[] expected = direct.toByte(c);
+                byte[] actual = recursive.toByte(c);
+                int max = 0;
+                long sum = 0;
+                for (int i = 0; i < expected.length; i++) {
+                    int error = Math.abs((expected[i] & 0xff) - (actual[i] & 0xff));
+                    max = Math.max(max, error);
+                    sum += error;
+                }
+                String message = "sigma " + sigma + " channel " + c;
+                assertTrue(message + " max error " + max, max <= 3);
+                assertTrue(message + " mean error " + (double) sum / expected.length, sum < expected.length);
+            }
+        }
+    }
+
+    @Test
+    public void smallSigmaFallsBackToDirectKernel() {
+        ColorProcessor src = image();
+        for (double sigma : new double[] {0.6, 1, 1.5}) {
+            ColorProcessor direct = blur(src, sigma, GaussianBlurFilter.MODE_DIRECT);
+            ColorProcessor recursive = blur(src, sigma, GaussianBlurFilter.MODE_RECURSIVE);
+            for (int c = 0; c < 3; c++) {
+                assertArrayEquals("sigma " + sigma, direct.toByte(c), recursive.toByte(c));
+            }
+        }
+    }
+
+    @Test
+    public void constantImageStaysConstant() {
+        ColorProcessor src = new ColorProcessor(WIDTH, HEIGHT);
+        Arrays.fill(src.getRed(), (byte) 200);
+        Arrays.fill(src.getGreen(), (byte) 17);
+        Arrays.fill(src.getBlue(), (byte) 255);
+        for (double sigma : new double[] {0.8, 2, 7.5, 30}) {
+            for (int mode : new int[] {GaussianBlurFilter.MODE_DIRECT, GaussianBlurFilter.MODE_RECURSIVE}) {
+                ColorProcessor image = blur(src, sigma, mode);
+                for (int c = 0; c < 3; c++) {
+                    assertArrayEquals("sigma " + sigma + " mode " + mode, src.toByte(c), image.toByte(c));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void recursiveGaussianKeepsConstantLine() {
+        for (double sigma : new double[] {RecursiveGaussian.MIN_SIGMA, 2, 9, 40}) {
+            float[] line = new float[300];
+            Arrays.fill(line, 42.5f);
+            new RecursiveGaussian(sigma).filter(line, 0, line.length);
+            for (float value : line) {
+                assertEquals("sigma " + sigma, 42.5f, value, 1e-3f);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidModeIsRejected() {
+        new GaussianBlurFilter().setMode(2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sigmaBelowMinimumIsRejected() {
+        new RecursiveGaussian(RecursiveGaussian.MIN_SIGMA / 2);
+    }
+}
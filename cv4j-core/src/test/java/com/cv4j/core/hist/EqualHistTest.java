@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.hist;
+
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.datamodel.Rect;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class EqualHistTest {
+
+    @Test
+    public void viewIsEqualizedLikeItsCopy() {
+        ByteProcessor image = new ByteProcessor(50, 40);
+        Random random = new Random(6);
+        for (int i = 0; i < 50 * 40; i++) {
+            image.getGray()[i] = (byte) (60 + random.nextInt(80));
+        }
+        byte[] before = image.getGray().clone();
+        Rect rect = new Rect();
+        rect.x = 10;
+        rect.y = 5;
+        rect.width = 25;
+        rect.height = 30;
+
+        ByteProcessor view = image.subView(rect);
+        ByteProcessor expected = view.duplicate();
+        new EqualHist().equalize(expected);
+        new EqualHist().equalize(view);
+
+        assertArrayEquals(expected.getGray(), view.toByte(0));
+        assertEquals(before[0], image.getGray()[0]);
+        assertEquals(before[50 * 40 - 1], image.getGray()[50 * 40 - 1]);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.memory;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class BufferPoolTest {
+
+    private long maxBytes;
+
+    @Before
+    public void setUp() {
+        maxBytes = BufferPool.getMaxBytes();
+        BufferPool.clear();
+        BufferPool.resetStats();
+    }
+
+    @After
+    public void tearDown() {
+        BufferPool.setMaxBytes(maxBytes);
+        BufferPool.clear();
+    }
+
+    @Test
+    public void smallBufferIsReusedZeroFilled() {
+        int[] buffer = BufferPool.acquireInts(100);
+        buffer[7] = 42;
+        BufferPool.release(buffer);
+
+        int[] again = BufferPool.acquireInts(100);
+        assertSame(buffer, again);
+        assertEquals(0, again[7]);
+        assertNotSame(again, BufferPool.acquireInts(100));
+        assertEquals(1, BufferPool.getStats().getHits());
+        assertEquals(2, BufferPool.getStats().getMisses());
+    }
+
+    @Test
+    public void smallBufferStaysWithItsThread() throws Exception {
+        final byte[] buffer = BufferPool.acquireBytes(1000);
+        BufferPool.release(buffer);
+
+        final AtomicReference<byte[]> other = new AtomicReference<>();
+        Thread thread = new Thread(() -> other.set(BufferPool.acquireBytes(1000)));
+        thread.start();
+        thread.join();
+        assertNotSame(buffer, other.get());
+        assertSame(buffer, BufferPool.acquireBytes(1000));
+    }
+
+    @Test
+    public void largeBufferGoesToSharedPool() throws Exception {
+        final float[] buffer = BufferPool.acquireFloats(BufferPool.THREAD_CACHE_BYTES);
+        BufferPool.release(buffer);
+        assertEquals(4L * BufferPool.THREAD_CACHE_BYTES, BufferPool.getStats().getPooledBytes());
+
+        final AtomicReference<float[]> other = new AtomicReference<>();
+        Thread thread = new Thread(() -> other.set(BufferPool.acquireFloats(BufferPool.THREAD_CACHE_BYTES)));
+        thread.start();
+        thread.join();
+        assertSame(buffer, other.get());
+    }
+
+    @Test
+    public void clearDropsThreadCache() {
+        short[] buffer = BufferPool.acquireShorts(10);
+        BufferPool.release(buffer);
+        BufferPool.clear();
+        assertNotSame(buffer, BufferPool.acquireShorts(10));
+    }
+
+    @Test
+    public void disabledPoolKeepsNothing() {
+        BufferPool.setMaxBytes(0);
+        int[] buffer = BufferPool.acquireInts(10);
+        BufferPool.release(buffer);
+        assertNotSame(buffer, BufferPool.acquireInts(10));
+        assertEquals(1, BufferPool.getStats().getDiscards());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void doubleReleaseIsDetected() {
+        int[] buffer = BufferPool.acquireInts(10);
+        BufferPool.release(buffer);
+        BufferPool.release(buffer);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void doubleReleaseOfLargeBufferIsDetected() {
+        byte[] buffer = BufferPool.acquireBytes(BufferPool.THREAD_CACHE_BYTES + 1);
+        BufferPool.release(buffer);
+        BufferPool.release(buffer);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.parallel;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.Assert.*;
+
+public class ExecutionContextTest {
+
+    @After
+    public void restore() {
+        ExecutionContext.setParallelism(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Test
+    public void bandsHaveAtLeastMinRows() {
+        ExecutionContext.setParallelism(4);
+        int minBandRows = ExecutionContext.getMinBandRows();
+        ExecutionContext.setMinBandRows(1);
+        try {
+            for (int height : new int[]{5, 37, 100, 1001}) {
+                final AtomicIntegerArray runs = new AtomicIntegerArray(height);
+                final int rows = Math.min(height, 23);
+                ExecutionContext.forEachBand(height, 0, 23, band -> {
+                    assertTrue(band.end - band.start >= rows);
+                    for (int row = band.start; row < band.end; row++) {
+                        runs.incrementAndGet(row);
+                    }
+                });
+                for (int row = 0; row < height; row++) {
+                    assertEquals(1, runs.get(row));
+                }
+            }
+        } finally {
+            ExecutionContext.setMinBandRows(minBandRows);
+        }
+    }
+
+    @Test
+    public void forEachIndexRunsEveryIndexOnce() {
+        ExecutionContext.setParallelism(4);
+        final AtomicIntegerArray runs = new AtomicIntegerArray(7);
+        ExecutionContext.forEachIndex(7, band -> {
+            assertEquals(band.start + 1, band.end);
+            runs.incrementAndGet(band.start);
+        });
+        for (int i = 0; i < 7; i++) {
+            assertEquals(1, runs.get(i));
+        }
+    }
+
+    @Test
+    public void forEachIndexRunsIndicesConcurrently() {
+        ExecutionContext.setParallelism(2);
+        // both indices must be running at the same time to pass the barrier
+        final CyclicBarrier barrier = new CyclicBarrier(2);
+        ExecutionContext.forEachIndex(2, band -> {
+            try {
+                barrier.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+                fail("index " + band.start + " ran alone");
+            }
+        });
+    }
+
+    @Test
+    public void forEachIndexRunsInlineWithOneThread() {
+        ExecutionContext.setParallelism(1);
+        final Thread caller = Thread.currentThread();
+        ExecutionContext.forEachIndex(3, band -> assertSame(caller, Thread.currentThread()));
+    }
+}
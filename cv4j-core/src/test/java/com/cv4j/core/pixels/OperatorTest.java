@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.pixels;
+
+import com.cv4j.core.datamodel.ColorProcessor;
+import com.cv4j.core.datamodel.Rect;
+import com.cv4j.core.datamodel.image.ImageProcessor;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class OperatorTest {
+
+    private static ColorProcessor random(int width, int height, long seed) {
+        Random random = new Random(seed);
+        ColorProcessor image = new ColorProcessor(width, height);
+        random.nextBytes(image.getRed());
+        random.nextBytes(image.getGreen());
+        random.nextBytes(image.getBlue());
+        return image;
+    }
+
+    @Test
+    public void viewsAreReadLikeTheirCopies() {
+        Rect rect = new Rect();
+        rect.x = 4;
+        rect.y = 3;
+        rect.width = 17;
+        rect.height = 12;
+        ColorProcessor a = random(30, 20, 1).subView(rect);
+        ColorProcessor b = random(30, 20, 2).subView(rect);
+
+        ImageProcessor expected = Operator.add(a.duplicate(), b.duplicate());
+        ImageProcessor actual = Operator.add(a, b);
+        for (int c = 0; c < 3; c++) {
+            assertArrayEquals(expected.toByte(c), actual.toByte(c));
+        }
+
+        expected = Operator.bitwise_not(a.duplicate());
+        actual = Operator.bitwise_not(a);
+        for (int c = 0; c < 3; c++) {
+            assertArrayEquals(expected.toByte(c), actual.toByte(c));
+        }
+    }
+
+    @Test
+    public void addSaturates() {
+        ColorProcessor a = new ColorProcessor(2, 1);
+        ColorProcessor b = new ColorProcessor(2, 1);
+        a.getRed()[0] = (byte) 200;
+        b.getRed()[0] = (byte) 100;
+        a.getRed()[1] = 20;
+        b.getRed()[1] = 30;
+        ImageProcessor sum = Operator.add(a, b);
+        assertEquals(255, sum.toByte(0)[0] & 0xff);
+        assertEquals(50, sum.toByte(0)[1] & 0xff);
+    }
+}
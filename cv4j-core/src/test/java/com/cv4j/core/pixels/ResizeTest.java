@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.pixels;
+
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.datamodel.ColorProcessor;
+import com.cv4j.core.datamodel.Rect;
+import com.cv4j.core.datamodel.image.ImageProcessor;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ResizeTest {
+
+    private static final int[] TYPES = {Resize.NEAREST_INTEPOLATE, Resize.BILINE_INTEPOLATE,
+            Resize.BICUBIC_INTEPOLATE, Resize.LANCZOS_INTEPOLATE, Resize.AREA_INTEPOLATE};
+
+    private static ColorProcessor random(int width, int height, long seed) {
+        Random random = new Random(seed);
+        ColorProcessor image = new ColorProcessor(width, height);
+        random.nextBytes(image.getRed());
+        random.nextBytes(image.getGreen());
+        random.nextBytes(image.getBlue());
+        return image;
+    }
+
+    private static void assertSameImage(String message, ImageProcessor expected, ImageProcessor actual) {
+        assertEquals(message, expected.getWidth(), actual.getWidth());
+        assertEquals(message, expected.getHeight(), actual.getHeight());
+        for (int c = 0; c < expected.getChannels(); c++) {
+            assertArrayEquals(message, expected.toByte(c), actual.toByte(c));
+        }
+    }
+
+    @Test
+    public void areaHalfIsTheMeanOf2x2() {
+        ColorProcessor image = random(40, 30, 1);
+        ImageProcessor half = new Resize(0.5f).resize(image, Resize.AREA_INTEPOLATE);
+        assertEquals(20, half.getWidth());
+        assertEquals(15, half.getHeight());
+        for (int c = 0; c < 3; c++) {
+            byte[] in = image.toByte(c);
+            byte[] out = half.toByte(c);
+            for (int row = 0; row < 15; row++) {
+                for (int col = 0; col < 20; col++) {
+                    int i = 2 * row * 40 + 2 * col;
+                    double mean = ((in[i] & 0xff) + (in[i + 1] & 0xff) + (in[i + 40] & 0xff) + (in[i + 41] & 0xff)) / 4.0;
+                    assertEquals(mean, out[row * 20 + col] & 0xff, 1);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void rateOneIsIdentity() {
+        ColorProcessor image = random(33, 21, 2);
+        for (int type : TYPES) {
+            assertSameImage("type " + type, image, new Resize(1).resize(image, type));
+        }
+        ByteProcessor gray = new ByteProcessor(image.toByte(0), 33, 21);
+        assertSameImage("biline", gray, new Resize(1).biline(gray));
+    }
+
+    @Test
+    public void constantStaysConstant() {
+        ColorProcessor image = new ColorProcessor(37, 23);
+        Arrays.fill(image.getRed(), (byte) 3);
+        Arrays.fill(image.getGreen(), (byte) 128);
+        Arrays.fill(image.getBlue(), (byte) 252);
+        int[][] sizes = {{1, 1}, {5, 40}, {18, 11}, {37, 23}, {74, 46}, {100, 7}, {200, 150}};
+        for (int type : TYPES) {
+            for (int[] size : sizes) {
+                ImageProcessor result = Resize.toSize(size[0], size[1]).resize(image, type);
+                assertEquals(size[0], result.getWidth());
+                assertEquals(size[1], result.getHeight());
+                int[] values = {3, 128, 252};
+                for (int c = 0; c < 3; c++) {
+                    for (byte value : result.toByte(c)) {
+                        assertEquals("type " + type + " " + size[0] + "x" + size[1], values[c], value & 0xff);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void viewIsResizedLikeItsCopy() {
+        Rect rect = new Rect();
+        rect.x = 7;
+        rect.y = 4;
+        rect.width = 30;
+        rect.height = 25;
+        ColorProcessor view = random(50, 40, 3).subView(rect);
+        ColorProcessor copy = view.duplicate();
+        for (int type : TYPES) {
+            for (float rate : new float[]{0.3f, 0.5f, 1.7f}) {
+                Resize resize = new Resize(rate);
+                assertSameImage("type " + type + " rate " + rate, resize.resize(copy, type), resize.resize(view, type));
+            }
+        }
+    }
+
+    @Test
+    public void nearestDoubleRepeatsEveryPixel() {
+        ByteProcessor gray = new ByteProcessor(9, 7);
+        new Random(4).nextBytes(gray.getGray());
+        ImageProcessor twice = new Resize(2).resize(gray, Resize.NEAREST_INTEPOLATE);
+        byte[] out = twice.toByte(0);
+        for (int row = 0; row < 14; row++) {
+            for (int col = 0; col < 18; col++) {
+                assertEquals(gray.getGray()[(row / 2) * 9 + col / 2], out[row * 18 + col]);
+            }
+        }
+    }
+
+    @Test
+    public void bilineDoubleIsCenterAligned() {
+        // a ramp of 10 per pixel sampled at the quarters between the centers
+        ByteProcessor gray = new ByteProcessor(8, 1);
+        for (int col = 0; col < 8; col++) {
+            gray.getGray()[col] = (byte) (50 + 10 * col);
+        }
+        byte[] out = new Resize(2).biline(gray).toByte(0);
+        assertEquals(50, out[0] & 0xff);
+        for (int col = 1; col < 15; col++) {
+            // (col + 0.5) / 2 - 0.5 in source pixels
+            double expected = 50 + 10 * ((col + 0.5) / 2 - 0.5);
+            assertEquals(expected, out[col] & 0xff, 0.5);
+        }
+        assertEquals(120, out[15] & 0xff);
+    }
+}
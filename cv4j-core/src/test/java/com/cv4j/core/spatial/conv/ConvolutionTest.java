@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.spatial.conv;
+
+import com.cv4j.core.parallel.ExecutionContext;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ConvolutionTest {
+
+    private static final int WIDTH = 31;
+    private static final int HEIGHT = 23;
+
+    @After
+    public void restore() {
+        ExecutionContext.setParallelism(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * The pixel read at (x, y), -1 for the border value.
+     */
+    private static int index(int i, int length, int border) {
+        if (i >= 0 && i < length) {
+            return i;
+        }
+        if (border == Convolution.BORDER_CONSTANT) {
+            return -1;
+        }
+        if (border == Convolution.BORDER_REPLICATE) {
+            return i < 0 ? 0 : length - 1;
+        }
+        // reflect around the border pixel, as often as needed
+        while (i < 0 || i >= length) {
+            i = i < 0 ? -i : 2 * (length - 1) - i;
+        }
+        return i;
+    }
+
+    /**
+     * The weighted sum of every window in long arithmetic, rounded and shifted, plus delta.
+     */
+    private static int[] convolve(byte[] src, int width, int height, int[] weights, int kw, int kh,
+                                  int shift, int border, int borderValue, int delta) {
+        int[] dst = new int[width * height];
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                long sum = 0;
+                for (int ky = 0; ky < kh; ky++) {
+                    int y = index(row - kh / 2 + ky, height, border);
+                    for (int kx = 0; kx < kw; kx++) {
+                        int x = index(col - kw / 2 + kx, width, border);
+                        int v = (x < 0 || y < 0) ? borderValue : src[y * width + x] & 0xff;
+                        sum += (long) weights[ky * kw + kx] * v;
+                    }
+                }
+                long rounding = shift > 0 ? 1L << (shift - 1) : 0;
+                dst[row * width + col] = (int) ((sum + rounding) >> shift) + delta;
+            }
+        }
+        return dst;
+    }
+
+    private static byte[] clamp(int[] values) {
+        byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = (byte) Math.max(0, Math.min(255, values[i]));
+        }
+        return bytes;
+    }
+
+    private static byte[] random(int length, long seed) {
+        byte[] data = new byte[length];
+        new Random(seed).nextBytes(data);
+        return data;
+    }
+
+    private static int[] weights(int length, long seed) {
+        Random random = new Random(seed);
+        int[] weights = new int[length];
+        for (int i = 0; i < length; i++) {
+            weights[i] = random.nextInt(9) - 4;
+        }
+        return weights;
+    }
+
+    @Test
+    public void intKernelsEqualWeightedSum() {
+        int[][] sizes = {{1, 1}, {3, 3}, {5, 3}, {1, 7}, {4, 4}, {9, 9}};
+        int[] borders = {Convolution.BORDER_REPLICATE, Convolution.BORDER_REFLECT, Convolution.BORDER_CONSTANT};
+        for (int[] size : sizes) {
+            for (int border : borders) {
+                int[] w = weights(size[0] * size[1], size[0] * 10 + size[1]);
+                byte[] src = random(WIDTH * HEIGHT, border);
+                Convolution convolution = new Convolution(new Kernel(size[0], size[1], w, 2));
+                convolution.setBorder(border);
+                convolution.setBorderValue(77);
+                convolution.setDelta(5);
+
+                int[] expected = convolve(src, WIDTH, HEIGHT, w, size[0], size[1], 2, border, 77, 5);
+                int[] raw = new int[WIDTH * HEIGHT];
+                convolution.convolve(src, 0, WIDTH, raw, 0, WIDTH, WIDTH, HEIGHT);
+                String message = size[0] + "x" + size[1] + " border " + border;
+                assertArrayEquals(message, expected, raw);
+
+                byte[] clamped = new byte[WIDTH * HEIGHT];
+                convolution.convolve(src, 0, WIDTH, clamped, 0, WIDTH, WIDTH, HEIGHT);
+                assertArrayEquals(message, clamp(expected), clamped);
+            }
+        }
+    }
+
+    @Test
+    public void kernelsLargerThanTheImage() {
+        int[] w = weights(15 * 15, 1);
+        byte[] src = random(6 * 4, 2);
+        for (int border : new int[]{Convolution.BORDER_REPLICATE, Convolution.BORDER_REFLECT}) {
+            Convolution convolution = new Convolution(new Kernel(15, 15, w));
+            convolution.setBorder(border);
+            int[] raw = new int[6 * 4];
+            convolution.convolve(src, 0, 6, raw, 0, 6, 6, 4);
+            assertArrayEquals(convolve(src, 6, 4, w, 15, 15, 0, border, 0, 0), raw);
+        }
+    }
+
+    @Test
+    public void separableEqualsFullKernel() {
+        int[] row = {1, 4, 6, 4, 1};
+        int[] column = {-1, 0, 2, 3, -2, 1, 1};
+        int[] full = new int[row.length * column.length];
+        for (int y = 0; y < column.length; y++) {
+            for (int x = 0; x < row.length; x++) {
+                full[y * row.length + x] = row[x] * column[y];
+            }
+        }
+        byte[] src = random(WIDTH * HEIGHT, 3);
+        Convolution convolution = new Convolution(Kernel.separable(row, column, 4));
+        convolution.setBorder(Convolution.BORDER_REFLECT);
+        int[] raw = new int[WIDTH * HEIGHT];
+        convolution.convolve(src, 0, WIDTH, raw, 0, WIDTH, WIDTH, HEIGHT);
+        assertArrayEquals(convolve(src, WIDTH, HEIGHT, full, 5, 7, 4, Convolution.BORDER_REFLECT, 0, 0), raw);
+    }
+
+    @Test
+    public void floatKernelRoundsLikeIntKernel() {
+        // dyadic weights, the float sums are exact
+        float[] weights = {0.125f, 0.25f, 0.125f, 0.25f, -0.5f, 0.25f, 0.125f, 0.25f, 0.125f};
+        int[] scaled = {1, 2, 1, 2, -4, 2, 1, 2, 1};
+        byte[] src = random(WIDTH * HEIGHT, 4);
+        int[] raw = new int[WIDTH * HEIGHT];
+        new Convolution(new Kernel(3, 3, weights)).convolve(src, 0, WIDTH, raw, 0, WIDTH, WIDTH, HEIGHT);
+        assertArrayEquals(convolve(src, WIDTH, HEIGHT, scaled, 3, 3, 3, Convolution.BORDER_REPLICATE, 0, 0), raw);
+    }
+
+    @Test
+    public void viewInPlaceAndParallel() {
+        ExecutionContext.setParallelism(4);
+        int width = 90;
+        int height = 150;
+        int stride = 100;
+        int offset = 3 * stride + 7;
+        byte[] plane = random(stride * 160, 5);
+        byte[] before = plane.clone();
+        byte[] packed = new byte[width * height];
+        for (int row = 0; row < height; row++) {
+            System.arraycopy(plane, offset + row * stride, packed, row * width, width);
+        }
+        int[] w = weights(25, 6);
+        Convolution convolution = new Convolution(new Kernel(5, 5, w, 1));
+        byte[] expected = clamp(convolve(packed, width, height, w, 5, 5, 1, Convolution.BORDER_REPLICATE, 0, 0));
+
+        convolution.filter(plane, offset, stride, width, height);
+        for (int row = 0; row < 160; row++) {
+            for (int col = 0; col < stride; col++) {
+                int i = row * stride + col;
+                boolean inside = row >= 3 && row < 3 + height && col >= 7 && col < 7 + width;
+                if (inside) {
+                    assertEquals(expected[(row - 3) * width + col - 7], plane[i]);
+                } else {
+                    assertEquals(before[i], plane[i]);
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void overflowingWeightsAreRejected() {
+        new Kernel(3, 1, new int[]{Integer.MAX_VALUE / 200, 1, 1});
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.spatial.conv.edge;
+
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.datamodel.ColorProcessor;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class CannyEdgeDetectorTest {
+
+    private static void fill(ByteProcessor image, int x0, int y0, int x1, int y1, int value) {
+        for (int y = y0; y < y1; y++) {
+            for (int x = x0; x < x1; x++) {
+                image.getGray()[y * image.getWidth() + x] = (byte) value;
+            }
+        }
+    }
+
+    private static boolean edge(byte[] edges, int width, int x, int y) {
+        return edges[y * width + x] != 0;
+    }
+
+    @Test
+    public void rectangleGivesClosedThinOutline() {
+        int width = 40;
+        int height = 30;
+        ByteProcessor image = new ByteProcessor(width, height);
+        fill(image, 10, 8, 30, 22, 200);
+        byte[] edges = new CannyEdgeDetector(50, 100).detect(image).getGray();
+
+        // the plateau of two equal magnitudes across a step keeps the first pixel:
+        // outside the rectangle on the left and top, inside on the right and bottom
+        for (int y = 10; y < 20; y++) {
+            assertTrue(edge(edges, width, 9, y));
+            assertFalse(edge(edges, width, 10, y));
+            assertTrue(edge(edges, width, 29, y));
+            assertFalse(edge(edges, width, 30, y));
+        }
+        for (int x = 12; x < 28; x++) {
+            assertTrue(edge(edges, width, x, 7));
+            assertFalse(edge(edges, width, x, 8));
+            assertTrue(edge(edges, width, x, 21));
+            assertFalse(edge(edges, width, x, 22));
+        }
+
+        int count = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (!edge(edges, width, x, y)) continue;
+                count++;
+                // on the outline, nothing inside or far outside
+                boolean ring = x >= 9 && x <= 30 && y >= 7 && y <= 22 && !(x > 10 && x < 29 && y > 8 && y < 21);
+                assertTrue("(" + x + ", " + y + ")", ring);
+                // one pixel thick: no 2x2 block of edges
+                if (x + 1 < width && y + 1 < height) {
+                    assertFalse(edge(edges, width, x + 1, y) && edge(edges, width, x, y + 1)
+                            && edge(edges, width, x + 1, y + 1));
+                }
+            }
+        }
+
+        // closed: the pixels inside cannot reach the border of the image without crossing an edge
+        boolean[] seen = new boolean[width * height];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(15 * width + 20);
+        seen[15 * width + 20] = true;
+        int inside = 0;
+        while (!queue.isEmpty()) {
+            int p = queue.poll();
+            int x = p % width;
+            int y = p / width;
+            inside++;
+            assertTrue(x > 0 && y > 0 && x < width - 1 && y < height - 1);
+            int[] neighbours = {p - 1, p + 1, p - width, p + width};
+            for (int q : neighbours) {
+                if (!seen[q] && edges[q] == 0) {
+                    seen[q] = true;
+                    queue.add(q);
+                }
+            }
+        }
+        assertTrue(inside > 200);
+        assertTrue(count > 60);
+    }
+
+    @Test
+    public void weakEdgeIsKeptOnlyWhenJoinedToStrongEdge() {
+        int width = 60;
+        int height = 40;
+        ByteProcessor image = new ByteProcessor(width, height);
+        fill(image, 5, 10, 25, 20, 200);   // strong steps, 4 * 200
+        fill(image, 25, 10, 45, 20, 40);   // weak steps, 4 * 40, touching the strong ones
+        fill(image, 10, 28, 40, 35, 40);   // the same weak steps, alone
+        byte[] edges = new CannyEdgeDetector(100, 400).detect(image).getGray();
+
+        // the top border of the weak block grows from the strong one
+        for (int x = 27; x < 43; x++) {
+            assertTrue("x " + x, edge(edges, width, x, 9));
+        }
+        // the lone weak block has no edge
+        for (int y = 25; y < 38; y++) {
+            for (int x = 7; x < 43; x++) {
+                assertFalse("(" + x + ", " + y + ")", edge(edges, width, x, y));
+            }
+        }
+
+        // without the strong block the weak one disappears as well
+        fill(image, 5, 10, 25, 20, 0);
+        edges = new CannyEdgeDetector(100, 400).detect(image).getGray();
+        for (byte e : edges) {
+            assertEquals(0, e);
+        }
+    }
+
+    @Test
+    public void colorEqualsItsGray() {
+        int width = 50;
+        int height = 40;
+        Random random = new Random(5);
+        ColorProcessor color = new ColorProcessor(width, height);
+        ByteProcessor gray = new ByteProcessor(width, height);
+        for (int i = 0; i < width * height; i++) {
+            int x = i % width;
+            int y = i / width;
+            boolean inside = (x - 25) * (x - 25) + (y - 20) * (y - 20) < 144;
+            int r = (inside ? 200 : 40) + random.nextInt(10);
+            int g = (inside ? 120 : 40) + random.nextInt(10);
+            int b = (inside ? 40 : 200) + random.nextInt(10);
+            color.getRed()[i] = (byte) r;
+            color.getGreen()[i] = (byte) g;
+            color.getBlue()[i] = (byte) b;
+            // 0.299, 0.587 and 0.114 in 8 bits fixed point
+            gray.getGray()[i] = (byte) ((77 * r + 150 * g + 29 * b) >> 8);
+        }
+
+        CannyEdgeDetector detector = new CannyEdgeDetector(60, 150);
+        byte[] fromColor = detector.detect(color).getGray();
+        byte[] fromGray = detector.detect(gray).getGray();
+        assertArrayEquals(fromGray, fromColor);
+
+        int count = 0;
+        for (byte e : fromColor) {
+            count += e != 0 ? 1 : 0;
+        }
+        assertTrue(count > 40);
+    }
+}
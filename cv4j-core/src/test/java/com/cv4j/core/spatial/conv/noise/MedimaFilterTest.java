@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.core.spatial.conv.noise;
+
+import com.cv4j.core.datamodel.ByteProcessor;
+import com.cv4j.core.datamodel.ColorProcessor;
+import com.cv4j.core.datamodel.Rect;
+import com.cv4j.core.datamodel.image.ImageProcessor;
+import com.cv4j.core.parallel.ExecutionContext;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class MedimaFilterTest {
+
+    @After
+    public void restore() {
+        ExecutionContext.setParallelism(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * The median by sorting the window, the pixels beyond the border repeat the border.
+     */
+    private static byte[] median(byte[] input, int width, int height, int radius) {
+        int span = 2 * radius + 1;
+        int[] window = new int[span * span];
+        byte[] output = new byte[width * height];
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                int n = 0;
+                for (int dy = -radius; dy <= radius; dy++) {
+                    int y = Math.min(height - 1, Math.max(0, row + dy));
+                    for (int dx = -radius; dx <= radius; dx++) {
+                        int x = Math.min(width - 1, Math.max(0, col + dx));
+                        window[n++] = input[y * width + x] & 0xff;
+                    }
+                }
+                Arrays.sort(window);
+                output[row * width + col] = (byte) window[window.length / 2];
+            }
+        }
+        return output;
+    }
+
+    private static ByteProcessor gray(int width, int height, long seed) {
+        ByteProcessor image = new ByteProcessor(width, height);
+        new Random(seed).nextBytes(image.getGray());
+        return image;
+    }
+
+    private static ImageProcessor filter(ImageProcessor image, int radius) {
+        MedimaFilter filter = new MedimaFilter();
+        filter.setRadius(radius);
+        return filter.filter(image);
+    }
+
+    @Test
+    public void grayEqualsSortedWindow() {
+        int[] radii = {1, 2, 3, 5, 8, 40};
+        for (int radius : radii) {
+            ByteProcessor image = gray(37, 29, radius);
+            byte[] expected = median(image.getGray(), 37, 29, radius);
+            filter(image, radius);
+            assertArrayEquals("radius " + radius, expected, image.getGray());
+        }
+    }
+
+    @Test
+    public void colorChannelsAreFilteredOnTheirOwn() {
+        ColorProcessor image = new ColorProcessor(41, 23);
+        Random random = new Random(3);
+        random.nextBytes(image.getRed());
+        random.nextBytes(image.getGreen());
+        random.nextBytes(image.getBlue());
+        byte[][] expected = new byte[3][];
+        for (int c = 0; c < 3; c++) {
+            expected[c] = median(image.toByte(c), 41, 23, 2);
+        }
+        filter(image, 2);
+        for (int c = 0; c < 3; c++) {
+            assertArrayEquals(expected[c], image.toByte(c));
+        }
+    }
+
+    @Test
+    public void viewIsFilteredLikeItsCopy() {
+        ByteProcessor image = gray(60, 50, 9);
+        byte[] before = image.getGray().clone();
+        Rect rect = new Rect();
+        rect.x = 11;
+        rect.y = 7;
+        rect.width = 30;
+        rect.height = 33;
+        ByteProcessor view = image.subView(rect);
+        byte[] expected = median(view.toByte(0), 30, 33, 3);
+
+        filter(view, 3);
+        assertArrayEquals(expected, view.toByte(0));
+        for (int row = 0; row < 50; row++) {
+            for (int col = 0; col < 60; col++) {
+                boolean inside = col >= 11 && col < 41 && row >= 7 && row < 40;
+                if (!inside) {
+                    assertEquals(before[row * 60 + col], image.getGray()[row * 60 + col]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void parallelEqualsSequential() {
+        ByteProcessor image = gray(80, 200, 4);
+        byte[] expected = median(image.getGray(), 80, 200, 4);
+        ExecutionContext.setParallelism(4);
+        filter(image, 4);
+        assertArrayEquals(expected, image.getGray());
+    }
+}
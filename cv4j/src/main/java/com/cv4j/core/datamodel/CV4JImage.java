@@ -17,12 +17,10 @@ package com.cv4j.core.datamodel;
 
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
-import android.util.Log;
 
-import com.cv4j.core.datamodel.image.ImageData;
-import com.cv4j.core.datamodel.image.ImageProcessor;
-import com.cv4j.core.utils.SafeCasting;
 import com.cv4j.exception.CV4JException;
+import com.cv4j.image.util.BitmapConverter;
+import com.cv4j.image.util.CV4JLog;
 import com.cv4j.image.util.IOUtils;
 
 import java.io.File;
@@ -32,27 +30,12 @@ import java.io.IOException;
 import java.io.InputStream;
 
 /**
- * The CV4JImage class of DataModel
+ * The CV4JImage class of DataModel, the android adapter of BaseImage.
  */
-public class CV4JImage implements ImageData {
+public class CV4JImage extends BaseImage {
 
     //private static final long serialVersionUID = -8832812623741546452L;
 
-    /**
-     * The image's width.
-     */
-    private int width;
-
-    /**
-     * The image's height.
-     */
-    private int height;
-
-    /**
-     * The image processor of the image.
-     */
-    private ImageProcessor processor;
-
     /**
      * The bitmap.
      */
@@ -63,14 +46,7 @@ public class CV4JImage implements ImageData {
             throw new CV4JException("bitmap is null");
         }
 
-        this.width = bitmap.getWidth();
-        this.height = bitmap.getHeight();
-
-        int[] input = new int[width * height];
-        bitmap.getPixels(input, 0, width, 0, 0, width, height);
-
-        this.processor = new ColorProcessor(input,width, height);
-        ((ColorProcessor)processor).setCallBack(this);
+        setBitmap(bitmap);
     }
 
     public CV4JImage(InputStream inputStream) {
@@ -85,14 +61,7 @@ public class CV4JImage implements ImageData {
             System.out.println("Error: Exception handle by OutOfMemoryError");
         }
 
-        this.width  = bitmap.getWidth();
-        this.height = bitmap.getHeight();
-
-        int[] input = new int[width * height];
-        bitmap.getPixels(input, 0, width, 0, 0, width, height);
-
-        this.processor = new ColorProcessor(input,width, height);
-        ((ColorProcessor) processor).setCallBack(this);
+        setBitmap(bitmap);
 
         IOUtils.closeQuietly(inputStream);
     }
@@ -109,102 +78,49 @@ public class CV4JImage implements ImageData {
             System.out.println("Error: Exception handle by OutOfMemoryError");
         }
 
-        this.width = bitmap.getWidth();
-        this.height = bitmap.getHeight();
-
-        int[] input = new int[width * height];
-        bitmap.getPixels(input, 0, width, 0, 0, width, height);
-
-        this.processor = new ColorProcessor(input,width, height);
-        ((ColorProcessor) processor).setCallBack(this);
+        setBitmap(bitmap);
     }
 
     public CV4JImage(int width,int height) {
-        this.width = width;
-        this.height = height;
-        this.processor = new ByteProcessor(new byte[width*height],width,height);
-        ((ByteProcessor) processor).setCallBack(this);
+        super(width, height);
     }
 
     public CV4JImage(int width, int height, int[] pixels) {
-        this.width = width;
-        this.height = height;
-
-        this.processor = new ColorProcessor(pixels,width, height);
-        ((ColorProcessor) processor).setCallBack(this);
-    }
-
-    public ImageProcessor getProcessor() {
-        return this.processor;
+        super(width, height, pixels);
     }
 
     @Override
     public CV4JImage convert2Gray() {
-        final int value0000FF = 0x0000ff;
-
-        if(this.processor instanceof ColorProcessor) {
-            final double grayConvertConst1 = 0.299;
-            final double grayConvertConst2 = 0.587;
-            final double grayConvertConst3 = 0.113;
-
-            byte[] gray = new byte[width * height];
-
-            ColorProcessor colorProcessor = (ColorProcessor) this.processor;
-            byte[] R = colorProcessor.getRed();
-            byte[] G = colorProcessor.getGreen();
-            byte[] B = colorProcessor.getBlue();
-
-            for (int i = 0; i < gray.length; i++) {
-                int tr = R[i] & value0000FF;
-                int tg = G[i] & value0000FF;
-                int tb = B[i] & value0000FF;
-
-                double grayConversionValue = grayConvertConst1 * tr + grayConvertConst2 * tg + grayConvertConst3 * tb;
-                int c = SafeCasting.safeDoubleToInt(grayConversionValue);
-
-                gray[i] = SafeCasting.safeIntToByte(c);
-            }
-
-            this.processor = new ByteProcessor(gray, this.width, this.height);
-
-            ByteProcessor byteProcessor = (ByteProcessor) this.processor;
-            byteProcessor.setCallBack(this);
-        }
-
+        super.convert2Gray();
         return this;
     }
 
-    @Override
     public Bitmap toBitmap() {
         return toBitmap(Bitmap.Config.RGB_565);
     }
 
-    @Override
     public Bitmap toBitmap(Bitmap.Config bitmapConfig) {
 
         if (bitmap!=null) return bitmap;
 
-        bitmap = Bitmap.createBitmap(width, height, bitmapConfig);
         if(processor instanceof ColorProcessor || processor instanceof ByteProcessor) {
-            bitmap.setPixels(processor.getPixels(), 0, width, 0, 0, width, height);
+            bitmap = new BitmapConverter(bitmapConfig).create(processor);
         } else {
             // Exception
-            Log.e("ColorImage","can not convert to bitmap!");
+            CV4JLog.e("ColorImage","can not convert to bitmap!");
+            bitmap = Bitmap.createBitmap(width, height, bitmapConfig);
         }
         return bitmap;
     }
 
-    @Override
     public void setBitmap(Bitmap bitmap) {
-        width = bitmap.getWidth();
-        height = bitmap.getHeight();
-        int[] input = new int[width * height];
-        bitmap.getPixels(input, 0, width, 0, 0, width, height);
-        processor = new ColorProcessor(input,width, height);
-        ((ColorProcessor)processor).setCallBack(this);
-        input = null;
+        BitmapConverter converter = new BitmapConverter();
+        width = converter.getWidth(bitmap);
+        height = converter.getHeight(bitmap);
+        setProcessor(new ColorProcessor(converter.getPixels(bitmap), width, height));
     }
 
+    @Override
     public void resetBitmap() {
         this.bitmap = null;
     }
@@ -247,8 +163,9 @@ public class CV4JImage implements ImageData {
     /**
      * 释放资源
      */
+    @Override
     public void recycle() {
-        processor = null;
+        super.recycle();
         bitmap = null;
     }
 }
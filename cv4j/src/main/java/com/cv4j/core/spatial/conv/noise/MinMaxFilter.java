@@ -1,117 +0,0 @@
-/*
- * Copyright (c) 2017-present, CV4J Contributors.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package com.cv4j.core.spatial.conv.noise;
-
-import com.cv4j.core.datamodel.ColorProcessor;
-import com.cv4j.core.datamodel.image.ImageProcessor;
-import com.cv4j.core.filters.BaseFilter;
-
-import java.util.Arrays;
-
-/**
- * The min-max filter.
- */
-public class MinMaxFilter extends BaseFilter {
-
-	private boolean minFilter;
-	private int radius;
-
-	public MinMaxFilter() {
-		minFilter = true;
-		radius = 1;
-	}
-
-	public void setRadius(int radius) {
-		this.radius = radius;
-	}
-
-	public boolean isMinFilter() {
-		return minFilter;
-	}
-
-	public void setMinFilter(boolean minFilter) {
-		this.minFilter = minFilter;
-	}
-
-	public int getRadius() {
-		return radius;
-	}
-
-	@Override
-	public ImageProcessor doFilter(ImageProcessor src){
-		int numOfPixels = width*height;
-		byte[][] output = new byte[3][numOfPixels];
-
-		int size = radius * 2 + 1;
-		int total = size * size;
-		for (int row = 0; row < height; row++) {
-			for (int col = 0; col < width; col++) {
-				statisticalFilter(output, row, col, total);
-			}
-		}
-
-		((ColorProcessor) src).putRGB(output[0], output[1], output[2]);
-
-		return src;
-	}
-
-	/**
-	 * 波器
-	 * @param output
-	 * @param row
-	 * @param col
-	 * @param total
-	 */
-	private void statisticalFilter(byte[][] output, int row, int col, int total) {
-		int[][] subpixels = new int[3][total];
-		int index = 0;
-		int r;
-		int g;
-		int b;
-
-		for (int i = -radius; i <= radius; i++) {
-			int roffset = row + i;
-			roffset = (roffset < 0) ? 0 : (roffset >= height ? height - 1 : roffset);
-			for (int j = -radius; j <= radius; j++) {
-				int coffset = col + j;
-				coffset = (coffset < 0) ? 0 : (coffset >= width ? width - 1 : coffset);
-				subpixels[0][index] = R[roffset * width + coffset] & 0xff;
-				subpixels[1][index] = G[roffset * width + coffset] & 0xff;
-				subpixels[2][index] = B[roffset * width + coffset] & 0xff;
-				index++;
-			}
-		}
-
-		Arrays.sort(subpixels[0]);
-		Arrays.sort(subpixels[1]);
-		Arrays.sort(subpixels[2]);
-
-		if (minFilter) {
-			r = subpixels[0][0];
-			g = subpixels[1][0];
-			b = subpixels[2][0];
-		} else {
-			r = subpixels[0][total-1];
-			g = subpixels[1][total-1];
-			b = subpixels[2][total-1];
-		}
-
-		output[0][row * width + col] = (byte)r;
-		output[1][row * width + col] = (byte)g;
-		output[2][row * width + col] = (byte)b;
-	}
-
-}
@@ -13,25 +13,24 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package com.cv4j.core.filters.image;
+package com.cv4j.image.util;
 
-import com.cv4j.core.datamodel.image.ImageProcessor;
-import com.cv4j.core.filters.BaseFilter;
+import android.util.Log;
 
 /**
- * The Exposure filter.
+ * AndroidLogPrinter.
+ * Prints the logs of cv4j through android.util.Log, install it with
+ * {@code CV4JLog.setPrinter(new AndroidLogPrinter())}.
  */
-public class ExposureFilter extends BaseFilter {
+public class AndroidLogPrinter implements LogPrinter {
 
     @Override
-    public ImageProcessor doFilter(ImageProcessor src) {
+    public void i(String tag, String msg) {
+        Log.i(tag, msg);
+    }
 
-        int size = R.length;
-        for(int i=0; i<size; i++) {
-            R[i] = (byte)~R[i];
-            G[i] = (byte)~G[i];
-            B[i] = (byte)~B[i];
-        }
-        return src;
+    @Override
+    public void e(String tag, String msg) {
+        Log.e(tag, msg);
     }
 }
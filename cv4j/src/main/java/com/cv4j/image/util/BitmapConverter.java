@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.image.util;
+
+import android.graphics.Bitmap;
+
+import com.cv4j.core.datamodel.image.ImageConverter;
+import com.cv4j.core.datamodel.image.ImageProcessor;
+
+/**
+ * BitmapConverter.
+ * The android implementation of ImageConverter.
+ */
+public class BitmapConverter implements ImageConverter<Bitmap> {
+
+    private Bitmap.Config config;
+
+    public BitmapConverter() {
+        this(Bitmap.Config.RGB_565);
+    }
+
+    public BitmapConverter(Bitmap.Config config) {
+        this.config = config;
+    }
+
+    @Override
+    public int[] getPixels(Bitmap source) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        int[] pixels = new int[width * height];
+        source.getPixels(pixels, 0, width, 0, 0, width, height);
+        return pixels;
+    }
+
+    @Override
+    public int getWidth(Bitmap source) {
+        return source.getWidth();
+    }
+
+    @Override
+    public int getHeight(Bitmap source) {
+        return source.getHeight();
+    }
+
+    @Override
+    public Bitmap create(ImageProcessor processor) {
+        int width = processor.getWidth();
+        int height = processor.getHeight();
+        Bitmap bitmap = Bitmap.createBitmap(width, height, config);
+        bitmap.setPixels(processor.getPixels(), 0, width, 0, 0, width, height);
+        return bitmap;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2017-present, CV4J Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.cv4j.image.util;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.support.annotation.NonNull;
+
+import com.cv4j.core.datamodel.Rect;
+
+import java.util.List;
+
+/**
+ * BitmapUtils.
+ * The android only part of Tools.
+ */
+public class BitmapUtils {
+
+    public static void drawRects(@NonNull Bitmap bitmap, @NonNull List<Rect> rectangles) {
+
+        Canvas canvas = new Canvas(bitmap);
+        Paint paint = new Paint();
+        paint.setStyle(Paint.Style.STROKE);
+        paint.setColor(Color.RED);
+
+        for (Rect rect : rectangles) {
+            canvas.drawRect(rect.x, rect.y, rect.br().x, rect.br().y, paint);
+        }
+    }
+}
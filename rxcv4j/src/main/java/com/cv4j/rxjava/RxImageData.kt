@@ -145,12 +145,12 @@ class RxImageData private constructor(internal var image: CV4JImage?) {
                             if (memCache.get(key) == null) {
 
                                 val imageProcessor = filters1[0].filter(image?.processor)
-                                memCache.put(key, imageProcessor.image.toBitmap())
+                                memCache.put(key, (imageProcessor.image as CV4JImage).toBitmap())
 
                                 imageProcessor
                             } else {
 
-                                image!!.processor.image.setBitmap(memCache.get(key))
+                                (image!!.processor.image as CV4JImage).setBitmap(memCache.get(key))
                                 image!!.processor
                             }
                         } else {
@@ -163,7 +163,7 @@ class RxImageData private constructor(internal var image: CV4JImage?) {
                         dismissDiaog()
                     })
                     .subscribe({ processor ->
-                        imageView?.setImageBitmap(processor.image.toBitmap())
+                        imageView?.setImageBitmap((processor.image as CV4JImage).toBitmap())
                     }, { t ->
                         t.printStackTrace()
                     })
@@ -178,7 +178,7 @@ class RxImageData private constructor(internal var image: CV4JImage?) {
                         dismissDiaog()
                     })
                     .subscribe({ processor ->
-                        imageView?.setImageBitmap(processor.image.toBitmap())
+                        imageView?.setImageBitmap((processor.image as CV4JImage).toBitmap())
                     }, { t ->
                         t.printStackTrace()
                     })